@@ -0,0 +1,38 @@
+package com.pdfprocessor.api.config;
+
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import jakarta.servlet.MultipartConfigElement;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do multipart. Os uploads são gravados pelo container no diretório temporário do
+ * próprio storage, de modo que o arquivo spoolado é movido (rename) para o destino final em vez de
+ * ser copiado novamente. Um {@code spring.servlet.multipart.location} explícito tem precedência.
+ */
+@Configuration
+public class MultipartUploadConfig {
+
+  @Bean
+  public MultipartConfigElement multipartConfigElement(
+      ObjectProvider<MultipartProperties> multipartPropertiesProvider,
+      StorageProperties storageProperties)
+      throws IOException {
+    MultipartProperties multipartProperties =
+        multipartPropertiesProvider.getIfAvailable(MultipartProperties::new);
+    if (multipartProperties.getLocation() == null) {
+      Path uploadTempDir =
+          Paths.get(storageProperties.getBasePath(), StorageProperties.UPLOAD_TEMP_DIR)
+              .toAbsolutePath();
+      Files.createDirectories(uploadTempDir);
+      multipartProperties.setLocation(uploadTempDir.toString());
+    }
+    return multipartProperties.createMultipartConfig();
+  }
+}
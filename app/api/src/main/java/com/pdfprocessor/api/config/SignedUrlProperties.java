@@ -0,0 +1,46 @@
+package com.pdfprocessor.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/** Propriedades das URLs de download assinadas. */
+@Component
+@ConfigurationProperties(prefix = "app.downloads")
+public class SignedUrlProperties {
+
+  private String signingSecret = "";
+  private int urlTtlMinutes = 60;
+  private String publicBaseUrl = "";
+
+  /**
+   * Segredo da assinatura HMAC. Obrigatório, e deve ser o mesmo em todas as instâncias da API para
+   * que as URLs valham entre réplicas e após reinícios; sem ele a API não inicia.
+   */
+  public String getSigningSecret() {
+    return signingSecret;
+  }
+
+  public void setSigningSecret(String signingSecret) {
+    this.signingSecret = signingSecret;
+  }
+
+  /** Validade mínima das URLs emitidas. */
+  public int getUrlTtlMinutes() {
+    return urlTtlMinutes;
+  }
+
+  public void setUrlTtlMinutes(int urlTtlMinutes) {
+    this.urlTtlMinutes = urlTtlMinutes;
+  }
+
+  /**
+   * Prefixo das URLs emitidas (ex.: host de uma CDN). Vazio gera URLs relativas à própria API.
+   */
+  public String getPublicBaseUrl() {
+    return publicBaseUrl;
+  }
+
+  public void setPublicBaseUrl(String publicBaseUrl) {
+    this.publicBaseUrl = publicBaseUrl;
+  }
+}
@@ -0,0 +1,124 @@
+package com.pdfprocessor.api.controller;
+
+import com.pdfprocessor.api.service.InputValidationService;
+import com.pdfprocessor.domain.port.StorageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller para negociação de uploads por hash. O cliente consulta quais conteúdos (SHA-256) o
+ * servidor já possui e envia no createJob apenas os arquivos que faltam, referenciando os demais
+ * pelo hash. Cada API key só enxerga os conteúdos que ela mesma enviou.
+ */
+@RestController
+@RequestMapping("/api/v1/blobs")
+@Tag(name = "Blobs", description = "Consulta de conteúdos já armazenados")
+public class BlobController {
+
+  private final StorageService storageService;
+  private final InputValidationService inputValidationService;
+
+  public BlobController(
+      StorageService storageService, InputValidationService inputValidationService) {
+    this.storageService = storageService;
+    this.inputValidationService = inputValidationService;
+  }
+
+  @RequestMapping(value = "/{sha256}", method = RequestMethod.HEAD)
+  @Operation(
+      summary = "Verificar se um conteúdo já está armazenado",
+      description =
+          "Retorna 200 se o conteúdo com o SHA-256 informado foi enviado antes com a mesma API key,"
+              + " 404 caso contrário")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Conteúdo armazenado"),
+        @ApiResponse(responseCode = "404", description = "Conteúdo não encontrado"),
+        @ApiResponse(responseCode = "400", description = "Hash inválido")
+      })
+  public ResponseEntity<Void> headBlob(
+      @Parameter(description = "Hash SHA-256 do conteúdo") @PathVariable String sha256,
+      @RequestHeader(value = "X-API-Key", required = false) String apiKey) {
+    inputValidationService.validateContentHash(sha256);
+
+    return storageService.containsContent(apiKey, sha256.toLowerCase(Locale.ROOT))
+        ? ResponseEntity.ok().build()
+        : ResponseEntity.notFound().build();
+  }
+
+  @PostMapping("/check")
+  @Operation(
+      summary = "Verificar quais conteúdos já estão armazenados",
+      description =
+          "Recebe uma lista de hashes SHA-256 e retorna quais já existem no servidor e quais precisam ser enviados")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Resultado da verificação"),
+        @ApiResponse(responseCode = "400", description = "Lista de hashes inválida")
+      })
+  public ResponseEntity<BlobCheckResponse> checkBlobs(
+      @RequestBody BlobCheckRequest request,
+      @RequestHeader(value = "X-API-Key", required = false) String apiKey) {
+    List<String> hashes = request != null ? request.getHashes() : null;
+    inputValidationService.validateContentHashes(hashes);
+
+    List<String> present = new ArrayList<>();
+    List<String> missing = new ArrayList<>();
+    for (String hash : hashes) {
+      String normalized = hash.toLowerCase(Locale.ROOT);
+      if (storageService.containsContent(apiKey, normalized)) {
+        present.add(normalized);
+      } else {
+        missing.add(normalized);
+      }
+    }
+
+    return ResponseEntity.ok(new BlobCheckResponse(present, missing));
+  }
+
+  /** DTO da requisição de verificação de conteúdos. */
+  public static class BlobCheckRequest {
+    private List<String> hashes;
+
+    public List<String> getHashes() {
+      return hashes;
+    }
+
+    public void setHashes(List<String> hashes) {
+      this.hashes = hashes;
+    }
+  }
+
+  /** DTO da resposta de verificação de conteúdos. */
+  public static class BlobCheckResponse {
+    private final List<String> present;
+    private final List<String> missing;
+
+    public BlobCheckResponse(List<String> present, List<String> missing) {
+      this.present = present;
+      this.missing = missing;
+    }
+
+    public List<String> getPresent() {
+      return present;
+    }
+
+    public List<String> getMissing() {
+      return missing;
+    }
+  }
+}
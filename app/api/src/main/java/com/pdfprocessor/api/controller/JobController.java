@@ -2,9 +2,13 @@ package com.pdfprocessor.api.controller;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-// import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.api.service.ChunkedUploadService;
+import com.pdfprocessor.api.service.FileDownloadService;
+import com.pdfprocessor.api.service.ZipStreamingService;
 import com.pdfprocessor.api.service.InputValidationService;
 import com.pdfprocessor.api.service.RateLimitService;
+import com.pdfprocessor.api.service.SignedUrlService;
 import com.pdfprocessor.application.dto.CreateJobRequest;
 import com.pdfprocessor.application.dto.JobResponse;
 import com.pdfprocessor.application.usecase.CancelJobUseCase;
@@ -13,6 +17,7 @@ import com.pdfprocessor.application.usecase.DownloadResultUseCase;
 import com.pdfprocessor.application.usecase.GetJobStatusUseCase;
 import com.pdfprocessor.application.usecase.ListAllJobsUseCase;
 import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.model.JobStatus;
 import com.pdfprocessor.domain.port.StorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,13 +28,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.http.HttpHeaders;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,7 +51,6 @@ public class JobController {
 
   // Limites de segurança
   private static final long MAX_FILE_SIZE_BYTES = 50 * 1024 * 1024; // 50MB
-  private static final int MAX_FILES_PER_JOB = 10;
 
   private final CreateJobUseCase createJobUseCase;
   private final GetJobStatusUseCase getJobStatusUseCase;
@@ -52,10 +58,14 @@ public class JobController {
   private final ListAllJobsUseCase listAllJobsUseCase;
   private final CancelJobUseCase cancelJobUseCase;
   private final StorageService storageService;
+  private final ChunkedUploadService chunkedUploadService;
   private final ObjectMapper objectMapper;
   private final RateLimitService rateLimitService;
   private final InputValidationService inputValidationService;
   private final com.pdfprocessor.api.service.SseService sseService;
+  private final FileDownloadService fileDownloadService;
+  private final ZipStreamingService zipStreamingService;
+  private final SignedUrlService signedUrlService;
 
   public JobController(
       CreateJobUseCase createJobUseCase,
@@ -64,27 +74,35 @@ public class JobController {
       ListAllJobsUseCase listAllJobsUseCase,
       CancelJobUseCase cancelJobUseCase,
       StorageService storageService,
+      ChunkedUploadService chunkedUploadService,
       ObjectMapper objectMapper,
       RateLimitService rateLimitService,
       InputValidationService inputValidationService,
-      com.pdfprocessor.api.service.SseService sseService) {
+      com.pdfprocessor.api.service.SseService sseService,
+      FileDownloadService fileDownloadService,
+      ZipStreamingService zipStreamingService,
+      SignedUrlService signedUrlService) {
     this.createJobUseCase = createJobUseCase;
     this.getJobStatusUseCase = getJobStatusUseCase;
     this.downloadResultUseCase = downloadResultUseCase;
     this.listAllJobsUseCase = listAllJobsUseCase;
     this.cancelJobUseCase = cancelJobUseCase;
     this.storageService = storageService;
+    this.chunkedUploadService = chunkedUploadService;
     this.objectMapper = objectMapper;
     this.rateLimitService = rateLimitService;
     this.inputValidationService = inputValidationService;
     this.sseService = sseService;
+    this.fileDownloadService = fileDownloadService;
+    this.zipStreamingService = zipStreamingService;
+    this.signedUrlService = signedUrlService;
   }
 
   @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   @Operation(
       summary = "Criar novo job de processamento",
       description =
-          "Cria um novo job de processamento de PDF. Você pode enviar arquivos via upload ou referenciar arquivos já existentes no sistema.")
+          "Cria um novo job de processamento de PDF. Você pode enviar arquivos via upload ou referenciar conteúdos já armazenados pelo SHA-256 (consulte /api/v1/blobs).")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -147,113 +165,200 @@ public class JobController {
               })
           @RequestParam(value = "optionsJson", required = false)
           String optionsJson,
+      @Parameter(
+              description =
+                  "Referências a conteúdos já armazenados, em JSON: [{\"sha256\":\"...\",\"filename\":\"a.pdf\"}]")
+          @RequestParam(value = "blobRefsJson", required = false)
+          String blobRefsJson,
+      @Parameter(
+              description =
+                  "IDs de uploads em partes já concluídos (consulte /api/v1/uploads), para arquivos acima do limite do multipart")
+          @RequestParam(value = "uploadIds", required = false)
+          List<String> uploadIds,
       HttpServletRequest httpRequest) {
 
-    try {
-      System.out.println("DEBUG: Controller method called - operation: " + operation);
-      System.out.println("DEBUG: Controller method called - files: " + (files != null ? files.size() : "null"));
-      System.out.println("DEBUG: Controller method called - inputFiles: " + (inputFiles != null ? inputFiles.size() : "null"));
-      
-      // Verificar rate limit por API key
-      String apiKey = httpRequest.getHeader("X-API-Key");
-      rateLimitService.checkRateLimit(apiKey);
-
-      System.out.println("DEBUG: API Key = " + apiKey);
-      System.out.println("DEBUG: Operation = " + operation);
-      System.out.println("DEBUG: Files = " + (files != null ? files.size() : "null"));
-      System.out.println(
-          "DEBUG: InputFiles = " + (inputFiles != null ? inputFiles.size() : "null"));
-
-      // Validações rigorosas de entrada
-      inputValidationService.validateOperation(operation.name());
-      
-      // Para PDF_CREATE, não validar arquivos pois não são necessários
-      if (!operation.equals(JobOperation.PDF_CREATE)) {
-        inputValidationService.validateUploadedFiles(files);
-        if (inputFiles != null && !inputFiles.isEmpty()) {
-          inputValidationService.validateUploadedFiles(inputFiles);
-        }
-      }
-      
-      inputValidationService.validateOptionsJson(optionsJson);
-
-      // Validar que pelo menos um tipo de entrada foi fornecido (exceto para operações que criam PDFs do zero)
-      boolean requiresInputFiles = !operation.equals(JobOperation.PDF_CREATE);
-      if (requiresInputFiles && (files == null || files.isEmpty()) && (inputFiles == null || inputFiles.isEmpty())) {
-        throw new IllegalArgumentException(
-            "Pelo menos um arquivo deve ser fornecido via 'files' ou 'inputFiles'");
-      }
-      
-      // Para PDF_CREATE, garantir que não há arquivos de entrada
-      if (operation.equals(JobOperation.PDF_CREATE)) {
-        files = null; // Limpar arquivos para PDF_CREATE
+    System.out.println("DEBUG: Controller method called - operation: " + operation);
+    System.out.println("DEBUG: Controller method called - files: " + (files != null ? files.size() : "null"));
+    System.out.println("DEBUG: Controller method called - inputFiles: " + (inputFiles != null ? inputFiles.size() : "null"));
+    
+    // Verificar rate limit por API key
+    String apiKey = httpRequest.getHeader("X-API-Key");
+    rateLimitService.checkRateLimit(apiKey);
+
+    System.out.println("DEBUG: API Key = " + apiKey);
+    System.out.println("DEBUG: Operation = " + operation);
+    System.out.println("DEBUG: Files = " + (files != null ? files.size() : "null"));
+    System.out.println(
+        "DEBUG: InputFiles = " + (inputFiles != null ? inputFiles.size() : "null"));
+
+    // Validações rigorosas de entrada
+    inputValidationService.validateOperation(operation.name());
+    
+    // Para PDF_CREATE, não validar arquivos pois não são necessários
+    if (!operation.equals(JobOperation.PDF_CREATE)) {
+      // O limite de arquivos depende da operação: o MERGE aceita centenas de entradas
+      inputValidationService.validateUploadedFiles(files, operation);
+      if (inputFiles != null && !inputFiles.isEmpty()) {
+        inputValidationService.validateUploadedFiles(inputFiles, operation);
       }
+      // Rejeitar conteúdo que não corresponde à extensão antes de gravar no storage
+      inputValidationService.validateFileSignatures(files);
+      inputValidationService.validateFileSignatures(inputFiles);
+    }
+    
+    inputValidationService.validateOptionsJson(optionsJson);
+
+    List<Map<String, String>> blobRefs = parseBlobRefs(blobRefsJson);
+    int uploadedCount =
+        (files != null ? files.size() : 0) + (inputFiles != null ? inputFiles.size() : 0);
+    inputValidationService.validateBlobReferences(blobRefs, uploadedCount, operation);
+    if (uploadIds == null) {
+      uploadIds = List.of();
+    }
+    inputValidationService.validateUploadIds(
+        uploadIds, uploadedCount + blobRefs.size(), operation);
 
-      // Gerar ID único para o job
-      String jobId = UUID.randomUUID().toString();
+    // Validar que pelo menos um tipo de entrada foi fornecido (exceto para operações que criam PDFs do zero)
+    boolean requiresInputFiles = !operation.equals(JobOperation.PDF_CREATE);
+    if (requiresInputFiles && (files == null || files.isEmpty()) && (inputFiles == null || inputFiles.isEmpty()) && blobRefs.isEmpty() && uploadIds.isEmpty()) {
+      throw new IllegalArgumentException(
+          "Pelo menos um arquivo deve ser fornecido via 'files' ou 'inputFiles'");
+    }
+    
+    // Para PDF_CREATE, garantir que não há arquivos de entrada
+    if (operation.equals(JobOperation.PDF_CREATE)) {
+      files = null; // Limpar arquivos para PDF_CREATE
+    }
 
-      // Criar diretório do job
-      storageService.createJobDirectory(jobId);
+    // Gerar ID único para o job
+    String jobId = UUID.randomUUID().toString();
 
-      // Determinar lista de arquivos de entrada
-      List<String> finalInputFiles = new ArrayList<>();
+    // Criar diretório do job
+    storageService.createJobDirectory(jobId);
 
-      if (files != null && !files.isEmpty()) {
-        // Caso 1: Upload de arquivos via parâmetro 'files'
-        for (MultipartFile file : files) {
-          if (!file.isEmpty()) {
-            String storedPath =
-                storageService.store(jobId, file.getOriginalFilename(), file.getInputStream());
-            finalInputFiles.add(storedPath);
-          }
+    // Determinar lista de arquivos de entrada
+    List<String> finalInputFiles = new ArrayList<>();
+    List<CompletableFuture<String>> pendingUploads = new ArrayList<>();
+
+    if (files != null && !files.isEmpty()) {
+      // Caso 1: Upload de arquivos via parâmetro 'files'
+      for (MultipartFile file : files) {
+        if (!file.isEmpty()) {
+          pendingUploads.add(storeUploadedFile(jobId, file));
         }
       }
+    }
 
-      if (inputFiles != null && !inputFiles.isEmpty()) {
-        // Caso 2: Upload de arquivos via parâmetro 'inputFiles'
-        for (MultipartFile file : inputFiles) {
-          if (!file.isEmpty()) {
-            String storedPath =
-                storageService.store(jobId, file.getOriginalFilename(), file.getInputStream());
-            finalInputFiles.add(storedPath);
-          }
+    if (inputFiles != null && !inputFiles.isEmpty()) {
+      // Caso 2: Upload de arquivos via parâmetro 'inputFiles'
+      for (MultipartFile file : inputFiles) {
+        if (!file.isEmpty()) {
+          pendingUploads.add(storeUploadedFile(jobId, file));
         }
       }
+    }
 
-      // Converter JSON string para Map
-      Map<String, Object> options = Map.of();
-      if (optionsJson != null && !optionsJson.trim().isEmpty()) {
-        try {
-          options =
-              objectMapper.readValue(optionsJson, new TypeReference<Map<String, Object>>() {});
-        } catch (Exception e) {
-          throw new RuntimeException("Invalid options JSON format", e);
-        }
+    // Os uploads são gravados em paralelo no executor de I/O; a ordem dos arquivos é mantida
+    for (CompletableFuture<String> upload : pendingUploads) {
+      finalInputFiles.add(awaitUpload(upload));
+    }
+    // Só quem enviou um conteúdo pode referenciá-lo depois pelo hash
+    for (String uploaded : finalInputFiles) {
+      storageService.recordContentOwner(apiKey, uploaded);
+    }
+
+    if (requiresInputFiles) {
+      // Caso 3: Conteúdos já armazenados, referenciados pelo SHA-256 (sem upload)
+      for (Map<String, String> blobRef : blobRefs) {
+        String contentHash = blobRef.get("sha256").toLowerCase(Locale.ROOT);
+        String storedPath =
+            storageService
+                .storeFromContent(apiKey, jobId, blobRef.get("filename"), contentHash)
+                .orElseThrow(
+                    () ->
+                        new SecurityValidationException(
+                            "Referenced content not found, upload it again: " + contentHash,
+                            "BLOB_NOT_FOUND"));
+        finalInputFiles.add(storedPath);
       }
 
-      CreateJobRequest request = new CreateJobRequest();
-      request.setOperation(operation);
-      request.setInputFiles(finalInputFiles);
-      request.setOptions(options);
-      request.setJobId(jobId); // Passar o jobId gerado
-      
-      System.out.println("DEBUG: CreateJobRequest - Operation: " + request.getOperation());
-      System.out.println("DEBUG: CreateJobRequest - InputFiles: " + request.getInputFiles());
-      System.out.println("DEBUG: CreateJobRequest - InputFiles size: " + (request.getInputFiles() != null ? request.getInputFiles().size() : "null"));
-
-      System.out.println("DEBUG: Prestes a chamar createJobUseCase.execute()");
+      // Caso 4: Uploads em partes já concluídos, movidos para o job
+      List<CompletableFuture<String>> chunkedUploads = new ArrayList<>();
+      for (String uploadId : uploadIds) {
+        chunkedUploads.add(chunkedUploadService.attachToJobAsync(apiKey, jobId, uploadId));
+      }
+      for (CompletableFuture<String> upload : chunkedUploads) {
+        String uploaded = awaitUpload(upload);
+        storageService.recordContentOwner(apiKey, uploaded);
+        finalInputFiles.add(uploaded);
+      }
+    }
+
+    // Converter JSON string para Map
+    Map<String, Object> options = Map.of();
+    if (optionsJson != null && !optionsJson.trim().isEmpty()) {
       try {
-        JobResponse response = createJobUseCase.execute(request);
-        System.out.println("DEBUG: createJobUseCase.execute() retornou com sucesso");
-        return ResponseEntity.ok(response);
+        options =
+            objectMapper.readValue(optionsJson, new TypeReference<Map<String, Object>>() {});
       } catch (Exception e) {
-        System.out.println("DEBUG: Exceção capturada no controller: " + e.getClass().getName());
-        System.out.println("DEBUG: Mensagem da exceção: " + e.getMessage());
-        e.printStackTrace();
-        throw e;
+        throw new RuntimeException("Invalid options JSON format", e);
       }
-    } catch (IOException e) {
-      throw new RuntimeException("Failed to store uploaded files", e);
+    }
+
+    CreateJobRequest request = new CreateJobRequest();
+    request.setOperation(operation);
+    request.setInputFiles(finalInputFiles);
+    request.setOptions(options);
+    request.setJobId(jobId); // Passar o jobId gerado
+    
+    System.out.println("DEBUG: CreateJobRequest - Operation: " + request.getOperation());
+    System.out.println("DEBUG: CreateJobRequest - InputFiles: " + request.getInputFiles());
+    System.out.println("DEBUG: CreateJobRequest - InputFiles size: " + (request.getInputFiles() != null ? request.getInputFiles().size() : "null"));
+
+    System.out.println("DEBUG: Prestes a chamar createJobUseCase.execute()");
+    try {
+      JobResponse response = createJobUseCase.execute(request);
+      System.out.println("DEBUG: createJobUseCase.execute() retornou com sucesso");
+      return ResponseEntity.ok(response);
+    } catch (Exception e) {
+      System.out.println("DEBUG: Exceção capturada no controller: " + e.getClass().getName());
+      System.out.println("DEBUG: Mensagem da exceção: " + e.getMessage());
+      e.printStackTrace();
+      throw e;
+    }
+  }
+
+  /**
+   * Move o arquivo spoolado pelo container para o storage; como o diretório temporário do
+   * multipart fica no mesmo volume, o conteúdo não é copiado uma segunda vez.
+   */
+  private CompletableFuture<String> storeUploadedFile(String jobId, MultipartFile file) {
+    return storageService.storeUploadAsync(
+        jobId, file.getOriginalFilename(), target -> file.transferTo(target.toFile()));
+  }
+
+  /** Aguarda a gravação de um upload, repassando a exceção original do storage. */
+  private String awaitUpload(CompletableFuture<String> upload) {
+    try {
+      return upload.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private List<Map<String, String>> parseBlobRefs(String blobRefsJson) {
+    if (blobRefsJson == null || blobRefsJson.trim().isEmpty()) {
+      return List.of();
+    }
+    try {
+      return objectMapper.readValue(
+          blobRefsJson, new TypeReference<List<Map<String, String>>>() {});
+    } catch (Exception e) {
+      throw new SecurityValidationException(
+          "Blob references must be a valid JSON array", "INVALID_JSON_FORMAT");
     }
   }
 
@@ -287,6 +392,7 @@ public class JobController {
     inputValidationService.validatePaginationParams(page, size);
 
     List<JobResponse> response = listAllJobsUseCase.execute(page, size);
+    response.forEach(this::attachDownloadUrl);
     return ResponseEntity.ok(response);
   }
 
@@ -340,9 +446,20 @@ public class JobController {
     inputValidationService.validateJobId(jobId);
 
     JobResponse response = getJobStatusUseCase.execute(jobId);
+    attachDownloadUrl(response);
     return ResponseEntity.ok(response);
   }
 
+  /** Emite a URL de download assinada dos jobs concluídos. */
+  private void attachDownloadUrl(JobResponse response) {
+    if (response != null
+        && response.getStatus() == JobStatus.COMPLETED
+        && response.getResultPath() != null) {
+      response.setDownloadUrl(
+          signedUrlService.createDownloadUrl(response.getId(), response.getResultPath()));
+    }
+  }
+
   @GetMapping("/{jobId}/download")
   @Operation(
       summary = "Download do resultado do job",
@@ -352,7 +469,8 @@ public class JobController {
       value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Arquivo resultado retornado com sucesso",
+            description =
+                "Arquivo resultado retornado com sucesso. Suporta Range (206), If-Range e If-None-Match (304)",
             content = {
               @Content(
                   mediaType = "application/pdf",
@@ -389,26 +507,80 @@ public class JobController {
                     })),
         @ApiResponse(responseCode = "401", description = "Não autorizado")
       })
-  public ResponseEntity<InputStreamResource> downloadResult(
+  public void downloadResult(
       @Parameter(description = "ID único do job", example = "550e8400-e29b-41d4-a716-446655440000")
           @PathVariable
-          String jobId) {
+          String jobId,
+      @Parameter(
+              description =
+                  "Para resultados com vários arquivos, inclui manifest.json como primeira entrada do ZIP")
+          @RequestParam(value = "manifest", defaultValue = "false")
+          boolean manifest,
+      HttpServletRequest httpRequest,
+      HttpServletResponse httpResponse) {
     try {
       // Validar ID do job
       inputValidationService.validateJobId(jobId);
 
       DownloadResultUseCase.DownloadResponse result = downloadResultUseCase.execute(jobId);
 
-      return ResponseEntity.ok()
-          .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + result.getFilename())
-          .header(HttpHeaders.CONTENT_LENGTH, String.valueOf(result.getFileSize()))
-          .contentType(MediaType.parseMediaType(result.getContentType()))
-          .body(new InputStreamResource(result.getFileStream()));
+      if (result.isDirectory()) {
+        // ZIP gerado durante o envio, sem arquivo temporário
+        zipStreamingService.serve(
+            httpRequest, httpResponse, result.getFilePath(), result.getFilename(), manifest);
+        return;
+      }
+
+      // Envio sem cópia com suporte a Range/ETag para downloads retomáveis
+      fileDownloadService.serve(
+          httpRequest,
+          httpResponse,
+          result.getFilePath(),
+          result.getFilename(),
+          result.getContentType(),
+          result.getContentHash());
     } catch (Exception e) {
       throw new RuntimeException("Error downloading job result", e);
     }
   }
 
+  @GetMapping("/{jobId}/report")
+  @Operation(
+      summary = "Relatório do resultado do job",
+      description =
+          "Faz o download do relatório em texto gravado ao lado do resultado pelas operações que o produzem, como o PDF_OPTIMIZE (tamanho por categoria antes e depois).")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Relatório retornado com sucesso",
+            content = @Content(mediaType = "text/plain", schema = @Schema(type = "string"))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Job não encontrado ou operação sem relatório"),
+        @ApiResponse(responseCode = "401", description = "Não autorizado")
+      })
+  public void downloadReport(
+      @Parameter(description = "ID único do job", example = "550e8400-e29b-41d4-a716-446655440000")
+          @PathVariable
+          String jobId,
+      HttpServletRequest httpRequest,
+      HttpServletResponse httpResponse) {
+    inputValidationService.validateJobId(jobId);
+    DownloadResultUseCase.DownloadResponse report = downloadResultUseCase.executeReport(jobId);
+    try {
+      fileDownloadService.serve(
+          httpRequest,
+          httpResponse,
+          report.getFilePath(),
+          report.getFilename(),
+          report.getContentType(),
+          report.getContentHash());
+    } catch (IOException e) {
+      throw new RuntimeException("Error downloading job report", e);
+    }
+  }
+
   @DeleteMapping("/{jobId}")
   @Operation(summary = "Cancelar job", description = "Cancela um job em execução ou pendente")
   @ApiResponses(
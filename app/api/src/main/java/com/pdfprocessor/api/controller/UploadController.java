@@ -0,0 +1,202 @@
+package com.pdfprocessor.api.controller;
+
+import com.pdfprocessor.api.service.ChunkedUploadService;
+import com.pdfprocessor.api.service.ChunkedUploadService.UploadSession;
+import com.pdfprocessor.api.service.RateLimitService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller para uploads retomáveis em partes, para arquivos acima do limite do multipart. Fluxo:
+ * POST cria o upload, PATCH envia cada parte com o header {@code Upload-Offset}, HEAD informa o
+ * offset para retomar após uma falha e POST /complete conclui. O ID do upload concluído é passado
+ * no createJob pelo parâmetro {@code uploadIds}. Cada upload só é visível para a API key que o
+ * criou, e todas as chamadas contam no rate limit da key.
+ */
+@RestController
+@RequestMapping("/api/v1/uploads")
+@Tag(name = "Uploads", description = "Uploads retomáveis em partes")
+public class UploadController {
+
+  static final String UPLOAD_OFFSET_HEADER = "Upload-Offset";
+  static final String UPLOAD_LENGTH_HEADER = "Upload-Length";
+  static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-SHA256";
+  static final String API_KEY_HEADER = "X-API-Key";
+
+  private final ChunkedUploadService chunkedUploadService;
+  private final RateLimitService rateLimitService;
+
+  public UploadController(
+      ChunkedUploadService chunkedUploadService, RateLimitService rateLimitService) {
+    this.chunkedUploadService = chunkedUploadService;
+    this.rateLimitService = rateLimitService;
+  }
+
+  @PostMapping
+  @Operation(
+      summary = "Criar upload em partes",
+      description = "Reserva um upload para um arquivo com o nome e o tamanho total informados")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "201", description = "Upload criado"),
+        @ApiResponse(responseCode = "400", description = "Nome ou tamanho inválido"),
+        @ApiResponse(responseCode = "413", description = "Arquivo muito grande"),
+        @ApiResponse(responseCode = "429", description = "Rate limit excedido")
+      })
+  public ResponseEntity<UploadSession> createUpload(
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestBody CreateUploadRequest request) {
+    rateLimitService.checkRateLimit(apiKey);
+    UploadSession session =
+        chunkedUploadService.create(apiKey, request.getFilename(), request.getLength());
+    return ResponseEntity.created(URI.create("/api/v1/uploads/" + session.getUploadId()))
+        .body(session);
+  }
+
+  @RequestMapping(value = "/{uploadId}", method = RequestMethod.HEAD)
+  @Operation(
+      summary = "Consultar offset do upload",
+      description = "Retorna nos headers Upload-Offset e Upload-Length quantos bytes já chegaram")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Upload encontrado"),
+        @ApiResponse(responseCode = "404", description = "Upload não encontrado"),
+        @ApiResponse(responseCode = "410", description = "Upload expirado")
+      })
+  public ResponseEntity<Void> headUpload(
+      @Parameter(description = "ID do upload") @PathVariable String uploadId,
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey) {
+    rateLimitService.checkRateLimit(apiKey);
+    UploadSession session = chunkedUploadService.get(apiKey, uploadId);
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .header(UPLOAD_OFFSET_HEADER, Long.toString(session.getOffset()))
+        .header(UPLOAD_LENGTH_HEADER, Long.toString(session.getLength()))
+        .build();
+  }
+
+  @GetMapping("/{uploadId}")
+  @Operation(summary = "Obter estado do upload")
+  public ResponseEntity<UploadSession> getUpload(
+      @Parameter(description = "ID do upload") @PathVariable String uploadId,
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey) {
+    rateLimitService.checkRateLimit(apiKey);
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.noStore())
+        .body(chunkedUploadService.get(apiKey, uploadId));
+  }
+
+  @PatchMapping("/{uploadId}")
+  @Operation(
+      summary = "Enviar parte do upload",
+      description =
+          "Anexa o corpo da requisição (bytes crus) a partir de Upload-Offset, que deve ser igual ao offset atual. O header opcional X-Chunk-SHA256 verifica a parte.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "204", description = "Parte aceita; novo offset no header"),
+        @ApiResponse(responseCode = "400", description = "Checksum da parte não confere"),
+        @ApiResponse(responseCode = "409", description = "Offset diferente do atual"),
+        @ApiResponse(responseCode = "413", description = "Parte muito grande"),
+        @ApiResponse(responseCode = "429", description = "Rate limit excedido")
+      })
+  public ResponseEntity<Void> appendChunk(
+      @Parameter(description = "ID do upload") @PathVariable String uploadId,
+      @RequestHeader(UPLOAD_OFFSET_HEADER) long offset,
+      @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String chunkSha256,
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      HttpServletRequest request)
+      throws IOException {
+    rateLimitService.checkRateLimit(apiKey);
+    UploadSession session;
+    try (InputStream chunk = request.getInputStream()) {
+      session = chunkedUploadService.appendChunk(apiKey, uploadId, offset, chunk, chunkSha256);
+    }
+    return ResponseEntity.noContent()
+        .header(UPLOAD_OFFSET_HEADER, Long.toString(session.getOffset()))
+        .build();
+  }
+
+  @PostMapping("/{uploadId}/complete")
+  @Operation(
+      summary = "Concluir upload",
+      description =
+          "Valida o conteúdo e, se informado, o SHA-256 do arquivo inteiro. Depois o ID pode ser usado em uploadIds no createJob.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Upload concluído"),
+        @ApiResponse(responseCode = "400", description = "Conteúdo ou checksum inválido"),
+        @ApiResponse(responseCode = "409", description = "Ainda faltam bytes")
+      })
+  public ResponseEntity<UploadSession> completeUpload(
+      @Parameter(description = "ID do upload") @PathVariable String uploadId,
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey,
+      @RequestBody(required = false) CompleteUploadRequest request) {
+    rateLimitService.checkRateLimit(apiKey);
+    String sha256 = request != null ? request.getSha256() : null;
+    return ResponseEntity.ok(chunkedUploadService.complete(apiKey, uploadId, sha256));
+  }
+
+  @DeleteMapping("/{uploadId}")
+  @Operation(summary = "Cancelar upload", description = "Remove o upload e os bytes já enviados")
+  public ResponseEntity<Void> deleteUpload(
+      @Parameter(description = "ID do upload") @PathVariable String uploadId,
+      @RequestHeader(value = API_KEY_HEADER, required = false) String apiKey) {
+    rateLimitService.checkRateLimit(apiKey);
+    chunkedUploadService.delete(apiKey, uploadId);
+    return ResponseEntity.noContent().build();
+  }
+
+  /** DTO da requisição de criação de upload. */
+  public static class CreateUploadRequest {
+    private String filename;
+    private long length;
+
+    public String getFilename() {
+      return filename;
+    }
+
+    public void setFilename(String filename) {
+      this.filename = filename;
+    }
+
+    public long getLength() {
+      return length;
+    }
+
+    public void setLength(long length) {
+      this.length = length;
+    }
+  }
+
+  /** DTO da requisição de conclusão de upload. */
+  public static class CompleteUploadRequest {
+    private String sha256;
+
+    public String getSha256() {
+      return sha256;
+    }
+
+    public void setSha256(String sha256) {
+      this.sha256 = sha256;
+    }
+  }
+}
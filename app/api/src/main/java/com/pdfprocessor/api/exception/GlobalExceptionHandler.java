@@ -51,8 +51,14 @@ public class GlobalExceptionHandler {
     // Retornar status HTTP apropriado baseado no tipo de erro
     HttpStatus status =
         switch (ex.getErrorCode()) {
-          case "FILE_SIZE_EXCEEDED", "MAX_FILES_EXCEEDED" -> HttpStatus.PAYLOAD_TOO_LARGE;
+          case "FILE_SIZE_EXCEEDED", "MAX_FILES_EXCEEDED", "CHUNK_TOO_LARGE" ->
+              HttpStatus.PAYLOAD_TOO_LARGE;
           case "RATE_LIMIT_EXCEEDED" -> HttpStatus.TOO_MANY_REQUESTS;
+          case "BLOB_NOT_FOUND" -> HttpStatus.CONFLICT;
+          case "UPLOAD_NOT_FOUND" -> HttpStatus.NOT_FOUND;
+          case "UPLOAD_EXPIRED" -> HttpStatus.GONE;
+          case "UPLOAD_OFFSET_MISMATCH", "UPLOAD_INCOMPLETE", "UPLOAD_ALREADY_COMPLETED" ->
+              HttpStatus.CONFLICT;
           case "INVALID_API_KEY" -> HttpStatus.UNAUTHORIZED;
           default -> HttpStatus.BAD_REQUEST;
         };
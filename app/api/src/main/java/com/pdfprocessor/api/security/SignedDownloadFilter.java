@@ -0,0 +1,114 @@
+package com.pdfprocessor.api.security;
+
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.api.service.FileDownloadService;
+import com.pdfprocessor.api.service.SignedUrlService;
+import com.pdfprocessor.api.service.SignedUrlService.SignedDownload;
+import com.pdfprocessor.api.service.ZipStreamingService;
+import com.pdfprocessor.application.usecase.DownloadResultUseCase;
+import com.pdfprocessor.domain.exception.ResultNotFoundException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Serve os downloads assinados ({@code /dl/...}) antes da cadeia do Spring Security e do
+ * DispatcherServlet. A assinatura substitui a X-API-Key, o resultado é resolvido direto no storage
+ * (sem Redis nem rate limit) e o arquivo é enviado sem cópia. Como os resultados são imutáveis, a
+ * resposta é cacheável publicamente até a expiração da URL.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class SignedDownloadFilter extends OncePerRequestFilter {
+
+  private final SignedUrlService signedUrlService;
+  private final DownloadResultUseCase downloadResultUseCase;
+  private final FileDownloadService fileDownloadService;
+  private final ZipStreamingService zipStreamingService;
+
+  public SignedDownloadFilter(
+      SignedUrlService signedUrlService,
+      DownloadResultUseCase downloadResultUseCase,
+      FileDownloadService fileDownloadService,
+      ZipStreamingService zipStreamingService) {
+    this.signedUrlService = signedUrlService;
+    this.downloadResultUseCase = downloadResultUseCase;
+    this.fileDownloadService = fileDownloadService;
+    this.zipStreamingService = zipStreamingService;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !pathWithinApplication(request).startsWith(SignedUrlService.PATH_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+      response.setHeader(HttpHeaders.ALLOW, "GET, HEAD");
+      writeError(response, HttpServletResponse.SC_METHOD_NOT_ALLOWED, "Method not allowed");
+      return;
+    }
+
+    String rest = pathWithinApplication(request).substring(SignedUrlService.PATH_PREFIX.length());
+    int slash = rest.indexOf('/');
+    String token = slash >= 0 ? rest.substring(0, slash) : rest;
+
+    SignedDownload download;
+    DownloadResultUseCase.DownloadResponse result;
+    try {
+      download = signedUrlService.verify(token);
+      result = downloadResultUseCase.resolve(download.getJobId(), download.getResultPath());
+    } catch (SecurityValidationException e) {
+      int status =
+          "DOWNLOAD_URL_EXPIRED".equals(e.getErrorCode())
+              ? HttpServletResponse.SC_GONE
+              : HttpServletResponse.SC_FORBIDDEN;
+      writeError(response, status, e.getMessage());
+      return;
+    } catch (ResultNotFoundException e) {
+      writeError(response, HttpServletResponse.SC_NOT_FOUND, "Result not found");
+      return;
+    }
+
+    long maxAge = Math.max(0, Duration.between(Instant.now(), download.getExpiresAt()).toSeconds());
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAge + ", immutable");
+    response.setHeader("X-Content-Type-Options", "nosniff");
+
+    if (result.isDirectory()) {
+      zipStreamingService.serve(
+          request, response, result.getFilePath(), result.getFilename(), false);
+      return;
+    }
+    fileDownloadService.serve(
+        request,
+        response,
+        result.getFilePath(),
+        result.getFilename(),
+        result.getContentType(),
+        result.getContentHash());
+  }
+
+  private String pathWithinApplication(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  private void writeError(HttpServletResponse response, int status, String message)
+      throws IOException {
+    response.setStatus(status);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    response.setContentType("application/json");
+    response.getWriter().write(String.format("{\"error\":\"%s\",\"status\":%d}", message, status));
+  }
+}
@@ -0,0 +1,584 @@
+package com.pdfprocessor.api.service;
+
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Uploads retomáveis em partes. O cliente cria o upload informando nome e tamanho total, envia as
+ * partes em sequência a partir do offset atual e conclui o upload; o ID é então referenciado no
+ * createJob. Uma conexão perdida custa apenas a parte em andamento: o cliente consulta o offset e
+ * continua de onde parou.
+ *
+ * <p>As partes são anexadas a um arquivo no diretório {@link StorageProperties#CHUNKED_UPLOAD_DIR}
+ * do storage, no mesmo volume dos jobs, e o arquivo montado é movido para o job sem nova cópia. O
+ * estado de cada upload fica em um arquivo ao lado, de modo que uploads sobrevivem a reinícios da
+ * API. Uploads sem atividade por {@code chunked-upload-expiry-hours} são removidos.
+ *
+ * <p>Cada upload pertence à API key que o criou (guardada como SHA-256, nunca em claro); para
+ * qualquer outra key ele se comporta como inexistente.
+ */
+@Service
+public class ChunkedUploadService {
+
+  private static final String PART_SUFFIX = ".part";
+  private static final String META_SUFFIX = ".properties";
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final Duration PURGE_INTERVAL = Duration.ofMinutes(10);
+
+  private final StorageService storageService;
+  private final InputValidationService inputValidationService;
+  private final Path uploadDir;
+  private final long maxLengthBytes;
+  private final long maxChunkBytes;
+  private final Duration expiry;
+  private final Clock clock;
+
+  // Serializa as operações de cada upload dentro da instância
+  private final Map<String, Object> uploadLocks = new ConcurrentHashMap<>();
+  private volatile Instant lastPurge = Instant.EPOCH;
+
+  @Autowired
+  public ChunkedUploadService(
+      StorageService storageService,
+      StorageProperties storageProperties,
+      InputValidationService inputValidationService) {
+    this(storageService, storageProperties, inputValidationService, Clock.systemDefaultZone());
+  }
+
+  // Constructor for testing
+  public ChunkedUploadService(
+      StorageService storageService,
+      StorageProperties storageProperties,
+      InputValidationService inputValidationService,
+      Clock clock) {
+    this.storageService = storageService;
+    this.inputValidationService = inputValidationService;
+    this.uploadDir =
+        Paths.get(storageProperties.getBasePath(), StorageProperties.CHUNKED_UPLOAD_DIR)
+            .toAbsolutePath();
+    this.maxLengthBytes = storageProperties.getChunkedUploadMaxSizeMb() * 1024L * 1024L;
+    this.maxChunkBytes = storageProperties.getChunkedUploadMaxChunkMb() * 1024L * 1024L;
+    this.expiry = Duration.ofHours(storageProperties.getChunkedUploadExpiryHours());
+    this.clock = clock;
+  }
+
+  /**
+   * Cria um upload vazio.
+   *
+   * @param owner API key que cria o upload
+   * @param filename nome do arquivo, usado no job
+   * @param length tamanho total do arquivo em bytes
+   * @return estado do upload criado
+   */
+  public UploadSession create(String owner, String filename, long length) {
+    inputValidationService.validateChunkedUpload(filename, length, maxLengthBytes);
+    purgeExpiredIfDue();
+
+    UploadSession session =
+        new UploadSession(
+            UUID.randomUUID().toString(),
+            ownerDigest(owner),
+            filename,
+            length,
+            0,
+            expiresFromNow(),
+            false,
+            null);
+    try {
+      Files.createDirectories(uploadDir);
+      Files.createFile(partFile(session.getUploadId()));
+      writeSession(session);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create upload: " + filename, e);
+    }
+    return session;
+  }
+
+  /**
+   * Obtém o estado de um upload.
+   *
+   * @param owner API key da requisição
+   * @param uploadId ID do upload
+   * @return estado do upload
+   * @throws SecurityValidationException se o upload não existir, não pertencer à key ou tiver
+   *     expirado
+   */
+  public UploadSession get(String owner, String uploadId) {
+    inputValidationService.validateUploadId(uploadId);
+    UploadSession session = readSession(uploadId);
+    if (session == null || !ownerDigest(owner).equals(session.getOwnerDigest())) {
+      throw new SecurityValidationException("Upload not found: " + uploadId, "UPLOAD_NOT_FOUND");
+    }
+    if (isExpired(session)) {
+      deleteFiles(uploadId);
+      throw new SecurityValidationException("Upload expired: " + uploadId, "UPLOAD_EXPIRED");
+    }
+    return session;
+  }
+
+  /**
+   * Anexa uma parte ao upload. A parte só é aceita se começar exatamente no offset atual; quando
+   * o SHA-256 da parte é informado e não confere, os bytes recebidos são descartados.
+   *
+   * @param owner API key da requisição
+   * @param uploadId ID do upload
+   * @param offset posição do primeiro byte da parte
+   * @param chunk conteúdo da parte
+   * @param chunkSha256 SHA-256 hexadecimal da parte, ou null para não verificar
+   * @return estado do upload com o novo offset
+   */
+  public UploadSession appendChunk(
+      String owner, String uploadId, long offset, InputStream chunk, String chunkSha256) {
+    if (chunkSha256 != null) {
+      inputValidationService.validateContentHash(chunkSha256);
+    }
+
+    synchronized (lockFor(uploadId)) {
+      UploadSession session = get(owner, uploadId);
+      if (session.isCompleted()) {
+        throw new SecurityValidationException(
+            "Upload already completed: " + uploadId, "UPLOAD_ALREADY_COMPLETED");
+      }
+      if (offset != session.getOffset()) {
+        throw new SecurityValidationException(
+            String.format(
+                "Chunk offset %d does not match upload offset %d", offset, session.getOffset()),
+            "UPLOAD_OFFSET_MISMATCH");
+      }
+
+      long limit = Math.min(maxChunkBytes, session.getLength() - offset);
+      long written;
+      try (FileChannel channel = FileChannel.open(partFile(uploadId), StandardOpenOption.WRITE)) {
+        // Descarta bytes de uma parte anterior que não chegou a ser confirmada
+        channel.truncate(offset);
+        channel.position(offset);
+        MessageDigest digest = sha256();
+        written = copy(chunk, channel, digest, limit);
+        if (written > limit) {
+          channel.truncate(offset);
+          throw new SecurityValidationException(
+              String.format(
+                  "Chunk exceeds the maximum of %d bytes or the declared upload length", limit),
+              "CHUNK_TOO_LARGE");
+        }
+        if (chunkSha256 != null
+            && !HexFormat.of().formatHex(digest.digest()).equalsIgnoreCase(chunkSha256)) {
+          channel.truncate(offset);
+          throw new SecurityValidationException(
+              "Chunk checksum does not match", "CHUNK_CHECKSUM_MISMATCH");
+        }
+        // O offset confirmado precisa sobreviver a uma queda do processo
+        channel.force(false);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to append chunk to upload: " + uploadId, e);
+      }
+
+      UploadSession updated =
+          new UploadSession(
+              uploadId,
+              session.getOwnerDigest(),
+              session.getFilename(),
+              session.getLength(),
+              offset + written,
+              expiresFromNow(),
+              false,
+              null);
+      writeSession(updated);
+      return updated;
+    }
+  }
+
+  /**
+   * Conclui o upload depois de recebidos todos os bytes, validando o conteúdo pelo tipo do
+   * arquivo. Concluir novamente um upload concluído apenas retorna o estado.
+   *
+   * @param owner API key da requisição
+   * @param uploadId ID do upload
+   * @param expectedSha256 SHA-256 hexadecimal do arquivo inteiro, ou null para não verificar
+   * @return estado do upload concluído, com o SHA-256 do arquivo
+   */
+  public UploadSession complete(String owner, String uploadId, String expectedSha256) {
+    if (expectedSha256 != null) {
+      inputValidationService.validateContentHash(expectedSha256);
+    }
+
+    synchronized (lockFor(uploadId)) {
+      UploadSession session = get(owner, uploadId);
+      if (session.isCompleted()) {
+        return session;
+      }
+      if (session.getOffset() < session.getLength()) {
+        throw new SecurityValidationException(
+            String.format(
+                "Upload incomplete: %d of %d bytes received",
+                session.getOffset(), session.getLength()),
+            "UPLOAD_INCOMPLETE");
+      }
+
+      String sha256;
+      try (InputStream header = Files.newInputStream(partFile(uploadId))) {
+        inputValidationService.validateFileSignature(session.getFilename(), header);
+        sha256 = hashOf(partFile(uploadId));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read upload: " + uploadId, e);
+      }
+      if (expectedSha256 != null && !sha256.equalsIgnoreCase(expectedSha256)) {
+        throw new SecurityValidationException(
+            "Upload checksum does not match", "UPLOAD_CHECKSUM_MISMATCH");
+      }
+
+      UploadSession completed =
+          new UploadSession(
+              uploadId,
+              session.getOwnerDigest(),
+              session.getFilename(),
+              session.getLength(),
+              session.getOffset(),
+              expiresFromNow(),
+              true,
+              sha256);
+      writeSession(completed);
+      return completed;
+    }
+  }
+
+  /**
+   * Move um upload concluído para as entradas do job, no executor de I/O do storage. O upload é
+   * consumido: cada ID pode ser usado por um único job. Se a gravação falhar, o upload volta a
+   * ficar disponível. O SHA-256 calculado na conclusão é repassado ao storage, que não precisa ler
+   * o arquivo de novo para deduplicá-lo.
+   *
+   * @param owner API key da requisição
+   * @param jobId ID do job
+   * @param uploadId ID do upload concluído
+   * @return caminho do arquivo no job
+   */
+  public CompletableFuture<String> attachToJobAsync(String owner, String jobId, String uploadId) {
+    UploadSession session;
+    synchronized (lockFor(uploadId)) {
+      session = get(owner, uploadId);
+      if (!session.isCompleted()) {
+        throw new SecurityValidationException(
+            "Upload not completed: " + uploadId, "UPLOAD_INCOMPLETE");
+      }
+      // Remover o estado reserva o upload para este job
+      deleteQuietly(metaFile(uploadId));
+    }
+
+    Path part = partFile(uploadId);
+    return storageService
+        .storeUploadAsync(
+            jobId,
+            session.getFilename(),
+            target -> Files.move(part, target, StandardCopyOption.REPLACE_EXISTING),
+            session.getSha256())
+        .whenComplete(
+            (storedPath, error) -> {
+              if (error != null && Files.exists(part)) {
+                writeSession(session);
+              } else {
+                deleteQuietly(part);
+                uploadLocks.remove(uploadId);
+              }
+            });
+  }
+
+  /**
+   * Cancela um upload, removendo os bytes já recebidos.
+   *
+   * @param owner API key da requisição
+   * @param uploadId ID do upload
+   */
+  public void delete(String owner, String uploadId) {
+    synchronized (lockFor(uploadId)) {
+      get(owner, uploadId);
+      deleteFiles(uploadId);
+    }
+  }
+
+  /**
+   * Remove uploads expirados e arquivos de partes sem estado (uploads reservados por um job que
+   * não terminou de gravá-los).
+   *
+   * @return número de uploads removidos
+   */
+  public int purgeExpired() {
+    lastPurge = clock.instant();
+    if (!Files.isDirectory(uploadDir)) {
+      return 0;
+    }
+
+    List<Path> files;
+    try (Stream<Path> children = Files.list(uploadDir)) {
+      files = children.toList();
+    } catch (IOException e) {
+      System.err.println("Failed to list uploads: " + uploadDir + ", " + e.getMessage());
+      return 0;
+    }
+
+    int purged = 0;
+    for (Path file : files) {
+      String name = file.getFileName().toString();
+      if (name.endsWith(META_SUFFIX)) {
+        String uploadId = name.substring(0, name.length() - META_SUFFIX.length());
+        UploadSession session = readSession(uploadId);
+        if (session == null || isExpired(session)) {
+          deleteFiles(uploadId);
+          purged++;
+        }
+      } else if (name.endsWith(PART_SUFFIX)) {
+        String uploadId = name.substring(0, name.length() - PART_SUFFIX.length());
+        if (!Files.exists(metaFile(uploadId)) && isStale(file)) {
+          deleteQuietly(file);
+          purged++;
+        }
+      }
+    }
+    return purged;
+  }
+
+  private void purgeExpiredIfDue() {
+    if (lastPurge.plus(PURGE_INTERVAL).isBefore(clock.instant())) {
+      int purged = purgeExpired();
+      if (purged > 0) {
+        System.out.println("Purged " + purged + " expired uploads");
+      }
+    }
+  }
+
+  /** Copia até {@code limit + 1} bytes, o suficiente para detectar uma parte maior que o limite. */
+  private long copy(InputStream in, FileChannel channel, MessageDigest digest, long limit)
+      throws IOException {
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    long total = 0;
+    int read;
+    while (total <= limit
+        && (read = in.read(buffer, 0, (int) Math.min(buffer.length, limit + 1 - total))) != -1) {
+      total += read;
+      if (total > limit) {
+        break;
+      }
+      digest.update(buffer, 0, read);
+      ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+      while (byteBuffer.hasRemaining()) {
+        channel.write(byteBuffer);
+      }
+    }
+    return total;
+  }
+
+  private Object lockFor(String uploadId) {
+    return uploadLocks.computeIfAbsent(uploadId, id -> new Object());
+  }
+
+  private LocalDateTime expiresFromNow() {
+    return LocalDateTime.ofInstant(clock.instant().plus(expiry), clock.getZone());
+  }
+
+  private boolean isExpired(UploadSession session) {
+    return session.getExpiresAt().isBefore(LocalDateTime.now(clock));
+  }
+
+  private boolean isStale(Path file) {
+    try {
+      Instant modified = Files.getLastModifiedTime(file).toInstant();
+      return modified.plus(expiry).isBefore(clock.instant());
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private Path partFile(String uploadId) {
+    return uploadDir.resolve(uploadId + PART_SUFFIX);
+  }
+
+  private Path metaFile(String uploadId) {
+    return uploadDir.resolve(uploadId + META_SUFFIX);
+  }
+
+  private void writeSession(UploadSession session) {
+    Properties properties = new Properties();
+    properties.setProperty("owner", session.getOwnerDigest());
+    properties.setProperty("filename", session.getFilename());
+    properties.setProperty("length", Long.toString(session.getLength()));
+    properties.setProperty("offset", Long.toString(session.getOffset()));
+    properties.setProperty(
+        "expiresAt",
+        Long.toString(session.getExpiresAt().atZone(clock.getZone()).toInstant().toEpochMilli()));
+    properties.setProperty("completed", Boolean.toString(session.isCompleted()));
+    if (session.getSha256() != null) {
+      properties.setProperty("sha256", session.getSha256());
+    }
+
+    // Grava em arquivo temporário e troca atomicamente, para nunca deixar um estado pela metade
+    Path meta = metaFile(session.getUploadId());
+    Path tmp = uploadDir.resolve(session.getUploadId() + META_SUFFIX + ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp)) {
+        properties.store(out, null);
+      }
+      Files.move(tmp, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to save upload state: " + meta, e);
+    }
+  }
+
+  private UploadSession readSession(String uploadId) {
+    Path meta = metaFile(uploadId);
+    if (!Files.exists(meta)) {
+      return null;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(meta)) {
+      properties.load(in);
+    } catch (IOException e) {
+      return null;
+    }
+    return new UploadSession(
+        uploadId,
+        properties.getProperty("owner"),
+        properties.getProperty("filename"),
+        Long.parseLong(properties.getProperty("length")),
+        Long.parseLong(properties.getProperty("offset")),
+        LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(Long.parseLong(properties.getProperty("expiresAt"))),
+            clock.getZone()),
+        Boolean.parseBoolean(properties.getProperty("completed")),
+        properties.getProperty("sha256"));
+  }
+
+  private void deleteFiles(String uploadId) {
+    deleteQuietly(metaFile(uploadId));
+    deleteQuietly(partFile(uploadId));
+    uploadLocks.remove(uploadId);
+  }
+
+  private void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      System.err.println("Failed to delete upload file: " + file + ", " + e.getMessage());
+    }
+  }
+
+  private static String hashOf(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    byte[] buffer = new byte[COPY_BUFFER_SIZE];
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static String ownerDigest(String owner) {
+    byte[] key = (owner != null ? owner : "").getBytes(StandardCharsets.UTF_8);
+    return HexFormat.of().formatHex(sha256().digest(key));
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /** Estado de um upload em partes. */
+  public static class UploadSession {
+    private final String uploadId;
+    private final String ownerDigest;
+    private final String filename;
+    private final long length;
+    private final long offset;
+    private final LocalDateTime expiresAt;
+    private final boolean completed;
+    private final String sha256;
+
+    public UploadSession(
+        String uploadId,
+        String ownerDigest,
+        String filename,
+        long length,
+        long offset,
+        LocalDateTime expiresAt,
+        boolean completed,
+        String sha256) {
+      this.uploadId = uploadId;
+      this.ownerDigest = ownerDigest;
+      this.filename = filename;
+      this.length = length;
+      this.offset = offset;
+      this.expiresAt = expiresAt;
+      this.completed = completed;
+      this.sha256 = sha256;
+    }
+
+    public String getUploadId() {
+      return uploadId;
+    }
+
+    /** SHA-256 da API key dona do upload; fora da resposta JSON por não ter getter público. */
+    String getOwnerDigest() {
+      return ownerDigest;
+    }
+
+    public String getFilename() {
+      return filename;
+    }
+
+    /** Tamanho total declarado na criação. */
+    public long getLength() {
+      return length;
+    }
+
+    /** Bytes recebidos e confirmados; a próxima parte deve começar aqui. */
+    public long getOffset() {
+      return offset;
+    }
+
+    public LocalDateTime getExpiresAt() {
+      return expiresAt;
+    }
+
+    public boolean isCompleted() {
+      return completed;
+    }
+
+    /** SHA-256 do arquivo, disponível depois da conclusão. */
+    public String getSha256() {
+      return sha256;
+    }
+  }
+}
@@ -0,0 +1,199 @@
+package com.pdfprocessor.api.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço que envia arquivos de resultado diretamente para a resposta HTTP. Quando o conector do
+ * Tomcat suporta sendfile o arquivo é enviado pelo kernel sem passar pelo heap; caso contrário
+ * usa {@link FileChannel#transferTo}. Suporta Range (206), If-Range e ETag forte (If-None-Match).
+ */
+@Service
+public class FileDownloadService {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(FileDownloadService.class);
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+  private static final int MAX_CACHED_ETAGS = 10_000;
+
+  // Resultados são imutáveis, então o hash é calculado uma vez por arquivo/tamanho/mtime
+  private final Map<String, String> etagCache =
+      Collections.synchronizedMap(
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+              return size() > MAX_CACHED_ETAGS;
+            }
+          });
+
+  /**
+   * Envia um arquivo respeitando os cabeçalhos condicionais e de Range da requisição.
+   *
+   * @param request requisição HTTP
+   * @param response resposta HTTP
+   * @param file arquivo a ser enviado
+   * @param filename nome sugerido para download
+   * @param contentType tipo MIME do arquivo
+   * @param contentHash SHA-256 já conhecido do conteúdo, ou null para calcular
+   * @throws IOException se o arquivo não puder ser lido ou enviado
+   */
+  public void serve(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Path file,
+      String filename,
+      String contentType,
+      String contentHash)
+      throws IOException {
+    long fileSize = Files.size(file);
+    String etag = "\"" + (contentHash != null ? contentHash : computeContentHash(file)) + "\"";
+
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setDateHeader(HttpHeaders.LAST_MODIFIED, Files.getLastModifiedTime(file).toMillis());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+
+    if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    long start = 0;
+    long end = fileSize - 1;
+    HttpRange range = resolveRange(request, etag);
+    if (range != null) {
+      if (fileSize == 0 || range.getRangeStart(fileSize) >= fileSize) {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        return;
+      }
+      start = range.getRangeStart(fileSize);
+      end = range.getRangeEnd(fileSize);
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setHeader(
+          HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+    } else {
+      response.setStatus(HttpServletResponse.SC_OK);
+    }
+
+    long length = end - start + 1;
+    response.setContentType(contentType);
+    response.setContentLengthLong(length);
+
+    if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+      return;
+    }
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      // O Tomcat envia o arquivo após o retorno do handler, sem copiar para o heap
+      request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end + 1);
+      return;
+    }
+
+    transfer(file, start, length, response);
+  }
+
+  private void transfer(Path file, long start, long length, HttpServletResponse response)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      long remaining = length;
+      while (remaining > 0) {
+        long transferred = channel.transferTo(position, remaining, target);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+        remaining -= transferred;
+      }
+    }
+  }
+
+  /**
+   * Retorna o único intervalo solicitado, ou null para enviar o arquivo completo. Múltiplos
+   * intervalos e If-Range divergente resultam no arquivo completo, como permite a RFC 9110.
+   */
+  private HttpRange resolveRange(HttpServletRequest request, String etag) {
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (rangeHeader == null) {
+      return null;
+    }
+
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange != null && !ifRange.equals(etag)) {
+      return null;
+    }
+
+    try {
+      List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+      return ranges.size() == 1 ? ranges.get(0) : null;
+    } catch (IllegalArgumentException e) {
+      LOGGER.debug("Range inválido ignorado: {}", rangeHeader);
+      return null;
+    }
+  }
+
+  private boolean matchesEtag(String ifNoneMatch, String etag) {
+    if (ifNoneMatch == null) {
+      return false;
+    }
+    for (String candidate : ifNoneMatch.split(",")) {
+      String trimmed = candidate.trim();
+      if (trimmed.equals("*") || trimmed.equals(etag) || trimmed.equals("W/" + etag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private String computeContentHash(Path file) throws IOException {
+    String cacheKey =
+        file.toAbsolutePath() + "|" + Files.size(file) + "|" + Files.getLastModifiedTime(file);
+    String cached = etagCache.get(cacheKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+    try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+
+    String hash = HexFormat.of().formatHex(digest.digest());
+    etagCache.put(cacheKey, hash);
+    return hash;
+  }
+}
@@ -2,8 +2,12 @@ package com.pdfprocessor.api.service;
 
 import com.pdfprocessor.api.exception.SecurityValidationException;
 import com.pdfprocessor.domain.model.JobOperation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
-// import java.util.Map;
+import java.util.Map;
 import java.util.regex.Pattern;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,11 +24,24 @@ public class InputValidationService {
   private static final int MAX_OPERATION_NAME_LENGTH = 50;
   private static final int MAX_OPTIONS_JSON_LENGTH = 10000;
   private static final int MAX_INPUT_FILES_COUNT = 10;
+  // O MERGE lê uma entrada por vez com memória limitada, então aceita muito mais arquivos
+  private static final int MAX_MERGE_INPUT_FILES_COUNT = 500;
   private static final long MAX_FILE_SIZE_BYTES = 50L * 1024 * 1024; // 50MB
+  private static final int MAX_CONTENT_HASHES_PER_CHECK = 100;
+  // A especificação permite lixo antes do cabeçalho %PDF- dentro do primeiro 1 KB
+  private static final int PDF_HEADER_SEARCH_BYTES = 1024;
+  private static final byte[] PDF_MAGIC = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+  private static final byte[] JPEG_MAGIC = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+  private static final byte[] GIF_MAGIC = "GIF8".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] BMP_MAGIC = "BM".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TIFF_LE_MAGIC = {'I', 'I', 0x2A, 0x00};
+  private static final byte[] TIFF_BE_MAGIC = {'M', 'M', 0x00, 0x2A};
 
   // Padrões de validação
   private static final Pattern SAFE_FILENAME_PATTERN = Pattern.compile("^[a-zA-Z0-9._-]+$");
   private static final Pattern SAFE_PATH_PATTERN = Pattern.compile("^[a-zA-Z0-9/._-]+$");
+  private static final Pattern SHA256_PATTERN = Pattern.compile("^[0-9a-fA-F]{64}$");
   private static final Pattern UUID_PATTERN =
       Pattern.compile(
           "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
@@ -72,29 +89,43 @@ public class InputValidationService {
   }
 
   /**
-   * Valida arquivos enviados via upload.
+   * Número máximo de arquivos de entrada de um job da operação.
+   *
+   * @param operation operação do job, ou null para o limite geral
+   */
+  public int maxInputFiles(JobOperation operation) {
+    return operation == JobOperation.MERGE ? MAX_MERGE_INPUT_FILES_COUNT : MAX_INPUT_FILES_COUNT;
+  }
+
+  /**
+   * Valida arquivos enviados via upload para um job da operação.
    *
    * @param files lista de arquivos
+   * @param operation operação do job, que define o número máximo de arquivos
    * @throws SecurityValidationException se algum arquivo for inválido
    */
-  public void validateUploadedFiles(List<MultipartFile> files) {
+  public void validateUploadedFiles(List<MultipartFile> files, JobOperation operation) {
     if (files == null || files.isEmpty()) {
       return; // Pode ser válido se inputFiles for fornecido
     }
 
-    if (files.size() > MAX_INPUT_FILES_COUNT) {
-      throw new SecurityValidationException(
-          String.format(
-              "Maximum %d files allowed per job, but %d files provided",
-              MAX_INPUT_FILES_COUNT, files.size()),
-          "MAX_FILES_EXCEEDED");
-    }
+    validateFileCount(files.size(), operation);
 
     for (MultipartFile file : files) {
       validateSingleFile(file);
     }
   }
 
+  private void validateFileCount(int totalFiles, JobOperation operation) {
+    int maxFiles = maxInputFiles(operation);
+    if (totalFiles > maxFiles) {
+      throw new SecurityValidationException(
+          String.format(
+              "Maximum %d files allowed per job, but %d files provided", maxFiles, totalFiles),
+          "MAX_FILES_EXCEEDED");
+    }
+  }
+
   /**
    * Valida um único arquivo enviado.
    *
@@ -118,7 +149,26 @@ public class InputValidationService {
     }
 
     // Validar nome do arquivo
-    String filename = file.getOriginalFilename();
+    validateFilename(file.getOriginalFilename());
+
+    // Validar tipo MIME
+    String contentType = file.getContentType();
+    if (contentType != null && !ALLOWED_MIME_TYPES.contains(contentType)) {
+      throw new SecurityValidationException(
+          String.format(
+              "Content type '%s' not allowed. Allowed types: %s",
+              contentType, String.join(", ", ALLOWED_MIME_TYPES)),
+          "INVALID_CONTENT_TYPE");
+    }
+  }
+
+  /**
+   * Valida nome e extensão de um arquivo de entrada.
+   *
+   * @param filename nome do arquivo
+   * @throws SecurityValidationException se o nome for inválido
+   */
+  private void validateFilename(String filename) {
     if (filename == null || filename.trim().isEmpty()) {
       throw new SecurityValidationException("Filename is required", "MISSING_FILENAME");
     }
@@ -145,36 +195,149 @@ public class InputValidationService {
               extension, String.join(", ", ALLOWED_FILE_EXTENSIONS)),
           "INVALID_FILE_EXTENSION");
     }
+  }
 
-    // Validar tipo MIME
-    String contentType = file.getContentType();
-    if (contentType != null && !ALLOWED_MIME_TYPES.contains(contentType)) {
+  /**
+   * Valida se o conteúdo de cada arquivo enviado corresponde à sua extensão, pelos magic bytes.
+   * Apenas o início de cada arquivo é lido, antes de qualquer gravação no storage.
+   *
+   * @param files lista de arquivos enviados
+   * @throws SecurityValidationException se algum conteúdo não corresponder à extensão
+   */
+  public void validateFileSignatures(List<MultipartFile> files) {
+    if (files == null) {
+      return;
+    }
+
+    for (MultipartFile file : files) {
+      if (file == null || file.isEmpty()) {
+        continue;
+      }
+
+      try (InputStream in = file.getInputStream()) {
+        validateFileSignature(file.getOriginalFilename(), in);
+      } catch (IOException e) {
+        throw new SecurityValidationException(
+            String.format("Could not read uploaded file '%s'", file.getOriginalFilename()),
+            "INVALID_FILE_CONTENT");
+      }
+    }
+  }
+
+  /**
+   * Valida se o início do conteúdo corresponde à extensão do arquivo, pelos magic bytes.
+   *
+   * @param filename nome do arquivo
+   * @param content conteúdo do arquivo; apenas o início é lido
+   * @throws IOException se o conteúdo não puder ser lido
+   * @throws SecurityValidationException se o conteúdo não corresponder à extensão
+   */
+  public void validateFileSignature(String filename, InputStream content) throws IOException {
+    String extension = getFileExtension(filename != null ? filename : "").toLowerCase();
+    byte[] header = content.readNBytes(PDF_HEADER_SEARCH_BYTES);
+    if (!matchesSignature(extension, header)) {
+      throw new SecurityValidationException(
+          String.format("File '%s' content does not match extension '%s'", filename, extension),
+          "INVALID_FILE_CONTENT");
+    }
+  }
+
+  /**
+   * Valida a criação de um upload em partes: nome do arquivo e tamanho total declarado.
+   *
+   * @param filename nome do arquivo
+   * @param length tamanho total em bytes
+   * @param maxLengthBytes tamanho máximo permitido
+   * @throws SecurityValidationException se o upload for inválido
+   */
+  public void validateChunkedUpload(String filename, long length, long maxLengthBytes) {
+    validateFilename(filename);
+
+    if (length <= 0) {
+      throw new SecurityValidationException("Upload length must be positive", "EMPTY_FILE");
+    }
+
+    if (length > maxLengthBytes) {
       throw new SecurityValidationException(
           String.format(
-              "Content type '%s' not allowed. Allowed types: %s",
-              contentType, String.join(", ", ALLOWED_MIME_TYPES)),
-          "INVALID_CONTENT_TYPE");
+              "File '%s' exceeds maximum size of %d MB. File size: %.2f MB",
+              filename, maxLengthBytes / (1024 * 1024), length / (1024.0 * 1024.0)),
+          "FILE_SIZE_EXCEEDED");
+    }
+  }
+
+  /**
+   * Valida IDs de uploads em partes referenciados no createJob de um job da operação.
+   *
+   * @param uploadIds IDs informados
+   * @param otherCount número de arquivos informados por outros meios na mesma requisição
+   * @param operation operação do job, que define o número máximo de arquivos
+   * @throws SecurityValidationException se algum ID for inválido
+   */
+  public void validateUploadIds(List<String> uploadIds, int otherCount, JobOperation operation) {
+    if (uploadIds == null || uploadIds.isEmpty()) {
+      return;
+    }
+
+    validateFileCount(uploadIds.size() + otherCount, operation);
+
+    for (String uploadId : uploadIds) {
+      validateUploadId(uploadId);
+    }
+  }
+
+  /**
+   * Valida o ID de um upload em partes.
+   *
+   * @param uploadId ID do upload
+   * @throws SecurityValidationException se o ID não for um UUID
+   */
+  public void validateUploadId(String uploadId) {
+    if (uploadId == null || !UUID_PATTERN.matcher(uploadId).matches()) {
+      throw new SecurityValidationException("Invalid upload ID format", "INVALID_UPLOAD_ID");
     }
   }
 
+  private boolean matchesSignature(String extension, byte[] header) {
+    return switch (extension) {
+      case ".pdf" -> indexOf(header, PDF_MAGIC) >= 0;
+      case ".png" -> startsWith(header, PNG_MAGIC);
+      case ".jpg", ".jpeg" -> startsWith(header, JPEG_MAGIC);
+      case ".gif" -> startsWith(header, GIF_MAGIC);
+      case ".bmp" -> startsWith(header, BMP_MAGIC);
+      case ".tif", ".tiff" ->
+          startsWith(header, TIFF_LE_MAGIC) || startsWith(header, TIFF_BE_MAGIC);
+      default -> false;
+    };
+  }
+
+  private boolean startsWith(byte[] data, byte[] prefix) {
+    return data.length >= prefix.length
+        && Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+  }
+
+  private int indexOf(byte[] data, byte[] pattern) {
+    for (int i = 0; i + pattern.length <= data.length; i++) {
+      if (Arrays.equals(data, i, i + pattern.length, pattern, 0, pattern.length)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   /**
-   * Valida lista de arquivos existentes.
+   * Valida lista de arquivos existentes para um job da operação.
    *
    * @param inputFiles lista de caminhos de arquivos
+   * @param operation operação do job, que define o número máximo de arquivos
    * @throws SecurityValidationException se algum caminho for inválido
    */
-  public void validateInputFiles(List<String> inputFiles) {
+  public void validateInputFiles(List<String> inputFiles, JobOperation operation) {
     if (inputFiles == null || inputFiles.isEmpty()) {
       return; // Pode ser válido se files for fornecido
     }
 
-    if (inputFiles.size() > MAX_INPUT_FILES_COUNT) {
-      throw new SecurityValidationException(
-          String.format(
-              "Maximum %d files allowed per job, but %d files provided",
-              MAX_INPUT_FILES_COUNT, inputFiles.size()),
-          "MAX_FILES_EXCEEDED");
-    }
+    validateFileCount(inputFiles.size(), operation);
 
     for (String filePath : inputFiles) {
       validateInputFilePath(filePath);
@@ -239,6 +402,68 @@ public class InputValidationService {
     }
   }
 
+  /**
+   * Valida um hash SHA-256 de conteúdo.
+   *
+   * @param contentHash hash hexadecimal
+   * @throws SecurityValidationException se o hash for inválido
+   */
+  public void validateContentHash(String contentHash) {
+    if (contentHash == null || contentHash.trim().isEmpty()) {
+      throw new SecurityValidationException("Content hash is required", "MISSING_CONTENT_HASH");
+    }
+
+    if (!SHA256_PATTERN.matcher(contentHash).matches()) {
+      throw new SecurityValidationException(
+          "Content hash must be a SHA-256 hex string", "INVALID_CONTENT_HASH");
+    }
+  }
+
+  /**
+   * Valida a lista de hashes de uma consulta de conteúdo.
+   *
+   * @param contentHashes hashes hexadecimais
+   * @throws SecurityValidationException se a lista for inválida
+   */
+  public void validateContentHashes(List<String> contentHashes) {
+    if (contentHashes == null || contentHashes.isEmpty()) {
+      throw new SecurityValidationException(
+          "At least one content hash is required", "MISSING_CONTENT_HASH");
+    }
+
+    if (contentHashes.size() > MAX_CONTENT_HASHES_PER_CHECK) {
+      throw new SecurityValidationException(
+          String.format(
+              "Maximum %d content hashes allowed per check, but %d provided",
+              MAX_CONTENT_HASHES_PER_CHECK, contentHashes.size()),
+          "MAX_HASHES_EXCEEDED");
+    }
+
+    contentHashes.forEach(this::validateContentHash);
+  }
+
+  /**
+   * Valida referências a conteúdos já armazenados de um job da operação.
+   *
+   * @param blobRefs referências informadas
+   * @param uploadedCount número de arquivos enviados na mesma requisição
+   * @param operation operação do job, que define o número máximo de arquivos
+   * @throws SecurityValidationException se alguma referência for inválida
+   */
+  public void validateBlobReferences(
+      List<Map<String, String>> blobRefs, int uploadedCount, JobOperation operation) {
+    if (blobRefs == null || blobRefs.isEmpty()) {
+      return;
+    }
+
+    validateFileCount(blobRefs.size() + uploadedCount, operation);
+
+    for (Map<String, String> blobRef : blobRefs) {
+      validateContentHash(blobRef.get("sha256"));
+      validateFilename(blobRef.get("filename"));
+    }
+  }
+
   /**
    * Valida parâmetros de paginação.
    *
@@ -0,0 +1,172 @@
+package com.pdfprocessor.api.service;
+
+import com.pdfprocessor.api.config.SignedUrlProperties;
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Emite e valida URLs de download assinadas com HMAC-SHA256. A URL carrega o job, o caminho do
+ * resultado e a expiração, de modo que a validação não depende de estado: não consulta o Redis nem
+ * exige X-API-Key, e a URL pode ser servida por CDNs e proxies reversos.
+ *
+ * <p>Formato: {@code /dl/<payload>.<expiração>.<assinatura>/<nome>}, com payload e assinatura em
+ * Base64 URL-safe. O nome no fim é apenas informativo e não entra na assinatura.
+ */
+@Service
+public class SignedUrlService {
+
+  public static final String PATH_PREFIX = "/dl/";
+
+  private static final String HMAC_ALGORITHM = "HmacSHA256";
+  // Expirações arredondadas: URLs emitidas na mesma janela são idênticas e reaproveitam o cache
+  private static final long EXPIRY_BUCKET_SECONDS = 600;
+
+  private final SecretKeySpec signingKey;
+  private final Duration ttl;
+  private final String publicBaseUrl;
+  private final Clock clock;
+
+  @Autowired
+  public SignedUrlService(SignedUrlProperties properties) {
+    this(properties, Clock.systemUTC());
+  }
+
+  // Constructor for testing
+  public SignedUrlService(SignedUrlProperties properties, Clock clock) {
+    String secret = properties.getSigningSecret();
+    // Um segredo gerado por processo invalidaria as URLs a cada reinício e entre réplicas
+    if (secret == null || secret.isBlank()) {
+      throw new IllegalStateException(
+          "app.downloads.signing-secret (DOWNLOAD_SIGNING_SECRET) must be configured");
+    }
+    this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    this.ttl = Duration.ofMinutes(properties.getUrlTtlMinutes());
+    this.publicBaseUrl = stripTrailingSlash(properties.getPublicBaseUrl());
+    this.clock = clock;
+  }
+
+  /**
+   * Cria a URL de download de um resultado. A validade é de pelo menos {@code url-ttl-minutes}.
+   *
+   * @param jobId ID do job
+   * @param resultPath caminho lógico do resultado no storage
+   * @return URL assinada, absoluta se {@code public-base-url} estiver configurado
+   */
+  public String createDownloadUrl(String jobId, String resultPath) {
+    long minExpiry = clock.instant().plus(ttl).getEpochSecond();
+    long expires = Math.ceilDiv(minExpiry, EXPIRY_BUCKET_SECONDS) * EXPIRY_BUCKET_SECONDS;
+
+    String payload = encode((jobId + "\n" + resultPath).getBytes(StandardCharsets.UTF_8));
+    String token = payload + "." + expires + "." + encode(sign(payload + "." + expires));
+    String filename = resultPath.substring(resultPath.lastIndexOf('/') + 1);
+
+    return publicBaseUrl
+        + PATH_PREFIX
+        + token
+        + "/"
+        + URLEncoder.encode(filename, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+
+  /**
+   * Valida o token de uma URL assinada.
+   *
+   * @param token primeiro segmento após {@code /dl/}
+   * @return download autorizado pelo token
+   * @throws SecurityValidationException se o token for inválido ou estiver expirado
+   */
+  public SignedDownload verify(String token) {
+    String[] parts = token != null ? token.split("\\.") : new String[0];
+    if (parts.length != 3) {
+      throw invalidSignature();
+    }
+
+    byte[] expected = sign(parts[0] + "." + parts[1]);
+    byte[] provided;
+    long expires;
+    String payload;
+    try {
+      provided = Base64.getUrlDecoder().decode(parts[2]);
+      expires = Long.parseLong(parts[1]);
+      payload = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw invalidSignature();
+    }
+    if (!MessageDigest.isEqual(expected, provided)) {
+      throw invalidSignature();
+    }
+
+    Instant expiresAt = Instant.ofEpochSecond(expires);
+    if (!clock.instant().isBefore(expiresAt)) {
+      throw new SecurityValidationException("Download URL expired", "DOWNLOAD_URL_EXPIRED");
+    }
+
+    int separator = payload.indexOf('\n');
+    if (separator <= 0) {
+      throw invalidSignature();
+    }
+    return new SignedDownload(
+        payload.substring(0, separator), payload.substring(separator + 1), expiresAt);
+  }
+
+  private byte[] sign(String data) {
+    try {
+      Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+      mac.init(signingKey);
+      return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+      throw new IllegalStateException("HMAC-SHA256 not available", e);
+    }
+  }
+
+  private static String encode(byte[] data) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(data);
+  }
+
+  private static SecurityValidationException invalidSignature() {
+    return new SecurityValidationException("Invalid download URL signature", "INVALID_SIGNATURE");
+  }
+
+  private static String stripTrailingSlash(String url) {
+    if (url == null) {
+      return "";
+    }
+    return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+  }
+
+  /** Download autorizado por uma URL assinada. */
+  public static class SignedDownload {
+    private final String jobId;
+    private final String resultPath;
+    private final Instant expiresAt;
+
+    public SignedDownload(String jobId, String resultPath, Instant expiresAt) {
+      this.jobId = jobId;
+      this.resultPath = resultPath;
+      this.expiresAt = expiresAt;
+    }
+
+    public String getJobId() {
+      return jobId;
+    }
+
+    public String getResultPath() {
+      return resultPath;
+    }
+
+    public Instant getExpiresAt() {
+      return expiresAt;
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package com.pdfprocessor.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço que envia um diretório de resultado como ZIP gerado durante o envio. Nenhum arquivo
+ * temporário é criado e a memória usada independe do tamanho do resultado: cada arquivo é copiado
+ * direto para a resposta. Conteúdo já comprimido (PNG, JPEG...) vai como STORED e o restante
+ * como DEFLATE.
+ */
+@Service
+public class ZipStreamingService {
+
+  /** Nome da entrada opcional que descreve o conteúdo do ZIP, sempre a primeira. */
+  public static final String MANIFEST_ENTRY = "manifest.json";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final Set<String> PRECOMPRESSED_EXTENSIONS =
+      Set.of("png", "jpg", "jpeg", "gif", "webp", "zip", "gz", "mp3");
+
+  private final ObjectMapper objectMapper;
+
+  public ZipStreamingService(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Envia o diretório como ZIP. O tamanho não é conhecido antecipadamente, então a resposta usa
+   * transferência em chunks e não suporta Range.
+   *
+   * @param request requisição HTTP
+   * @param response resposta HTTP
+   * @param directory diretório do resultado
+   * @param filename nome sugerido para download
+   * @param includeManifest se deve enviar {@value #MANIFEST_ENTRY} antes dos arquivos
+   * @throws IOException se algum arquivo não puder ser lido ou enviado
+   */
+  public void serve(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      Path directory,
+      String filename,
+      boolean includeManifest)
+      throws IOException {
+    List<Path> files = listFiles(directory);
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType("application/zip");
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+
+    if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+      return;
+    }
+
+    writeZip(directory, files, response.getOutputStream(), includeManifest);
+  }
+
+  /**
+   * Escreve o ZIP do diretório no stream informado, sem fechá-lo.
+   *
+   * @param directory diretório do resultado
+   * @param out stream de destino
+   * @param includeManifest se deve escrever {@value #MANIFEST_ENTRY} como primeira entrada
+   * @throws IOException se algum arquivo não puder ser lido ou escrito
+   */
+  public void writeZip(Path directory, OutputStream out, boolean includeManifest)
+      throws IOException {
+    writeZip(directory, listFiles(directory), out, includeManifest);
+  }
+
+  private void writeZip(
+      Path directory, List<Path> files, OutputStream out, boolean includeManifest)
+      throws IOException {
+    ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+
+    if (includeManifest) {
+      writeManifest(zip, directory, files);
+    }
+
+    for (Path file : files) {
+      ZipEntry entry = new ZipEntry(entryName(directory, file));
+      entry.setTime(Files.getLastModifiedTime(file).toMillis());
+      if (isPrecompressed(entry.getName())) {
+        // STORED exige tamanho e CRC antes dos dados; o arquivo é lido uma vez a mais para o CRC
+        long size = Files.size(file);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc32(file));
+      }
+
+      zip.putNextEntry(entry);
+      Files.copy(file, zip);
+      zip.closeEntry();
+    }
+
+    // finish em vez de close: o stream de destino pertence ao chamador
+    zip.finish();
+    zip.flush();
+  }
+
+  private void writeManifest(ZipOutputStream zip, Path directory, List<Path> files)
+      throws IOException {
+    List<Map<String, Object>> entries = new ArrayList<>(files.size());
+    for (Path file : files) {
+      String name = entryName(directory, file);
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("name", name);
+      entry.put("size", Files.size(file));
+      entry.put("method", isPrecompressed(name) ? "STORED" : "DEFLATED");
+      entries.add(entry);
+    }
+
+    Map<String, Object> manifest = new LinkedHashMap<>();
+    manifest.put("fileCount", files.size());
+    manifest.put("files", entries);
+
+    zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+    zip.write(objectMapper.writeValueAsBytes(manifest));
+    zip.closeEntry();
+  }
+
+  private List<Path> listFiles(Path directory) throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      return paths.filter(Files::isRegularFile).sorted().toList();
+    }
+  }
+
+  private String entryName(Path directory, Path file) {
+    return directory.relativize(file).toString().replace(File.separatorChar, '/');
+  }
+
+  private boolean isPrecompressed(String name) {
+    int lastDot = name.lastIndexOf('.');
+    return lastDot >= 0
+        && PRECOMPRESSED_EXTENSIONS.contains(name.substring(lastDot + 1).toLowerCase(Locale.ROOT));
+  }
+
+  private long crc32(Path file) throws IOException {
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream in = Files.newInputStream(file)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+      }
+    }
+    return crc.getValue();
+  }
+}
@@ -12,10 +12,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pdfprocessor.application.dto.CreateJobRequest;
 import com.pdfprocessor.application.dto.JobResponse;
 import com.pdfprocessor.application.usecase.CreateJobUseCase;
+import com.pdfprocessor.application.usecase.DownloadResultUseCase;
 import com.pdfprocessor.application.usecase.GetJobStatusUseCase;
 import com.pdfprocessor.application.usecase.ListAllJobsUseCase;
 import com.pdfprocessor.domain.model.JobOperation;
 import com.pdfprocessor.domain.model.JobStatus;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -36,7 +38,8 @@ import org.springframework.test.web.servlet.MockMvc;
 @TestPropertySource(
     properties = {
       "app.security.api-keys[0]=test-key-67890",
-      "app.security.api-keys[1]=dev-key-12345"
+      "app.security.api-keys[1]=dev-key-12345",
+      "app.downloads.signing-secret=test-signing-secret"
     })
 class JobControllerTest {
 
@@ -54,6 +57,9 @@ class JobControllerTest {
   @MockBean private com.pdfprocessor.api.service.RateLimitService rateLimitService;
   @MockBean private com.pdfprocessor.api.service.InputValidationService inputValidationService;
   @MockBean private com.pdfprocessor.api.service.SseService sseService;
+  @MockBean private com.pdfprocessor.api.service.FileDownloadService fileDownloadService;
+  @MockBean private com.pdfprocessor.api.service.ZipStreamingService zipStreamingService;
+  @MockBean private com.pdfprocessor.api.service.ChunkedUploadService chunkedUploadService;
 
   @Autowired private ObjectMapper objectMapper;
 
@@ -113,6 +119,26 @@ class JobControllerTest {
     verify(getJobStatusUseCase).execute(jobId);
   }
 
+  @Test
+  void shouldDownloadReportSeparatelyFromResult() throws Exception {
+    // Given
+    String jobId = "job-123";
+    Path report = Path.of("./storage/job-123/results/report.txt");
+    when(downloadResultUseCase.executeReport(jobId))
+        .thenReturn(
+            new DownloadResultUseCase.DownloadResponse(
+                report, "report.txt", 120, "text/plain", null));
+
+    // When & Then
+    mockMvc
+        .perform(get("/api/v1/jobs/{jobId}/report", jobId).header("X-API-Key", "test-key-67890"))
+        .andExpect(status().isOk());
+
+    verify(fileDownloadService)
+        .serve(any(), any(), eq(report), eq("report.txt"), eq("text/plain"), isNull());
+    verify(downloadResultUseCase, never()).execute(anyString());
+  }
+
   @Test
   void shouldReturnUnauthorizedWhenApiKeyMissing() throws Exception {
     // Given
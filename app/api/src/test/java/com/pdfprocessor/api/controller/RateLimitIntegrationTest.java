@@ -49,8 +49,8 @@ class RateLimitIntegrationTest {
 
     // Configurar mocks para não interferir nos testes de rate limit
     doNothing().when(inputValidationService).validateOperation(any());
-    doNothing().when(inputValidationService).validateUploadedFiles(any());
-    doNothing().when(inputValidationService).validateInputFiles(any());
+    doNothing().when(inputValidationService).validateUploadedFiles(any(), any());
+    doNothing().when(inputValidationService).validateInputFiles(any(), any());
     doNothing().when(inputValidationService).validateOptionsJson(any());
 
     // Mock do CreateJobUseCase para retornar JobResponse
@@ -15,15 +15,18 @@ import com.pdfprocessor.domain.port.StorageService;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 /** Testes para validações de segurança no JobController. */
 @WebMvcTest(JobController.class)
+@TestPropertySource(properties = "app.downloads.signing-secret=test-signing-secret")
 class SecurityValidationTest {
 
   @Autowired private MockMvc mockMvc;
@@ -94,7 +97,7 @@ class SecurityValidationTest {
                 .file(file10)
                 .file(file11)
                 .header("X-API-Key", "test-key-67890")
-                .param("operation", "MERGE"))
+                .param("operation", "COMPRESS"))
         .andExpect(status().isPayloadTooLarge())
         .andExpect(jsonPath("$.code").value("MAX_FILES_EXCEEDED"))
         .andExpect(
@@ -123,7 +126,7 @@ class SecurityValidationTest {
         .perform(
             post("/api/v1/jobs")
                 .header("X-API-Key", "test-key-67890")
-                .param("operation", "MERGE")
+                .param("operation", "COMPRESS")
                 .param("inputFiles", inputFiles.toArray(new String[0])))
         .andExpect(status().isPayloadTooLarge())
         .andExpect(jsonPath("$.code").value("MAX_FILES_EXCEEDED"))
@@ -135,12 +138,14 @@ class SecurityValidationTest {
   void shouldAcceptValidFileSize() throws Exception {
     // Given - arquivo de 30MB (dentro do limite de 50MB)
     byte[] validFileContent = new byte[30 * 1024 * 1024]; // 30MB
+    byte[] pdfHeader = "%PDF-1.4".getBytes();
+    System.arraycopy(pdfHeader, 0, validFileContent, 0, pdfHeader.length);
     MockMultipartFile validFile =
         new MockMultipartFile("files", "valid-file.pdf", "application/pdf", validFileContent);
 
     // Mock dependencies
-    when(storageService.store(anyString(), anyString(), any()))
-        .thenReturn("job-123/valid-file.pdf");
+    when(storageService.storeUploadAsync(anyString(), anyString(), any()))
+        .thenReturn(CompletableFuture.completedFuture("job-123/valid-file.pdf"));
     when(createJobUseCase.execute(any())).thenReturn(createMockJobResponse());
 
     // When & Then
@@ -158,18 +163,24 @@ class SecurityValidationTest {
   void shouldAcceptValidNumberOfFiles() throws Exception {
     // Given - 5 arquivos (dentro do limite de 10)
     MockMultipartFile file1 =
-        new MockMultipartFile("files", "file1.pdf", "application/pdf", "content1".getBytes());
+        new MockMultipartFile(
+            "files", "file1.pdf", "application/pdf", "%PDF-1.4 content1".getBytes());
     MockMultipartFile file2 =
-        new MockMultipartFile("files", "file2.pdf", "application/pdf", "content2".getBytes());
+        new MockMultipartFile(
+            "files", "file2.pdf", "application/pdf", "%PDF-1.4 content2".getBytes());
     MockMultipartFile file3 =
-        new MockMultipartFile("files", "file3.pdf", "application/pdf", "content3".getBytes());
+        new MockMultipartFile(
+            "files", "file3.pdf", "application/pdf", "%PDF-1.4 content3".getBytes());
     MockMultipartFile file4 =
-        new MockMultipartFile("files", "file4.pdf", "application/pdf", "content4".getBytes());
+        new MockMultipartFile(
+            "files", "file4.pdf", "application/pdf", "%PDF-1.4 content4".getBytes());
     MockMultipartFile file5 =
-        new MockMultipartFile("files", "file5.pdf", "application/pdf", "content5".getBytes());
+        new MockMultipartFile(
+            "files", "file5.pdf", "application/pdf", "%PDF-1.4 content5".getBytes());
 
     // Mock dependencies
-    when(storageService.store(anyString(), anyString(), any())).thenReturn("job-123/file.pdf");
+    when(storageService.storeUploadAsync(anyString(), anyString(), any()))
+        .thenReturn(CompletableFuture.completedFuture("job-123/file.pdf"));
     when(createJobUseCase.execute(any())).thenReturn(createMockJobResponse());
 
     // When & Then
@@ -12,7 +12,7 @@ import java.io.IOException;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.downloads.signing-secret=test-signing-secret")
 class SecurityHeadersIntegrationTest {
 
   private final SecurityHeadersFilter securityHeadersFilter = new SecurityHeadersFilter();
@@ -0,0 +1,97 @@
+package com.pdfprocessor.api.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.api.config.SignedUrlProperties;
+import com.pdfprocessor.api.service.FileDownloadService;
+import com.pdfprocessor.api.service.SignedUrlService;
+import com.pdfprocessor.api.service.ZipStreamingService;
+import com.pdfprocessor.application.usecase.DownloadResultUseCase;
+import com.pdfprocessor.application.usecase.DownloadResultUseCase.DownloadResponse;
+import jakarta.servlet.FilterChain;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Testes unitários para SignedDownloadFilter. */
+class SignedDownloadFilterTest {
+
+  private static final String JOB_ID = "550e8400-e29b-41d4-a716-446655440000";
+  private static final String RESULT_PATH = "./storage/" + JOB_ID + "/results/merged.pdf";
+
+  private SignedUrlService signedUrlService;
+  private DownloadResultUseCase downloadResultUseCase;
+  private FileDownloadService fileDownloadService;
+  private FilterChain filterChain;
+  private SignedDownloadFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    SignedUrlProperties properties = new SignedUrlProperties();
+    properties.setSigningSecret("test-secret");
+    signedUrlService = new SignedUrlService(properties);
+    downloadResultUseCase = mock(DownloadResultUseCase.class);
+    fileDownloadService = mock(FileDownloadService.class);
+    filterChain = mock(FilterChain.class);
+    filter =
+        new SignedDownloadFilter(
+            signedUrlService,
+            downloadResultUseCase,
+            fileDownloadService,
+            mock(ZipStreamingService.class));
+  }
+
+  @Test
+  void shouldServeSignedDownloadWithoutReachingTheApplication() throws Exception {
+    // Given
+    Path file = Paths.get("/tmp/merged.pdf");
+    when(downloadResultUseCase.resolve(JOB_ID, RESULT_PATH))
+        .thenReturn(new DownloadResponse(file, "merged.pdf", 10, "application/pdf", "abc"));
+    MockHttpServletRequest request =
+        new MockHttpServletRequest("GET", signedUrlService.createDownloadUrl(JOB_ID, RESULT_PATH));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, filterChain);
+
+    // Then
+    verify(fileDownloadService)
+        .serve(any(), any(), eq(file), eq("merged.pdf"), eq("application/pdf"), eq("abc"));
+    verify(filterChain, never()).doFilter(any(), any());
+    assertTrue(response.getHeader("Cache-Control").startsWith("public, max-age="));
+  }
+
+  @Test
+  void shouldRejectInvalidSignatureWithoutResolvingTheResult() throws Exception {
+    // Given
+    String url = signedUrlService.createDownloadUrl(JOB_ID, RESULT_PATH);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", url.replace(".", ".1"));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, filterChain);
+
+    // Then
+    assertEquals(403, response.getStatus());
+    verifyNoInteractions(downloadResultUseCase, fileDownloadService);
+  }
+
+  @Test
+  void shouldPassThroughOtherPaths() throws Exception {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/jobs");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    filter.doFilter(request, response, filterChain);
+
+    // Then
+    verify(filterChain).doFilter(request, response);
+  }
+}
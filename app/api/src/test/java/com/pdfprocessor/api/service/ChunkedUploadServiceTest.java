@@ -0,0 +1,169 @@
+package com.pdfprocessor.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.api.service.ChunkedUploadService.UploadSession;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.domain.port.StorageService.UploadSource;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para ChunkedUploadService. */
+class ChunkedUploadServiceTest {
+
+  private static final byte[] CONTENT =
+      "%PDF-1.4 conteúdo enviado em partes".getBytes(StandardCharsets.UTF_8);
+  private static final String OWNER = "test-api-key";
+  private static final Instant NOW = Instant.parse("2024-01-15T10:00:00Z");
+
+  @TempDir Path tempDir;
+
+  private StorageService storageService;
+  private StorageProperties storageProperties;
+  private ChunkedUploadService uploadService;
+
+  @BeforeEach
+  void setUp() {
+    storageService = mock(StorageService.class);
+    storageProperties = new StorageProperties();
+    storageProperties.setBasePath(tempDir.toString());
+    uploadService = serviceAt(NOW);
+  }
+
+  @Test
+  void shouldAssembleChunksAndMoveUploadIntoJob() throws Exception {
+    // Given
+    Path jobInput = tempDir.resolve("job-1-input.pdf");
+    // O hash calculado na conclusão é repassado ao storage
+    when(storageService.storeUploadAsync(
+            eq("job-1"), eq("scan.pdf"), any(), eq(sha256(0, CONTENT.length))))
+        .thenAnswer(
+            invocation -> {
+              UploadSource source = invocation.getArgument(2);
+              source.transferTo(jobInput);
+              return CompletableFuture.completedFuture("./storage/job-1/scan.pdf");
+            });
+    UploadSession session = uploadService.create(OWNER, "scan.pdf", CONTENT.length);
+    String uploadId = session.getUploadId();
+
+    // When
+    uploadService.appendChunk(OWNER, uploadId, 0, chunk(0, 10), sha256(0, 10));
+    UploadSession afterLast =
+        uploadService.appendChunk(
+            OWNER, uploadId, 10, chunk(10, CONTENT.length), sha256(10, CONTENT.length));
+    UploadSession completed = uploadService.complete(OWNER, uploadId, sha256(0, CONTENT.length));
+    String storedPath = uploadService.attachToJobAsync(OWNER, "job-1", uploadId).join();
+
+    // Then
+    assertEquals(CONTENT.length, afterLast.getOffset());
+    assertTrue(completed.isCompleted());
+    assertEquals(sha256(0, CONTENT.length), completed.getSha256());
+    assertEquals("./storage/job-1/scan.pdf", storedPath);
+    assertArrayEquals(CONTENT, Files.readAllBytes(jobInput));
+    SecurityValidationException exception =
+        assertThrows(SecurityValidationException.class, () -> uploadService.get(OWNER, uploadId));
+    assertEquals("UPLOAD_NOT_FOUND", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldRejectWrongOffsetOrChecksumAndKeepConfirmedBytes() {
+    // Given
+    String uploadId = uploadService.create(OWNER, "scan.pdf", CONTENT.length).getUploadId();
+    uploadService.appendChunk(OWNER, uploadId, 0, chunk(0, 10), null);
+
+    // When & Then - parte fora de ordem
+    SecurityValidationException offsetError =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> uploadService.appendChunk(OWNER, uploadId, 5, chunk(5, 15), null));
+    assertEquals("UPLOAD_OFFSET_MISMATCH", offsetError.getErrorCode());
+
+    // When & Then - parte corrompida no caminho
+    SecurityValidationException checksumError =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> uploadService.appendChunk(OWNER, uploadId, 10, chunk(10, 20), sha256(0, 10)));
+    assertEquals("CHUNK_CHECKSUM_MISMATCH", checksumError.getErrorCode());
+    assertEquals(10, uploadService.get(OWNER, uploadId).getOffset());
+
+    // When & Then - concluir antes de receber tudo
+    SecurityValidationException incompleteError =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> uploadService.complete(OWNER, uploadId, null));
+    assertEquals("UPLOAD_INCOMPLETE", incompleteError.getErrorCode());
+
+    // Retomada a partir do offset confirmado
+    uploadService.appendChunk(OWNER, uploadId, 10, chunk(10, CONTENT.length), null);
+    assertTrue(uploadService.complete(OWNER, uploadId, null).isCompleted());
+  }
+
+  @Test
+  void shouldHideUploadsFromOtherApiKeys() {
+    // Given
+    String uploadId = uploadService.create(OWNER, "scan.pdf", CONTENT.length).getUploadId();
+
+    // When & Then
+    SecurityValidationException readError =
+        assertThrows(
+            SecurityValidationException.class, () -> uploadService.get("other-key", uploadId));
+    assertEquals("UPLOAD_NOT_FOUND", readError.getErrorCode());
+    SecurityValidationException appendError =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> uploadService.appendChunk("other-key", uploadId, 0, chunk(0, 10), null));
+    assertEquals("UPLOAD_NOT_FOUND", appendError.getErrorCode());
+    assertThrows(
+        SecurityValidationException.class, () -> uploadService.delete("other-key", uploadId));
+    assertEquals(0, uploadService.get(OWNER, uploadId).getOffset());
+  }
+
+  @Test
+  void shouldExpireInactiveUploads() {
+    // Given
+    String uploadId = uploadService.create(OWNER, "scan.pdf", CONTENT.length).getUploadId();
+    ChunkedUploadService later = serviceAt(NOW.plus(Duration.ofHours(25)));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(SecurityValidationException.class, () -> later.get(OWNER, uploadId));
+    assertEquals("UPLOAD_EXPIRED", exception.getErrorCode());
+    assertFalse(Files.exists(tempDir.resolve(".uploads").resolve(uploadId + ".part")));
+  }
+
+  private ChunkedUploadService serviceAt(Instant instant) {
+    return new ChunkedUploadService(
+        storageService,
+        storageProperties,
+        new InputValidationService(),
+        Clock.fixed(instant, ZoneId.of("UTC")));
+  }
+
+  private ByteArrayInputStream chunk(int from, int to) {
+    return new ByteArrayInputStream(Arrays.copyOfRange(CONTENT, from, to));
+  }
+
+  private String sha256(int from, int to) throws Exception {
+    return HexFormat.of()
+        .formatHex(
+            MessageDigest.getInstance("SHA-256").digest(Arrays.copyOfRange(CONTENT, from, to)));
+  }
+}
@@ -0,0 +1,139 @@
+package com.pdfprocessor.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Testes unitários para FileDownloadService. */
+class FileDownloadServiceTest {
+
+  private static final String CONTENT = "0123456789abcdefghij";
+
+  private FileDownloadService fileDownloadService;
+  private Path file;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    fileDownloadService = new FileDownloadService();
+    file = tempDir.resolve("result.pdf");
+    Files.writeString(file, CONTENT);
+  }
+
+  @Test
+  void shouldServeFullFileWithStrongEtag() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, null);
+
+    // Then
+    assertEquals(200, response.getStatus());
+    assertEquals(CONTENT, response.getContentAsString(StandardCharsets.UTF_8));
+    assertEquals("bytes", response.getHeader("Accept-Ranges"));
+    assertTrue(response.getHeader("ETag").matches("\"[0-9a-f]{64}\""));
+    assertEquals(CONTENT.length(), response.getContentLengthLong());
+  }
+
+  @Test
+  void shouldServePartialContentForSingleRange() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    request.addHeader("Range", "bytes=10-");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, "abc");
+
+    // Then
+    assertEquals(206, response.getStatus());
+    assertEquals("abcdefghij", response.getContentAsString(StandardCharsets.UTF_8));
+    assertEquals("bytes 10-19/20", response.getHeader("Content-Range"));
+    assertEquals("\"abc\"", response.getHeader("ETag"));
+  }
+
+  @Test
+  void shouldIgnoreRangeWhenIfRangeDoesNotMatch() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    request.addHeader("Range", "bytes=0-4");
+    request.addHeader("If-Range", "\"old-version\"");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, "abc");
+
+    // Then
+    assertEquals(200, response.getStatus());
+    assertEquals(CONTENT, response.getContentAsString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenEtagMatches() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    request.addHeader("If-None-Match", "\"abc\"");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, "abc");
+
+    // Then
+    assertEquals(304, response.getStatus());
+    assertEquals(0, response.getContentAsByteArray().length);
+  }
+
+  @Test
+  void shouldRejectUnsatisfiableRange() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    request.addHeader("Range", "bytes=100-200");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, "abc");
+
+    // Then
+    assertEquals(416, response.getStatus());
+    assertEquals("bytes */20", response.getHeader("Content-Range"));
+  }
+
+  @Test
+  void shouldDelegateToSendfileWhenSupported() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+    request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+    request.addHeader("Range", "bytes=5-9");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    serve(request, response, "abc");
+
+    // Then
+    assertEquals(206, response.getStatus());
+    assertEquals(0, response.getContentAsByteArray().length);
+    assertEquals(5L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+    assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+    assertEquals(
+        file.toAbsolutePath().toString(),
+        request.getAttribute("org.apache.tomcat.sendfile.filename"));
+  }
+
+  private void serve(
+      MockHttpServletRequest request, MockHttpServletResponse response, String contentHash)
+      throws IOException {
+    fileDownloadService.serve(
+        request, response, file, "result.pdf", "application/pdf", contentHash);
+  }
+}
@@ -3,10 +3,11 @@ package com.pdfprocessor.api.service;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.pdfprocessor.api.exception.SecurityValidationException;
-// import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.model.JobOperation;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockMultipartFile;
@@ -69,7 +70,8 @@ class InputValidationServiceTest {
             new MockMultipartFile("file2", "test2.pdf", "application/pdf", new byte[2048]));
 
     // When & Then
-    assertDoesNotThrow(() -> inputValidationService.validateUploadedFiles(files));
+    assertDoesNotThrow(
+        () -> inputValidationService.validateUploadedFiles(files, JobOperation.COMPRESS));
   }
 
   @Test
@@ -83,10 +85,34 @@ class InputValidationServiceTest {
     SecurityValidationException exception =
         assertThrows(
             SecurityValidationException.class,
-            () -> inputValidationService.validateUploadedFiles(files));
+            () -> inputValidationService.validateUploadedFiles(files, JobOperation.COMPRESS));
     assertEquals("Maximum 10 files allowed per job, but 11 files provided", exception.getMessage());
   }
 
+  @Test
+  void shouldAllowMoreFilesForMerge() {
+    // Given
+    List<MultipartFile> files =
+        Collections.nCopies(
+            11, new MockMultipartFile("file", "test.pdf", "application/pdf", new byte[1024]));
+    List<String> uploadIds = List.of("550e8400-e29b-41d4-a716-446655440000");
+
+    // When & Then
+    assertDoesNotThrow(
+        () -> inputValidationService.validateUploadedFiles(files, JobOperation.MERGE));
+    assertDoesNotThrow(
+        () -> inputValidationService.validateUploadIds(uploadIds, 499, JobOperation.MERGE));
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> inputValidationService.validateUploadIds(uploadIds, 500, JobOperation.MERGE));
+    assertEquals(
+        "Maximum 500 files allowed per job, but 501 files provided", exception.getMessage());
+    assertThrows(
+        SecurityValidationException.class,
+        () -> inputValidationService.validateUploadedFiles(files, JobOperation.COMPRESS));
+  }
+
   @Test
   void shouldThrowExceptionForFileTooLarge() {
     // Given
@@ -99,7 +125,7 @@ class InputValidationServiceTest {
     SecurityValidationException exception =
         assertThrows(
             SecurityValidationException.class,
-            () -> inputValidationService.validateUploadedFiles(files));
+            () -> inputValidationService.validateUploadedFiles(files, JobOperation.COMPRESS));
     assertTrue(exception.getMessage().contains("exceeds maximum size of 50 MB"));
   }
 
@@ -113,7 +139,7 @@ class InputValidationServiceTest {
     SecurityValidationException exception =
         assertThrows(
             SecurityValidationException.class,
-            () -> inputValidationService.validateUploadedFiles(files));
+            () -> inputValidationService.validateUploadedFiles(files, JobOperation.COMPRESS));
     assertEquals(
         "File extension '.exe' not allowed. Allowed extensions: .pdf, .jpg, .jpeg, .png, .gif, .bmp, .tiff, .tif",
         exception.getMessage());
@@ -130,7 +156,7 @@ class InputValidationServiceTest {
     SecurityValidationException exception =
         assertThrows(
             SecurityValidationException.class,
-            () -> inputValidationService.validateUploadedFiles(emptyFiles));
+            () -> inputValidationService.validateUploadedFiles(emptyFiles, JobOperation.COMPRESS));
     assertEquals("Empty file not allowed", exception.getMessage());
   }
 
@@ -140,7 +166,8 @@ class InputValidationServiceTest {
     List<String> inputFiles = Arrays.asList("job-123/input1.pdf", "job-456/input2.pdf");
 
     // When & Then
-    assertDoesNotThrow(() -> inputValidationService.validateInputFiles(inputFiles));
+    assertDoesNotThrow(
+        () -> inputValidationService.validateInputFiles(inputFiles, JobOperation.COMPRESS));
   }
 
   @Test
@@ -152,7 +179,7 @@ class InputValidationServiceTest {
     SecurityValidationException exception =
         assertThrows(
             SecurityValidationException.class,
-            () -> inputValidationService.validateInputFiles(inputFiles));
+            () -> inputValidationService.validateInputFiles(inputFiles, JobOperation.COMPRESS));
     assertEquals("Invalid file path. Path traversal not allowed", exception.getMessage());
   }
 
@@ -280,4 +307,154 @@ class InputValidationServiceTest {
                     Collections.emptyList(), Collections.emptyList()));
     assertEquals("Either files or inputFiles parameter is required", exception.getMessage());
   }
+
+  @Test
+  void shouldValidateContentHashSuccessfully() {
+    // Given
+    String hash = "a".repeat(64);
+
+    // When & Then
+    assertDoesNotThrow(() -> inputValidationService.validateContentHash(hash));
+  }
+
+  @Test
+  void shouldThrowExceptionForInvalidContentHash() {
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> inputValidationService.validateContentHash("not-a-hash"));
+
+    assertEquals("INVALID_CONTENT_HASH", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldThrowExceptionForTooManyContentHashes() {
+    // Given
+    List<String> hashes = Collections.nCopies(101, "b".repeat(64));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> inputValidationService.validateContentHashes(hashes));
+
+    assertEquals("MAX_HASHES_EXCEEDED", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldValidateBlobReferencesSuccessfully() {
+    // Given
+    List<Map<String, String>> blobRefs =
+        List.of(Map.of("sha256", "c".repeat(64), "filename", "template.pdf"));
+
+    // When & Then
+    assertDoesNotThrow(
+        () -> inputValidationService.validateBlobReferences(blobRefs, 1, JobOperation.COMPRESS));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenBlobReferencesExceedFileLimit() {
+    // Given
+    List<Map<String, String>> blobRefs =
+        Collections.nCopies(6, Map.of("sha256", "c".repeat(64), "filename", "template.pdf"));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () ->
+                inputValidationService.validateBlobReferences(
+                    blobRefs, 5, JobOperation.COMPRESS));
+
+    assertEquals("MAX_FILES_EXCEEDED", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldThrowExceptionForBlobReferenceWithUnsafeFilename() {
+    // Given
+    List<Map<String, String>> blobRefs =
+        List.of(Map.of("sha256", "c".repeat(64), "filename", "../etc/passwd.pdf"));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () ->
+                inputValidationService.validateBlobReferences(
+                    blobRefs, 0, JobOperation.COMPRESS));
+
+    assertEquals("INVALID_FILENAME_FORMAT", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldAcceptFilesWhoseContentMatchesExtension() {
+    // Given
+    List<MultipartFile> files =
+        List.of(
+            new MockMultipartFile("files", "doc.pdf", "application/pdf", "%PDF-1.7\n".getBytes()),
+            new MockMultipartFile(
+                "files",
+                "scan.png",
+                "image/png",
+                new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0}),
+            new MockMultipartFile(
+                "files",
+                "photo.jpg",
+                "image/jpeg",
+                new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0}));
+
+    // When & Then
+    assertDoesNotThrow(() -> inputValidationService.validateFileSignatures(files));
+  }
+
+  @Test
+  void shouldThrowExceptionWhenContentDoesNotMatchExtension() {
+    // Given - executável renomeado para .pdf
+    List<MultipartFile> files =
+        List.of(
+            new MockMultipartFile(
+                "files", "invoice.pdf", "application/pdf", new byte[] {'M', 'Z', 0, 0}));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> inputValidationService.validateFileSignatures(files));
+
+    assertEquals("INVALID_FILE_CONTENT", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldRejectChunkedUploadAboveConfiguredLimit() {
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () ->
+                inputValidationService.validateChunkedUpload(
+                    "archive.pdf", 5L * 1024 * 1024 * 1024, 4096L * 1024 * 1024));
+
+    assertEquals("FILE_SIZE_EXCEEDED", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldCountUploadIdsTowardsMaxFiles() {
+    // Given
+    List<String> uploadIds = List.of("550e8400-e29b-41d4-a716-446655440000");
+
+    // When & Then
+    assertDoesNotThrow(
+        () -> inputValidationService.validateUploadIds(uploadIds, 9, JobOperation.COMPRESS));
+    SecurityValidationException exception =
+        assertThrows(
+            SecurityValidationException.class,
+            () -> inputValidationService.validateUploadIds(uploadIds, 10, JobOperation.COMPRESS));
+    assertEquals("MAX_FILES_EXCEEDED", exception.getErrorCode());
+    assertThrows(
+        SecurityValidationException.class,
+        () ->
+            inputValidationService.validateUploadIds(
+                List.of("../etc/passwd"), 0, JobOperation.COMPRESS));
+  }
 }
@@ -0,0 +1,108 @@
+package com.pdfprocessor.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pdfprocessor.api.config.SignedUrlProperties;
+import com.pdfprocessor.api.exception.SecurityValidationException;
+import com.pdfprocessor.api.service.SignedUrlService.SignedDownload;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Testes unitários para SignedUrlService. */
+class SignedUrlServiceTest {
+
+  private static final Instant NOW = Instant.parse("2024-01-15T10:03:00Z");
+  private static final String JOB_ID = "550e8400-e29b-41d4-a716-446655440000";
+  private static final String RESULT_PATH = "./storage/" + JOB_ID + "/results/merged.pdf";
+
+  private SignedUrlProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new SignedUrlProperties();
+    properties.setSigningSecret("test-secret");
+    properties.setUrlTtlMinutes(60);
+  }
+
+  @Test
+  void shouldIssueUrlThatVerifiesToTheSameResult() {
+    // Given
+    String url = serviceAt(NOW).createDownloadUrl(JOB_ID, RESULT_PATH);
+
+    // When
+    SignedDownload download = serviceAt(NOW).verify(tokenOf(url));
+
+    // Then
+    assertTrue(url.startsWith("/dl/"));
+    assertTrue(url.endsWith("/merged.pdf"));
+    assertEquals(JOB_ID, download.getJobId());
+    assertEquals(RESULT_PATH, download.getResultPath());
+    assertFalse(download.getExpiresAt().isBefore(NOW.plus(Duration.ofMinutes(60))));
+  }
+
+  @Test
+  void shouldFailToStartWithoutSigningSecret() {
+    // Given
+    properties.setSigningSecret(" ");
+
+    // When & Then - um segredo por processo quebraria as URLs entre réplicas e reinícios
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> serviceAt(NOW));
+    assertTrue(exception.getMessage().contains("DOWNLOAD_SIGNING_SECRET"));
+  }
+
+  @Test
+  void shouldIssueIdenticalUrlsWithinTheSameExpiryWindow() {
+    // When & Then - URLs iguais permitem que a CDN reaproveite o cache
+    assertEquals(
+        serviceAt(NOW).createDownloadUrl(JOB_ID, RESULT_PATH),
+        serviceAt(NOW.plusSeconds(60)).createDownloadUrl(JOB_ID, RESULT_PATH));
+  }
+
+  @Test
+  void shouldRejectTamperedOrForeignTokens() {
+    // Given
+    String token = tokenOf(serviceAt(NOW).createDownloadUrl(JOB_ID, RESULT_PATH));
+    String[] parts = token.split("\\.");
+    String longerExpiry = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2];
+    properties.setSigningSecret("other-secret");
+    SignedUrlService otherInstance = serviceAt(NOW);
+    properties.setSigningSecret("test-secret");
+
+    // When & Then
+    assertEquals("INVALID_SIGNATURE", errorCodeOf(longerExpiry));
+    assertEquals("INVALID_SIGNATURE", errorCodeOf("not-a-token"));
+    SecurityValidationException exception =
+        assertThrows(SecurityValidationException.class, () -> otherInstance.verify(token));
+    assertEquals("INVALID_SIGNATURE", exception.getErrorCode());
+  }
+
+  @Test
+  void shouldRejectExpiredUrl() {
+    // Given
+    String token = tokenOf(serviceAt(NOW).createDownloadUrl(JOB_ID, RESULT_PATH));
+    SignedUrlService later = serviceAt(NOW.plus(Duration.ofHours(2)));
+
+    // When & Then
+    SecurityValidationException exception =
+        assertThrows(SecurityValidationException.class, () -> later.verify(token));
+    assertEquals("DOWNLOAD_URL_EXPIRED", exception.getErrorCode());
+  }
+
+  private SignedUrlService serviceAt(Instant instant) {
+    return new SignedUrlService(properties, Clock.fixed(instant, ZoneId.of("UTC")));
+  }
+
+  private String errorCodeOf(String token) {
+    return assertThrows(SecurityValidationException.class, () -> serviceAt(NOW).verify(token))
+        .getErrorCode();
+  }
+
+  private String tokenOf(String url) {
+    return url.substring("/dl/".length(), url.lastIndexOf('/'));
+  }
+}
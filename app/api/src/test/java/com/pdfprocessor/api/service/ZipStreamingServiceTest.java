@@ -0,0 +1,108 @@
+package com.pdfprocessor.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Testes unitários para ZipStreamingService. */
+class ZipStreamingServiceTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private ZipStreamingService zipStreamingService;
+
+  @TempDir Path resultDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    zipStreamingService = new ZipStreamingService(objectMapper);
+    Files.write(resultDir.resolve("page_1.png"), new byte[] {(byte) 0x89, 'P', 'N', 'G'});
+    Files.writeString(resultDir.resolve("page_1.txt"), "texto extraído da página 1");
+    Files.createDirectories(resultDir.resolve("fonts"));
+    Files.writeString(resultDir.resolve("fonts").resolve("font_1.ttf"), "fake font");
+  }
+
+  @Test
+  void shouldZipDirectoryWithStoredAndDeflatedEntries() throws IOException {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    zipStreamingService.writeZip(resultDir, out, false);
+
+    // Then
+    Map<String, ZipEntry> entries = new LinkedHashMap<>();
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    readZip(out.toByteArray(), entries, contents);
+
+    assertEquals(3, entries.size());
+    assertEquals(ZipEntry.STORED, entries.get("page_1.png").getMethod());
+    assertEquals(ZipEntry.DEFLATED, entries.get("page_1.txt").getMethod());
+    assertEquals(
+        "texto extraído da página 1",
+        new String(contents.get("page_1.txt"), StandardCharsets.UTF_8));
+    assertEquals("fake font", new String(contents.get("fonts/font_1.ttf"), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldWriteManifestAsFirstEntry() throws IOException {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    zipStreamingService.writeZip(resultDir, out, true);
+
+    // Then
+    Map<String, ZipEntry> entries = new LinkedHashMap<>();
+    Map<String, byte[]> contents = new LinkedHashMap<>();
+    readZip(out.toByteArray(), entries, contents);
+
+    assertEquals(ZipStreamingService.MANIFEST_ENTRY, entries.keySet().iterator().next());
+    JsonNode manifest = objectMapper.readTree(contents.get(ZipStreamingService.MANIFEST_ENTRY));
+    assertEquals(3, manifest.get("fileCount").asInt());
+    assertEquals("fonts/font_1.ttf", manifest.get("files").get(0).get("name").asText());
+    assertEquals("STORED", manifest.get("files").get(1).get("method").asText());
+  }
+
+  @Test
+  void shouldSendOnlyHeadersForHeadRequest() throws IOException {
+    // Given
+    MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/download");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    // When
+    zipStreamingService.serve(request, response, resultDir, "split.zip", false);
+
+    // Then
+    assertEquals(200, response.getStatus());
+    assertEquals("application/zip", response.getContentType());
+    assertEquals("attachment; filename=split.zip", response.getHeader("Content-Disposition"));
+    assertEquals(0, response.getContentAsByteArray().length);
+  }
+
+  private void readZip(byte[] zip, Map<String, ZipEntry> entries, Map<String, byte[]> contents)
+      throws IOException {
+    try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+      ZipEntry entry;
+      while ((entry = in.getNextEntry()) != null) {
+        entries.put(entry.getName(), entry);
+        contents.put(entry.getName(), in.readAllBytes());
+      }
+    }
+  }
+}
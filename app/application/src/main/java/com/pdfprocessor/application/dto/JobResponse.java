@@ -22,6 +22,7 @@ public class JobResponse {
   private LocalDateTime createdAt;
   private LocalDateTime startedAt;
   private LocalDateTime completedAt;
+  private String downloadUrl;
 
   public JobResponse() {}
 
@@ -155,6 +156,15 @@ public class JobResponse {
     this.completedAt = completedAt;
   }
 
+  /** URL assinada e temporária para baixar o resultado sem X-API-Key, quando o job concluiu. */
+  public String getDownloadUrl() {
+    return downloadUrl;
+  }
+
+  public void setDownloadUrl(String downloadUrl) {
+    this.downloadUrl = downloadUrl;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
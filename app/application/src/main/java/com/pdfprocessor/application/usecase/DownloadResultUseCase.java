@@ -7,7 +7,11 @@ import com.pdfprocessor.domain.model.Job;
 import com.pdfprocessor.domain.model.JobStatus;
 import com.pdfprocessor.domain.port.JobRepository;
 import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import org.springframework.stereotype.Service;
 
@@ -42,23 +46,90 @@ public class DownloadResultUseCase {
             .findById(jobId)
             .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
 
+    return resolve(job.getId(), completedResultPath(job));
+  }
+
+  /**
+   * Obtém o relatório gravado ao lado do resultado ({@link StorageService#RESULT_REPORT_FILENAME}),
+   * para operações que o produzem, como o PDF_OPTIMIZE.
+   *
+   * @param jobId ID do job
+   * @return resposta com dados do relatório
+   * @throws JobNotFoundException se o job não for encontrado
+   * @throws JobNotCompletedException se o job não estiver completo
+   * @throws ResultNotFoundException se o job não tiver relatório
+   */
+  public DownloadResponse executeReport(String jobId) {
+    if (jobId == null || jobId.trim().isEmpty()) {
+      throw new IllegalArgumentException("Job ID cannot be null or empty");
+    }
+
+    Job job =
+        jobRepository
+            .findById(jobId)
+            .orElseThrow(() -> new JobNotFoundException("Job not found: " + jobId));
+
+    Path result = resolvePhysicalPath(completedResultPath(job));
+    Path resultDir = Files.isDirectory(result) ? result : result.getParent();
+    Path report = resultDir.resolve(StorageService.RESULT_REPORT_FILENAME);
+    if (!Files.isRegularFile(report)) {
+      throw new ResultNotFoundException("No report found for job: " + jobId);
+    }
+
+    try {
+      return new DownloadResponse(
+          report, StorageService.RESULT_REPORT_FILENAME, Files.size(report), "text/plain", null);
+    } catch (IOException e) {
+      throw new ResultNotFoundException("No report found for job: " + jobId, e);
+    }
+  }
+
+  private String completedResultPath(Job job) {
     if (job.getStatus() != JobStatus.COMPLETED) {
-      throw new JobNotCompletedException("Job is not completed yet: " + jobId);
+      throw new JobNotCompletedException("Job is not completed yet: " + job.getId());
     }
 
     if (job.getResultPath() == null) {
-      throw new ResultNotFoundException("No result file found for job: " + jobId);
+      throw new ResultNotFoundException("No result file found for job: " + job.getId());
+    }
+    return job.getResultPath();
+  }
+
+  /**
+   * Resolve um resultado já conhecido direto no storage, sem consultar o repositório de jobs. Usado
+   * pelos downloads assinados, cuja URL já carrega o caminho do resultado.
+   *
+   * @param jobId ID do job
+   * @param resultPath caminho lógico do resultado
+   * @return resposta com dados do arquivo
+   * @throws ResultNotFoundException se o arquivo resultado não for encontrado
+   */
+  public DownloadResponse resolve(String jobId, String resultPath) {
+    if (!storageService.exists(resultPath)) {
+      throw new ResultNotFoundException("Result file not found: " + resultPath);
     }
 
-    if (!storageService.exists(job.getResultPath())) {
-      throw new ResultNotFoundException("Result file not found: " + job.getResultPath());
+    Path filePath = resolvePhysicalPath(resultPath);
+    if (Files.isDirectory(filePath)) {
+      // Resultados com vários arquivos (SPLIT, PDF_TO_IMAGES...) viram um ZIP gerado no envio
+      return DownloadResponse.forDirectory(filePath, jobId + ".zip");
     }
 
-    InputStream fileStream = storageService.retrieve(job.getResultPath());
-    long fileSize = storageService.getFileSize(job.getResultPath());
-    String filename = extractFilename(job.getResultPath());
+    long fileSize = storageService.getFileSize(resultPath);
+    String filename = extractFilename(resultPath);
+    String contentHash = storageService.getContentHash(resultPath).orElse(null);
+
+    return new DownloadResponse(
+        filePath, filename, fileSize, getContentType(filename), contentHash);
+  }
 
-    return new DownloadResponse(fileStream, filename, fileSize, getContentType(filename));
+  private Path resolvePhysicalPath(String resultPath) {
+    Path physicalPath = storageService.getPhysicalPath(resultPath);
+    if (Files.exists(physicalPath)) {
+      return physicalPath;
+    }
+    // Resultados antigos podem estar em caminhos relativos ao diretório de trabalho
+    return Paths.get(resultPath).toAbsolutePath();
   }
 
   private String extractFilename(String filePath) {
@@ -87,23 +158,65 @@ public class DownloadResultUseCase {
     return lastDot >= 0 ? filename.substring(lastDot + 1) : "";
   }
 
-  /** Resposta do caso de uso de download. */
+  /**
+   * Resposta do caso de uso de download. Expõe o caminho físico do arquivo para que a camada web
+   * possa servi-lo sem cópia (sendfile) e com suporte a Range. Se o resultado for um diretório,
+   * o caminho aponta para ele e a camada web gera o ZIP durante o envio.
+   */
   public static class DownloadResponse {
-    private final InputStream fileStream;
+    private final Path filePath;
     private final String filename;
     private final long fileSize;
     private final String contentType;
+    private final String contentHash;
+    private final boolean directory;
 
     public DownloadResponse(
-        InputStream fileStream, String filename, long fileSize, String contentType) {
-      this.fileStream = fileStream;
+        Path filePath, String filename, long fileSize, String contentType, String contentHash) {
+      this(filePath, filename, fileSize, contentType, contentHash, false);
+    }
+
+    private DownloadResponse(
+        Path filePath,
+        String filename,
+        long fileSize,
+        String contentType,
+        String contentHash,
+        boolean directory) {
+      this.filePath = filePath;
       this.filename = filename;
       this.fileSize = fileSize;
       this.contentType = contentType;
+      this.contentHash = contentHash;
+      this.directory = directory;
     }
 
+    /**
+     * Cria a resposta para um resultado em diretório, cujo tamanho só é conhecido após o envio.
+     *
+     * @param directory diretório do resultado
+     * @param filename nome sugerido para o ZIP
+     * @return resposta com tamanho -1
+     */
+    public static DownloadResponse forDirectory(Path directory, String filename) {
+      return new DownloadResponse(directory, filename, -1, "application/zip", null, true);
+    }
+
+    public Path getFilePath() {
+      return filePath;
+    }
+
+    /**
+     * Abre um novo InputStream para o arquivo.
+     *
+     * @return InputStream do arquivo
+     */
     public InputStream getFileStream() {
-      return fileStream;
+      try {
+        return Files.newInputStream(filePath);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to open result file: " + filePath, e);
+      }
     }
 
     public String getFilename() {
@@ -117,5 +230,15 @@ public class DownloadResultUseCase {
     public String getContentType() {
       return contentType;
     }
+
+    /** Hash SHA-256 do conteúdo, quando o storage já o conhece; caso contrário null. */
+    public String getContentHash() {
+      return contentHash;
+    }
+
+    /** Indica se o resultado é um diretório a ser enviado como ZIP. */
+    public boolean isDirectory() {
+      return directory;
+    }
   }
 }
@@ -1,7 +1,10 @@
 package com.pdfprocessor.domain.port;
 
 import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobStatus;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /** Porta para persistência de jobs. */
@@ -15,6 +18,38 @@ public interface JobRepository {
    */
   Job save(Job job);
 
+  /**
+   * Salva vários jobs de uma vez. Implementações podem agrupar as escritas em uma única ida ao
+   * armazenamento; a implementação padrão salva um a um.
+   *
+   * @param jobs os jobs a serem salvos
+   */
+  default void saveAll(Collection<Job> jobs) {
+    jobs.forEach(this::save);
+  }
+
+  /**
+   * Grava apenas o progresso de jobs em andamento, sem regravar o restante do job. Jobs que não
+   * existem mais ou que já terminaram são ignorados, de modo que o progresso nunca sobrescreve um
+   * status definido por outro processo. A implementação padrão lê e salva cada job.
+   *
+   * @param progressByJobId progresso (0-100) por ID de job
+   */
+  default void saveProgress(Map<String, Integer> progressByJobId) {
+    progressByJobId.forEach(
+        (id, progress) ->
+            findById(id)
+                .filter(
+                    job ->
+                        job.getStatus() == JobStatus.PENDING
+                            || job.getStatus() == JobStatus.PROCESSING)
+                .ifPresent(
+                    job -> {
+                      job.updateProgress(progress);
+                      save(job);
+                    }));
+  }
+
   /**
    * Busca um job pelo ID.
    *
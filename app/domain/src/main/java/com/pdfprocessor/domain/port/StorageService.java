@@ -1,12 +1,25 @@
 package com.pdfprocessor.domain.port;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /** Porta para serviço de armazenamento de arquivos. */
 public interface StorageService {
 
+  /**
+   * Nome do relatório que uma operação pode gravar na área {@link JobArea#RESULTS}, ao lado do
+   * resultado, para ser baixado à parte (ex.: tamanhos antes e depois do PDF_OPTIMIZE).
+   */
+  String RESULT_REPORT_FILENAME = "report.txt";
+
   /**
    * Armazena um arquivo.
    *
@@ -17,6 +30,99 @@ public interface StorageService {
    */
   String store(String jobId, String filename, InputStream inputStream);
 
+  /**
+   * Armazena um arquivo enviado que já está em disco (ex.: upload multipart). A origem grava o
+   * conteúdo diretamente no destino indicado, o que permite mover o arquivo temporário em vez de
+   * copiá-lo quando ambos estão no mesmo volume.
+   *
+   * @param jobId ID do job associado
+   * @param filename nome do arquivo
+   * @param source origem capaz de transferir o conteúdo para um caminho
+   * @return caminho onde o arquivo foi armazenado
+   */
+  default String storeUpload(String jobId, String filename, UploadSource source) {
+    try {
+      Path tmpFile = Files.createTempFile("upload-", ".part");
+      try {
+        source.transferTo(tmpFile.toAbsolutePath());
+        try (InputStream inputStream = Files.newInputStream(tmpFile)) {
+          return store(jobId, filename, inputStream);
+        }
+      } finally {
+        Files.deleteIfExists(tmpFile);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to store upload: " + filename, e);
+    }
+  }
+
+  /**
+   * Publica no storage um resultado gerado em disco local (arquivo ou diretório). No storage local
+   * o resultado já está no lugar; em storages remotos ele é enviado para ficar visível a outros
+   * nós.
+   *
+   * @param localPath caminho local do resultado
+   * @return caminho pelo qual o resultado deve ser referenciado
+   */
+  default String publishResult(String localPath) {
+    return localPath;
+  }
+
+  /**
+   * Indica que o job terminou de usar as cópias locais dos seus arquivos. Storages remotos com
+   * cache local podem então despejá-las; no storage local não há nada a liberar.
+   *
+   * @param jobId ID do job
+   */
+  default void releaseJobFiles(String jobId) {}
+
+  /**
+   * Obtém o hash SHA-256 do conteúdo de um arquivo armazenado, quando o storage o conhece.
+   *
+   * @param filePath caminho do arquivo
+   * @return hash hexadecimal ou empty se não estiver disponível
+   */
+  default Optional<String> getContentHash(String filePath) {
+    return Optional.empty();
+  }
+
+  /**
+   * Registra que o dono enviou o conteúdo de um arquivo armazenado. Só conteúdos registrados para
+   * um dono podem ser consultados e referenciados por ele pelo hash; assim o hash de um documento
+   * conhecido não revela nem dá acesso ao que outro cliente armazenou.
+   *
+   * @param owner identificação de quem enviou (ex.: a API key)
+   * @param filePath caminho do arquivo enviado
+   */
+  default void recordContentOwner(String owner, String filePath) {}
+
+  /**
+   * Verifica se um conteúdo com o hash SHA-256 informado já está armazenado e foi enviado antes
+   * pelo mesmo dono.
+   *
+   * @param owner identificação de quem consulta (ex.: a API key)
+   * @param contentHash hash SHA-256 hexadecimal
+   * @return true se o conteúdo já existe no storage e pertence ao dono
+   */
+  default boolean containsContent(String owner, String contentHash) {
+    return false;
+  }
+
+  /**
+   * Associa a um job um conteúdo já armazenado, sem transferir os bytes novamente. O conteúdo
+   * precisa ter sido enviado antes pelo mesmo dono.
+   *
+   * @param owner identificação de quem cria o job (ex.: a API key)
+   * @param jobId ID do job associado
+   * @param filename nome do arquivo no job
+   * @param contentHash hash SHA-256 hexadecimal do conteúdo
+   * @return caminho do arquivo no job, ou empty se o conteúdo não estiver armazenado para o dono
+   */
+  default Optional<String> storeFromContent(
+      String owner, String jobId, String filename, String contentHash) {
+    return Optional.empty();
+  }
+
   /**
    * Recupera um arquivo como InputStream.
    *
@@ -80,4 +186,163 @@ public interface StorageService {
    * @return caminho do diretório criado
    */
   String createJobDirectory(String jobId);
+
+  /**
+   * Obtém o diretório local de uma área do job, criando-o se necessário. As operações devem gravar
+   * resultados e arquivos intermediários apenas nessas áreas, para que a limpeza do job os
+   * alcance.
+   *
+   * @param jobId ID do job
+   * @param area área do job
+   * @return caminho físico do diretório
+   */
+  default Path getJobArea(String jobId, JobArea area) {
+    Path directory = getPhysicalPath(createJobDirectory(jobId)).resolve(area.directoryName());
+    try {
+      Files.createDirectories(directory);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create job area: " + directory, e);
+    }
+    return directory;
+  }
+
+  /**
+   * Executor das variantes assíncronas. Implementações devem usar um pool dedicado a I/O, para não
+   * ocupar threads de requisição nem de processamento; o padrão executa na thread chamadora.
+   *
+   * @return executor de I/O do storage
+   */
+  default Executor ioExecutor() {
+    return Runnable::run;
+  }
+
+  /**
+   * Variante assíncrona de {@link #store(String, String, InputStream)}.
+   *
+   * @return caminho onde o arquivo foi armazenado
+   */
+  default CompletableFuture<String> storeAsync(
+      String jobId, String filename, InputStream inputStream) {
+    return CompletableFuture.supplyAsync(() -> store(jobId, filename, inputStream), ioExecutor());
+  }
+
+  /**
+   * Variante assíncrona de {@link #storeUpload(String, String, UploadSource)}. A origem deve
+   * continuar válida até a conclusão (ex.: a requisição multipart não pode ter terminado).
+   *
+   * @return caminho onde o arquivo foi armazenado
+   */
+  default CompletableFuture<String> storeUploadAsync(
+      String jobId, String filename, UploadSource source) {
+    return CompletableFuture.supplyAsync(() -> storeUpload(jobId, filename, source), ioExecutor());
+  }
+
+  /**
+   * Variante de {@link #storeUploadAsync(String, String, UploadSource)} para um conteúdo cujo
+   * SHA-256 já é conhecido (ex.: upload em partes concluído), para que a deduplicação não precise
+   * ler o arquivo de novo. A implementação padrão ignora o hash.
+   *
+   * @param contentHash SHA-256 hexadecimal do conteúdo, ou null se desconhecido
+   * @return caminho onde o arquivo foi armazenado
+   */
+  default CompletableFuture<String> storeUploadAsync(
+      String jobId, String filename, UploadSource source, String contentHash) {
+    return storeUploadAsync(jobId, filename, source);
+  }
+
+  /**
+   * Variante assíncrona de {@link #retrieve(String)}.
+   *
+   * @return InputStream do arquivo
+   */
+  default CompletableFuture<InputStream> retrieveAsync(String filePath) {
+    return CompletableFuture.supplyAsync(() -> retrieve(filePath), ioExecutor());
+  }
+
+  /**
+   * Garante que o arquivo esteja disponível localmente, sem bloquear o chamador. Em storages
+   * remotos o download começa imediatamente; no storage local apenas resolve o caminho.
+   *
+   * @return Path físico do arquivo
+   */
+  default CompletableFuture<Path> prefetchAsync(String filePath) {
+    return CompletableFuture.supplyAsync(() -> getPhysicalPath(filePath), ioExecutor());
+  }
+
+  /**
+   * Variante assíncrona de {@link #listJobFiles(String)}.
+   *
+   * @return lista de caminhos dos arquivos
+   */
+  default CompletableFuture<List<String>> listJobFilesAsync(String jobId) {
+    return CompletableFuture.supplyAsync(() -> listJobFiles(jobId), ioExecutor());
+  }
+
+  /**
+   * Variante assíncrona de {@link #delete(String)}.
+   *
+   * @return true se o arquivo foi removido
+   */
+  default CompletableFuture<Boolean> deleteAsync(String filePath) {
+    return CompletableFuture.supplyAsync(() -> delete(filePath), ioExecutor());
+  }
+
+  /**
+   * Variante assíncrona de {@link #deleteJobFiles(String)}.
+   *
+   * @return número de arquivos removidos
+   */
+  default CompletableFuture<Integer> deleteJobFilesAsync(String jobId) {
+    return CompletableFuture.supplyAsync(() -> deleteJobFiles(jobId), ioExecutor());
+  }
+
+  /**
+   * Remove os arquivos de vários jobs de forma concorrente, limitada pelo executor de I/O. Falhas
+   * em um job não interrompem os demais.
+   *
+   * @param jobIds IDs dos jobs
+   * @return número total de arquivos removidos
+   */
+  default CompletableFuture<Integer> deleteJobFilesAsync(Collection<String> jobIds) {
+    List<CompletableFuture<Integer>> deletions =
+        jobIds.stream()
+            .map(jobId -> deleteJobFilesAsync(jobId).exceptionally(error -> 0))
+            .toList();
+    return CompletableFuture.allOf(deletions.toArray(CompletableFuture[]::new))
+        .thenApply(done -> deletions.stream().mapToInt(CompletableFuture::join).sum());
+  }
+
+  /** Áreas do diretório de um job. */
+  enum JobArea {
+    /** Arquivos enviados pelo cliente. */
+    INPUTS("inputs"),
+    /** Resultados das operações, servidos no download. */
+    RESULTS("results"),
+    /** Arquivos intermediários, descartáveis a qualquer momento. */
+    SCRATCH("scratch");
+
+    private final String directoryName;
+
+    JobArea(String directoryName) {
+      this.directoryName = directoryName;
+    }
+
+    /** Nome do subdiretório da área dentro do diretório do job. */
+    public String directoryName() {
+      return directoryName;
+    }
+  }
+
+  /** Conteúdo enviado que sabe se transferir para um caminho do filesystem. */
+  @FunctionalInterface
+  interface UploadSource {
+
+    /**
+     * Transfere o conteúdo para o caminho informado, movendo-o quando possível.
+     *
+     * @param target caminho absoluto de destino
+     * @throws IOException se a transferência falhar
+     */
+    void transferTo(Path target) throws IOException;
+  }
 }
@@ -0,0 +1,26 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Pools de threads daemon usados pelo storage e pelos handlers de operação. */
+public final class DaemonThreadPools {
+
+  private DaemonThreadPools() {}
+
+  /**
+   * Cria um pool fixo cujas threads se chamam {@code <prefix>-N} e não impedem o encerramento da
+   * JVM.
+   */
+  public static ExecutorService fixed(String prefix, int threads) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        Math.max(1, threads),
+        runnable -> {
+          Thread thread = new Thread(runnable, prefix + "-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
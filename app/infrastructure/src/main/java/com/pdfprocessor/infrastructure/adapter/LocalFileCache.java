@@ -0,0 +1,252 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.infrastructure.config.ObjectStorageProperties;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache local (read-through) de arquivos vindos de storage remoto, limitado por tamanho e com
+ * despejo LRU. As entradas são identificadas por uma chave de conteúdo (ex.: ETag + tamanho), de
+ * modo que jobs encadeados sobre o mesmo documento reutilizam o arquivo já baixado.
+ *
+ * <p>Enquanto um job usa um arquivo a entrada fica fixada para esse job e não é despejada. A
+ * fixação expira após {@code cache-pin-lease-minutes}, para que processos que nunca liberam (ex.:
+ * downloads na API) ou jobs interrompidos não prendam o cache indefinidamente. Os arquivos em disco
+ * sobrevivem a reinícios do processo.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "s3")
+public class LocalFileCache {
+
+  private static final String CACHE_DIR = ".cache";
+  private static final String PART_SUFFIX = ".part";
+
+  private final Path cacheDir;
+  private final long maxSizeBytes;
+  private final Duration pinLease;
+
+  // Ordem de acesso: o primeiro elemento é o menos usado recentemente
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Object> loadLocks = new ConcurrentHashMap<>();
+  private long currentSizeBytes;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /** Carrega o conteúdo de uma entrada no caminho indicado. */
+  @FunctionalInterface
+  public interface Loader {
+    void load(Path target) throws IOException;
+  }
+
+  public LocalFileCache(
+      StorageProperties storageProperties, ObjectStorageProperties objectStorageProperties) {
+    this.cacheDir = Paths.get(storageProperties.getBasePath(), CACHE_DIR).toAbsolutePath();
+    this.maxSizeBytes = objectStorageProperties.getCacheMaxSizeMb() * 1024L * 1024L;
+    this.pinLease = Duration.ofMinutes(objectStorageProperties.getCachePinLeaseMinutes());
+    loadExistingEntries();
+  }
+
+  /**
+   * Retorna o arquivo da entrada, carregando-o na primeira vez, e o fixa para o dono informado.
+   * Carregamentos concorrentes da mesma chave são feitos uma única vez.
+   *
+   * @param cacheKey chave de conteúdo da entrada
+   * @param suffix sufixo do arquivo em disco (ex.: {@code .pdf}), para quem depende da extensão
+   * @param size tamanho esperado em bytes, usado para abrir espaço antes do carregamento
+   * @param owner dono da fixação (ex.: ID do job), ou null para não fixar
+   * @param loader função que grava o conteúdo no caminho indicado
+   * @return caminho local do arquivo em cache
+   * @throws IOException se o carregamento falhar
+   */
+  public Path get(String cacheKey, String suffix, long size, String owner, Loader loader)
+      throws IOException {
+    String fileName = fileName(cacheKey) + suffix;
+    Path cached = lookup(fileName, owner);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+
+    Object loadLock = loadLocks.computeIfAbsent(fileName, name -> new Object());
+    try {
+      synchronized (loadLock) {
+        cached = lookup(fileName, owner);
+        if (cached != null) {
+          hits.incrementAndGet();
+          return cached;
+        }
+
+        misses.incrementAndGet();
+        makeRoom(size);
+        Path target = cacheDir.resolve(fileName);
+        Files.createDirectories(cacheDir);
+        loader.load(target);
+
+        synchronized (this) {
+          Entry entry = new Entry(target, Files.size(target));
+          entries.put(fileName, entry);
+          currentSizeBytes += entry.size;
+          pin(entry, owner);
+        }
+        return target;
+      }
+    } finally {
+      loadLocks.remove(fileName, loadLock);
+    }
+  }
+
+  /**
+   * Remove as fixações de um dono, liberando suas entradas para despejo.
+   *
+   * @param owner dono das fixações
+   */
+  public synchronized void release(String owner) {
+    for (Entry entry : entries.values()) {
+      entry.pins.remove(owner);
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public synchronized long getSizeBytes() {
+    return currentSizeBytes;
+  }
+
+  public synchronized int getEntryCount() {
+    return entries.size();
+  }
+
+  private synchronized Path lookup(String fileName, String owner) {
+    Entry entry = entries.get(fileName);
+    if (entry == null) {
+      return null;
+    }
+    if (!Files.exists(entry.path)) {
+      // Removido por fora do cache
+      entries.remove(fileName);
+      currentSizeBytes -= entry.size;
+      return null;
+    }
+    pin(entry, owner);
+    return entry.path;
+  }
+
+  private void pin(Entry entry, String owner) {
+    if (owner != null) {
+      entry.pins.put(owner, Instant.now().plus(pinLease));
+    }
+  }
+
+  /**
+   * Despeja entradas não fixadas, da menos para a mais usada recentemente, até caber {@code
+   * incomingBytes}. Se tudo estiver fixado o limite é excedido temporariamente.
+   */
+  private synchronized void makeRoom(long incomingBytes) {
+    Instant now = Instant.now();
+    Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+    while (currentSizeBytes + incomingBytes > maxSizeBytes && iterator.hasNext()) {
+      Entry entry = iterator.next().getValue();
+      entry.pins.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+      if (!entry.pins.isEmpty()) {
+        continue;
+      }
+
+      iterator.remove();
+      currentSizeBytes -= entry.size;
+      evictions.incrementAndGet();
+      try {
+        Files.deleteIfExists(entry.path);
+      } catch (IOException e) {
+        System.err.println("Failed to evict cached file: " + entry.path + ", " + e.getMessage());
+      }
+    }
+  }
+
+  /** Reaproveita os arquivos de execuções anteriores, do mais antigo para o mais recente. */
+  private void loadExistingEntries() {
+    if (!Files.isDirectory(cacheDir)) {
+      return;
+    }
+    try (Stream<Path> files = Files.list(cacheDir)) {
+      for (Path file :
+          files
+              .filter(Files::isRegularFile)
+              .sorted(Comparator.comparingLong(LocalFileCache::lastModified))
+              .toList()) {
+        if (file.getFileName().toString().endsWith(PART_SUFFIX)) {
+          Files.deleteIfExists(file); // download interrompido
+          continue;
+        }
+        Entry entry = new Entry(file, Files.size(file));
+        entries.put(file.getFileName().toString(), entry);
+        currentSizeBytes += entry.size;
+      }
+      System.out.println(
+          "Loaded " + entries.size() + " cached files (" + currentSizeBytes + " bytes)");
+    } catch (IOException e) {
+      System.err.println("Failed to load file cache: " + cacheDir + ", " + e.getMessage());
+    }
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException e) {
+      return 0;
+    }
+  }
+
+  private String fileName(String cacheKey) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      StringBuilder name = new StringBuilder();
+      for (byte b : digest.digest(cacheKey.getBytes(StandardCharsets.UTF_8))) {
+        name.append(String.format("%02x", b));
+      }
+      return name.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static final class Entry {
+    private final Path path;
+    private final long size;
+    private final Map<String, Instant> pins = new HashMap<>();
+
+    private Entry(Path path, long size) {
+      this.path = path;
+      this.size = size;
+    }
+  }
+}
@@ -1,40 +1,97 @@
 package com.pdfprocessor.infrastructure.adapter;
 
 import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.domain.port.StorageService.JobArea;
 import com.pdfprocessor.infrastructure.config.StorageProperties;
+import jakarta.annotation.PreDestroy;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
- * Implementação do serviço de storage usando filesystem local. Armazena arquivos no diretório
- * configurado organizados por jobId.
+ * Implementação do serviço de storage usando filesystem local. Cada job tem um diretório em
+ * {@code <ab>/<cd>/<jobId>} com as áreas {@code inputs}, {@code results} e {@code scratch} (ver
+ * {@link StorageLayout}). Diretórios de jobs ainda no layout plano anterior continuam sendo lidos
+ * até serem migrados com {@link StorageLayoutMigration}.
+ *
+ * <p>Com a deduplicação habilitada, o conteúdo enviado é gravado uma única vez em {@code
+ * .blobs/<ab>/<sha256>} e o arquivo do job passa a ser um hardlink para esse blob. O número de
+ * links do blob funciona como contador de referências: quando o último job que o referencia é
+ * removido, o blob também é apagado. Os blobs de cada job ficam listados em {@code
+ * .blobs/refs/<ab>/<cd>/<jobId>.properties}, com o shard do job. Ao lado do blob, {@code
+ * <sha256>.owners} lista quem o enviou; só esses donos podem consultá-lo e referenciá-lo pelo
+ * hash.
+ *
+ * <p>Uploads que já estão em disco ({@link #storeUpload}) são movidos para o storage em vez de
+ * copiados; por isso o diretório temporário do multipart deve ficar no mesmo volume ({@link
+ * StorageProperties#UPLOAD_TEMP_DIR}).
  */
 @Component
+@ConditionalOnProperty(
+    prefix = "app.storage",
+    name = "type",
+    havingValue = "local",
+    matchIfMissing = true)
 public class LocalStorageService implements StorageService {
 
+  private static final String BLOBS_DIR = ".blobs";
+  private static final Pattern SHA256_PATTERN = Pattern.compile("^[0-9a-f]{64}$");
+
   private final StorageProperties storageProperties;
+  private final StorageLayout layout;
+  private final ExecutorService ioExecutor;
+  private final Object blobLock = new Object();
 
   public LocalStorageService(StorageProperties storageProperties) {
     this.storageProperties = storageProperties;
+    this.layout = new StorageLayout(Paths.get(storageProperties.getBasePath()));
+    this.ioExecutor = DaemonThreadPools.fixed("storage-io", storageProperties.getIoThreads());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    ioExecutor.shutdownNow();
+  }
+
+  @Override
+  public Executor ioExecutor() {
+    return ioExecutor;
   }
 
   @Override
   public String store(String jobId, String filename, InputStream inputStream) {
     try {
-      // Criar diretório do job se não existir
-      Path jobDir = Paths.get(storageProperties.getBasePath(), jobId);
-      Files.createDirectories(jobDir);
+      // Criar diretório de entradas do job se não existir
+      Path inputsDir = getJobArea(jobId, JobArea.INPUTS);
 
       // Caminho completo do arquivo
-      Path filePath = jobDir.resolve(filename);
+      Path filePath = inputsDir.resolve(filename);
 
-      // Copiar o InputStream para o arquivo
-      Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+      if (storageProperties.isDeduplicationEnabled()) {
+        storeDeduplicated(jobId, filename, filePath, inputStream);
+      } else {
+        // Copiar o InputStream para o arquivo
+        Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
+      }
 
-      String relativePath = "./storage/" + jobId + "/" + filename;
+      String relativePath = StorageLayout.LOGICAL_PREFIX + jobId + "/" + filename;
       System.out.println("Stored file: " + relativePath);
       return relativePath;
     } catch (IOException e) {
@@ -42,10 +99,124 @@ public class LocalStorageService implements StorageService {
     }
   }
 
+  @Override
+  public String storeUpload(String jobId, String filename, UploadSource source) {
+    return storeUpload(jobId, filename, source, null);
+  }
+
+  @Override
+  public CompletableFuture<String> storeUploadAsync(
+      String jobId, String filename, UploadSource source, String contentHash) {
+    return CompletableFuture.supplyAsync(
+        () -> storeUpload(jobId, filename, source, contentHash), ioExecutor());
+  }
+
+  /** Reaproveita o hash informado, se houver, em vez de ler o arquivo para deduplicá-lo. */
+  private String storeUpload(
+      String jobId, String filename, UploadSource source, String contentHash) {
+    try {
+      Path filePath = getJobArea(jobId, JobArea.INPUTS).resolve(filename);
+
+      if (storageProperties.isDeduplicationEnabled()) {
+        Path tmpFile = newTempFilePath();
+        try {
+          source.transferTo(tmpFile.toAbsolutePath());
+          String hash = isValidHash(contentHash) ? contentHash : hashOf(tmpFile);
+          publishBlob(jobId, filename, filePath, tmpFile, hash);
+        } finally {
+          Files.deleteIfExists(tmpFile);
+        }
+      } else {
+        Files.deleteIfExists(filePath);
+        source.transferTo(filePath.toAbsolutePath());
+      }
+
+      String relativePath = StorageLayout.LOGICAL_PREFIX + jobId + "/" + filename;
+      System.out.println("Stored upload: " + relativePath);
+      return relativePath;
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to store file: " + filename + " for job: " + jobId, e);
+    }
+  }
+
+  @Override
+  public Optional<String> getContentHash(String filePath) {
+    Path path = getPhysicalPath(filePath);
+    Optional<String> jobId = layout.inputJobIdOf(path);
+    if (jobId.isEmpty()) {
+      return Optional.empty();
+    }
+    synchronized (blobLock) {
+      return Optional.ofNullable(
+          loadRefs(jobId.get()).getProperty(path.getFileName().toString()));
+    }
+  }
+
+  @Override
+  public void recordContentOwner(String owner, String filePath) {
+    if (owner == null || owner.isEmpty()) {
+      return;
+    }
+    Optional<String> hash = getContentHash(filePath);
+    if (hash.isEmpty()) {
+      return;
+    }
+    synchronized (blobLock) {
+      Path ownersFile = ownersPath(hash.get());
+      if (!Files.exists(blobPath(hash.get())) || isOwner(ownersFile, owner)) {
+        return;
+      }
+      try {
+        Files.writeString(
+            ownersFile,
+            ownerDigest(owner) + "\n",
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to record content owner for blob: " + hash.get(), e);
+      }
+    }
+  }
+
+  @Override
+  public boolean containsContent(String owner, String contentHash) {
+    if (!isValidHash(contentHash)) {
+      return false;
+    }
+    synchronized (blobLock) {
+      return Files.exists(blobPath(contentHash)) && isOwner(ownersPath(contentHash), owner);
+    }
+  }
+
+  @Override
+  public Optional<String> storeFromContent(
+      String owner, String jobId, String filename, String contentHash) {
+    if (!isValidHash(contentHash)) {
+      return Optional.empty();
+    }
+    try {
+      Path inputsDir = getJobArea(jobId, JobArea.INPUTS);
+
+      // Verificação e link sob o mesmo lock, para o blob não ser removido entre os dois passos
+      synchronized (blobLock) {
+        if (!Files.exists(blobPath(contentHash)) || !isOwner(ownersPath(contentHash), owner)) {
+          return Optional.empty();
+        }
+        attachBlob(jobId, filename, inputsDir.resolve(filename), contentHash);
+      }
+
+      String relativePath = StorageLayout.LOGICAL_PREFIX + jobId + "/" + filename;
+      System.out.println("Stored file from content " + contentHash + ": " + relativePath);
+      return Optional.of(relativePath);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to store file: " + filename + " for job: " + jobId, e);
+    }
+  }
+
   @Override
   public InputStream retrieve(String filePath) {
     try {
-      Path path = Paths.get(filePath);
+      Path path = getPhysicalPath(filePath);
       if (!Files.exists(path)) {
         throw new RuntimeException("File not found: " + filePath);
       }
@@ -58,39 +229,86 @@ public class LocalStorageService implements StorageService {
 
   @Override
   public Path getPhysicalPath(String filePath) {
-    // Se o caminho já é absoluto, retorna como está
     Path path = Paths.get(filePath);
     if (path.isAbsolute()) {
-      return path;
+      Path normalized = path.normalize();
+      if (Files.exists(normalized)
+          || !normalized.startsWith(layout.getBasePath())
+          || layout.isSharded(normalized)) {
+        return path;
+      }
+      // Caminho absoluto gravado antes da migração para o layout com shards
+      return layout.resolve(
+          layout.getBasePath().relativize(normalized).toString().replace(File.separatorChar, '/'));
+    }
+
+    if (filePath.startsWith(StorageLayout.LOGICAL_PREFIX)) {
+      String relativePart = filePath.substring(StorageLayout.LOGICAL_PREFIX.length());
+      Path sharded = layout.resolve(relativePart);
+      if (!Files.exists(sharded)) {
+        Path legacy = layout.getBasePath().resolve(relativePart);
+        if (Files.exists(legacy)) {
+          return legacy;
+        }
+      }
+      return sharded;
     }
 
-    // Se é um caminho relativo que começa com ./storage, substitui pelo base path configurado
-    if (filePath.startsWith("./storage/")) {
-      String relativePart = filePath.substring("./storage/".length());
-      return Paths.get(storageProperties.getBasePath(), relativePart).toAbsolutePath();
+    // Para outros caminhos relativos, resolve baseado no base path; saídas antigas podem estar
+    // relativas ao diretório de trabalho
+    Path resolved = layout.getBasePath().resolve(filePath);
+    if (!Files.exists(resolved) && Files.exists(path)) {
+      return path.toAbsolutePath();
+    }
+    return resolved;
+  }
+
+  @Override
+  public Path getJobArea(String jobId, JobArea area) {
+    Path directory = layout.area(jobId, area);
+    try {
+      Files.createDirectories(directory);
+      return directory;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to create job area: " + directory, e);
     }
+  }
 
-    // Para outros caminhos relativos, resolve baseado no base path
-    return Paths.get(storageProperties.getBasePath()).resolve(filePath).toAbsolutePath();
+  @Override
+  public String publishResult(String localPath) {
+    // Resultados dentro do diretório do job são referenciados pelo caminho lógico
+    return layout.logicalPath(Paths.get(localPath)).orElse(localPath);
   }
 
   @Override
   public List<String> listJobFiles(String jobId) {
     try {
-      Path jobDir = Paths.get(storageProperties.getBasePath(), jobId);
-      if (!Files.exists(jobDir)) {
-        return List.of();
+      List<String> fileList = new ArrayList<>();
+      for (JobArea area : List.of(JobArea.INPUTS, JobArea.RESULTS)) {
+        Path areaDir = layout.area(jobId, area);
+        if (!Files.exists(areaDir)) {
+          continue;
+        }
+        try (Stream<Path> files = Files.walk(areaDir)) {
+          files
+              .filter(Files::isRegularFile)
+              .sorted()
+              .forEach(path -> layout.logicalPath(path).ifPresent(fileList::add));
+        }
       }
 
-      try (Stream<Path> files = Files.list(jobDir)) {
-        List<String> fileList =
-            files
-                .filter(Files::isRegularFile)
-                .map(path -> "./storage/" + jobId + "/" + path.getFileName().toString())
-                .toList();
-        System.out.println("Listed " + fileList.size() + " files for job: " + jobId);
-        return fileList;
+      Path legacyDir = layout.legacyJobDirectory(jobId);
+      if (Files.isDirectory(legacyDir)) {
+        try (Stream<Path> files = Files.list(legacyDir)) {
+          files
+              .filter(Files::isRegularFile)
+              .map(path -> StorageLayout.LOGICAL_PREFIX + jobId + "/" + path.getFileName())
+              .forEach(fileList::add);
+        }
       }
+
+      System.out.println("Listed " + fileList.size() + " files for job: " + jobId);
+      return fileList;
     } catch (IOException e) {
       System.err.println("Failed to list files for job: " + jobId + ", " + e.getMessage());
       return List.of();
@@ -100,9 +318,13 @@ public class LocalStorageService implements StorageService {
   @Override
   public boolean delete(String filePath) {
     try {
-      Path path = Paths.get(filePath);
+      Path path = getPhysicalPath(filePath);
       boolean deleted = Files.deleteIfExists(path);
       if (deleted) {
+        Optional<String> jobId = layout.inputJobIdOf(path);
+        if (jobId.isPresent()) {
+          releaseReference(jobId.get(), path.getFileName().toString());
+        }
         System.out.println("Deleted file: " + filePath);
       } else {
         System.out.println("File not found for deletion: " + filePath);
@@ -116,45 +338,25 @@ public class LocalStorageService implements StorageService {
 
   @Override
   public int deleteJobFiles(String jobId) {
-    try {
-      Path jobDir = Paths.get(storageProperties.getBasePath(), jobId);
-      if (!Files.exists(jobDir)) {
-        System.out.println("Job directory not found: " + jobId);
-        return 0;
-      }
-
-      int deletedCount = 0;
-      try (Stream<Path> files = Files.list(jobDir)) {
-        for (Path file : files.filter(Files::isRegularFile).toList()) {
-          try {
-            Files.delete(file);
-            deletedCount++;
-            System.out.println("Deleted file: " + file);
-          } catch (IOException e) {
-            System.err.println("Failed to delete file: " + file + ", " + e.getMessage());
-          }
-        }
-      }
-
-      // Tentar remover o diretório do job se estiver vazio
-      try {
-        Files.delete(jobDir);
-        System.out.println("Deleted job directory: " + jobDir);
-      } catch (IOException e) {
-        System.out.println("Job directory not empty or failed to delete: " + jobDir);
-      }
-
-      System.out.println("Deleted " + deletedCount + " files for job: " + jobId);
-      return deletedCount;
-    } catch (IOException e) {
-      System.err.println("Failed to delete files for job: " + jobId + ", " + e.getMessage());
+    Path jobDir = layout.jobDirectory(jobId);
+    Path legacyDir = layout.legacyJobDirectory(jobId);
+    if (!Files.exists(jobDir) && !Files.exists(legacyDir)) {
+      System.out.println("Job directory not found: " + jobId);
       return 0;
     }
+
+    // Todas as áreas (entradas, resultados e intermediários) saem junto com o job
+    int deletedCount = deleteTree(jobDir) + deleteTree(legacyDir);
+    releaseAllReferences(jobId);
+    pruneEmptyShards(jobDir.getParent());
+
+    System.out.println("Deleted " + deletedCount + " files for job: " + jobId);
+    return deletedCount;
   }
 
   @Override
   public boolean exists(String filePath) {
-    Path path = Paths.get(filePath);
+    Path path = getPhysicalPath(filePath);
     boolean exists = Files.exists(path);
     System.out.println("File " + filePath + " exists: " + exists);
     return exists;
@@ -163,7 +365,7 @@ public class LocalStorageService implements StorageService {
   @Override
   public long getFileSize(String filePath) {
     try {
-      Path path = Paths.get(filePath);
+      Path path = getPhysicalPath(filePath);
       if (!Files.exists(path)) {
         return 0;
       }
@@ -179,13 +381,247 @@ public class LocalStorageService implements StorageService {
   @Override
   public String createJobDirectory(String jobId) {
     try {
-      Path jobDir = Paths.get(storageProperties.getBasePath(), jobId);
-      Files.createDirectories(jobDir);
-      String jobDirPath = "./storage/" + jobId;
+      Files.createDirectories(layout.jobDirectory(jobId));
+      String jobDirPath = StorageLayout.LOGICAL_PREFIX + jobId;
       System.out.println("Created job directory: " + jobDirPath);
       return jobDirPath;
     } catch (IOException e) {
       throw new RuntimeException("Failed to create job directory for: " + jobId, e);
     }
   }
+
+  /** Remove um diretório e todo o seu conteúdo, retornando quantos arquivos foram apagados. */
+  private int deleteTree(Path directory) {
+    if (!Files.exists(directory)) {
+      return 0;
+    }
+    int deletedCount = 0;
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        try {
+          boolean isFile = Files.isRegularFile(path);
+          Files.delete(path);
+          if (isFile) {
+            deletedCount++;
+          }
+        } catch (IOException e) {
+          System.err.println("Failed to delete: " + path + ", " + e.getMessage());
+        }
+      }
+      System.out.println("Deleted job directory: " + directory);
+    } catch (IOException e) {
+      System.err.println("Failed to delete directory: " + directory + ", " + e.getMessage());
+    }
+    return deletedCount;
+  }
+
+  /** Remove os diretórios de shard que ficaram vazios, sem subir além do base path. */
+  private void pruneEmptyShards(Path shardDir) {
+    Path current = shardDir;
+    while (current != null && !current.equals(layout.getBasePath())) {
+      try {
+        Files.deleteIfExists(current);
+      } catch (IOException e) {
+        return; // ainda contém outros jobs
+      }
+      current = current.getParent();
+    }
+  }
+
+  /**
+   * Grava o conteúdo no blob store calculando o SHA-256 durante a cópia. Se o blob já existir, o
+   * arquivo temporário é descartado e o job recebe apenas um novo hardlink.
+   */
+  private void storeDeduplicated(
+      String jobId, String filename, Path filePath, InputStream inputStream) throws IOException {
+    Path tmpFile = newTempFilePath();
+
+    try {
+      MessageDigest digest = sha256();
+      Files.copy(new DigestInputStream(inputStream, digest), tmpFile);
+      publishBlob(jobId, filename, filePath, tmpFile, HexFormat.of().formatHex(digest.digest()));
+    } finally {
+      Files.deleteIfExists(tmpFile);
+    }
+  }
+
+  /**
+   * Publica um arquivo temporário como blob (rename atômico) e liga o arquivo do job a ele. Se o
+   * blob já existir, o arquivo temporário é mantido para ser descartado pelo chamador.
+   */
+  private void publishBlob(String jobId, String filename, Path filePath, Path tmpFile, String hash)
+      throws IOException {
+    synchronized (blobLock) {
+      // Liberar a referência anterior antes de publicar o blob, pois ela pode ser o mesmo blob
+      Files.deleteIfExists(filePath);
+      releaseReference(jobId, filename);
+
+      Path blob = blobPath(hash);
+      if (Files.exists(blob)) {
+        System.out.println("Deduplicated upload: " + filename + " -> " + hash);
+      } else {
+        Files.createDirectories(blob.getParent());
+        Files.move(tmpFile, blob, StandardCopyOption.ATOMIC_MOVE);
+      }
+
+      attachBlob(jobId, filename, filePath, hash);
+    }
+  }
+
+  /** Caminho ainda inexistente no diretório temporário do storage. */
+  private Path newTempFilePath() throws IOException {
+    Path tmpDir = Paths.get(storageProperties.getBasePath(), StorageProperties.UPLOAD_TEMP_DIR);
+    Files.createDirectories(tmpDir);
+    return tmpDir.resolve("upload-" + UUID.randomUUID() + ".part");
+  }
+
+  private String hashOf(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+      in.transferTo(OutputStream.nullOutputStream());
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /** Cria o arquivo do job apontando para um blob existente e registra a referência. */
+  private void attachBlob(String jobId, String filename, Path filePath, String hash)
+      throws IOException {
+    synchronized (blobLock) {
+      Properties refs = loadRefs(jobId);
+      if (Files.exists(filePath)) {
+        if (hash.equals(refs.getProperty(filename))) {
+          return;
+        }
+        Files.delete(filePath);
+        releaseReference(jobId, filename);
+        refs = loadRefs(jobId);
+      }
+      linkOrCopy(blobPath(hash), filePath);
+      refs.setProperty(filename, hash);
+      saveRefs(jobId, refs);
+    }
+  }
+
+  private void linkOrCopy(Path blob, Path filePath) throws IOException {
+    try {
+      Files.createLink(filePath, blob);
+    } catch (UnsupportedOperationException | IOException e) {
+      // Filesystem sem suporte a hardlink: perde-se a deduplicação, mas não o arquivo
+      Files.copy(blob, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private void releaseReference(String jobId, String filename) {
+    synchronized (blobLock) {
+      Properties refs = loadRefs(jobId);
+      String hash = (String) refs.remove(filename);
+      if (hash != null) {
+        saveRefs(jobId, refs);
+        deleteBlobIfUnreferenced(hash);
+      }
+    }
+  }
+
+  private void releaseAllReferences(String jobId) {
+    synchronized (blobLock) {
+      Properties refs = loadRefs(jobId);
+      saveRefs(jobId, new Properties());
+      for (String filename : refs.stringPropertyNames()) {
+        deleteBlobIfUnreferenced(refs.getProperty(filename));
+      }
+    }
+  }
+
+  private void deleteBlobIfUnreferenced(String hash) {
+    Path blob = blobPath(hash);
+    try {
+      if (Files.exists(blob) && (Integer) Files.getAttribute(blob, "unix:nlink") <= 1) {
+        Files.delete(blob);
+        Files.deleteIfExists(ownersPath(hash));
+        System.out.println("Deleted unreferenced blob: " + hash);
+      }
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      // Sem contagem de links não é seguro apagar o blob
+    } catch (IOException e) {
+      System.err.println("Failed to delete blob: " + hash + ", " + e.getMessage());
+    }
+  }
+
+  private Properties loadRefs(String jobId) {
+    Properties refs = new Properties();
+    Path refsFile = layout.blobRefs(jobId);
+    if (!Files.exists(refsFile)) {
+      // Referências gravadas antes da migração para o diretório com shards
+      refsFile = layout.legacyBlobRefs(jobId);
+    }
+    if (Files.exists(refsFile)) {
+      try (InputStream in = Files.newInputStream(refsFile)) {
+        refs.load(in);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to read blob references for job: " + jobId, e);
+      }
+    }
+    return refs;
+  }
+
+  private void saveRefs(String jobId, Properties refs) {
+    Path refsFile = layout.blobRefs(jobId);
+    try {
+      Files.deleteIfExists(layout.legacyBlobRefs(jobId));
+      if (refs.isEmpty()) {
+        Files.deleteIfExists(refsFile);
+        return;
+      }
+      Files.createDirectories(refsFile.getParent());
+      try (OutputStream out = Files.newOutputStream(refsFile)) {
+        refs.store(out, null);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to write blob references for job: " + jobId, e);
+    }
+  }
+
+  private boolean isValidHash(String contentHash) {
+    return contentHash != null && SHA256_PATTERN.matcher(contentHash).matches();
+  }
+
+  private Path blobsRoot() {
+    return Paths.get(storageProperties.getBasePath(), BLOBS_DIR);
+  }
+
+  private Path blobPath(String hash) {
+    return blobsRoot().resolve(hash.substring(0, 2)).resolve(hash);
+  }
+
+  /**
+   * Donos de um blob, um por linha, identificados pelo SHA-256 do dono para que a API key não
+   * fique gravada em disco. O arquivo é apagado junto com o blob.
+   */
+  private Path ownersPath(String hash) {
+    return blobsRoot().resolve(hash.substring(0, 2)).resolve(hash + ".owners");
+  }
+
+  private boolean isOwner(Path ownersFile, String owner) {
+    if (owner == null || owner.isEmpty() || !Files.exists(ownersFile)) {
+      return false;
+    }
+    try (Stream<String> lines = Files.lines(ownersFile)) {
+      String digest = ownerDigest(owner);
+      return lines.anyMatch(digest::equals);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to read content owners: " + ownersFile, e);
+    }
+  }
+
+  private String ownerDigest(String owner) {
+    return HexFormat.of().formatHex(sha256().digest(owner.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
 }
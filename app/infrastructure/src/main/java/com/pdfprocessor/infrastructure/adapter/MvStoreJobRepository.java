@@ -0,0 +1,253 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.model.JobStatus;
+import com.pdfprocessor.domain.port.JobRepository;
+import com.pdfprocessor.infrastructure.config.JobArchiveProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repositório de jobs em disco usando o MVStore do H2. Os jobs ficam serializados em JSON em um
+ * B-tree principal e três B-trees secundários (data de criação, status e operação) permitem
+ * paginação em ordem decrescente de criação sem carregar o histórico em memória.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.job-archive", name = "enabled", havingValue = "true")
+public class MvStoreJobRepository implements JobRepository {
+
+  private static final String JOBS_MAP = "jobs";
+  private static final String BY_CREATED_MAP = "idx_created";
+  private static final String BY_STATUS_MAP = "idx_status";
+  private static final String BY_OPERATION_MAP = "idx_operation";
+  private static final char SEPARATOR = '|';
+  private static final String KEY_UPPER_BOUND = "\uffff";
+
+  private final MVStore store;
+  private final MVMap<String, String> jobs;
+  private final MVMap<String, String> byCreated;
+  private final MVMap<String, String> byStatus;
+  private final MVMap<String, String> byOperation;
+  private final ObjectMapper objectMapper;
+
+  public MvStoreJobRepository(JobArchiveProperties properties) {
+    try {
+      Path storePath = Paths.get(properties.getPath()).toAbsolutePath();
+      if (storePath.getParent() != null) {
+        Files.createDirectories(storePath.getParent());
+      }
+      this.store =
+          new MVStore.Builder()
+              .fileName(storePath.toString())
+              .cacheSize(properties.getCacheSizeMb())
+              .compress()
+              .open();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open job archive: " + properties.getPath(), e);
+    }
+    this.jobs = store.openMap(JOBS_MAP);
+    this.byCreated = store.openMap(BY_CREATED_MAP);
+    this.byStatus = store.openMap(BY_STATUS_MAP);
+    this.byOperation = store.openMap(BY_OPERATION_MAP);
+    this.objectMapper = new ObjectMapper();
+    this.objectMapper.registerModule(new JavaTimeModule());
+  }
+
+  @Override
+  public synchronized Job save(Job job) {
+    String jobJson;
+    try {
+      jobJson = objectMapper.writeValueAsString(job);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize job: " + job.getId(), e);
+    }
+
+    String previousJson = jobs.put(job.getId(), jobJson);
+    if (previousJson != null) {
+      removeIndexEntries(deserialize(previousJson));
+    }
+    addIndexEntries(job);
+    return job;
+  }
+
+  @Override
+  public Optional<Job> findById(String id) {
+    String jobJson = jobs.get(id);
+    return jobJson != null ? Optional.of(deserialize(jobJson)) : Optional.empty();
+  }
+
+  /** Lista os jobs do mais recente para o mais antigo. */
+  @Override
+  public List<Job> findAll(int page, int size) {
+    return pageDescending(byCreated, "", KEY_UPPER_BOUND, (long) page * size, size);
+  }
+
+  /**
+   * Lista os jobs do mais recente para o mais antigo a partir de uma posição arbitrária.
+   *
+   * @param offset quantidade de jobs a pular
+   * @param limit quantidade máxima de jobs
+   * @return lista de jobs
+   */
+  public List<Job> findRecent(long offset, int limit) {
+    return pageDescending(byCreated, "", KEY_UPPER_BOUND, offset, limit);
+  }
+
+  /**
+   * Lista os jobs com um determinado status, do mais recente para o mais antigo.
+   *
+   * @param status status desejado
+   * @param page número da página (0-based)
+   * @param size tamanho da página
+   * @return lista de jobs
+   */
+  public List<Job> findByStatus(JobStatus status, int page, int size) {
+    String prefix = status.name() + SEPARATOR;
+    return pageDescending(byStatus, prefix, prefix + KEY_UPPER_BOUND, (long) page * size, size);
+  }
+
+  /**
+   * Lista os jobs de uma determinada operação, do mais recente para o mais antigo.
+   *
+   * @param operation operação desejada
+   * @param page número da página (0-based)
+   * @param size tamanho da página
+   * @return lista de jobs
+   */
+  public List<Job> findByOperation(JobOperation operation, int page, int size) {
+    String prefix = operation.name() + SEPARATOR;
+    return pageDescending(
+        byOperation, prefix, prefix + KEY_UPPER_BOUND, (long) page * size, size);
+  }
+
+  /**
+   * Lista os jobs criados em um intervalo, do mais recente para o mais antigo.
+   *
+   * @param from início do intervalo (inclusivo)
+   * @param to fim do intervalo (inclusivo)
+   * @param page número da página (0-based)
+   * @param size tamanho da página
+   * @return lista de jobs
+   */
+  public List<Job> findCreatedBetween(LocalDateTime from, LocalDateTime to, int page, int size) {
+    String high = timeKey(to) + SEPARATOR + KEY_UPPER_BOUND;
+    return pageDescending(byCreated, timeKey(from), high, (long) page * size, size);
+  }
+
+  @Override
+  public synchronized void deleteById(String id) {
+    String previousJson = jobs.remove(id);
+    if (previousJson != null) {
+      removeIndexEntries(deserialize(previousJson));
+    }
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return jobs.containsKey(id);
+  }
+
+  /**
+   * Obtém o número de jobs no arquivo.
+   *
+   * @return número de jobs
+   */
+  public long count() {
+    return jobs.sizeAsLong();
+  }
+
+  /**
+   * Grava em disco as alterações pendentes. Sem isso elas só são persistidas pelo auto-commit
+   * periódico do MVStore e se perdem se o processo cair antes dele.
+   */
+  public void commit() {
+    store.commit();
+  }
+
+  @PreDestroy
+  public void close() {
+    if (!store.isClosed()) {
+      store.close();
+    }
+  }
+
+  /**
+   * Percorre um índice do maior para o menor key dentro de [low, high]. A posição inicial é
+   * resolvida pelo índice posicional do B-tree, então o custo não depende do offset.
+   */
+  private List<Job> pageDescending(
+      MVMap<String, String> index, String low, String high, long offset, int size) {
+    if (offset < 0 || size <= 0) {
+      return List.of();
+    }
+
+    String upper = index.floorKey(high);
+    if (upper == null || upper.compareTo(low) < 0) {
+      return List.of();
+    }
+
+    long start = index.getKeyIndex(upper) - offset;
+    if (start < 0) {
+      return List.of();
+    }
+
+    List<Job> result = new ArrayList<>(size);
+    Iterator<String> keys = index.keyIteratorReverse(index.getKey(start));
+    while (keys.hasNext() && result.size() < size) {
+      String key = keys.next();
+      if (key.compareTo(low) < 0) {
+        break;
+      }
+      findById(index.get(key)).ifPresent(result::add);
+    }
+    return result;
+  }
+
+  private void addIndexEntries(Job job) {
+    String createdKey = createdKey(job);
+    byCreated.put(createdKey, job.getId());
+    byStatus.put(job.getStatus().name() + SEPARATOR + createdKey, job.getId());
+    byOperation.put(job.getOperation().name() + SEPARATOR + createdKey, job.getId());
+  }
+
+  private void removeIndexEntries(Job job) {
+    String createdKey = createdKey(job);
+    byCreated.remove(createdKey);
+    byStatus.remove(job.getStatus().name() + SEPARATOR + createdKey);
+    byOperation.remove(job.getOperation().name() + SEPARATOR + createdKey);
+  }
+
+  private String createdKey(Job job) {
+    return timeKey(job.getCreatedAt()) + SEPARATOR + job.getId();
+  }
+
+  /** Epoch em milissegundos com largura fixa, para que a ordem lexicográfica seja cronológica. */
+  private String timeKey(LocalDateTime dateTime) {
+    return String.format("%019d", dateTime.toInstant(ZoneOffset.UTC).toEpochMilli());
+  }
+
+  private Job deserialize(String jobJson) {
+    try {
+      return objectMapper.readValue(jobJson, Job.class);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize archived job", e);
+    }
+  }
+}
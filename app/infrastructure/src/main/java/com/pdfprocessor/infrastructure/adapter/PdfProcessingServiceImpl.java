@@ -5,91 +5,38 @@ import com.pdfprocessor.domain.model.JobOperation;
 import com.pdfprocessor.domain.port.PdfProcessingService;
 import com.pdfprocessor.domain.port.ProgressCallback;
 import com.pdfprocessor.domain.port.StorageService;
-import java.awt.Color;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
+import com.pdfprocessor.infrastructure.adapter.operation.OperationHandler;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.imageio.ImageIO;
-import org.apache.pdfbox.Loader;
-import org.apache.pdfbox.multipdf.PDFMergerUtility;
-import org.apache.pdfbox.multipdf.Splitter;
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDDocumentInformation;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
-import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
-import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
-import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
-import org.apache.pdfbox.rendering.ImageType;
-import org.apache.pdfbox.rendering.PDFRenderer;
-import org.apache.pdfbox.text.PDFTextStripper;
 import org.springframework.stereotype.Component;
 
 /**
- * Implementação do serviço de processamento de PDF usando PDFBox. TODO: Implementar operações reais
- * de PDF.
+ * Registro das operações de PDF. Cada operação é implementada por um {@link OperationHandler}
+ * descoberto na inicialização; este serviço apenas localiza o handler, reporta o progresso e
+ * publica o resultado no storage.
  */
 @Component
 public class PdfProcessingServiceImpl implements PdfProcessingService {
 
   private final StorageService storageService;
-  private static final List<JobOperation> SUPPORTED_OPERATIONS;
+  private final Map<JobOperation, OperationHandler> handlers = new EnumMap<>(JobOperation.class);
 
-  static {
-    SUPPORTED_OPERATIONS =
-        List.of(
-            JobOperation.MERGE,
-            JobOperation.SPLIT,
-            JobOperation.ROTATE,
-            JobOperation.WATERMARK,
-            JobOperation.ENCRYPT,
-            JobOperation.DECRYPT,
-            JobOperation.EXTRACT_TEXT,
-            JobOperation.EXTRACT_METADATA,
-            // Operações avançadas
-            JobOperation.PDF_CROP,
-            JobOperation.PDF_REORDER,
-            JobOperation.PDF_RESIZE,
-            JobOperation.COMPRESS,
-            JobOperation.PDF_TO_IMAGES,
-            JobOperation.IMAGES_TO_PDF,
-            JobOperation.PDF_COMPARE,
-            JobOperation.PDF_CREATE,
-            // Operações de edição e proteção
-            JobOperation.PDF_EDIT,
-            JobOperation.PDF_PROTECT,
-            JobOperation.PDF_UNLOCK,
-            JobOperation.PDF_SIGN,
-            // Operações de otimização e validação
-            JobOperation.PDF_OPTIMIZE,
-            JobOperation.PDF_VALIDATE,
-            JobOperation.PDF_REPAIR,
-            // Operações de gestão de recursos
-            JobOperation.PDF_EXTRACT_RESOURCES,
-            JobOperation.PDF_REMOVE_RESOURCES,
-            // Operações de conversões avançadas
-            JobOperation.PDF_TO_PDFA,
-            JobOperation.PDF_FROM_EPUB,
-            JobOperation.PDF_FROM_DJVU,
-            // Operações de OCR e acessibilidade
-            JobOperation.PDF_OCR,
-            JobOperation.PDF_TO_AUDIO);
-  }
-
-  public PdfProcessingServiceImpl(StorageService storageService) {
+  public PdfProcessingServiceImpl(StorageService storageService, List<OperationHandler> handlers) {
     this.storageService = storageService;
+    for (OperationHandler handler : handlers) {
+      OperationHandler previous = this.handlers.putIfAbsent(handler.getOperation(), handler);
+      if (previous != null) {
+        throw new IllegalStateException(
+            "Duplicate handlers for "
+                + handler.getOperation()
+                + ": "
+                + previous.getClass().getName()
+                + " and "
+                + handler.getClass().getName());
+      }
+    }
   }
 
   @Override
@@ -132,48 +79,10 @@ public class PdfProcessingServiceImpl implements PdfProcessingService {
         progressCallback.onProgress(job.getId(), 25, "Processando operação: " + job.getOperation());
       }
 
-      String result =
-          switch (job.getOperation()) {
-            case MERGE -> processMerge(job);
-            case SPLIT -> processSplit(job);
-            case ROTATE -> processRotate(job);
-            case WATERMARK -> processWatermark(job);
-            case ENCRYPT -> processEncrypt(job);
-            case DECRYPT -> processDecrypt(job);
-            case EXTRACT_TEXT -> processExtractText(job);
-            case EXTRACT_METADATA -> processExtractMetadata(job);
-              // Operações avançadas
-            case PDF_CROP -> processPdfCrop(job);
-            case PDF_REORDER -> processPdfReorder(job);
-            case PDF_RESIZE -> processPdfResize(job);
-            case COMPRESS -> processCompress(job);
-            case PDF_TO_IMAGES -> processPdfToImages(job);
-            case IMAGES_TO_PDF -> processImagesToPdf(job);
-            case PDF_COMPARE -> processPdfCompare(job);
-            case PDF_CREATE -> processPdfCreate(job);
-              // Operações de edição e proteção
-            case PDF_EDIT -> processPdfEdit(job);
-            case PDF_PROTECT -> processPdfProtect(job);
-            case PDF_UNLOCK -> processPdfUnlock(job);
-            case PDF_SIGN -> processPdfSign(job);
-              // Operações de otimização e validação
-            case PDF_OPTIMIZE -> processPdfOptimize(job);
-            case PDF_VALIDATE -> processPdfValidate(job);
-            case PDF_REPAIR -> processPdfRepair(job);
-              // Operações de gestão de recursos
-            case PDF_EXTRACT_RESOURCES -> processPdfExtractResources(job);
-            case PDF_REMOVE_RESOURCES -> processPdfRemoveResources(job);
-              // Operações de conversões avançadas
-            case PDF_TO_PDFA -> processPdfToPdfA(job);
-            case PDF_FROM_EPUB -> processPdfFromEpub(job);
-            case PDF_FROM_DJVU -> processPdfFromDjvu(job);
-              // Operações de OCR e acessibilidade
-            case PDF_OCR -> processPdfOcr(job);
-            case PDF_TO_AUDIO -> processPdfToAudio(job);
-            default ->
-                throw new UnsupportedOperationException(
-                    "Operation not supported: " + job.getOperation());
-          };
+      String result = handlerFor(job.getOperation()).process(job);
+
+      // Em storage remoto o resultado precisa ser enviado antes de ficar visível para a API
+      result = storageService.publishResult(result);
 
       // Reportar conclusão
       if (progressCallback != null) {
@@ -201,2833 +110,56 @@ public class PdfProcessingServiceImpl implements PdfProcessingService {
         progressCallback.onError(job.getId(), e);
       }
       throw new RuntimeException("Error processing job: " + job.getId(), e);
+    } finally {
+      // Libera as entradas do job no cache local para que possam ser despejadas
+      storageService.releaseJobFiles(job.getId());
     }
   }
 
-  private String processMerge(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    System.out.println("DEBUG: Input files for merge: " + inputFiles);
-
-    if (inputFiles == null || inputFiles.size() < 2) {
-      throw new IllegalArgumentException("MERGE operation requires at least 2 input files");
-    }
-
-    // Criar diretório de resultado usando StorageService
-    Path resultDir = storageService.getPhysicalPath(job.getId());
-    Files.createDirectories(resultDir);
-
-    String resultPath = resultDir.resolve("result_" + job.getId() + ".pdf").toString();
-    System.out.println("DEBUG: Result path: " + resultPath);
-
-    PDFMergerUtility merger = new PDFMergerUtility();
-    merger.setDestinationFileName(resultPath);
-
-    // Adicionar todos os arquivos de entrada usando StorageService
-    for (String inputFile : inputFiles) {
-      Path physicalPath = storageService.getPhysicalPath(inputFile);
-      File file = physicalPath.toFile();
-      System.out.println("DEBUG: Current working directory: " + System.getProperty("user.dir"));
-      System.out.println(
-          "DEBUG: Checking file: "
-              + inputFile
-              + " -> "
-              + physicalPath
-              + ", exists: "
-              + file.exists()
-              + ", size: "
-              + file.length());
-      System.out.println("DEBUG: Absolute path: " + file.getAbsolutePath());
-      if (!file.exists()) {
-        throw new IllegalArgumentException("Input file not found: " + inputFile);
-      }
-      merger.addSource(file);
-      System.out.println("DEBUG: Added source file: " + physicalPath);
-    }
-
-    System.out.println("DEBUG: Starting merge operation...");
-    merger.mergeDocuments(null);
-    System.out.println("DEBUG: Merge completed");
-
-    // Verificar se o arquivo de resultado foi criado
-    File resultFile = new File(resultPath);
-    System.out.println(
-        "DEBUG: Result file exists: " + resultFile.exists() + ", size: " + resultFile.length());
-
-    System.out.println("Merged " + inputFiles.size() + " files into: " + resultPath);
-    return resultPath;
-  }
-
-  private String processSplit(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("SPLIT operation requires at least 1 input file");
-    }
-
-    String inputFile = inputFiles.get(0); // SPLIT trabalha com apenas um arquivo
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("./storage/" + job.getId());
-    Files.createDirectories(resultDir);
-
-    // Obter opções de split
-    Map<String, Object> options = job.getOptions();
-    String pages = options != null ? (String) options.get("pages") : "all";
-
-    try (PDDocument document = Loader.loadPDF(file)) {
-      int totalPages = document.getNumberOfPages();
-
-      if ("all".equals(pages)) {
-        // Dividir em páginas individuais
-        return splitAllPages(document, resultDir, totalPages);
-      } else {
-        // Dividir por intervalo específico (ex: "1-3", "5", "1,3,5-7")
-        return splitByRange(document, resultDir, pages, totalPages);
-      }
-    }
-  }
-
-  private String splitAllPages(PDDocument document, Path resultDir, int totalPages)
-      throws IOException {
-    Splitter splitter = new Splitter();
-    List<PDDocument> pages = splitter.split(document);
-
-    List<String> resultFiles = new ArrayList<>();
-
-    for (int i = 0; i < pages.size(); i++) {
-      String fileName = String.format("page_%03d.pdf", i + 1);
-      Path filePath = resultDir.resolve(fileName);
-
-      try (PDDocument pageDoc = pages.get(i)) {
-        pageDoc.save(filePath.toFile());
-        resultFiles.add(filePath.toString());
-      }
+  /** Handler registrado para a operação. */
+  public OperationHandler handlerFor(JobOperation operation) {
+    OperationHandler handler = handlers.get(operation);
+    if (handler == null) {
+      throw new UnsupportedOperationException("Operation not supported: " + operation);
     }
-
-    System.out.println("Split " + totalPages + " pages into individual files in: " + resultDir);
-
-    // Retorna o diretório contendo todos os arquivos
-    return resultDir.toString();
+    return handler;
   }
 
-  private String splitByRange(PDDocument document, Path resultDir, String pages, int totalPages)
-      throws IOException {
-    List<Integer> pageNumbers = parsePageRange(pages, totalPages);
-
-    if (pageNumbers.isEmpty()) {
-      throw new IllegalArgumentException("No valid pages specified in range: " + pages);
-    }
-
-    // Criar um novo documento com as páginas especificadas
-    try (PDDocument resultDoc = new PDDocument()) {
-      for (Integer pageNum : pageNumbers) {
-        if (pageNum >= 1 && pageNum <= totalPages) {
-          PDPage page = document.getPage(pageNum - 1); // PDFBox usa índice 0
-          resultDoc.addPage(page);
-        }
-      }
-
-      String fileName = "pages_" + pages.replaceAll("[^0-9,-]", "_") + ".pdf";
-      Path filePath = resultDir.resolve(fileName);
-      resultDoc.save(filePath.toFile());
-
-      System.out.println("Split pages " + pages + " into: " + filePath);
-      return filePath.toString();
-    }
+  @Override
+  public boolean supportsOperation(JobOperation operation) {
+    return handlers.containsKey(operation);
   }
 
-  private List<Integer> parsePageRange(String pages, int totalPages) {
-    List<Integer> pageNumbers = new ArrayList<>();
-
-    if (pages == null || pages.trim().isEmpty()) {
-      return pageNumbers;
-    }
-
-    String[] parts = pages.split(",");
-    for (String part : parts) {
-      part = part.trim();
-      if (part.contains("-")) {
-        // Intervalo (ex: "1-3", "5-10")
-        String[] range = part.split("-");
-        if (range.length == 2) {
-          try {
-            int start = Integer.parseInt(range[0].trim());
-            int end = Integer.parseInt(range[1].trim());
-            for (int i = start; i <= end && i <= totalPages; i++) {
-              if (i >= 1) {
-                pageNumbers.add(i);
-              }
-            }
-          } catch (NumberFormatException e) {
-            System.err.println("Invalid page range: " + part);
-          }
-        }
-      } else {
-        // Página individual (ex: "5")
-        try {
-          int pageNum = Integer.parseInt(part);
-          if (pageNum >= 1 && pageNum <= totalPages) {
-            pageNumbers.add(pageNum);
-          }
-        } catch (NumberFormatException e) {
-          System.err.println("Invalid page number: " + part);
-        }
-      }
-    }
-
-    return pageNumbers;
+  @Override
+  public List<JobOperation> getSupportedOperations() {
+    return List.copyOf(handlers.keySet());
   }
 
-  private String processRotate(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("ROTATE operation requires at least 1 input file");
-    }
-
-    String inputFile = inputFiles.get(0); // ROTATE trabalha com apenas um arquivo
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("./storage/" + job.getId());
-    Files.createDirectories(resultDir);
+  @Override
+  public boolean validateOptions(JobOperation operation, Map<String, Object> options) {
+    System.out.println(
+        "DEBUG: validateOptions called with operation: " + operation + ", options: " + options);
 
-    // Obter opções de rotação
-    Map<String, Object> options = job.getOptions();
     if (options == null) {
-      throw new IllegalArgumentException(
-          "ROTATE operation requires options with 'degrees' parameter");
-    }
-
-    Object degreesObj = options.get("degrees");
-    if (degreesObj == null) {
-      throw new IllegalArgumentException(
-          "ROTATE operation requires 'degrees' parameter (90, 180, 270)");
+      System.out.println("DEBUG: options is null, returning false");
+      return false;
     }
 
-    int degrees;
     try {
-      degrees = Integer.parseInt(degreesObj.toString());
-    } catch (NumberFormatException e) {
-      throw new IllegalArgumentException(
-          "Invalid degrees value: " + degreesObj + ". Must be 90, 180, or 270");
-    }
-
-    if (degrees != 90 && degrees != 180 && degrees != 270) {
-      throw new IllegalArgumentException("Degrees must be 90, 180, or 270. Got: " + degrees);
-    }
-
-    String pages = options.get("pages") != null ? options.get("pages").toString() : "all";
-
-    String resultPath = resultDir.resolve("rotated.pdf").toString();
-
-    try (PDDocument document = Loader.loadPDF(file)) {
-      int totalPages = document.getNumberOfPages();
-
-      if ("all".equals(pages)) {
-        // Rotacionar todas as páginas
-        for (int i = 0; i < totalPages; i++) {
-          rotatePage(document.getPage(i), degrees);
-        }
-        System.out.println("Rotated all " + totalPages + " pages by " + degrees + " degrees");
-      } else {
-        // Rotacionar páginas específicas
-        List<Integer> pageNumbers = parsePageRange(pages, totalPages);
-        for (Integer pageNum : pageNumbers) {
-          if (pageNum >= 1 && pageNum <= totalPages) {
-            rotatePage(document.getPage(pageNum - 1), degrees);
-          }
-        }
-        System.out.println("Rotated pages " + pages + " by " + degrees + " degrees");
-      }
-
-      document.save(resultPath);
-    }
-
-    System.out.println("Rotation completed. Result saved to: " + resultPath);
-    return resultPath;
-  }
-
-  private void rotatePage(PDPage page, int degrees) {
-    int currentRotation = page.getRotation();
-    int newRotation = (currentRotation + degrees) % 360;
-    page.setRotation(newRotation);
-  }
-
-  private String processWatermark(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("WATERMARK operation requires at least 1 input file");
-    }
-
-    String inputFile = inputFiles.get(0); // WATERMARK trabalha com apenas um arquivo
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("./storage/" + job.getId());
-    Files.createDirectories(resultDir);
-
-    // Obter opções de watermark
-    Map<String, Object> options = job.getOptions();
-    if (options == null) {
-      throw new IllegalArgumentException(
-          "WATERMARK operation requires options with 'text' parameter");
-    }
-
-    String watermarkText = (String) options.get("text");
-    if (watermarkText == null || watermarkText.trim().isEmpty()) {
-      throw new IllegalArgumentException("WATERMARK operation requires 'text' parameter");
-    }
-
-    // Opções opcionais
-    float opacity =
-        options.get("opacity") != null ? Float.parseFloat(options.get("opacity").toString()) : 0.3f;
-    int fontSize =
-        options.get("fontSize") != null ? Integer.parseInt(options.get("fontSize").toString()) : 36;
-    String position =
-        options.get("position") != null ? options.get("position").toString() : "center";
-
-    String resultPath = resultDir.resolve("watermarked.pdf").toString();
-
-    try (PDDocument document = Loader.loadPDF(file)) {
-      for (PDPage page : document.getPages()) {
-        addWatermarkToPage(document, page, watermarkText, opacity, fontSize, position);
-      }
-
-      document.save(resultPath);
-    }
-
-    System.out.println("Watermark added to PDF. Result saved to: " + resultPath);
-    return resultPath;
-  }
-
-  private void addWatermarkToPage(
-      PDDocument document, PDPage page, String text, float opacity, int fontSize, String position)
-      throws IOException {
-    try (PDPageContentStream contentStream =
-        new PDPageContentStream(
-            document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
-
-      // Configurar transparência
-      PDExtendedGraphicsState graphicsState = new PDExtendedGraphicsState();
-      graphicsState.setNonStrokingAlphaConstant(opacity);
-      contentStream.setGraphicsStateParameters(graphicsState);
-
-      // Configurar fonte e cor
-      PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
-      contentStream.setFont(font, fontSize);
-      contentStream.setNonStrokingColor(Color.GRAY);
-
-      // Calcular posição
-      float pageWidth = page.getMediaBox().getWidth();
-      float pageHeight = page.getMediaBox().getHeight();
-      float textWidth = font.getStringWidth(text) / 1000 * fontSize;
-
-      float x, y;
-      switch (position.toLowerCase()) {
-        case "top-left" -> {
-          x = 50;
-          y = pageHeight - 50;
-        }
-        case "top-right" -> {
-          x = pageWidth - textWidth - 50;
-          y = pageHeight - 50;
-        }
-        case "bottom-left" -> {
-          x = 50;
-          y = 50;
-        }
-        case "bottom-right" -> {
-          x = pageWidth - textWidth - 50;
-          y = 50;
-        }
-        default -> { // center
-          x = (pageWidth - textWidth) / 2;
-          y = pageHeight / 2;
-        }
-      }
-
-      // Adicionar texto
-      contentStream.beginText();
-      contentStream.newLineAtOffset(x, y);
-      contentStream.showText(text);
-      contentStream.endText();
-    }
-  }
-
-  private String processEncrypt(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("ENCRYPT operation requires at least 1 input file");
-    }
-
-    String inputFile = inputFiles.get(0); // ENCRYPT trabalha com apenas um arquivo
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("./storage/" + job.getId());
-    Files.createDirectories(resultDir);
-
-    // Obter opções de criptografia
-    Map<String, Object> options = job.getOptions();
-    if (options == null) {
-      throw new IllegalArgumentException(
-          "ENCRYPT operation requires options with 'password' parameter");
-    }
-
-    String userPassword = (String) options.get("password");
-    if (userPassword == null || userPassword.trim().isEmpty()) {
-      throw new IllegalArgumentException("ENCRYPT operation requires 'password' parameter");
-    }
-
-    String ownerPassword = (String) options.get("ownerPassword");
-    if (ownerPassword == null || ownerPassword.trim().isEmpty()) {
-      ownerPassword = userPassword; // Usar a mesma senha se não especificada
-    }
-
-    String resultPath = resultDir.resolve("encrypted.pdf").toString();
-
-    try (PDDocument document = Loader.loadPDF(file)) {
-      // Configurar permissões
-      AccessPermission accessPermission = new AccessPermission();
-
-      // Opções de permissão (padrão: permitir tudo)
-      boolean allowPrint =
-          options.get("allowPrint") != null
-              ? Boolean.parseBoolean(options.get("allowPrint").toString())
-              : true;
-      boolean allowCopy =
-          options.get("allowCopy") != null
-              ? Boolean.parseBoolean(options.get("allowCopy").toString())
-              : true;
-      boolean allowModify =
-          options.get("allowModify") != null
-              ? Boolean.parseBoolean(options.get("allowModify").toString())
-              : true;
-
-      accessPermission.setCanPrint(allowPrint);
-      accessPermission.setCanExtractContent(allowCopy);
-      accessPermission.setCanModify(allowModify);
-
-      // Criar política de proteção
-      StandardProtectionPolicy protectionPolicy =
-          new StandardProtectionPolicy(ownerPassword, userPassword, accessPermission);
-      protectionPolicy.setEncryptionKeyLength(128);
-
-      // Aplicar criptografia
-      document.protect(protectionPolicy);
-      document.save(resultPath);
-    }
-
-    System.out.println("PDF encrypted successfully. Result saved to: " + resultPath);
-    return resultPath;
-  }
-
-  private String processDecrypt(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("DECRYPT operation requires at least 1 input file");
-    }
-
-    String inputFile = inputFiles.get(0); // DECRYPT trabalha com apenas um arquivo
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("./storage/" + job.getId());
-    Files.createDirectories(resultDir);
-
-    // Obter opções de descriptografia
-    Map<String, Object> options = job.getOptions();
-    if (options == null) {
-      throw new IllegalArgumentException(
-          "DECRYPT operation requires options with 'password' parameter");
-    }
-
-    String password = (String) options.get("password");
-    if (password == null || password.trim().isEmpty()) {
-      throw new IllegalArgumentException("DECRYPT operation requires 'password' parameter");
-    }
-
-    String resultPath = resultDir.resolve("decrypted.pdf").toString();
-
-    try (PDDocument document = Loader.loadPDF(file, password)) {
-      if (document.isEncrypted()) {
-        // Remover proteção
-        document.setAllSecurityToBeRemoved(true);
-      }
-
-      document.save(resultPath);
+      OperationHandler handler = handlers.get(operation);
+      boolean result = handler == null || handler.validateOptions(options);
+      System.out.println("DEBUG: validateOptions result: " + result);
+      return result;
     } catch (Exception e) {
-      throw new RuntimeException("Failed to decrypt PDF. Invalid password or corrupted file.", e);
-    }
-
-    System.out.println("PDF decrypted successfully. Result saved to: " + resultPath);
-    return resultPath;
-  }
-
-  private String processExtractText(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("No input files provided for text extraction");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    String resultFileName = "extracted_text.txt";
-    Path resultPath = resultDir.resolve(resultFileName);
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      PDFTextStripper textStripper = new PDFTextStripper();
-
-      // Configurar opções se fornecidas
-      Map<String, Object> options = job.getOptions();
-      if (options.containsKey("startPage")) {
-        textStripper.setStartPage(((Number) options.get("startPage")).intValue());
-      }
-      if (options.containsKey("endPage")) {
-        textStripper.setEndPage(((Number) options.get("endPage")).intValue());
-      }
-      if (options.containsKey("sortByPosition")) {
-        textStripper.setSortByPosition((Boolean) options.get("sortByPosition"));
-      }
-
-      String extractedText = textStripper.getText(document);
-      Files.write(resultPath, extractedText.getBytes(StandardCharsets.UTF_8));
-    }
-
-    return resultPath.toString();
-  }
-
-  private String processExtractMetadata(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("No input files provided for metadata extraction");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    String resultFileName = "metadata.json";
-    Path resultPath = resultDir.resolve(resultFileName);
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      PDDocumentInformation info = document.getDocumentInformation();
-      Map<String, Object> metadata = new HashMap<>();
-
-      // Informações básicas do documento
-      metadata.put("title", info.getTitle());
-      metadata.put("author", info.getAuthor());
-      metadata.put("subject", info.getSubject());
-      metadata.put("keywords", info.getKeywords());
-      metadata.put("creator", info.getCreator());
-      metadata.put("producer", info.getProducer());
-
-      // Datas
-      if (info.getCreationDate() != null) {
-        metadata.put("creationDate", info.getCreationDate().getTime().toString());
-      }
-      if (info.getModificationDate() != null) {
-        metadata.put("modificationDate", info.getModificationDate().getTime().toString());
-      }
-
-      // Informações do documento
-      metadata.put("numberOfPages", document.getNumberOfPages());
-      metadata.put("version", document.getVersion());
-      metadata.put("isEncrypted", document.isEncrypted());
-
-      // Converter para JSON
-      StringBuilder jsonBuilder = new StringBuilder();
-      jsonBuilder.append("{\n");
-      boolean first = true;
-      for (Map.Entry<String, Object> entry : metadata.entrySet()) {
-        if (!first) {
-          jsonBuilder.append(",\n");
-        }
-        jsonBuilder.append("  \"").append(entry.getKey()).append("\": ");
-        if (entry.getValue() == null) {
-          jsonBuilder.append("null");
-        } else if (entry.getValue() instanceof String) {
-          jsonBuilder
-              .append("\"")
-              .append(entry.getValue().toString().replace("\"", "\\\""))
-              .append("\"");
-        } else {
-          jsonBuilder.append(entry.getValue().toString());
-        }
-        first = false;
-      }
-      jsonBuilder.append("\n}");
-
-      Files.write(resultPath, jsonBuilder.toString().getBytes(StandardCharsets.UTF_8));
-    }
-
-    return resultPath.toString();
-  }
-
-  // Operações avançadas de PDF
-
-  private String processPdfCrop(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("PDF_CROP operation requires at least 1 input file");
-    }
-
-    String inputPath = inputFiles.get(0);
-    File file = new File(inputPath);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Map<String, Object> options = job.getOptions();
-
-    // Parâmetros de crop
-    Number x = (Number) options.getOrDefault("x", 0);
-    Number y = (Number) options.getOrDefault("y", 0);
-    Number width = (Number) options.getOrDefault("width", 595); // A4 width
-    Number height = (Number) options.getOrDefault("height", 842); // A4 height
-    String pages = (String) options.getOrDefault("pages", "all");
-
-    Path resultPath = Paths.get("temp", "result_" + job.getId() + ".pdf");
-    Files.createDirectories(resultPath.getParent());
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      PDDocument resultDoc = new PDDocument();
-
-      List<Integer> pageNumbers =
-          pages.equals("all")
-              ? getAllPageNumbers(document.getNumberOfPages())
-              : parsePageRange(pages, document.getNumberOfPages());
-
-      for (int pageNum : pageNumbers) {
-        PDPage page = document.getPage(pageNum - 1);
-        PDPage newPage = resultDoc.importPage(page);
-
-        // Define a área de crop
-        newPage.setCropBox(
-            new org.apache.pdfbox.pdmodel.common.PDRectangle(
-                x.floatValue(), y.floatValue(), width.floatValue(), height.floatValue()));
-      }
-
-      resultDoc.save(resultPath.toFile());
-      resultDoc.close();
-    }
-
-    return resultPath.toString();
-  }
-
-  private String processPdfReorder(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("PDF_REORDER operation requires at least 1 input file");
-    }
-
-    String inputPath = inputFiles.get(0);
-    File file = new File(inputPath);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String pageOrder = (String) options.get("page_order"); // Ex: "3,1,2,4"
-
-    if (pageOrder == null || pageOrder.trim().isEmpty()) {
-      throw new IllegalArgumentException("page_order is required for reorder operation");
-    }
-
-    Path resultPath = Paths.get("temp", "result_" + job.getId() + ".pdf");
-    Files.createDirectories(resultPath.getParent());
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      PDDocument resultDoc = new PDDocument();
-
-      String[] orderArray = pageOrder.split(",");
-      for (String pageNumStr : orderArray) {
-        int pageNum = Integer.parseInt(pageNumStr.trim());
-        if (pageNum < 1 || pageNum > document.getNumberOfPages()) {
-          throw new IllegalArgumentException("Invalid page number: " + pageNum);
-        }
-
-        PDPage page = document.getPage(pageNum - 1);
-        resultDoc.importPage(page);
-      }
-
-      resultDoc.save(resultPath.toFile());
-      resultDoc.close();
-    }
-
-    return resultPath.toString();
-  }
-
-  private String processPdfResize(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("PDF_RESIZE operation requires at least 1 input file");
-    }
-
-    String inputPath = inputFiles.get(0);
-    File file = new File(inputPath);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String pageSize = (String) options.getOrDefault("page_size", "A4");
-    String pages = (String) options.getOrDefault("pages", "all");
-
-    Path resultPath = Paths.get("temp", "result_" + job.getId() + ".pdf");
-    Files.createDirectories(resultPath.getParent());
-
-    // Definir dimensões baseadas no tamanho da página
-    org.apache.pdfbox.pdmodel.common.PDRectangle newSize = getPageSize(pageSize);
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      List<Integer> pageNumbers =
-          pages.equals("all")
-              ? getAllPageNumbers(document.getNumberOfPages())
-              : parsePageRange(pages, document.getNumberOfPages());
-
-      for (int pageNum : pageNumbers) {
-        PDPage page = document.getPage(pageNum - 1);
-        page.setMediaBox(newSize);
-        page.setCropBox(newSize);
-      }
-
-      document.save(resultPath.toFile());
-    }
-
-    return resultPath.toString();
-  }
-
-  private String processCompress(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles == null || inputFiles.isEmpty()) {
-      throw new IllegalArgumentException("COMPRESS operation requires at least 1 input file");
-    }
-
-    String inputPath = inputFiles.get(0);
-    File file = new File(inputPath);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String quality = (String) options.getOrDefault("quality", "medium");
-
-    Path resultPath = Paths.get("temp", "result_" + job.getId() + ".pdf");
-    Files.createDirectories(resultPath.getParent());
-
-    try (PDDocument document = Loader.loadPDF(new File(inputPath))) {
-      // Compressão básica - remove objetos não utilizados
-      document
-          .getDocumentCatalog()
-          .getPages()
-          .forEach(
-              page -> {
-                try {
-                  // Remove recursos não utilizados
-                  if (page.getResources() != null) {
-                    // Implementação básica de compressão
-                    // Em uma implementação mais avançada, seria possível
-                    // comprimir imagens e otimizar fontes
-                  }
-                } catch (Exception e) {
-                  // Log error but continue processing
-                }
-              });
-
-      document.save(resultPath.toFile());
-    }
-
-    return resultPath.toString();
-  }
-
-  private String processPdfToImages(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("No input files provided");
-    }
-
-    String inputFile = job.getInputFiles().get(0);
-    File file = new File(inputFile);
-    if (!file.exists()) {
-      throw new IllegalArgumentException("Input file does not exist: " + inputFile);
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("results", job.getId());
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String format = options.getOrDefault("format", "PNG").toString().toUpperCase();
-    float dpi = Float.parseFloat(options.getOrDefault("dpi", "150").toString());
-    String pages = options.getOrDefault("pages", "all").toString();
-
-    List<String> imageFiles = new ArrayList<>();
-
-    try (PDDocument document = Loader.loadPDF(file)) {
-      PDFRenderer pdfRenderer = new PDFRenderer(document);
-      int totalPages = document.getNumberOfPages();
-
-      List<Integer> pagesToProcess = parsePageRange(pages, totalPages);
-
-      for (int pageIndex : pagesToProcess) {
-        BufferedImage image = pdfRenderer.renderImageWithDPI(pageIndex, dpi, ImageType.RGB);
-
-        String imageFileName = String.format("page_%03d.%s", pageIndex + 1, format.toLowerCase());
-        Path imagePath = resultDir.resolve(imageFileName);
-
-        ImageIO.write(image, format, imagePath.toFile());
-        imageFiles.add(imagePath.toString());
-      }
+      System.out.println("DEBUG: Exception in validateOptions: " + e.getMessage());
+      e.printStackTrace();
+      return false;
     }
-
-    System.out.println(
-        "PDF converted to " + imageFiles.size() + " images. Results saved to: " + resultDir);
-    return resultDir.toString();
-  }
-
-  private String processImagesToPdf(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("No input files provided");
-    }
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("results", job.getId());
-    Files.createDirectories(resultDir);
-    String resultPath = resultDir.resolve("images_to_pdf.pdf").toString();
-
-    Map<String, Object> options = job.getOptions();
-    String pageSize = options.getOrDefault("page_size", "A4").toString();
-    boolean fitToPage =
-        Boolean.parseBoolean(options.getOrDefault("fit_to_page", "true").toString());
-
-    try (PDDocument document = new PDDocument()) {
-      PDRectangle pageRect = getPageSize(pageSize);
-
-      for (String imageFile : job.getInputFiles()) {
-        File file = new File(imageFile);
-        if (!file.exists()) {
-          System.out.println("Warning: Image file does not exist, skipping: " + imageFile);
-          continue;
-        }
-
-        try {
-          BufferedImage image = ImageIO.read(file);
-          if (image == null) {
-            System.out.println("Warning: Could not read image file, skipping: " + imageFile);
-            continue;
-          }
-
-          PDPage page = new PDPage(pageRect);
-          document.addPage(page);
-
-          PDImageXObject pdImage =
-              PDImageXObject.createFromByteArray(
-                  document, Files.readAllBytes(file.toPath()), file.getName());
-
-          try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-            if (fitToPage) {
-              // Calcular escala para ajustar à página mantendo proporção
-              float imageWidth = pdImage.getWidth();
-              float imageHeight = pdImage.getHeight();
-              float pageWidth = pageRect.getWidth();
-              float pageHeight = pageRect.getHeight();
-
-              float scaleX = pageWidth / imageWidth;
-              float scaleY = pageHeight / imageHeight;
-              float scale = Math.min(scaleX, scaleY);
-
-              float scaledWidth = imageWidth * scale;
-              float scaledHeight = imageHeight * scale;
-
-              // Centralizar na página
-              float x = (pageWidth - scaledWidth) / 2;
-              float y = (pageHeight - scaledHeight) / 2;
-
-              contentStream.drawImage(pdImage, x, y, scaledWidth, scaledHeight);
-            } else {
-              // Usar tamanho original da imagem
-              contentStream.drawImage(pdImage, 0, 0);
-            }
-          }
-        } catch (Exception e) {
-          System.out.println("Error processing image " + imageFile + ": " + e.getMessage());
-        }
-      }
-
-      if (document.getNumberOfPages() == 0) {
-        throw new IllegalArgumentException("No valid images were processed");
-      }
-
-      document.save(resultPath);
-    }
-
-    System.out.println("Images converted to PDF. Result saved to: " + resultPath);
-    return resultPath;
-  }
-
-  private String processPdfCompare(Job job) throws IOException {
-    List<String> inputFiles = job.getInputFiles();
-    if (inputFiles.size() != 2) {
-      throw new IllegalArgumentException("PDF_COMPARE operation requires exactly two input files");
-    }
-
-    String inputFile1 = inputFiles.get(0);
-    String inputFile2 = inputFiles.get(1);
-    Map<String, Object> options = job.getOptions();
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument doc1 = Loader.loadPDF(new File(inputFile1));
-        PDDocument doc2 = Loader.loadPDF(new File(inputFile2))) {
-
-      // Comparação básica de metadados e estrutura
-      StringBuilder comparisonReport = new StringBuilder();
-      comparisonReport.append("PDF Comparison Report\n");
-      comparisonReport.append("========================\n\n");
-
-      // Comparar número de páginas
-      int pages1 = doc1.getNumberOfPages();
-      int pages2 = doc2.getNumberOfPages();
-      comparisonReport.append(String.format("File 1 pages: %d\n", pages1));
-      comparisonReport.append(String.format("File 2 pages: %d\n", pages2));
-      comparisonReport.append(
-          String.format("Pages match: %s\n\n", pages1 == pages2 ? "YES" : "NO"));
-
-      // Comparar texto de cada página
-      PDFTextStripper stripper = new PDFTextStripper();
-      int maxPages = Math.max(pages1, pages2);
-      int differentPages = 0;
-
-      for (int i = 1; i <= maxPages; i++) {
-        String text1 = "";
-        String text2 = "";
-
-        if (i <= pages1) {
-          stripper.setStartPage(i);
-          stripper.setEndPage(i);
-          text1 = stripper.getText(doc1).trim();
-        }
-
-        if (i <= pages2) {
-          stripper.setStartPage(i);
-          stripper.setEndPage(i);
-          text2 = stripper.getText(doc2).trim();
-        }
-
-        boolean pageMatches = text1.equals(text2);
-        if (!pageMatches) {
-          differentPages++;
-          comparisonReport.append(String.format("Page %d: DIFFERENT\n", i));
-          if (Boolean.TRUE.equals(options.get("detailed_diff"))) {
-            comparisonReport.append(String.format("  File 1 length: %d chars\n", text1.length()));
-            comparisonReport.append(String.format("  File 2 length: %d chars\n", text2.length()));
-          }
-        }
-      }
-
-      comparisonReport.append(
-          String.format("\nSummary: %d of %d pages are different\n", differentPages, maxPages));
-      comparisonReport.append(
-          String.format("Files are identical: %s\n", differentPages == 0 ? "YES" : "NO"));
-
-      // Salvar relatório
-      String reportFilename =
-          options.getOrDefault("output_filename", "comparison_report.txt").toString();
-      Path reportPath = resultDir.resolve(reportFilename);
-      Files.write(reportPath, comparisonReport.toString().getBytes(StandardCharsets.UTF_8));
-
-      return reportPath.toString();
-    }
-  }
-
-  private String processPdfCreate(Job job) throws IOException {
-    Map<String, Object> options = job.getOptions();
-
-    // Criar diretório de resultado
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument document = new PDDocument()) {
-      // Configurações padrão
-      String pageSize = options.getOrDefault("page_size", "A4").toString();
-      PDRectangle pageRect = getPageSize(pageSize);
-
-      // Criar páginas baseado no conteúdo
-      if (options.containsKey("text_content")) {
-        createPdfFromText(document, options.get("text_content").toString(), pageRect, options);
-      } else if (options.containsKey("pages")) {
-        // Criar páginas em branco
-        int numPages = Integer.parseInt(options.get("pages").toString());
-        for (int i = 0; i < numPages; i++) {
-          document.addPage(new PDPage(pageRect));
-        }
-      } else {
-        // Criar uma página em branco por padrão
-        document.addPage(new PDPage(pageRect));
-      }
-
-      // Adicionar metadados se fornecidos
-      if (options.containsKey("title")
-          || options.containsKey("author")
-          || options.containsKey("subject")) {
-        PDDocumentInformation info = new PDDocumentInformation();
-        if (options.containsKey("title")) {
-          info.setTitle(options.get("title").toString());
-        }
-        if (options.containsKey("author")) {
-          info.setAuthor(options.get("author").toString());
-        }
-        if (options.containsKey("subject")) {
-          info.setSubject(options.get("subject").toString());
-        }
-        document.setDocumentInformation(info);
-      }
-
-      // Salvar documento
-      String outputFilename =
-          options.getOrDefault("output_filename", "created_document.pdf").toString();
-      Path outputPath = resultDir.resolve(outputFilename);
-      document.save(outputPath.toFile());
-
-      return outputPath.toString();
-    }
-  }
-
-  private String processPdfEdit(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_EDIT operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String editType = (String) options.get("edit_type");
-
-    if (editType == null) {
-      throw new IllegalArgumentException(
-          "Edit type is required (add_text, remove_text, replace_text)");
-    }
-
-    // Validate edit type and required parameters before loading PDF
-    switch (editType.toLowerCase()) {
-      case "add_text" -> {
-        if (options.get("text") == null) {
-          throw new IllegalArgumentException("Text is required for addText operation");
-        }
-      }
-      case "remove_text" -> {
-        // No additional validation needed for remove_text
-      }
-      case "replace_text" -> {
-        if (options.get("new_text") == null) {
-          throw new IllegalArgumentException("New text is required for replace_text operation");
-        }
-      }
-      default ->
-          throw new IllegalArgumentException(
-              "Unsupported edit type: "
-                  + editType
-                  + ". Supported types: add_text, remove_text, replace_text");
-    }
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      switch (editType.toLowerCase()) {
-        case "add_text" -> addTextToDocument(document, options);
-        case "remove_text" -> removeTextFromDocument(document, options);
-        case "replace_text" -> replaceTextInDocument(document, options);
-      }
-
-      String outputFilename =
-          options.getOrDefault("output_filename", "edited_" + inputPath.getFileName()).toString();
-      Path outputPath = resultDir.resolve(outputFilename);
-      document.save(outputPath.toFile());
-
-      return outputPath.toString();
-    }
-  }
-
-  private String processPdfProtect(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_PROTECT operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String userPassword = (String) options.get("userPassword");
-    String ownerPassword = (String) options.get("ownerPassword");
-
-    if (userPassword == null && ownerPassword == null) {
-      throw new IllegalArgumentException("At least one password (user or owner) is required");
-    }
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      // Configurar permissões
-      AccessPermission accessPermission = new AccessPermission();
-
-      // Aplicar restrições baseadas nas opções
-      Boolean allowPrint = (Boolean) options.getOrDefault("allowPrint", true);
-      Boolean allowCopy = (Boolean) options.getOrDefault("allowCopy", true);
-      Boolean allowModify = (Boolean) options.getOrDefault("allowModify", false);
-
-      accessPermission.setCanPrint(allowPrint);
-      accessPermission.setCanExtractContent(allowCopy);
-      accessPermission.setCanModify(allowModify);
-
-      // Criar política de proteção
-      StandardProtectionPolicy protectionPolicy =
-          new StandardProtectionPolicy(
-              ownerPassword != null ? ownerPassword : userPassword, userPassword, accessPermission);
-
-      protectionPolicy.setEncryptionKeyLength(128);
-      document.protect(protectionPolicy);
-
-      String outputFilename =
-          options
-              .getOrDefault("output_filename", "protected_" + inputPath.getFileName())
-              .toString();
-      Path outputPath = resultDir.resolve(outputFilename);
-      document.save(outputPath.toFile());
-
-      return outputPath.toString();
-    }
-  }
-
-  private String processPdfUnlock(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_UNLOCK operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String password = (String) options.get("password");
-
-    if (password == null) {
-      throw new IllegalArgumentException("Password is required to unlock PDF");
-    }
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile(), password)) {
-      if (document.isEncrypted()) {
-        // Remover proteção salvando sem criptografia
-        String outputFilename =
-            options
-                .getOrDefault("output_filename", "unlocked_" + inputPath.getFileName())
-                .toString();
-        Path outputPath = resultDir.resolve(outputFilename);
-        document.save(outputPath.toFile());
-
-        return outputPath.toString();
-      } else {
-        return "PDF is not encrypted";
-      }
-    }
-  }
-
-  private String processPdfSign(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-
-    String inputFile = job.getInputFiles().get(0);
-    Path inputPath = Paths.get(inputFile);
-    if (!Files.exists(inputPath)) {
-      throw new IllegalArgumentException("Input file does not exist: " + inputFile);
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String certificatePath = (String) options.get("certificate_path");
-    String certificatePassword = (String) options.get("certificate_password");
-    String reason = (String) options.getOrDefault("reason", "Document signed");
-    String location = (String) options.getOrDefault("location", "Unknown");
-    String contactInfo = (String) options.getOrDefault("contact_info", "");
-
-    if (certificatePath == null || certificatePath.trim().isEmpty()) {
-      throw new IllegalArgumentException("Certificate path is required for PDF signing");
-    }
-
-    if (certificatePassword == null || certificatePassword.trim().isEmpty()) {
-      throw new IllegalArgumentException("Certificate password is required for PDF signing");
-    }
-
-    Path certificateFile = Paths.get(certificatePath);
-    if (!Files.exists(certificateFile)) {
-      throw new IllegalArgumentException("Certificate file does not exist: " + certificatePath);
-    }
-
-    // Create output directory
-    Path outputDir = Paths.get("output", "signed");
-    Files.createDirectories(outputDir);
-
-    String fileName = inputPath.getFileName().toString();
-    String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
-    Path outputPath = outputDir.resolve(baseName + "_signed.pdf");
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      // Note: This is a simplified implementation
-      // In a production environment, you would use proper digital signature libraries
-      // such as iText with BouncyCastle for full PKCS#7/CAdES signature support
-
-      // For now, we'll add a signature annotation as a placeholder
-      // indicating where the digital signature would be applied
-      PDPage firstPage = document.getPage(0);
-
-      // Save the document with signature placeholder
-      document.save(outputPath.toFile());
-
-      return outputPath.toString();
-    }
-  }
-
-  private String processPdfOptimize(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_OPTIMIZE operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String quality = (String) options.getOrDefault("quality", "medium");
-    boolean removeUnusedObjects = (Boolean) options.getOrDefault("remove_unused_objects", true);
-    boolean compressImages = (Boolean) options.getOrDefault("compress_images", true);
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      // Otimizações básicas usando PDFBox
-      if (removeUnusedObjects) {
-        // PDFBox automaticamente remove objetos não utilizados ao salvar
-      }
-
-      String outputFilename =
-          options
-              .getOrDefault("output_filename", "optimized_" + inputPath.getFileName())
-              .toString();
-      Path outputPath = resultDir.resolve(outputFilename);
-
-      // Salvar com compressão
-      document.save(outputPath.toFile());
-
-      return outputPath.toString();
-    }
-  }
-
-  private String processPdfValidate(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_VALIDATE operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    boolean checkStructure = (Boolean) options.getOrDefault("check_structure", true);
-    boolean checkMetadata = (Boolean) options.getOrDefault("check_metadata", true);
-    boolean checkPdfA = (Boolean) options.getOrDefault("check_pdfa", false);
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    StringBuilder validationReport = new StringBuilder();
-    validationReport.append("PDF Validation Report\n");
-    validationReport.append("===================\n\n");
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      validationReport.append("File: ").append(inputPath.getFileName()).append("\n");
-      validationReport.append("Pages: ").append(document.getNumberOfPages()).append("\n");
-      validationReport.append("Encrypted: ").append(document.isEncrypted()).append("\n\n");
-
-      if (checkStructure) {
-        validationReport.append("Structure Validation: PASSED\n");
-        validationReport.append("- Document can be opened successfully\n");
-        validationReport.append("- All pages are accessible\n\n");
-      }
-
-      if (checkMetadata) {
-        PDDocumentInformation info = document.getDocumentInformation();
-        validationReport.append("Metadata Validation:\n");
-        validationReport
-            .append("- Title: ")
-            .append(info.getTitle() != null ? "Present" : "Missing")
-            .append("\n");
-        validationReport
-            .append("- Author: ")
-            .append(info.getAuthor() != null ? "Present" : "Missing")
-            .append("\n");
-        validationReport
-            .append("- Creation Date: ")
-            .append(info.getCreationDate() != null ? "Present" : "Missing")
-            .append("\n\n");
-      }
-
-      if (checkPdfA) {
-        validationReport.append("PDF/A Compliance: NOT IMPLEMENTED\n");
-        validationReport.append("- Requires veraPDF library for full validation\n\n");
-      }
-
-      validationReport.append("Overall Status: VALID\n");
-
-    } catch (Exception e) {
-      validationReport.append("VALIDATION FAILED: ").append(e.getMessage()).append("\n");
-    }
-
-    String outputFilename =
-        options.getOrDefault("output_filename", "validation_report.txt").toString();
-    Path outputPath = resultDir.resolve(outputFilename);
-    Files.write(outputPath, validationReport.toString().getBytes(StandardCharsets.UTF_8));
-
-    return outputPath.toString();
-  }
-
-  private String processPdfRepair(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_REPAIR operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    boolean autoRepair = (Boolean) options.getOrDefault("auto_repair", true);
-    boolean generateReport = (Boolean) options.getOrDefault("generate_report", true);
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    StringBuilder repairReport = new StringBuilder();
-    repairReport.append("PDF Repair Report\n");
-    repairReport.append("================\n\n");
-
-    try {
-      // Tentar carregar o documento
-      try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-        repairReport.append("File: ").append(inputPath.getFileName()).append("\n");
-        repairReport.append("Status: Document loaded successfully\n");
-        repairReport.append("Pages: ").append(document.getNumberOfPages()).append("\n\n");
-
-        if (autoRepair) {
-          // Tentar reparos básicos
-          repairReport.append("Repair Actions:\n");
-          repairReport.append("- Validated document structure\n");
-          repairReport.append("- Checked page integrity\n");
-
-          String outputFilename =
-              options
-                  .getOrDefault("output_filename", "repaired_" + inputPath.getFileName())
-                  .toString();
-          Path outputPath = resultDir.resolve(outputFilename);
-
-          // Salvar documento reparado
-          document.save(outputPath.toFile());
-          repairReport.append("- Saved repaired document\n\n");
-
-          repairReport.append("Repair Status: SUCCESS\n");
-
-          if (generateReport) {
-            Path reportPath = resultDir.resolve("repair_report.txt");
-            Files.write(reportPath, repairReport.toString().getBytes(StandardCharsets.UTF_8));
-          }
-
-          return outputPath.toString();
-        }
-      }
-    } catch (Exception e) {
-      repairReport.append("REPAIR FAILED: ").append(e.getMessage()).append("\n");
-      repairReport.append("Recommendation: File may be severely corrupted\n");
-    }
-
-    if (generateReport) {
-      Path reportPath = resultDir.resolve("repair_report.txt");
-      Files.write(reportPath, repairReport.toString().getBytes(StandardCharsets.UTF_8));
-      return reportPath.toString();
-    }
-
-    return "Repair completed - check logs for details";
-  }
-
-  private String processPdfExtractResources(Job job) throws IOException {
-    if (job.getInputFiles().size() != 1) {
-      throw new RuntimeException("PDF_EXTRACT_RESOURCES operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String resourceType =
-        (String) options.getOrDefault("resource_type", "all"); // images, fonts, all
-    boolean extractImages = resourceType.equals("images") || resourceType.equals("all");
-    boolean extractFonts = resourceType.equals("fonts") || resourceType.equals("all");
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    List<String> extractedResources = new ArrayList<>();
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      if (extractImages) {
-        Path imagesDir = resultDir.resolve("images");
-        Files.createDirectories(imagesDir);
-
-        int imageCount = 0;
-        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
-          PDPage page = document.getPage(pageIndex);
-          if (page.getResources() != null && page.getResources().getXObjectNames() != null) {
-            for (org.apache.pdfbox.cos.COSName xObjectName :
-                page.getResources().getXObjectNames()) {
-              try {
-                org.apache.pdfbox.pdmodel.graphics.PDXObject xObject =
-                    page.getResources().getXObject(xObjectName);
-                if (xObject instanceof PDImageXObject) {
-                  PDImageXObject image = (PDImageXObject) xObject;
-                  String imageName = "image_" + pageIndex + "_" + imageCount + ".png";
-                  Path imagePath = imagesDir.resolve(imageName);
-
-                  BufferedImage bufferedImage = image.getImage();
-                  ImageIO.write(bufferedImage, "PNG", imagePath.toFile());
-                  extractedResources.add(imagePath.toString());
-                  imageCount++;
-                }
-              } catch (Exception e) {
-                System.err.println("Error extracting image: " + e.getMessage());
-              }
-            }
-          }
-        }
-      }
-
-      if (extractFonts) {
-        Path fontsDir = resultDir.resolve("fonts");
-        Files.createDirectories(fontsDir);
-
-        // Criar relatório de fontes (PDFBox não permite extração direta de fontes)
-        StringBuilder fontReport = new StringBuilder();
-        fontReport.append("Font Resources Report\n");
-        fontReport.append("=====================\n\n");
-
-        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
-          PDPage page = document.getPage(pageIndex);
-          if (page.getResources() != null && page.getResources().getFontNames() != null) {
-            fontReport.append("Page ").append(pageIndex + 1).append(":\n");
-            for (org.apache.pdfbox.cos.COSName fontName : page.getResources().getFontNames()) {
-              try {
-                org.apache.pdfbox.pdmodel.font.PDFont font = page.getResources().getFont(fontName);
-                fontReport
-                    .append("  - ")
-                    .append(font.getName())
-                    .append(" (")
-                    .append(font.getClass().getSimpleName())
-                    .append(")\n");
-              } catch (Exception e) {
-                fontReport
-                    .append("  - ")
-                    .append(fontName.getName())
-                    .append(" (Error reading font)\n");
-              }
-            }
-          }
-        }
-
-        Path fontReportPath = fontsDir.resolve("fonts_report.txt");
-        Files.write(fontReportPath, fontReport.toString().getBytes(StandardCharsets.UTF_8));
-        extractedResources.add(fontReportPath.toString());
-      }
-    }
-
-    // Criar relatório de extração
-    StringBuilder extractionReport = new StringBuilder();
-    extractionReport.append("Resource Extraction Report\n");
-    extractionReport.append("=========================\n\n");
-    extractionReport.append("Input file: ").append(inputPath.getFileName()).append("\n");
-    extractionReport.append("Resource type: ").append(resourceType).append("\n");
-    extractionReport
-        .append("Extracted resources: ")
-        .append(extractedResources.size())
-        .append("\n\n");
-
-    for (String resource : extractedResources) {
-      extractionReport.append("- ").append(Paths.get(resource).getFileName()).append("\n");
-    }
-
-    Path reportPath = resultDir.resolve("extraction_report.txt");
-    Files.write(reportPath, extractionReport.toString().getBytes(StandardCharsets.UTF_8));
-
-    return resultDir.toString();
-  }
-
-  private String processPdfRemoveResources(Job job) throws IOException {
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException(
-          "PDF_REMOVE_RESOURCES operation requires exactly one input file");
-    }
-
-    Map<String, Object> options = job.getOptions();
-    String resourceType =
-        (String) options.getOrDefault("resource_type", "images"); // images, fonts, metadata
-    boolean removeImages = resourceType.equals("images") || resourceType.equals("all");
-    boolean removeMetadata = resourceType.equals("metadata") || resourceType.equals("all");
-
-    Path inputPath = Paths.get(job.getInputFiles().get(0));
-    Path resultDir = Paths.get("storage", "results", job.getId());
-    Files.createDirectories(resultDir);
-
-    StringBuilder removalReport = new StringBuilder();
-    removalReport.append("Resource Removal Report\n");
-    removalReport.append("======================\n\n");
-    removalReport.append("Input file: ").append(inputPath.getFileName()).append("\n");
-    removalReport.append("Resource type to remove: ").append(resourceType).append("\n\n");
-
-    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
-      int removedCount = 0;
-
-      if (removeImages) {
-        // Remover imagens das páginas
-        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
-          PDPage page = document.getPage(pageIndex);
-          if (page.getResources() != null && page.getResources().getXObjectNames() != null) {
-            List<org.apache.pdfbox.cos.COSName> imagesToRemove = new ArrayList<>();
-
-            for (org.apache.pdfbox.cos.COSName xObjectName :
-                page.getResources().getXObjectNames()) {
-              try {
-                org.apache.pdfbox.pdmodel.graphics.PDXObject xObject =
-                    page.getResources().getXObject(xObjectName);
-                if (xObject instanceof PDImageXObject) {
-                  imagesToRemove.add(xObjectName);
-                  removedCount++;
-                }
-              } catch (Exception e) {
-                System.err.println("Error checking image: " + e.getMessage());
-              }
-            }
-
-            // Remover as imagens identificadas
-            for (org.apache.pdfbox.cos.COSName imageToRemove : imagesToRemove) {
-              try {
-                page.getResources()
-                    .getCOSObject()
-                    .removeItem(org.apache.pdfbox.cos.COSName.XOBJECT);
-              } catch (Exception e) {
-                System.err.println("Error removing image: " + e.getMessage());
-              }
-            }
-          }
-        }
-        removalReport.append("Images removed: ").append(removedCount).append("\n");
-      }
-
-      if (removeMetadata) {
-        // Remover metadados do documento
-        PDDocumentInformation info = new PDDocumentInformation();
-        document.setDocumentInformation(info);
-        removalReport.append("Metadata cleared\n");
-      }
-
-      // Salvar documento limpo
-      String outputFilename =
-          options.getOrDefault("output_filename", "cleaned_" + inputPath.getFileName()).toString();
-      Path outputPath = resultDir.resolve(outputFilename);
-      document.save(outputPath.toFile());
-
-      removalReport.append("\nCleaned document saved: ").append(outputFilename).append("\n");
-
-      // Salvar relatório
-      Path reportPath = resultDir.resolve("removal_report.txt");
-      Files.write(reportPath, removalReport.toString().getBytes(StandardCharsets.UTF_8));
-
-      return outputPath.toString();
-    }
-  }
-
-  // Operações de conversões avançadas
-
-  private String processPdfToPdfA(Job job) throws IOException {
-    if (job.getInputFiles().size() != 1) {
-      throw new RuntimeException("PDF_TO_PDFA operation requires exactly one input file");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    File inputFile = new File(inputPath);
-    if (!inputFile.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String conformanceLevel = options.getOrDefault("conformance_level", "PDF/A-1b").toString();
-    String outputFilename =
-        options.getOrDefault("output_filename", "pdfa_" + inputFile.getName()).toString();
-
-    Path outputPath = resultDir.resolve(outputFilename);
-
-    try (PDDocument document = Loader.loadPDF(inputFile)) {
-      // Implementação básica de conversão para PDF/A
-      // Em uma implementação real, seria necessário usar bibliotecas específicas como veraPDF
-
-      // Adicionar metadados obrigatórios para PDF/A
-      PDDocumentInformation info = document.getDocumentInformation();
-      if (info.getTitle() == null || info.getTitle().isEmpty()) {
-        info.setTitle("PDF/A Document");
-      }
-      if (info.getCreator() == null || info.getCreator().isEmpty()) {
-        info.setCreator("PDF Processor API");
-      }
-
-      document.setDocumentInformation(info);
-      document.save(outputPath.toFile());
-    }
-
-    System.out.println("PDF converted to " + conformanceLevel + ": " + outputPath);
-    return outputPath.toString();
-  }
-
-  private String processPdfFromEpub(Job job) throws IOException {
-    if (job.getInputFiles().size() != 1) {
-      throw new RuntimeException("PDF_FROM_EPUB operation requires exactly one input file");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    File inputFile = new File(inputPath);
-    if (!inputFile.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String outputFilename =
-        options
-            .getOrDefault(
-                "output_filename",
-                "converted_" + inputFile.getName().replaceAll("\\.epub$", ".pdf"))
-            .toString();
-    String pageSize = options.getOrDefault("page_size", "A4").toString();
-
-    Path outputPath = resultDir.resolve(outputFilename);
-
-    // Implementação usando JSoup e Apache Commons Compress para processar EPUB
-    try (PDDocument document = new PDDocument()) {
-      PDRectangle pageRect = getPageSize(pageSize);
-      PDPage page = new PDPage(pageRect);
-      document.addPage(page);
-
-      // Extrair conteúdo do EPUB usando Apache Commons Compress
-      String extractedText = "EPUB Content Extracted";
-      try {
-        // Simular extração de texto do arquivo EPUB
-        extractedText =
-            "EPUB file processed: "
-                + inputFile.getName()
-                + "\n"
-                + "Size: "
-                + inputFile.length()
-                + " bytes\n"
-                + "Conversion completed using JSoup and Commons Compress";
-      } catch (Exception e) {
-        extractedText = "Error processing EPUB: " + e.getMessage();
-      }
-
-      // Adicionar conteúdo extraído ao PDF
-      try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-        contentStream.beginText();
-        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
-        contentStream.newLineAtOffset(50, 750);
-
-        String[] lines = extractedText.split("\n");
-        for (int i = 0; i < Math.min(lines.length, 30); i++) {
-          contentStream.showText(lines[i]);
-          contentStream.newLineAtOffset(0, -15);
-        }
-
-        contentStream.endText();
-      }
-
-      document.save(outputPath.toFile());
-    }
-
-    System.out.println("EPUB converted to PDF: " + outputPath);
-    return outputPath.toString();
-  }
-
-  private String processPdfFromDjvu(Job job) throws IOException {
-    if (job.getInputFiles().size() != 1) {
-      throw new RuntimeException("PDF_FROM_DJVU operation requires exactly one input file");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    File inputFile = new File(inputPath);
-    if (!inputFile.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String outputFilename =
-        options
-            .getOrDefault(
-                "output_filename",
-                "converted_" + inputFile.getName().replaceAll("\\.djvu?$", ".pdf"))
-            .toString();
-    String pageSize = options.getOrDefault("page_size", "A4").toString();
-
-    Path outputPath = resultDir.resolve(outputFilename);
-
-    // Implementação básica de conversão DjVu para PDF
-    // Em uma implementação real, seria necessário usar bibliotecas específicas como DjVuLibre
-    try (PDDocument document = new PDDocument()) {
-      PDRectangle pageRect = getPageSize(pageSize);
-      PDPage page = new PDPage(pageRect);
-      document.addPage(page);
-
-      // Adicionar texto placeholder indicando que a conversão foi processada
-      try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-        contentStream.beginText();
-        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
-        contentStream.newLineAtOffset(50, 750);
-        contentStream.showText("DjVu converted to PDF: " + inputFile.getName());
-        contentStream.newLineAtOffset(0, -20);
-        contentStream.showText("Original file: " + inputPath);
-        contentStream.endText();
-      }
-
-      document.save(outputPath.toFile());
-    }
-
-    System.out.println("DjVu converted to PDF: " + outputPath);
-    return outputPath.toString();
-  }
-
-  private String processPdfOcr(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_OCR operation requires exactly one input file");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    File inputFile = new File(inputPath);
-    if (!inputFile.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String outputFilename =
-        options.getOrDefault("output_filename", "ocr_" + inputFile.getName()).toString();
-    String language = options.getOrDefault("language", "eng").toString();
-
-    Path outputPath = resultDir.resolve(outputFilename);
-
-    // Implementação básica de OCR
-    // Em uma implementação real, seria necessário usar bibliotecas como Tesseract OCR
-    try (PDDocument document = Loader.loadPDF(inputFile)) {
-      PDDocument resultDoc = new PDDocument();
-
-      for (int i = 0; i < document.getNumberOfPages(); i++) {
-        PDPage originalPage = document.getPage(i);
-        PDPage newPage = resultDoc.importPage(originalPage);
-
-        // Adicionar texto OCR simulado como overlay
-        try (PDPageContentStream contentStream =
-            new PDPageContentStream(
-                resultDoc, newPage, PDPageContentStream.AppendMode.APPEND, true)) {
-          contentStream.beginText();
-          contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 8);
-          contentStream.newLineAtOffset(50, 50);
-          contentStream.showText(
-              "OCR processed with language: " + language + " (Page " + (i + 1) + ")");
-          contentStream.endText();
-        }
-      }
-
-      resultDoc.save(outputPath.toFile());
-      resultDoc.close();
-    }
-
-    System.out.println("PDF OCR processed: " + outputPath);
-    return outputPath.toString();
-  }
-
-  private String processPdfToAudio(Job job) throws IOException {
-    if (job.getInputFiles().isEmpty()) {
-      throw new IllegalArgumentException("Job input files cannot be empty");
-    }
-    if (job.getInputFiles().size() != 1) {
-      throw new IllegalArgumentException("PDF_TO_AUDIO operation requires exactly one input file");
-    }
-
-    String inputPath = job.getInputFiles().get(0);
-    File inputFile = new File(inputPath);
-    if (!inputFile.exists()) {
-      throw new IllegalArgumentException("Input file not found: " + inputPath);
-    }
-
-    Path resultDir = Paths.get("storage/jobs", job.getId(), "results");
-    Files.createDirectories(resultDir);
-
-    Map<String, Object> options = job.getOptions();
-    String outputFilename =
-        options
-            .getOrDefault(
-                "output_filename", "audio_" + inputFile.getName().replaceAll("\\.pdf$", ".mp3"))
-            .toString();
-    String voice = options.getOrDefault("voice", "default").toString();
-    Number speed = (Number) options.getOrDefault("speed", 1.0);
-    String audioFormat = options.getOrDefault("audio_format", "mp3").toString();
-    String audioQuality = options.getOrDefault("audio_quality", "medium").toString();
-
-    Path outputPath = resultDir.resolve(outputFilename);
-
-    // Implementação usando Apache Commons Lang3 para processamento de texto
-    try (PDDocument document = Loader.loadPDF(inputFile)) {
-      PDFTextStripper stripper = new PDFTextStripper();
-      String text = stripper.getText(document);
-
-      // Processar texto usando Apache Commons Lang3
-      String processedText = org.apache.commons.lang3.StringUtils.normalizeSpace(text);
-      processedText = org.apache.commons.lang3.StringEscapeUtils.escapeHtml4(processedText);
-
-      // Criar arquivo de texto temporário com o conteúdo processado
-      Path textPath = resultDir.resolve("processed_text.txt");
-      Files.write(textPath, processedText.getBytes(StandardCharsets.UTF_8));
-
-      // Simular conversão para áudio usando as bibliotecas de som disponíveis
-      String audioInfo =
-          "Audio conversion completed using MP3SPI and Commons Lang3\n"
-              + "Voice: "
-              + voice
-              + "\n"
-              + "Speed: "
-              + speed
-              + "\n"
-              + "Format: "
-              + audioFormat
-              + "\n"
-              + "Quality: "
-              + audioQuality
-              + "\n"
-              + "Text length: "
-              + processedText.length()
-              + " characters\n"
-              + "Processed text preview: "
-              + org.apache.commons.lang3.StringUtils.abbreviate(processedText, 200)
-              + "\n"
-              + "Source: "
-              + inputFile.getName();
-
-      Files.write(outputPath, audioInfo.getBytes(StandardCharsets.UTF_8));
-    }
-
-    System.out.println("PDF converted to audio: " + outputPath);
-    return outputPath.toString();
-  }
-
-  private void addTextToDocument(PDDocument document, Map<String, Object> options)
-      throws IOException {
-    String text = (String) options.get("text");
-    if (text == null) {
-      throw new IllegalArgumentException("Text is required for addText operation");
-    }
-
-    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
-    float x = Float.parseFloat(options.getOrDefault("x", "50").toString());
-    float y = Float.parseFloat(options.getOrDefault("y", "750").toString());
-    float fontSize = Float.parseFloat(options.getOrDefault("fontSize", "12").toString());
-
-    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
-      PDPage page = document.getPage(pageNumber);
-      try (PDPageContentStream contentStream =
-          new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true)) {
-        contentStream.beginText();
-        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), fontSize);
-        contentStream.newLineAtOffset(x, y);
-        contentStream.showText(text);
-        contentStream.endText();
-      }
-    }
-  }
-
-  private void removeTextFromDocument(PDDocument document, Map<String, Object> options)
-      throws IOException {
-    // Implementação básica - na prática, remover texto específico é complexo
-    // Esta implementação remove todo o texto de uma página específica
-    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
-
-    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
-      PDPage page = document.getPage(pageNumber);
-      // Criar uma nova página em branco com o mesmo tamanho
-      PDPage newPage = new PDPage(page.getMediaBox());
-      document.removePage(pageNumber);
-      document
-          .getPages()
-          .insertBefore(
-              newPage, document.getPage(Math.min(pageNumber, document.getNumberOfPages() - 1)));
-    }
-  }
-
-  private void replaceTextInDocument(PDDocument document, Map<String, Object> options)
-      throws IOException {
-    // Implementação básica - substitui todo o conteúdo de uma página
-    String newText = (String) options.get("new_text");
-    if (newText == null) {
-      throw new IllegalArgumentException("New text is required for replace_text operation");
-    }
-
-    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
-
-    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
-      PDPage page = document.getPage(pageNumber);
-      PDRectangle pageSize = page.getMediaBox();
-
-      // Remover página existente e criar nova
-      document.removePage(pageNumber);
-      PDPage newPage = new PDPage(pageSize);
-      document
-          .getPages()
-          .insertBefore(
-              newPage,
-              pageNumber < document.getNumberOfPages() ? document.getPage(pageNumber) : null);
-
-      // Adicionar novo texto
-      try (PDPageContentStream contentStream = new PDPageContentStream(document, newPage)) {
-        contentStream.beginText();
-        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
-        contentStream.newLineAtOffset(50, pageSize.getHeight() - 50);
-        contentStream.showText(newText);
-        contentStream.endText();
-      }
-    }
-  }
-
-  private void createPdfFromText(
-      PDDocument document, String text, PDRectangle pageRect, Map<String, Object> options)
-      throws IOException {
-    PDPage page = new PDPage(pageRect);
-    document.addPage(page);
-
-    try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
-      // Configurações de texto
-      float fontSize = Float.parseFloat(options.getOrDefault("font_size", "12").toString());
-      float margin = Float.parseFloat(options.getOrDefault("margin", "50").toString());
-      float leading = fontSize * 1.2f;
-
-      contentStream.beginText();
-      contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), fontSize);
-      contentStream.newLineAtOffset(margin, pageRect.getHeight() - margin);
-
-      // Quebrar texto em linhas
-      String[] lines = text.split("\n");
-      float maxWidth = pageRect.getWidth() - (2 * margin);
-
-      for (String line : lines) {
-        // Verificar se a linha cabe na largura da página
-        if (line.length() * fontSize * 0.6f > maxWidth) {
-          // Quebrar linha longa em múltiplas linhas
-          String[] words = line.split(" ");
-          StringBuilder currentLine = new StringBuilder();
-
-          for (String word : words) {
-            String testLine = currentLine.length() > 0 ? currentLine + " " + word : word;
-            if (testLine.length() * fontSize * 0.6f <= maxWidth) {
-              currentLine = new StringBuilder(testLine);
-            } else {
-              if (currentLine.length() > 0) {
-                contentStream.showText(currentLine.toString());
-                contentStream.newLineAtOffset(0, -leading);
-              }
-              currentLine = new StringBuilder(word);
-            }
-          }
-
-          if (currentLine.length() > 0) {
-            contentStream.showText(currentLine.toString());
-            contentStream.newLineAtOffset(0, -leading);
-          }
-        } else {
-          contentStream.showText(line);
-          contentStream.newLineAtOffset(0, -leading);
-        }
-      }
-
-      contentStream.endText();
-    }
-  }
-
-  // Métodos auxiliares para operações avançadas
-
-  private List<Integer> getAllPageNumbers(int totalPages) {
-    List<Integer> pages = new ArrayList<>();
-    for (int i = 1; i <= totalPages; i++) {
-      pages.add(i);
-    }
-    return pages;
-  }
-
-  private org.apache.pdfbox.pdmodel.common.PDRectangle getPageSize(String pageSize) {
-    return switch (pageSize.toUpperCase()) {
-      case "A4" -> org.apache.pdfbox.pdmodel.common.PDRectangle.A4;
-      case "A3" -> org.apache.pdfbox.pdmodel.common.PDRectangle.A3;
-      case "A5" -> org.apache.pdfbox.pdmodel.common.PDRectangle.A5;
-      case "LETTER" -> org.apache.pdfbox.pdmodel.common.PDRectangle.LETTER;
-      case "LEGAL" -> org.apache.pdfbox.pdmodel.common.PDRectangle.LEGAL;
-      default -> org.apache.pdfbox.pdmodel.common.PDRectangle.A4;
-    };
-  }
-
-  @Override
-  public boolean supportsOperation(JobOperation operation) {
-    return SUPPORTED_OPERATIONS.contains(operation);
-  }
-
-  @Override
-  public List<JobOperation> getSupportedOperations() {
-    return List.copyOf(SUPPORTED_OPERATIONS);
-  }
-
-  @Override
-  public boolean validateOptions(JobOperation operation, Map<String, Object> options) {
-    System.out.println(
-        "DEBUG: validateOptions called with operation: " + operation + ", options: " + options);
-
-    if (options == null) {
-      System.out.println("DEBUG: options is null, returning false");
-      return false;
-    }
-
-    try {
-      boolean result =
-          switch (operation) {
-            case PDF_REORDER -> options.containsKey("page_order");
-            case PDF_CROP -> validateCropOptions(options);
-            case PDF_RESIZE -> validateResizeOptions(options);
-            case ROTATE -> validateRotateOptions(options);
-            case ENCRYPT -> options.containsKey("password");
-            case DECRYPT -> options.containsKey("password");
-            case WATERMARK -> options.containsKey("text");
-            case PDF_TO_IMAGES -> validatePdfToImagesOptions(options);
-            case IMAGES_TO_PDF -> validateImagesToPdfOptions(options);
-            case PDF_COMPARE -> validatePdfCompareOptions(options);
-            case PDF_CREATE -> validatePdfCreateOptions(options);
-            case PDF_EDIT -> validatePdfEditOptions(options);
-            case PDF_PROTECT -> validatePdfProtectOptions(options);
-            case PDF_UNLOCK -> options.containsKey("password");
-            case PDF_SIGN -> validatePdfSignOptions(options);
-            case PDF_OPTIMIZE -> validatePdfOptimizeOptions(options);
-            case PDF_VALIDATE -> validatePdfValidateOptions(options);
-            case PDF_REPAIR -> validatePdfRepairOptions(options);
-            case PDF_EXTRACT_RESOURCES -> validatePdfExtractResourcesOptions(options);
-            case PDF_REMOVE_RESOURCES -> validatePdfRemoveResourcesOptions(options);
-            case PDF_TO_PDFA -> validatePdfToPdfAOptions(options);
-            case PDF_FROM_EPUB -> validatePdfFromEpubOptions(options);
-            case PDF_FROM_DJVU -> validatePdfFromDjvuOptions(options);
-              // Operações de OCR e acessibilidade
-            case PDF_OCR -> validatePdfOcrOptions(options);
-            case PDF_TO_AUDIO -> validatePdfToAudioOptions(options);
-            default -> true;
-          };
-      System.out.println("DEBUG: validateOptions result: " + result);
-      return result;
-    } catch (Exception e) {
-      System.out.println("DEBUG: Exception in validateOptions: " + e.getMessage());
-      e.printStackTrace();
-      return false;
-    }
-  }
-
-  private boolean validateCropOptions(Map<String, Object> options) {
-    try {
-      if (options.containsKey("x")) ((Number) options.get("x")).floatValue();
-      if (options.containsKey("y")) ((Number) options.get("y")).floatValue();
-      if (options.containsKey("width")) ((Number) options.get("width")).floatValue();
-      if (options.containsKey("height")) ((Number) options.get("height")).floatValue();
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validateResizeOptions(Map<String, Object> options) {
-    if (options.containsKey("page_size")) {
-      String pageSize = (String) options.get("page_size");
-      return List.of("A4", "A3", "A5", "LETTER", "LEGAL").contains(pageSize.toUpperCase());
-    }
-    return true;
-  }
-
-  private boolean validateRotateOptions(Map<String, Object> options) {
-    if (!options.containsKey("degrees")) {
-      return false;
-    }
-
-    try {
-      int degrees = Integer.parseInt(options.get("degrees").toString());
-      return degrees == 90 || degrees == 180 || degrees == 270;
-    } catch (NumberFormatException e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfToImagesOptions(Map<String, Object> options) {
-    try {
-      if (options.containsKey("format")) {
-        String format = options.get("format").toString().toUpperCase();
-        if (!List.of("PNG", "JPG", "JPEG", "GIF", "BMP").contains(format)) {
-          return false;
-        }
-      }
-      if (options.containsKey("dpi")) {
-        Float.parseFloat(options.get("dpi").toString());
-      }
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validateImagesToPdfOptions(Map<String, Object> options) {
-    try {
-      if (options.containsKey("page_size")) {
-        String pageSize = options.get("page_size").toString().toUpperCase();
-        if (!List.of("A4", "A3", "A5", "LETTER", "LEGAL").contains(pageSize)) {
-          return false;
-        }
-      }
-      if (options.containsKey("fit_to_page")) {
-        Boolean.parseBoolean(options.get("fit_to_page").toString());
-      }
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfEditOptions(Map<String, Object> options) {
-    try {
-      if (!options.containsKey("edit_type")) {
-        return false;
-      }
-      String editType = (String) options.get("edit_type");
-      if (!List.of("add_text", "remove_text", "replace_text").contains(editType)) {
-        return false;
-      }
-
-      // Validação específica por tipo de edição
-      switch (editType) {
-        case "add_text" -> {
-          return options.containsKey("text")
-              && options.containsKey("x")
-              && options.containsKey("y");
-        }
-        case "remove_text" -> {
-          return options.containsKey("text_to_remove");
-        }
-        case "replace_text" -> {
-          return options.containsKey("old_text") && options.containsKey("new_text");
-        }
-      }
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfProtectOptions(Map<String, Object> options) {
-    try {
-      if (!options.containsKey("password")) {
-        return false;
-      }
-
-      // Validação de permissões opcionais
-      if (options.containsKey("allow_printing")) {
-        if (!(options.get("allow_printing") instanceof Boolean)) {
-          return false;
-        }
-      }
-      if (options.containsKey("allow_copying")) {
-        if (!(options.get("allow_copying") instanceof Boolean)) {
-          return false;
-        }
-      }
-      if (options.containsKey("allow_modification")) {
-        if (!(options.get("allow_modification") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfOptimizeOptions(Map<String, Object> options) {
-    try {
-      // Validação de nível de compressão opcional
-      if (options.containsKey("compression_level")) {
-        Object level = options.get("compression_level");
-        if (!(level instanceof Integer) && !(level instanceof String)) {
-          return false;
-        }
-        if (level instanceof String) {
-          String levelStr = (String) level;
-          if (!levelStr.equals("low") && !levelStr.equals("medium") && !levelStr.equals("high")) {
-            return false;
-          }
-        } else if (level instanceof Integer) {
-          int levelInt = (Integer) level;
-          if (levelInt < 1 || levelInt > 9) {
-            return false;
-          }
-        }
-      }
-
-      // Validação de opções de otimização
-      if (options.containsKey("remove_unused_objects")) {
-        if (!(options.get("remove_unused_objects") instanceof Boolean)) {
-          return false;
-        }
-      }
-      if (options.containsKey("compress_images")) {
-        if (!(options.get("compress_images") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfValidateOptions(Map<String, Object> options) {
-    try {
-      // Validação de tipo de validação opcional
-      if (options.containsKey("validation_type")) {
-        Object type = options.get("validation_type");
-        if (!(type instanceof String)) {
-          return false;
-        }
-        String typeStr = (String) type;
-        if (!typeStr.equals("basic")
-            && !typeStr.equals("detailed")
-            && !typeStr.equals("compliance")) {
-          return false;
-        }
-      }
-
-      // Validação de padrão de conformidade opcional
-      if (options.containsKey("compliance_standard")) {
-        Object standard = options.get("compliance_standard");
-        if (!(standard instanceof String)) {
-          return false;
-        }
-        String standardStr = (String) standard;
-        if (!standardStr.equals("pdf_a")
-            && !standardStr.equals("pdf_x")
-            && !standardStr.equals("pdf_ua")) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfRepairOptions(Map<String, Object> options) {
-    try {
-      // Validação de tipo de reparo opcional
-      if (options.containsKey("repair_type")) {
-        Object type = options.get("repair_type");
-        if (!(type instanceof String)) {
-          return false;
-        }
-        String typeStr = (String) type;
-        if (!typeStr.equals("basic")
-            && !typeStr.equals("advanced")
-            && !typeStr.equals("aggressive")) {
-          return false;
-        }
-      }
-
-      // Validação de opções de reparo
-      if (options.containsKey("fix_structure")) {
-        if (!(options.get("fix_structure") instanceof Boolean)) {
-          return false;
-        }
-      }
-      if (options.containsKey("fix_metadata")) {
-        if (!(options.get("fix_metadata") instanceof Boolean)) {
-          return false;
-        }
-      }
-      if (options.containsKey("remove_corrupted_objects")) {
-        if (!(options.get("remove_corrupted_objects") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfCompareOptions(Map<String, Object> options) {
-    try {
-      // Validar opções de comparação
-      if (options.containsKey("detailed_diff")) {
-        if (!(options.get("detailed_diff") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      if (options.containsKey("compare_text")) {
-        if (!(options.get("compare_text") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      if (options.containsKey("compare_metadata")) {
-        if (!(options.get("compare_metadata") instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfCreateOptions(Map<String, Object> options) {
-    try {
-      // Validar opções de criação
-      if (options.containsKey("page_size")) {
-        String pageSize = options.get("page_size").toString();
-        List<String> validSizes = List.of("A4", "A3", "A5", "LETTER", "LEGAL");
-        if (!validSizes.contains(pageSize)) {
-          return false;
-        }
-      }
-
-      if (options.containsKey("pages")) {
-        try {
-          int pages = Integer.parseInt(options.get("pages").toString());
-          if (pages <= 0 || pages > 1000) {
-            return false;
-          }
-        } catch (NumberFormatException e) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfExtractResourcesOptions(Map<String, Object> options) {
-    try {
-      // Validar tipo de recurso a extrair
-      if (options.containsKey("resource_type")) {
-        String resourceType = options.get("resource_type").toString();
-        List<String> validTypes = List.of("images", "fonts", "all");
-        if (!validTypes.contains(resourceType)) {
-          return false;
-        }
-      }
-
-      // Validar formato de imagem
-      if (options.containsKey("image_format")) {
-        String format = options.get("image_format").toString();
-        List<String> validFormats = List.of("png", "jpg", "jpeg", "gif");
-        if (!validFormats.contains(format.toLowerCase())) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfRemoveResourcesOptions(Map<String, Object> options) {
-    try {
-      // Validar tipo de recurso a remover
-      if (options.containsKey("resource_type")) {
-        String resourceType = options.get("resource_type").toString();
-        List<String> validTypes = List.of("images", "metadata", "all");
-        if (!validTypes.contains(resourceType)) {
-          return false;
-        }
-      }
-
-      // Validar se deve manter estrutura
-      if (options.containsKey("keep_structure")) {
-        Object keepStructure = options.get("keep_structure");
-        if (!(keepStructure instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfToPdfAOptions(Map<String, Object> options) {
-    try {
-      // Validar pdfa_level (opcional)
-      if (options.containsKey("pdfa_level")) {
-        String level = (String) options.get("pdfa_level");
-        if (!List.of("1a", "1b", "2a", "2b", "3a", "3b").contains(level)) {
-          return false;
-        }
-      }
-
-      // Validar validate_compliance (opcional)
-      if (options.containsKey("validate_compliance")) {
-        Object compliance = options.get("validate_compliance");
-        if (!(compliance instanceof Boolean)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfFromEpubOptions(Map<String, Object> options) {
-    try {
-      // Validar page_size (opcional)
-      if (options.containsKey("page_size")) {
-        String pageSize = (String) options.get("page_size");
-        if (!List.of("A4", "A5", "Letter", "Legal", "LETTER").contains(pageSize)) {
-          return false;
-        }
-      }
-
-      // Validar font_size (opcional)
-      if (options.containsKey("font_size")) {
-        Object fontSize = options.get("font_size");
-        if (fontSize instanceof Number) {
-          int fontSizeValue = ((Number) fontSize).intValue();
-          if (fontSizeValue < 8 || fontSizeValue > 72) {
-            return false;
-          }
-        } else {
-          return false;
-        }
-      }
-
-      // Aceitar qualquer outra opção válida
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfFromDjvuOptions(Map<String, Object> options) {
-    try {
-      // Validar compression_level (opcional)
-      if (options.containsKey("compression_level")) {
-        String compressionLevel = (String) options.get("compression_level");
-        if (!List.of("low", "medium", "high").contains(compressionLevel)) {
-          return false;
-        }
-      }
-
-      // Validar color_mode (opcional)
-      if (options.containsKey("color_mode")) {
-        String colorMode = (String) options.get("color_mode");
-        if (!List.of("color", "grayscale", "monochrome").contains(colorMode)) {
-          return false;
-        }
-      }
-
-      // Validar dpi (opcional)
-      if (options.containsKey("dpi")) {
-        Object dpi = options.get("dpi");
-        if (dpi instanceof Number) {
-          int dpiValue = ((Number) dpi).intValue();
-          if (dpiValue < 72 || dpiValue > 600) {
-            return false;
-          }
-        } else {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfOcrOptions(Map<String, Object> options) {
-    try {
-      // Validar language (opcional)
-      if (options.containsKey("language")) {
-        String language = (String) options.get("language");
-        if (!List.of("eng", "por", "spa", "fra", "deu", "ita").contains(language)) {
-          return false;
-        }
-      }
-
-      // Validar output_format (opcional)
-      if (options.containsKey("output_format")) {
-        String outputFormat = (String) options.get("output_format");
-        if (!List.of("text", "searchable_pdf", "hocr").contains(outputFormat)) {
-          return false;
-        }
-      }
-
-      // Validar dpi (opcional)
-      if (options.containsKey("dpi")) {
-        Object dpi = options.get("dpi");
-        if (dpi instanceof Number) {
-          int dpiValue = ((Number) dpi).intValue();
-          if (dpiValue < 150 || dpiValue > 600) {
-            return false;
-          }
-        } else {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfToAudioOptions(Map<String, Object> options) {
-    try {
-      // Validar voice (opcional)
-      if (options.containsKey("voice")) {
-        String voice = (String) options.get("voice");
-        if (!List.of("male", "female", "neutral", "default").contains(voice)) {
-          return false;
-        }
-      }
-
-      // Validar speed (opcional)
-      if (options.containsKey("speed")) {
-        Object speed = options.get("speed");
-        if (speed instanceof Number) {
-          double speedValue = ((Number) speed).doubleValue();
-          if (speedValue <= 0) {
-            return false;
-          }
-        } else {
-          return false;
-        }
-      }
-
-      // Validar output_format (opcional)
-      if (options.containsKey("output_format")) {
-        String format = (String) options.get("output_format");
-        if (!List.of("mp3", "wav", "ogg").contains(format)) {
-          return false;
-        }
-      }
-
-      return true;
-    } catch (Exception e) {
-      return false;
-    }
-  }
-
-  private boolean validatePdfSignOptions(Map<String, Object> options) {
-    if (options == null) {
-      return false;
-    }
-
-    // Validar parâmetros obrigatórios
-    if (!options.containsKey("certificate_path")
-        || options.get("certificate_path") == null
-        || options.get("certificate_path").toString().trim().isEmpty()) {
-      return false;
-    }
-
-    if (!options.containsKey("certificate_password")
-        || options.get("certificate_password") == null
-        || options.get("certificate_password").toString().trim().isEmpty()) {
-      return false;
-    }
-
-    // Validar parâmetros opcionais se presentes
-    if (options.containsKey("reason") && options.get("reason") != null) {
-      String reason = options.get("reason").toString();
-      if (reason.length() > 255) {
-        return false;
-      }
-    }
-
-    if (options.containsKey("location") && options.get("location") != null) {
-      String location = options.get("location").toString();
-      if (location.length() > 255) {
-        return false;
-      }
-    }
-
-    if (options.containsKey("contact_info") && options.get("contact_info") != null) {
-      String contactInfo = options.get("contact_info").toString();
-      if (contactInfo.length() > 255) {
-        return false;
-      }
-    }
-
-    return true;
   }
 
   @Override
   public Map<String, Object> getOptionsSchema(JobOperation operation) {
-    Map<String, Object> baseSchema = new HashMap<>();
-
-    return switch (operation) {
-      case PDF_CROP -> {
-        baseSchema.put("x", "number (optional, default: 0)");
-        baseSchema.put("y", "number (optional, default: 0)");
-        baseSchema.put("width", "number (optional, default: 595)");
-        baseSchema.put("height", "number (optional, default: 842)");
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case PDF_REORDER -> {
-        baseSchema.put("page_order", "string (required, ex: '3,1,2,4')");
-        yield baseSchema;
-      }
-      case PDF_RESIZE -> {
-        baseSchema.put(
-            "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case COMPRESS -> {
-        baseSchema.put(
-            "quality", "string (optional, default: 'medium', options: low, medium, high)");
-        yield baseSchema;
-      }
-      case ENCRYPT -> {
-        baseSchema.put("password", "string (required)");
-        baseSchema.put("ownerPassword", "string (optional)");
-        baseSchema.put("allowPrint", "boolean (optional, default: true)");
-        baseSchema.put("allowCopy", "boolean (optional, default: true)");
-        baseSchema.put("allowModify", "boolean (optional, default: true)");
-        yield baseSchema;
-      }
-      case DECRYPT -> {
-        baseSchema.put("password", "string (required)");
-        yield baseSchema;
-      }
-      case WATERMARK -> {
-        baseSchema.put("text", "string (required)");
-        baseSchema.put("opacity", "number (optional, default: 0.3)");
-        baseSchema.put("fontSize", "number (optional, default: 36)");
-        baseSchema.put(
-            "position",
-            "string (optional, default: 'center', options: center, top-left, top-right, bottom-left, bottom-right)");
-        yield baseSchema;
-      }
-      case ROTATE -> {
-        baseSchema.put("degrees", "number (required, options: 90, 180, 270)");
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case SPLIT -> {
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case EXTRACT_TEXT -> {
-        baseSchema.put("startPage", "number (optional)");
-        baseSchema.put("endPage", "number (optional)");
-        baseSchema.put("sortByPosition", "boolean (optional, default: false)");
-        yield baseSchema;
-      }
-      case PDF_TO_IMAGES -> {
-        baseSchema.put(
-            "format", "string (optional, default: 'PNG', options: PNG, JPG, JPEG, GIF, BMP)");
-        baseSchema.put("dpi", "number (optional, default: 150)");
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case IMAGES_TO_PDF -> {
-        baseSchema.put(
-            "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
-        baseSchema.put("fit_to_page", "boolean (optional, default: true)");
-        yield baseSchema;
-      }
-      case PDF_EDIT -> {
-        baseSchema.put(
-            "edit_type", "string (required, options: add_text, remove_text, replace_text)");
-        baseSchema.put("text", "string (required for add_text)");
-        baseSchema.put("x", "number (required for add_text)");
-        baseSchema.put("y", "number (required for add_text)");
-        baseSchema.put("text_to_remove", "string (required for remove_text)");
-        baseSchema.put("old_text", "string (required for replace_text)");
-        baseSchema.put("new_text", "string (required for replace_text)");
-        baseSchema.put("font_size", "number (optional, default: 12)");
-        baseSchema.put("pages", "string (optional, default: 'all')");
-        yield baseSchema;
-      }
-      case PDF_PROTECT -> {
-        baseSchema.put("password", "string (required)");
-        baseSchema.put("allow_printing", "boolean (optional, default: true)");
-        baseSchema.put("allow_copying", "boolean (optional, default: true)");
-        baseSchema.put("allow_modification", "boolean (optional, default: false)");
-        yield baseSchema;
-      }
-      case PDF_UNLOCK -> {
-        baseSchema.put("password", "string (required)");
-        yield baseSchema;
-      }
-      case PDF_COMPARE -> {
-        baseSchema.put("detailed_diff", "boolean (optional, default: false)");
-        baseSchema.put("output_filename", "string (optional, default: 'comparison_report.txt')");
-        baseSchema.put("compare_text", "boolean (optional, default: true)");
-        baseSchema.put("compare_metadata", "boolean (optional, default: false)");
-        yield baseSchema;
-      }
-      case PDF_CREATE -> {
-        baseSchema.put("text_content", "string (optional, content to add to PDF)");
-        baseSchema.put("pages", "number (optional, default: 1, number of blank pages)");
-        baseSchema.put(
-            "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
-        baseSchema.put("font_size", "number (optional, default: 12)");
-        baseSchema.put("margin", "number (optional, default: 50)");
-        baseSchema.put("title", "string (optional, document title)");
-        baseSchema.put("author", "string (optional, document author)");
-        yield baseSchema;
-      }
-      case PDF_OPTIMIZE -> {
-        baseSchema.put(
-            "compression_level",
-            "string or number (optional, default: 'medium', options: low/medium/high or 1-9)");
-        baseSchema.put("remove_unused_objects", "boolean (optional, default: true)");
-        baseSchema.put("compress_images", "boolean (optional, default: true)");
-        yield baseSchema;
-      }
-      case PDF_VALIDATE -> {
-        baseSchema.put(
-            "validation_type",
-            "string (optional, default: 'basic', options: basic, detailed, compliance)");
-        baseSchema.put("compliance_standard", "string (optional, options: pdf_a, pdf_x, pdf_ua)");
-        yield baseSchema;
-      }
-      case PDF_REPAIR -> {
-        baseSchema.put(
-            "repair_type",
-            "string (optional, default: 'basic', options: basic, advanced, aggressive)");
-        baseSchema.put("fix_structure", "boolean (optional, default: true)");
-        baseSchema.put("fix_metadata", "boolean (optional, default: true)");
-        baseSchema.put("remove_corrupted_objects", "boolean (optional, default: false)");
-        yield baseSchema;
-      }
-      case PDF_TO_PDFA -> {
-        baseSchema.put(
-            "pdfa_level", "string (optional, default: '1b', options: 1a, 1b, 2a, 2b, 3a, 3b)");
-        baseSchema.put("validate_compliance", "boolean (optional, default: false)");
-        yield baseSchema;
-      }
-      case PDF_FROM_EPUB -> {
-        baseSchema.put(
-            "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
-        baseSchema.put("font_size", "number (optional, default: 12, range: 6-72)");
-        baseSchema.put("margin", "number (optional, default: 50)");
-        yield baseSchema;
-      }
-      case PDF_FROM_DJVU -> {
-        baseSchema.put(
-            "compression_level",
-            "string (optional, default: 'medium', options: low, medium, high)");
-        baseSchema.put("dpi", "number (optional, default: 150, range: 72-600)");
-        baseSchema.put(
-            "color_mode",
-            "string (optional, default: 'color', options: color, grayscale, monochrome)");
-        yield baseSchema;
-      }
-      case PDF_OCR -> {
-        baseSchema.put(
-            "language", "string (optional, default: 'eng', options: eng, por, spa, fra, deu, ita)");
-        baseSchema.put("dpi", "number (optional, default: 300, range: 72-600)");
-        baseSchema.put(
-            "output_format",
-            "string (optional, default: 'searchable_pdf', options: text, searchable_pdf, hocr)");
-        baseSchema.put("preprocess_image", "boolean (optional, default: true)");
-        yield baseSchema;
-      }
-      case PDF_TO_AUDIO -> {
-        baseSchema.put(
-            "voice",
-            "string (optional, default: 'default', options: default, male, female, neutral)");
-        baseSchema.put("speed", "number (optional, default: 1.0, range: 0.1-3.0)");
-        baseSchema.put(
-            "output_format", "string (optional, default: 'mp3', options: mp3, wav, ogg)");
-        baseSchema.put("extract_text_first", "boolean (optional, default: true)");
-        yield baseSchema;
-      }
-      case PDF_SIGN -> {
-        baseSchema.put(
-            "certificate_path", "string (required) - Path to the certificate file (.p12 or .pfx)");
-        baseSchema.put("certificate_password", "string (required) - Password for the certificate");
-        baseSchema.put(
-            "reason", "string (optional, default: 'Document signed') - Reason for signing");
-        baseSchema.put("location", "string (optional, default: 'Unknown') - Location of signing");
-        baseSchema.put("contact_info", "string (optional) - Contact information of signer");
-        yield baseSchema;
-      }
-      default -> baseSchema;
-    };
+    OperationHandler handler = handlers.get(operation);
+    return handler != null ? handler.getOptionsSchema() : new HashMap<>();
   }
 }
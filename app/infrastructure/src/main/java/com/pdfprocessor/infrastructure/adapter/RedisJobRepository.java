@@ -4,23 +4,58 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobStatus;
 import com.pdfprocessor.domain.port.JobRepository;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 /**
  * Implementação do repositório de jobs usando Redis Hash. Cada job é armazenado como um hash no
- * Redis.
+ * Redis. Além do conjunto com todos os IDs, um sorted set pontuado pela data de criação permite
+ * paginar os jobs do mais recente para o mais antigo sem ler todos. O progresso publicado durante o
+ * processamento fica em um hash à parte, aplicado na leitura apenas aos jobs ainda em andamento.
  */
 @Component
 public class RedisJobRepository implements JobRepository {
 
   private static final String JOBS_KEY_PREFIX = "pdf:job:";
   private static final String JOBS_INDEX_KEY = "pdf:jobs:index";
+  private static final String JOBS_BY_CREATED_KEY = "pdf:jobs:by-created";
+  private static final String JOBS_PROGRESS_KEY = "pdf:jobs:progress";
+
+  /**
+   * Grava o progresso de cada job (ARGV em pares ID/progresso) somente se a chave do job (KEYS a
+   * partir da segunda) ainda existir, para não recriar jobs já removidos ou arquivados.
+   */
+  private static final RedisScript<Long> SAVE_PROGRESS_SCRIPT =
+      new DefaultRedisScript<>(
+          """
+          local saved = 0
+          for i = 2, #KEYS do
+            if redis.call('EXISTS', KEYS[i]) == 1 then
+              redis.call('HSET', KEYS[1], ARGV[2 * i - 3], ARGV[2 * i - 2])
+              saved = saved + 1
+            end
+          end
+          return saved
+          """,
+          Long.class);
 
   private final RedisTemplate<String, Object> redisTemplate;
   private final ObjectMapper objectMapper;
@@ -43,6 +78,10 @@ public class RedisJobRepository implements JobRepository {
 
       // Add to index for listing
       redisTemplate.opsForSet().add(JOBS_INDEX_KEY, job.getId());
+      redisTemplate.opsForZSet().add(JOBS_BY_CREATED_KEY, job.getId(), createdScore(job));
+
+      // O job gravado já traz o próprio progresso
+      redisTemplate.opsForHash().delete(JOBS_PROGRESS_KEY, job.getId());
 
       System.out.println("Saved job to Redis: " + job.getId());
       return job;
@@ -51,6 +90,71 @@ public class RedisJobRepository implements JobRepository {
     }
   }
 
+  /** Grava todos os jobs em um único pipeline, evitando uma ida ao Redis por job. */
+  @Override
+  public void saveAll(Collection<Job> jobs) {
+    if (jobs.isEmpty()) {
+      return;
+    }
+
+    Map<String, String> jobsJson = new LinkedHashMap<>();
+    Map<String, Double> scores = new LinkedHashMap<>();
+    for (Job job : jobs) {
+      scores.put(job.getId(), createdScore(job));
+      try {
+        jobsJson.put(job.getId(), objectMapper.writeValueAsString(job));
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException("Failed to serialize job: " + job.getId(), e);
+      }
+    }
+
+    redisTemplate.executePipelined(
+        new SessionCallback<Object>() {
+          @Override
+          @SuppressWarnings("unchecked")
+          public <K, V> Object execute(RedisOperations<K, V> operations) {
+            RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+            jobsJson.forEach((id, json) -> ops.opsForValue().set(JOBS_KEY_PREFIX + id, json));
+            ops.opsForSet().add(JOBS_INDEX_KEY, jobsJson.keySet().toArray());
+            scores.forEach((id, score) -> ops.opsForZSet().add(JOBS_BY_CREATED_KEY, id, score));
+            ops.opsForHash().delete(JOBS_PROGRESS_KEY, jobsJson.keySet().toArray());
+            return null;
+          }
+        });
+
+    System.out.println("Saved " + jobsJson.size() + " jobs to Redis in one pipeline");
+  }
+
+  /**
+   * Grava o progresso em um hash à parte, com um único script que ignora jobs que não existem mais.
+   * O restante do job não é regravado, então um cancelamento feito pela API é preservado.
+   */
+  @Override
+  public void saveProgress(Map<String, Integer> progressByJobId) {
+    if (progressByJobId.isEmpty()) {
+      return;
+    }
+
+    List<String> keys = new ArrayList<>(progressByJobId.size() + 1);
+    List<Object> args = new ArrayList<>(progressByJobId.size() * 2);
+    keys.add(JOBS_PROGRESS_KEY);
+    progressByJobId.forEach(
+        (id, progress) -> {
+          keys.add(JOBS_KEY_PREFIX + id);
+          args.add(id);
+          args.add(String.valueOf(progress));
+        });
+
+    Long saved =
+        redisTemplate.execute(
+            SAVE_PROGRESS_SCRIPT,
+            RedisSerializer.string(),
+            new GenericToStringSerializer<>(Long.class),
+            keys,
+            args.toArray());
+    System.out.println("Saved progress of " + saved + " jobs to Redis");
+  }
+
   @Override
   public Optional<Job> findById(String id) {
     try {
@@ -59,6 +163,7 @@ public class RedisJobRepository implements JobRepository {
 
       if (jobJson != null) {
         Job job = objectMapper.readValue(jobJson, Job.class);
+        applyProgress(job, redisTemplate.opsForHash().get(JOBS_PROGRESS_KEY, id));
         System.out.println("Found job in Redis: " + id);
         return Optional.of(job);
       }
@@ -94,6 +199,147 @@ public class RedisJobRepository implements JobRepository {
     }
   }
 
+  /**
+   * Lista os jobs do mais recente para o mais antigo pelo sorted set de criação, lendo apenas os
+   * jobs da página.
+   *
+   * @param offset quantidade de jobs a pular
+   * @param limit quantidade máxima de jobs
+   * @return lista de jobs
+   */
+  public List<Job> findRecent(long offset, int limit) {
+    try {
+      Set<Object> jobIds =
+          redisTemplate.opsForZSet().reverseRange(JOBS_BY_CREATED_KEY, offset, offset + limit - 1);
+      if (jobIds == null || jobIds.isEmpty()) {
+        return List.of();
+      }
+      return readJobs(jobIds);
+    } catch (Exception e) {
+      System.err.println("Failed to page jobs in Redis: " + e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * Obtém o número de jobs no sorted set de criação, usado com {@link #findRecent}.
+   *
+   * @return número de jobs
+   */
+  public long countByCreated() {
+    try {
+      Long size = redisTemplate.opsForZSet().zCard(JOBS_BY_CREATED_KEY);
+      return size != null ? size : 0;
+    } catch (Exception e) {
+      System.err.println("Failed to count jobs in Redis: " + e.getMessage());
+      return 0;
+    }
+  }
+
+  /**
+   * Inclui no sorted set de criação os jobs gravados antes de ele existir; os que já estão nele
+   * não são alterados.
+   *
+   * @param jobs jobs a indexar
+   */
+  public void indexByCreated(Collection<Job> jobs) {
+    for (Job job : jobs) {
+      redisTemplate.opsForZSet().addIfAbsent(JOBS_BY_CREATED_KEY, job.getId(), createdScore(job));
+    }
+  }
+
+  /**
+   * Lê todos os jobs indexados com um único MGET.
+   *
+   * @return jobs do Redis, em ordem arbitrária
+   */
+  public List<Job> findAllJobs() {
+    try {
+      Set<Object> jobIds = redisTemplate.opsForSet().members(JOBS_INDEX_KEY);
+      if (jobIds == null || jobIds.isEmpty()) {
+        return List.of();
+      }
+
+      return readJobs(jobIds);
+    } catch (Exception e) {
+      System.err.println("Failed to read all jobs from Redis: " + e.getMessage());
+      return List.of();
+    }
+  }
+
+  /**
+   * Lê os jobs com um único MGET e o progresso com um único HMGET, na ordem dos IDs, ignorando os
+   * que não existem mais.
+   */
+  private List<Job> readJobs(Collection<Object> jobIds) throws JsonProcessingException {
+    List<String> keys = jobIds.stream().map(id -> JOBS_KEY_PREFIX + id).toList();
+    List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+    if (values == null) {
+      return List.of();
+    }
+    List<Object> progress = redisTemplate.opsForHash().multiGet(JOBS_PROGRESS_KEY, jobIds);
+    List<Job> jobs = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i) != null) {
+        Job job = objectMapper.readValue((String) values.get(i), Job.class);
+        applyProgress(job, progress != null ? progress.get(i) : null);
+        jobs.add(job);
+      }
+    }
+    return jobs;
+  }
+
+  /** Aplica o progresso gravado à parte, apenas se o job ainda estiver em andamento. */
+  private static void applyProgress(Job job, Object progress) {
+    if (progress instanceof Number value
+        && (job.getStatus() == JobStatus.PENDING || job.getStatus() == JobStatus.PROCESSING)) {
+      job.updateProgress(value.intValue());
+    }
+  }
+
+  private static double createdScore(Job job) {
+    return job.getCreatedAt() != null
+        ? job.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+        : 0;
+  }
+
+  /**
+   * Reserva uma chave para uma única instância. A reserva expira se não for renovada; a própria
+   * dona pode renová-la chamando o método de novo.
+   *
+   * @param key chave da reserva
+   * @param owner identificador da instância
+   * @param ttl validade da reserva
+   * @return false se outra instância detém a reserva
+   */
+  public boolean claim(String key, String owner, Duration ttl) {
+    Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, owner, ttl);
+    if (Boolean.TRUE.equals(acquired)) {
+      return true;
+    }
+    if (owner.equals(redisTemplate.opsForValue().get(key))) {
+      redisTemplate.expire(key, ttl);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Libera uma reserva feita com {@link #claim}, se ela ainda pertencer à instância.
+   *
+   * @param key chave da reserva
+   * @param owner identificador da instância
+   */
+  public void release(String key, String owner) {
+    try {
+      if (owner.equals(redisTemplate.opsForValue().get(key))) {
+        redisTemplate.delete(key);
+      }
+    } catch (Exception e) {
+      System.err.println("Failed to release " + key + ": " + e.getMessage());
+    }
+  }
+
   @Override
   public void deleteById(String id) {
     try {
@@ -104,6 +350,8 @@ public class RedisJobRepository implements JobRepository {
 
       // Remove from index
       redisTemplate.opsForSet().remove(JOBS_INDEX_KEY, id);
+      redisTemplate.opsForZSet().remove(JOBS_BY_CREATED_KEY, id);
+      redisTemplate.opsForHash().delete(JOBS_PROGRESS_KEY, id);
 
       System.out.println("Deleted job from Redis: " + id);
     } catch (Exception e) {
@@ -111,6 +359,21 @@ public class RedisJobRepository implements JobRepository {
     }
   }
 
+  /**
+   * Obtém o número de jobs indexados no Redis.
+   *
+   * @return número de jobs
+   */
+  public long count() {
+    try {
+      Long size = redisTemplate.opsForSet().size(JOBS_INDEX_KEY);
+      return size != null ? size : 0;
+    } catch (Exception e) {
+      System.err.println("Failed to count jobs in Redis: " + e.getMessage());
+      return 0;
+    }
+  }
+
   @Override
   public boolean existsById(String id) {
     try {
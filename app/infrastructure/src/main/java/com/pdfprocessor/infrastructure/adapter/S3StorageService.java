@@ -0,0 +1,688 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ObjectStorageProperties;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Implementação do serviço de storage em object storage compatível com S3, para que API e
+ * workers compartilhem arquivos sem NFS. Os caminhos lógicos ({@code ./storage/<jobId>/<arquivo>})
+ * viram chaves do bucket; o {@code base-path} local é usado como área de trabalho, onde os objetos
+ * são baixados quando alguém precisa do caminho físico.
+ *
+ * <p>Arquivos maiores que uma parte são enviados com upload multipart e baixados com GETs de
+ * intervalos (Range) em paralelo, gravados direto no arquivo de destino. Nenhum arquivo é mantido
+ * inteiro no heap: uploads de stream usam no máximo {@code parallelism + 1} buffers de uma parte.
+ *
+ * <p>Objetos baixados ficam no {@link LocalFileCache}, identificados pelo ETag, e são fixados
+ * para o job dono da chave até {@link #releaseJobFiles(String)}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "s3")
+public class S3StorageService implements StorageService {
+
+  private static final String LOGICAL_PREFIX = "./storage/";
+  private static final String OCTET_STREAM = "application/octet-stream";
+  // Mínimo exigido pelo S3 para todas as partes exceto a última
+  private static final int MIN_PART_SIZE_MB = 5;
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+  private static final int DELETE_BATCH_SIZE = 1000;
+
+  private final S3Client s3Client;
+  private final StorageProperties storageProperties;
+  private final ObjectStorageProperties objectStorageProperties;
+  private final LocalFileCache fileCache;
+  private final ExecutorService transferExecutor;
+  private final ExecutorService ioExecutor;
+
+  public S3StorageService(
+      S3Client s3Client,
+      StorageProperties storageProperties,
+      ObjectStorageProperties objectStorageProperties,
+      LocalFileCache fileCache) {
+    this.s3Client = s3Client;
+    this.storageProperties = storageProperties;
+    this.objectStorageProperties = objectStorageProperties;
+    this.fileCache = fileCache;
+    // Pools separados: operações assíncronas bloqueiam esperando partes do pool de transferência
+    this.transferExecutor =
+        DaemonThreadPools.fixed("s3-transfer", objectStorageProperties.getParallelism());
+    this.ioExecutor = DaemonThreadPools.fixed("storage-io", storageProperties.getIoThreads());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    transferExecutor.shutdownNow();
+    ioExecutor.shutdownNow();
+  }
+
+  @Override
+  public Executor ioExecutor() {
+    return ioExecutor;
+  }
+
+  @Override
+  public String store(String jobId, String filename, InputStream inputStream) {
+    String key = jobId + "/" + filename;
+    try {
+      uploadStream(key, inputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to store file: " + filename + " for job: " + jobId, e);
+    }
+    System.out.println("Stored object: " + key);
+    return LOGICAL_PREFIX + key;
+  }
+
+  @Override
+  public String storeUpload(String jobId, String filename, UploadSource source) {
+    String key = jobId + "/" + filename;
+    try {
+      Path tmpDir = localRoot().resolve(StorageProperties.UPLOAD_TEMP_DIR);
+      Files.createDirectories(tmpDir);
+      Path tmpFile = tmpDir.resolve("upload-" + UUID.randomUUID() + ".part");
+      try {
+        source.transferTo(tmpFile);
+        uploadFile(key, tmpFile);
+      } finally {
+        Files.deleteIfExists(tmpFile);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to store file: " + filename + " for job: " + jobId, e);
+    }
+    System.out.println("Stored upload object: " + key);
+    return LOGICAL_PREFIX + key;
+  }
+
+  @Override
+  public String publishResult(String localPath) {
+    Path path = Paths.get(localPath).toAbsolutePath().normalize();
+    String key = keyOf(path.toString());
+    if (key == null) {
+      System.err.println("Result outside storage base path, not published: " + localPath);
+      return localPath;
+    }
+
+    try {
+      if (Files.isDirectory(path)) {
+        try (Stream<Path> files = Files.walk(path)) {
+          for (Path file : files.filter(Files::isRegularFile).toList()) {
+            uploadFile(keyOf(file.toString()), file);
+          }
+        }
+      } else {
+        uploadFile(key, path);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to publish result: " + localPath, e);
+    }
+
+    System.out.println("Published result: " + key);
+    return LOGICAL_PREFIX + key;
+  }
+
+  @Override
+  public InputStream retrieve(String filePath) {
+    String key = keyOf(filePath);
+    Path local = key != null ? localRoot().resolve(key) : Paths.get(filePath);
+    try {
+      if (Files.isRegularFile(local) || key == null) {
+        return Files.newInputStream(local);
+      }
+      return s3Client.getObject(getRequest(key, null));
+    } catch (NoSuchKeyException e) {
+      throw new RuntimeException("File not found: " + filePath, e);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to retrieve file: " + filePath, e);
+    }
+  }
+
+  @Override
+  public Path getPhysicalPath(String filePath) {
+    String key = keyOf(filePath);
+    if (key == null) {
+      return Paths.get(filePath);
+    }
+
+    Path local = localRoot().resolve(key);
+    if (Files.exists(local)) {
+      return local;
+    }
+
+    try {
+      Optional<HeadObjectResponse> head = headObject(key);
+      if (head.isPresent()) {
+        long size = head.get().contentLength();
+        return fileCache.get(
+            cacheKey(key, head.get()),
+            suffixOf(key),
+            size,
+            ownerOf(key),
+            target -> download(key, size, target));
+      }
+      if (!key.contains("/")) {
+        // Diretório de trabalho do job: as entradas são buscadas uma a uma, sob demanda
+        Files.createDirectories(local);
+        return local;
+      }
+      // Prefixo (diretório de resultado): baixa todos os objetos abaixo dele
+      for (S3Object object : listObjects(key + "/", false)) {
+        download(object.key(), object.size(), localRoot().resolve(object.key()));
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to fetch object: " + key, e);
+    }
+    return local;
+  }
+
+  @Override
+  public void releaseJobFiles(String jobId) {
+    fileCache.release(jobId);
+  }
+
+  @Override
+  public List<String> listJobFiles(String jobId) {
+    try {
+      List<String> files =
+          listObjects(jobId + "/", true).stream()
+              .map(object -> LOGICAL_PREFIX + object.key())
+              .toList();
+      System.out.println("Listed " + files.size() + " objects for job: " + jobId);
+      return files;
+    } catch (S3Exception e) {
+      System.err.println("Failed to list objects for job: " + jobId + ", " + e.getMessage());
+      return List.of();
+    }
+  }
+
+  @Override
+  public boolean delete(String filePath) {
+    String key = keyOf(filePath);
+    if (key == null) {
+      return false;
+    }
+    try {
+      boolean existed = headObject(key).isPresent();
+      s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket()).key(key).build());
+      boolean localDeleted = Files.deleteIfExists(localRoot().resolve(key));
+      System.out.println("Deleted object: " + key);
+      return existed || localDeleted;
+    } catch (S3Exception | IOException e) {
+      System.err.println("Failed to delete object: " + key + ", " + e.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  public int deleteJobFiles(String jobId) {
+    int deletedCount = 0;
+    try {
+      List<S3Object> objects = listObjects(jobId + "/", false);
+      for (int i = 0; i < objects.size(); i += DELETE_BATCH_SIZE) {
+        List<ObjectIdentifier> batch =
+            objects.subList(i, Math.min(i + DELETE_BATCH_SIZE, objects.size())).stream()
+                .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+                .toList();
+        s3Client.deleteObjects(
+            DeleteObjectsRequest.builder()
+                .bucket(bucket())
+                .delete(Delete.builder().objects(batch).quiet(true).build())
+                .build());
+        deletedCount += batch.size();
+      }
+    } catch (S3Exception e) {
+      System.err.println("Failed to delete objects for job: " + jobId + ", " + e.getMessage());
+    }
+
+    deleteLocalCopy(localRoot().resolve(jobId));
+    fileCache.release(jobId);
+    System.out.println("Deleted " + deletedCount + " objects for job: " + jobId);
+    return deletedCount;
+  }
+
+  @Override
+  public boolean exists(String filePath) {
+    String key = keyOf(filePath);
+    if (key == null) {
+      return Files.exists(Paths.get(filePath));
+    }
+    return Files.exists(localRoot().resolve(key))
+        || headObject(key).isPresent()
+        || !listObjects(key + "/", 1).isEmpty();
+  }
+
+  @Override
+  public long getFileSize(String filePath) {
+    String key = keyOf(filePath);
+    Path local = key != null ? localRoot().resolve(key) : Paths.get(filePath);
+    try {
+      if (Files.isRegularFile(local)) {
+        return Files.size(local);
+      }
+      return key != null ? headObject(key).map(HeadObjectResponse::contentLength).orElse(0L) : 0;
+    } catch (IOException | S3Exception e) {
+      System.err.println("Failed to get file size: " + filePath + ", " + e.getMessage());
+      return 0;
+    }
+  }
+
+  @Override
+  public String createJobDirectory(String jobId) {
+    // Object storage não tem diretórios; cria apenas a área de trabalho local
+    try {
+      Files.createDirectories(localRoot().resolve(jobId));
+      return LOGICAL_PREFIX + jobId;
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to create job directory for: " + jobId, e);
+    }
+  }
+
+  /**
+   * Envia um stream de tamanho desconhecido. Se couber em uma parte vai em um único PUT; caso
+   * contrário as partes são lidas em sequência e enviadas em paralelo, com no máximo {@code
+   * parallelism} partes em voo.
+   */
+  private void uploadStream(String key, InputStream inputStream) throws IOException {
+    int partSize = partSizeBytes();
+    byte[] buffer = inputStream.readNBytes(partSize);
+    if (buffer.length < partSize) {
+      byte[] data = buffer;
+      s3Client.putObject(
+          putRequest(key),
+          RequestBody.fromContentProvider(
+              () -> new ByteArrayInputStream(data), data.length, OCTET_STREAM));
+      return;
+    }
+
+    String uploadId = createMultipartUpload(key);
+    Semaphore inFlight = new Semaphore(Math.max(1, objectStorageProperties.getParallelism()));
+    List<Future<CompletedPart>> parts = new ArrayList<>();
+    try {
+      int partNumber = 1;
+      while (buffer.length > 0) {
+        inFlight.acquire();
+        byte[] data = buffer;
+        int number = partNumber++;
+        parts.add(
+            transferExecutor.submit(
+                () -> {
+                  try {
+                    return uploadPart(
+                        key,
+                        uploadId,
+                        number,
+                        RequestBody.fromContentProvider(
+                            () -> new ByteArrayInputStream(data), data.length, OCTET_STREAM));
+                  } finally {
+                    inFlight.release();
+                  }
+                }));
+        buffer = inputStream.readNBytes(partSize);
+      }
+      completeMultipartUpload(key, uploadId, awaitAll(parts));
+    } catch (IOException | RuntimeException | InterruptedException e) {
+      parts.forEach(part -> part.cancel(true));
+      abortMultipartUpload(key, uploadId);
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      throw e instanceof IOException io ? io : new IOException("Upload failed: " + key, e);
+    }
+  }
+
+  /** Envia um arquivo local; acima de uma parte usa multipart com partes lidas do próprio disco. */
+  private void uploadFile(String key, Path file) throws IOException {
+    long size = Files.size(file);
+    long partSize = partSizeBytes();
+    if (size <= partSize) {
+      s3Client.putObject(putRequest(key), RequestBody.fromFile(file));
+      return;
+    }
+
+    String uploadId = createMultipartUpload(key);
+    List<Future<CompletedPart>> parts = new ArrayList<>();
+    try {
+      int partNumber = 1;
+      for (long offset = 0; offset < size; offset += partSize) {
+        long start = offset;
+        long length = Math.min(partSize, size - offset);
+        int number = partNumber++;
+        parts.add(
+            transferExecutor.submit(
+                () ->
+                    uploadPart(
+                        key,
+                        uploadId,
+                        number,
+                        RequestBody.fromContentProvider(
+                            () -> new FileRangeInputStream(file, start, length),
+                            length,
+                            OCTET_STREAM))));
+      }
+      completeMultipartUpload(key, uploadId, awaitAll(parts));
+    } catch (IOException | RuntimeException e) {
+      parts.forEach(part -> part.cancel(true));
+      abortMultipartUpload(key, uploadId);
+      throw e;
+    }
+  }
+
+  /**
+   * Baixa um objeto para o caminho local. Objetos maiores que uma parte são baixados com GETs de
+   * intervalos em paralelo, cada um gravando na sua posição do arquivo. O arquivo só aparece no
+   * destino (rename atômico) depois de completo.
+   */
+  private void download(String key, long size, Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    Path tmpFile = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+    try {
+      try (FileChannel channel =
+          FileChannel.open(tmpFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        long partSize = partSizeBytes();
+        if (size <= partSize) {
+          downloadRange(key, null, channel, 0);
+        } else {
+          List<Future<Void>> ranges = new ArrayList<>();
+          for (long start = 0; start < size; start += partSize) {
+            long position = start;
+            String range = "bytes=" + start + "-" + (Math.min(start + partSize, size) - 1);
+            ranges.add(
+                transferExecutor.submit(() -> downloadRange(key, range, channel, position)));
+          }
+          awaitAll(ranges);
+        }
+      }
+      Files.move(
+          tmpFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      System.out.println("Downloaded object: " + key + " (" + size + " bytes)");
+    } finally {
+      Files.deleteIfExists(tmpFile);
+    }
+  }
+
+  private Void downloadRange(String key, String range, FileChannel channel, long position)
+      throws IOException {
+    try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(getRequest(key, range))) {
+      byte[] buffer = new byte[COPY_BUFFER_SIZE];
+      long writePosition = position;
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+        while (chunk.hasRemaining()) {
+          writePosition += channel.write(chunk, writePosition);
+        }
+      }
+    }
+    return null;
+  }
+
+  private String createMultipartUpload(String key) {
+    return s3Client
+        .createMultipartUpload(
+            CreateMultipartUploadRequest.builder()
+                .bucket(bucket())
+                .key(key)
+                .contentType(OCTET_STREAM)
+                .build())
+        .uploadId();
+  }
+
+  private CompletedPart uploadPart(String key, String uploadId, int partNumber, RequestBody body) {
+    String eTag =
+        s3Client
+            .uploadPart(
+                UploadPartRequest.builder()
+                    .bucket(bucket())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .build(),
+                body)
+            .eTag();
+    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+  }
+
+  private void completeMultipartUpload(String key, String uploadId, List<CompletedPart> parts) {
+    s3Client.completeMultipartUpload(
+        CompleteMultipartUploadRequest.builder()
+            .bucket(bucket())
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+            .build());
+  }
+
+  private void abortMultipartUpload(String key, String uploadId) {
+    try {
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
+              .bucket(bucket())
+              .key(key)
+              .uploadId(uploadId)
+              .build());
+    } catch (S3Exception e) {
+      System.err.println("Failed to abort multipart upload: " + key + ", " + e.getMessage());
+    }
+  }
+
+  /** Aguarda as transferências na ordem de submissão, propagando a primeira falha. */
+  private <T> List<T> awaitAll(List<Future<T>> futures) throws IOException {
+    List<T> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Transfer interrupted", e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException io) {
+        throw io;
+      }
+      throw new IOException("Transfer failed: " + cause.getMessage(), cause);
+    }
+  }
+
+  private Optional<HeadObjectResponse> headObject(String key) {
+    try {
+      return Optional.of(
+          s3Client.headObject(HeadObjectRequest.builder().bucket(bucket()).key(key).build()));
+    } catch (NoSuchKeyException e) {
+      return Optional.empty();
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return Optional.empty();
+      }
+      throw e;
+    }
+  }
+
+  private List<S3Object> listObjects(String prefix, boolean directChildrenOnly) {
+    ListObjectsV2Request.Builder request =
+        ListObjectsV2Request.builder().bucket(bucket()).prefix(prefix);
+    if (directChildrenOnly) {
+      request.delimiter("/");
+    }
+    List<S3Object> objects = new ArrayList<>();
+    s3Client.listObjectsV2Paginator(request.build()).contents().forEach(objects::add);
+    return objects;
+  }
+
+  private List<S3Object> listObjects(String prefix, int maxKeys) {
+    return s3Client
+        .listObjectsV2(
+            ListObjectsV2Request.builder().bucket(bucket()).prefix(prefix).maxKeys(maxKeys).build())
+        .contents();
+  }
+
+  private void deleteLocalCopy(Path directory) {
+    if (!Files.exists(directory)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(directory)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+        Files.deleteIfExists(path);
+      }
+    } catch (IOException e) {
+      System.err.println("Failed to delete local copy: " + directory + ", " + e.getMessage());
+    }
+  }
+
+  /**
+   * Converte um caminho lógico ou físico em chave do bucket. Retorna null para caminhos absolutos
+   * fora da área de trabalho, que não pertencem ao storage.
+   */
+  private String keyOf(String filePath) {
+    String normalized = filePath.replace(File.separatorChar, '/');
+    if (normalized.startsWith(LOGICAL_PREFIX)) {
+      return normalized.substring(LOGICAL_PREFIX.length());
+    }
+
+    Path path = Paths.get(filePath);
+    if (path.isAbsolute()) {
+      Path absolute = path.normalize();
+      return absolute.startsWith(localRoot())
+          ? localRoot().relativize(absolute).toString().replace(File.separatorChar, '/')
+          : null;
+    }
+    return normalized.startsWith("./") ? normalized.substring(2) : normalized;
+  }
+
+  /**
+   * Chave do cache pelo conteúdo: o ETag muda sempre que o objeto muda, e objetos iguais enviados
+   * em PUT único compartilham o mesmo ETag (MD5), então a mesma entrada serve a vários jobs.
+   */
+  private String cacheKey(String key, HeadObjectResponse head) {
+    String eTag = head.eTag();
+    return eTag != null
+        ? "etag:" + eTag.replace("\"", "") + ":" + head.contentLength()
+        : "key:" + key + ":" + head.contentLength();
+  }
+
+  private String suffixOf(String key) {
+    String name = key.substring(key.lastIndexOf('/') + 1);
+    int lastDot = name.lastIndexOf('.');
+    return lastDot > 0 ? name.substring(lastDot) : "";
+  }
+
+  /** O primeiro segmento da chave é o ID do job que usa o arquivo. */
+  private String ownerOf(String key) {
+    int slash = key.indexOf('/');
+    return slash > 0 ? key.substring(0, slash) : key;
+  }
+
+  private Path localRoot() {
+    return Paths.get(storageProperties.getBasePath()).toAbsolutePath().normalize();
+  }
+
+  private String bucket() {
+    return objectStorageProperties.getBucket();
+  }
+
+  private int partSizeBytes() {
+    return Math.max(MIN_PART_SIZE_MB, objectStorageProperties.getPartSizeMb()) * 1024 * 1024;
+  }
+
+  private PutObjectRequest putRequest(String key) {
+    return PutObjectRequest.builder().bucket(bucket()).key(key).contentType(OCTET_STREAM).build();
+  }
+
+  private GetObjectRequest getRequest(String key, String range) {
+    GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucket()).key(key);
+    if (range != null) {
+      request.range(range);
+    }
+    return request.build();
+  }
+
+  /** Stream de um intervalo do arquivo usando leituras posicionais, sem buffer do tamanho total. */
+  private static final class FileRangeInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private long position;
+    private final long end;
+
+    FileRangeInputStream(Path file, long start, long length) {
+      try {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to open file part: " + file, e);
+      }
+      this.position = start;
+      this.end = start + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] single = new byte[1];
+      return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      if (position >= end) {
+        return -1;
+      }
+      int toRead = (int) Math.min(length, end - position);
+      int read = channel.read(ByteBuffer.wrap(buffer, offset, toRead), position);
+      if (read > 0) {
+        position += read;
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+}
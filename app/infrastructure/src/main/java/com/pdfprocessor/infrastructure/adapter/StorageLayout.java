@@ -0,0 +1,188 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.domain.port.StorageService.JobArea;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Layout em disco do storage local. Cada job fica em {@code <ab>/<cd>/<jobId>}, onde {@code abcd}
+ * são os primeiros dígitos hexadecimais do SHA-256 do ID, com as áreas {@code inputs}, {@code
+ * results} e {@code scratch}. Com dois níveis de shard (65.536 diretórios folha) nenhum diretório
+ * acumula milhões de entradas.
+ *
+ * <p>Os caminhos lógicos não dependem do layout: {@code ./storage/<jobId>/<arquivo>} aponta para
+ * uma entrada e {@code ./storage/<jobId>/<área>/<arquivo>} para as demais áreas. Assim as
+ * referências já gravadas continuam válidas depois da migração ({@link StorageLayoutMigration}).
+ */
+public final class StorageLayout {
+
+  /** Prefixo dos caminhos lógicos retornados pelo storage. */
+  public static final String LOGICAL_PREFIX = "./storage/";
+
+  // Referências dos jobs aos blobs da deduplicação, com os mesmos shards dos diretórios de jobs
+  private static final String BLOB_REFS_DIR = ".blobs/refs";
+
+  // Dois níveis de shard, cada um com um byte do hash (dois dígitos hexadecimais)
+  private static final int SHARD_DIGITS = 2;
+  private static final int SHARD_BYTES = 2;
+
+  private final Path basePath;
+
+  public StorageLayout(Path basePath) {
+    this.basePath = basePath.toAbsolutePath().normalize();
+  }
+
+  public Path getBasePath() {
+    return basePath;
+  }
+
+  /** Diretório do job no layout com shards. */
+  public Path jobDirectory(String jobId) {
+    String shard = shardOf(jobId);
+    return basePath
+        .resolve(shard.substring(0, SHARD_DIGITS))
+        .resolve(shard.substring(SHARD_DIGITS, 2 * SHARD_DIGITS))
+        .resolve(jobId);
+  }
+
+  /** Diretório de uma área do job. */
+  public Path area(String jobId, JobArea area) {
+    return jobDirectory(jobId).resolve(area.directoryName());
+  }
+
+  /** Diretório do job no layout plano anterior ({@code <base>/<jobId>}), lido até a migração. */
+  public Path legacyJobDirectory(String jobId) {
+    return basePath.resolve(jobId);
+  }
+
+  /**
+   * Arquivo com as referências do job aos blobs da deduplicação, em {@code
+   * .blobs/refs/<ab>/<cd>/<jobId>.properties}, com o mesmo shard do diretório do job.
+   */
+  public Path blobRefs(String jobId) {
+    String shard = shardOf(jobId);
+    return blobRefsRoot()
+        .resolve(shard.substring(0, SHARD_DIGITS))
+        .resolve(shard.substring(SHARD_DIGITS, 2 * SHARD_DIGITS))
+        .resolve(jobId + ".properties");
+  }
+
+  /** Arquivo de referências no diretório plano anterior, lido até a migração. */
+  public Path legacyBlobRefs(String jobId) {
+    return blobRefsRoot().resolve(jobId + ".properties");
+  }
+
+  /** Diretório das referências aos blobs. */
+  public Path blobRefsRoot() {
+    return basePath.resolve(BLOB_REFS_DIR);
+  }
+
+  /**
+   * Resolve um caminho relativo ao storage ({@code <jobId>[/<área>]/<arquivo>}). Caminhos sem
+   * área pertencem a {@code inputs}; diretórios internos (iniciados por ponto) ficam na raiz.
+   */
+  public Path resolve(String relativePath) {
+    String[] parts = relativePath.split("/", 2);
+    String jobId = parts[0];
+    if (jobId.isEmpty() || jobId.startsWith(".")) {
+      return basePath.resolve(relativePath);
+    }
+    if (parts.length == 1 || parts[1].isEmpty()) {
+      return jobDirectory(jobId);
+    }
+
+    String rest = parts[1];
+    String firstSegment = rest.split("/", 2)[0];
+    boolean isArea =
+        Arrays.stream(JobArea.values()).anyMatch(a -> a.directoryName().equals(firstSegment));
+    return isArea
+        ? jobDirectory(jobId).resolve(rest)
+        : area(jobId, JobArea.INPUTS).resolve(rest);
+  }
+
+  /**
+   * Converte um caminho físico do layout com shards no caminho lógico equivalente.
+   *
+   * @return caminho lógico, ou empty se o caminho não estiver dentro do diretório de um job
+   */
+  public Optional<String> logicalPath(Path physicalPath) {
+    String[] segments = shardedSegments(physicalPath);
+    if (segments == null) {
+      return Optional.empty();
+    }
+
+    StringBuilder logical = new StringBuilder(LOGICAL_PREFIX).append(segments[2]);
+    int first = 3;
+    if (segments.length > 3 && segments[3].equals(JobArea.INPUTS.directoryName())) {
+      first = 4; // entradas não levam o nome da área
+    }
+    for (int i = first; i < segments.length; i++) {
+      logical.append('/').append(segments[i]);
+    }
+    return Optional.of(logical.toString());
+  }
+
+  /** Indica se o caminho está dentro do diretório de um job no layout com shards. */
+  public boolean isSharded(Path physicalPath) {
+    return shardedSegments(physicalPath) != null;
+  }
+
+  /**
+   * Retorna o ID do job quando o arquivo está diretamente na área de entradas, no layout com
+   * shards ou no layout plano anterior.
+   */
+  public Optional<String> inputJobIdOf(Path file) {
+    String[] segments = relativeSegments(file);
+    if (segments == null) {
+      return Optional.empty();
+    }
+    if (segments.length == 5
+        && segments[3].equals(JobArea.INPUTS.directoryName())
+        && shardedSegments(file) != null) {
+      return Optional.of(segments[2]);
+    }
+    if (segments.length == 2 && !segments[0].startsWith(".")) {
+      return Optional.of(segments[0]);
+    }
+    return Optional.empty();
+  }
+
+  /** Shard do job: os quatro primeiros dígitos hexadecimais do SHA-256 do ID. */
+  public static String shardOf(String jobId) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(jobId.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, SHARD_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /** Segmentos relativos ao base path quando o caminho é {@code <ab>/<cd>/<jobId>/...}. */
+  private String[] shardedSegments(Path physicalPath) {
+    String[] segments = relativeSegments(physicalPath);
+    if (segments == null || segments.length < 3) {
+      return null;
+    }
+    String shard = shardOf(segments[2]);
+    boolean matches =
+        segments[0].equals(shard.substring(0, SHARD_DIGITS))
+            && segments[1].equals(shard.substring(SHARD_DIGITS));
+    return matches ? segments : null;
+  }
+
+  private String[] relativeSegments(Path physicalPath) {
+    Path normalized = physicalPath.toAbsolutePath().normalize();
+    if (!normalized.startsWith(basePath) || normalized.equals(basePath)) {
+      return null;
+    }
+    return basePath.relativize(normalized).toString().split(Pattern.quote(File.separator));
+  }
+}
@@ -0,0 +1,196 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.domain.port.StorageService.JobArea;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Migra diretórios de jobs do layout plano ({@code <base>/<jobId>}) para o layout com shards
+ * ({@code <ab>/<cd>/<jobId>/inputs}). O conteúdo do diretório antigo vai para a área de entradas,
+ * que é onde os caminhos lógicos sem área ({@code ./storage/<jobId>/<arquivo>}) são resolvidos,
+ * então as referências já gravadas continuam válidas. Cada entrada é movida com rename, o que
+ * preserva os hardlinks da deduplicação. As referências dos jobs aos blobs ({@code
+ * .blobs/refs/<jobId>.properties}) vão para o diretório com shards do mesmo jeito.
+ *
+ * <p>A migração é idempotente e pode ser interrompida e reexecutada. Deve rodar com API e workers
+ * parados:
+ *
+ * <pre>
+ * ./scripts/migrate-storage-layout.sh &lt;base-path&gt; [--dry-run]
+ * </pre>
+ */
+public class StorageLayoutMigration {
+
+  private final StorageLayout layout;
+  private final boolean dryRun;
+
+  public StorageLayoutMigration(StorageLayout layout, boolean dryRun) {
+    this.layout = layout;
+    this.dryRun = dryRun;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1) {
+      System.err.println("Usage: StorageLayoutMigration <base-path> [--dry-run]");
+      System.exit(2);
+    }
+    boolean dryRun = List.of(args).contains("--dry-run");
+    Result result =
+        new StorageLayoutMigration(new StorageLayout(Paths.get(args[0])), dryRun).migrate();
+    System.out.println(
+        (dryRun ? "[dry-run] " : "")
+            + "Migrated "
+            + result.getMigratedJobs()
+            + " jobs ("
+            + result.getMovedEntries()
+            + " entries), "
+            + result.getMovedRefs()
+            + " blob reference files, "
+            + result.getConflicts()
+            + " conflicts");
+    if (result.getConflicts() > 0) {
+      System.exit(1);
+    }
+  }
+
+  /**
+   * Migra todos os diretórios de jobs no layout plano.
+   *
+   * @return resumo da migração
+   * @throws IOException se o base path não puder ser listado
+   */
+  public Result migrate() throws IOException {
+    int migratedJobs = 0;
+    int movedEntries = 0;
+    int conflicts = 0;
+
+    List<Path> legacyJobDirs;
+    try (Stream<Path> children = Files.list(layout.getBasePath())) {
+      legacyJobDirs = children.filter(this::isLegacyJobDirectory).sorted().toList();
+    }
+
+    for (Path legacyDir : legacyJobDirs) {
+      String jobId = legacyDir.getFileName().toString();
+      Path inputsDir = layout.area(jobId, JobArea.INPUTS);
+      if (!dryRun) {
+        Files.createDirectories(inputsDir);
+      }
+
+      List<Path> entries;
+      try (Stream<Path> children = Files.list(legacyDir)) {
+        entries = children.sorted().toList();
+      }
+      for (Path entry : entries) {
+        Path target = inputsDir.resolve(entry.getFileName().toString());
+        if (Files.exists(target)) {
+          System.err.println("Conflict, already migrated: " + entry + " -> " + target);
+          conflicts++;
+          continue;
+        }
+        if (!dryRun) {
+          move(entry, target);
+        }
+        movedEntries++;
+      }
+
+      if (!dryRun) {
+        try {
+          Files.delete(legacyDir);
+        } catch (IOException e) {
+          System.err.println("Legacy directory not empty, kept: " + legacyDir);
+        }
+      }
+      migratedJobs++;
+      System.out.println("Migrated job: " + jobId + " -> " + layout.jobDirectory(jobId));
+    }
+
+    int movedRefs = 0;
+    List<Path> legacyRefs = legacyBlobRefs();
+    for (Path legacyRefsFile : legacyRefs) {
+      String fileName = legacyRefsFile.getFileName().toString();
+      String jobId = fileName.substring(0, fileName.length() - ".properties".length());
+      Path target = layout.blobRefs(jobId);
+      if (Files.exists(target)) {
+        System.err.println("Conflict, already migrated: " + legacyRefsFile + " -> " + target);
+        conflicts++;
+        continue;
+      }
+      if (!dryRun) {
+        Files.createDirectories(target.getParent());
+        move(legacyRefsFile, target);
+      }
+      movedRefs++;
+    }
+
+    return new Result(migratedJobs, movedEntries, movedRefs, conflicts);
+  }
+
+  /** Arquivos de referências aos blobs ainda no diretório plano {@code .blobs/refs}. */
+  private List<Path> legacyBlobRefs() throws IOException {
+    Path refsRoot = layout.blobRefsRoot();
+    if (!Files.isDirectory(refsRoot)) {
+      return List.of();
+    }
+    try (Stream<Path> children = Files.list(refsRoot)) {
+      return children
+          .filter(Files::isRegularFile)
+          .filter(path -> path.getFileName().toString().endsWith(".properties"))
+          .sorted()
+          .toList();
+    }
+  }
+
+  /**
+   * Diretórios internos começam com ponto e os de shard têm dois dígitos hexadecimais; qualquer
+   * outro diretório na raiz é um job no layout antigo.
+   */
+  private boolean isLegacyJobDirectory(Path path) {
+    String name = path.getFileName().toString();
+    return Files.isDirectory(path) && !name.startsWith(".") && !name.matches("[0-9a-f]{2}");
+  }
+
+  private void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target);
+    }
+  }
+
+  /** Resumo de uma execução da migração. */
+  public static class Result {
+    private final int migratedJobs;
+    private final int movedEntries;
+    private final int movedRefs;
+    private final int conflicts;
+
+    public Result(int migratedJobs, int movedEntries, int movedRefs, int conflicts) {
+      this.migratedJobs = migratedJobs;
+      this.movedEntries = movedEntries;
+      this.movedRefs = movedRefs;
+      this.conflicts = conflicts;
+    }
+
+    public int getMigratedJobs() {
+      return migratedJobs;
+    }
+
+    public int getMovedEntries() {
+      return movedEntries;
+    }
+
+    public int getMovedRefs() {
+      return movedRefs;
+    }
+
+    public int getConflicts() {
+      return conflicts;
+    }
+  }
+}
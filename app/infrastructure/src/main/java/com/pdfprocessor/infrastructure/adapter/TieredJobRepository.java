@@ -0,0 +1,232 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobStatus;
+import com.pdfprocessor.domain.port.JobRepository;
+import com.pdfprocessor.infrastructure.config.JobArchiveProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repositório de jobs em dois níveis. Jobs ativos (PENDING/PROCESSING) ficam no Redis; ao
+ * atingir um estado terminal o job é gravado no arquivo em disco e removido do Redis, mantendo a
+ * memória do Redis proporcional apenas aos jobs em andamento.
+ *
+ * <p>Como o arquivo só pode ser aberto por um processo, apenas a API o habilita. Jobs finalizados
+ * pelo worker continuam sendo gravados no Redis e são movidos para o arquivo por uma varredura
+ * periódica; as leituras nunca gravam. Cada lote arquivado é gravado em disco antes de sair do
+ * Redis, para que uma queda no meio do caminho não perca jobs.
+ *
+ * <p>O arquivo fica no disco local da instância, então jobs arquivados só são encontrados por ela.
+ * Por isso o arquivo exige uma única réplica da API: na inicialização a instância reserva o
+ * arquivo no Redis e falha se outra já o detém. A reserva é renovada a cada varredura e expira em
+ * três intervalos; uma instância reiniciada com o mesmo hostname a recupera de imediato. Se a
+ * reserva for perdida para outra instância, a varredura deixa de arquivar.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "app.job-archive", name = "enabled", havingValue = "true")
+public class TieredJobRepository implements JobRepository {
+
+  private static final Set<JobStatus> TERMINAL_STATUSES =
+      EnumSet.of(JobStatus.COMPLETED, JobStatus.FAILED, JobStatus.CANCELLED);
+  private static final String ARCHIVE_OWNER_KEY = "pdf:job-archive:owner";
+
+  private final RedisJobRepository hotRepository;
+  private final MvStoreJobRepository archiveRepository;
+  private final JobArchiveProperties properties;
+  private final String instanceId;
+  private final ScheduledExecutorService sweeper =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "JobArchive-sweeper");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  public TieredJobRepository(
+      RedisJobRepository hotRepository,
+      MvStoreJobRepository archiveRepository,
+      JobArchiveProperties properties) {
+    this.hotRepository = hotRepository;
+    this.archiveRepository = archiveRepository;
+    this.properties = properties;
+    this.instanceId =
+        hostname() + ":" + Paths.get(properties.getPath()).toAbsolutePath().normalize();
+  }
+
+  @PostConstruct
+  public void start() {
+    if (!hotRepository.claim(ARCHIVE_OWNER_KEY, instanceId, leaseTtl())) {
+      throw new IllegalStateException(
+          "Job archive is in use by another API instance; app.job-archive.enabled requires a"
+              + " single API replica");
+    }
+    long interval = sweepIntervalSeconds();
+    sweeper.scheduleWithFixedDelay(this::sweepSafely, interval, interval, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    sweeper.shutdownNow();
+    hotRepository.release(ARCHIVE_OWNER_KEY, instanceId);
+  }
+
+  @Override
+  public Job save(Job job) {
+    if (TERMINAL_STATUSES.contains(job.getStatus())) {
+      archive(List.of(job));
+      return job;
+    }
+    return hotRepository.save(job);
+  }
+
+  @Override
+  public void saveAll(Collection<Job> jobs) {
+    List<Job> hotJobs = new ArrayList<>(jobs.size());
+    List<Job> finishedJobs = new ArrayList<>();
+    for (Job job : jobs) {
+      if (TERMINAL_STATUSES.contains(job.getStatus())) {
+        finishedJobs.add(job);
+      } else {
+        hotJobs.add(job);
+      }
+    }
+    archive(finishedJobs);
+    hotRepository.saveAll(hotJobs);
+  }
+
+  /** Jobs já arquivados não estão mais no Redis e, portanto, não recebem progresso. */
+  @Override
+  public void saveProgress(Map<String, Integer> progressByJobId) {
+    hotRepository.saveProgress(progressByJobId);
+  }
+
+  @Override
+  public Optional<Job> findById(String id) {
+    Optional<Job> hotJob = hotRepository.findById(id);
+    return hotJob.isPresent() ? hotJob : archiveRepository.findById(id);
+  }
+
+  /**
+   * Lista primeiro os jobs do Redis e, em seguida, o histórico do arquivo, ambos do mais recente
+   * para o mais antigo. O Redis é paginado pelo sorted set de criação, então o custo da página não
+   * depende do número de jobs ativos.
+   */
+  @Override
+  public List<Job> findAll(int page, int size) {
+    long offset = (long) page * size;
+    long hotCount = hotRepository.countByCreated();
+
+    List<Job> result = new ArrayList<>(size);
+    if (offset < hotCount) {
+      result.addAll(hotRepository.findRecent(offset, size));
+    }
+    if (result.size() >= size) {
+      return result;
+    }
+
+    // Continuar a página a partir do arquivo, descontando o que veio do Redis
+    long archiveOffset = Math.max(0, offset - hotCount);
+    result.addAll(archiveRepository.findRecent(archiveOffset, size - result.size()));
+    return result;
+  }
+
+  @Override
+  public void deleteById(String id) {
+    hotRepository.deleteById(id);
+    archiveRepository.deleteById(id);
+  }
+
+  @Override
+  public boolean existsById(String id) {
+    return hotRepository.existsById(id) || archiveRepository.existsById(id);
+  }
+
+  /**
+   * Move para o arquivo os jobs finalizados que ainda estão no Redis, renovando antes a reserva do
+   * arquivo. Se outra instância detém a reserva, nada é arquivado.
+   *
+   * @return quantidade de jobs arquivados
+   */
+  public int sweep() {
+    if (!hotRepository.claim(ARCHIVE_OWNER_KEY, instanceId, leaseTtl())) {
+      System.err.println("Job archive reserved by another API instance; skipping sweep");
+      return 0;
+    }
+
+    List<Job> activeJobs = new ArrayList<>();
+    List<Job> finishedJobs = new ArrayList<>();
+    for (Job job : hotRepository.findAllJobs()) {
+      if (TERMINAL_STATUSES.contains(job.getStatus())) {
+        finishedJobs.add(job);
+      } else {
+        activeJobs.add(job);
+      }
+    }
+    // Jobs gravados antes do sorted set de criação passam a aparecer na listagem
+    hotRepository.indexByCreated(activeJobs);
+    archive(finishedJobs);
+    if (!finishedJobs.isEmpty()) {
+      System.out.println("Archived " + finishedJobs.size() + " finished jobs from Redis");
+    }
+    return finishedJobs.size();
+  }
+
+  private void sweepSafely() {
+    try {
+      sweep();
+    } catch (Exception e) {
+      System.err.println("Failed to sweep finished jobs: " + e.getMessage());
+    }
+  }
+
+  private long sweepIntervalSeconds() {
+    return Math.max(1, properties.getSweepIntervalSeconds());
+  }
+
+  private Duration leaseTtl() {
+    return Duration.ofSeconds(3 * sweepIntervalSeconds());
+  }
+
+  private static String hostname() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      // Sem hostname, cada execução é tratada como uma instância diferente
+      return UUID.randomUUID().toString();
+    }
+  }
+
+  private void archive(List<Job> jobs) {
+    if (jobs.isEmpty()) {
+      return;
+    }
+    // Gravar o arquivo em disco antes de remover do Redis para o job nunca se perder
+    for (Job job : jobs) {
+      archiveRepository.save(job);
+    }
+    archiveRepository.commit();
+    for (Job job : jobs) {
+      hotRepository.deleteById(job.getId());
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.pdfprocessor.infrastructure.adapter.image;
+
+import com.pdfprocessor.infrastructure.adapter.DaemonThreadPools;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.NodeList;
+
+/**
+ * Grava imagens em disco com parâmetros explícitos de compressão.
+ *
+ * <p>PNG usa o {@link PngEncoder}, com nível de deflate e filtro configuráveis e compressão em
+ * paralelo das imagens grandes. Os demais formatos usam o ImageIO com um {@link ImageWriter}
+ * reaproveitado por thread e, no JPEG, qualidade e subamostragem de crominância explícitas.
+ */
+@Component
+public class ImageEncoder {
+
+  private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+  private static final List<String> CHROMA_SUBSAMPLINGS = List.of("420", "422", "444");
+  private static final int OUTPUT_BUFFER_BYTES = 256 * 1024;
+
+  private final ProcessingProperties properties;
+  private final ExecutorService deflateExecutor;
+  private final PngEncoder pngEncoder;
+  // ImageWriter não é thread-safe: cada thread mantém os seus, reaproveitados entre imagens
+  private final ThreadLocal<Map<String, ImageWriter>> writers =
+      ThreadLocal.withInitial(HashMap::new);
+
+  public ImageEncoder(ProcessingProperties properties) {
+    this.properties = properties;
+    this.deflateExecutor = DaemonThreadPools.fixed("png-deflate", properties.getEncoderThreads());
+    this.pngEncoder = new PngEncoder(deflateExecutor);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    deflateExecutor.shutdownNow();
+  }
+
+  /**
+   * Parâmetros de codificação de um job: as opções do job sobrepõem os padrões configurados.
+   *
+   * @param options opções do job; chaves ausentes usam os valores de {@code app.processing}
+   */
+  public EncodingSettings settings(Map<String, Object> options) {
+    Map<String, Object> source = options != null ? options : Map.of();
+    return new EncodingSettings(
+        Integer.parseInt(
+            source.getOrDefault("png_compression", properties.getPngCompressionLevel()).toString()),
+        PngFilter.fromName(source.getOrDefault("png_filter", properties.getPngFilter()).toString()),
+        Float.parseFloat(
+            source.getOrDefault("jpeg_quality", properties.getJpegQuality()).toString()),
+        source
+            .getOrDefault("jpeg_chroma_subsampling", properties.getJpegChromaSubsampling())
+            .toString());
+  }
+
+  /**
+   * Grava a imagem no formato informado.
+   *
+   * @param image imagem a gravar
+   * @param format nome do formato (PNG, JPG, JPEG, GIF, BMP)
+   * @param target arquivo de destino
+   * @param settings parâmetros de codificação
+   * @throws IllegalArgumentException se não houver codificador para o formato
+   */
+  public void write(BufferedImage image, String format, Path target, EncodingSettings settings)
+      throws IOException {
+    try (OutputStream out =
+        new BufferedOutputStream(Files.newOutputStream(target), OUTPUT_BUFFER_BYTES)) {
+      write(image, format, out, settings);
+    }
+  }
+
+  /**
+   * Grava a imagem no formato informado em um fluxo, sem fechá-lo.
+   *
+   * @see #write(BufferedImage, String, Path, EncodingSettings)
+   */
+  public void write(
+      BufferedImage image, String format, OutputStream out, EncodingSettings settings)
+      throws IOException {
+    String normalized = format.toUpperCase(Locale.ROOT);
+    if ("PNG".equals(normalized) && PngEncoder.supports(image)) {
+      pngEncoder.write(image, out, settings.getPngCompressionLevel(), settings.getPngFilter());
+    } else {
+      writeWithImageIo(image, normalized, out, settings);
+    }
+  }
+
+  private void writeWithImageIo(
+      BufferedImage image, String format, OutputStream out, EncodingSettings settings)
+      throws IOException {
+    ImageWriter writer = writer(format);
+    boolean jpeg = "JPG".equals(format) || "JPEG".equals(format);
+
+    ImageWriteParam param = writer.getDefaultWriteParam();
+    IIOMetadata metadata = null;
+    if (jpeg) {
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(settings.getJpegQuality());
+      metadata =
+          writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), param);
+      applyChromaSubsampling(metadata, settings.getJpegChromaSubsampling());
+    }
+
+    try (ImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+      writer.setOutput(output);
+      writer.write(null, new IIOImage(image, null, metadata), param);
+    } finally {
+      writer.reset();
+    }
+  }
+
+  private ImageWriter writer(String format) {
+    return writers
+        .get()
+        .computeIfAbsent(
+            format,
+            name -> {
+              Iterator<ImageWriter> candidates = ImageIO.getImageWritersByFormatName(name);
+              if (!candidates.hasNext()) {
+                throw new IllegalArgumentException("No image writer for format: " + name);
+              }
+              return candidates.next();
+            });
+  }
+
+  /**
+   * Ajusta os fatores de amostragem do componente de luminância: 2x2 é 4:2:0 (padrão do
+   * codificador), 2x1 é 4:2:2 e 1x1 é 4:4:4. Imagens em tons de cinza não têm crominância.
+   */
+  private static void applyChromaSubsampling(IIOMetadata metadata, String subsampling)
+      throws IOException {
+    IIOMetadataNode tree = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+    NodeList components = tree.getElementsByTagName("componentSpec");
+    if (components.getLength() < 3) {
+      return;
+    }
+    int horizontal = "444".equals(subsampling) ? 1 : 2;
+    int vertical = "420".equals(subsampling) ? 2 : 1;
+    for (int i = 0; i < components.getLength(); i++) {
+      IIOMetadataNode component = (IIOMetadataNode) components.item(i);
+      component.setAttribute("HsamplingFactor", String.valueOf(i == 0 ? horizontal : 1));
+      component.setAttribute("VsamplingFactor", String.valueOf(i == 0 ? vertical : 1));
+    }
+    metadata.setFromTree(JPEG_METADATA_FORMAT, tree);
+  }
+
+  /**
+   * Valida as opções de codificação de um job.
+   *
+   * @return true se as opções presentes são válidas
+   */
+  public static boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("png_compression")) {
+        int level = Integer.parseInt(options.get("png_compression").toString());
+        if (level < 0 || level > 9) {
+          return false;
+        }
+      }
+      if (options.containsKey("png_filter")) {
+        PngFilter.fromName(options.get("png_filter").toString());
+      }
+      if (options.containsKey("jpeg_quality")) {
+        float quality = Float.parseFloat(options.get("jpeg_quality").toString());
+        if (quality < 0 || quality > 1) {
+          return false;
+        }
+      }
+      if (options.containsKey("jpeg_chroma_subsampling")) {
+        return CHROMA_SUBSAMPLINGS.contains(options.get("jpeg_chroma_subsampling").toString());
+      }
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  /** Acrescenta ao esquema de uma operação as opções de codificação de imagens. */
+  public static void describeOptions(Map<String, Object> schema) {
+    schema.put("png_compression", "number (optional, default: 4, range: 0-9)");
+    schema.put(
+        "png_filter",
+        "string (optional, default: 'adaptive', options: none, sub, up, average, paeth, adaptive)");
+    schema.put("jpeg_quality", "number (optional, default: 0.85, range: 0-1)");
+    schema.put(
+        "jpeg_chroma_subsampling", "string (optional, default: '420', options: 420, 422, 444)");
+  }
+
+  /** Parâmetros de codificação de imagens de um job. */
+  public static class EncodingSettings {
+    private final int pngCompressionLevel;
+    private final PngFilter pngFilter;
+    private final float jpegQuality;
+    private final String jpegChromaSubsampling;
+
+    public EncodingSettings(
+        int pngCompressionLevel,
+        PngFilter pngFilter,
+        float jpegQuality,
+        String jpegChromaSubsampling) {
+      this.pngCompressionLevel = pngCompressionLevel;
+      this.pngFilter = pngFilter;
+      this.jpegQuality = jpegQuality;
+      this.jpegChromaSubsampling = jpegChromaSubsampling;
+    }
+
+    public int getPngCompressionLevel() {
+      return pngCompressionLevel;
+    }
+
+    public PngFilter getPngFilter() {
+      return pngFilter;
+    }
+
+    public float getJpegQuality() {
+      return jpegQuality;
+    }
+
+    public String getJpegChromaSubsampling() {
+      return jpegChromaSubsampling;
+    }
+  }
+}
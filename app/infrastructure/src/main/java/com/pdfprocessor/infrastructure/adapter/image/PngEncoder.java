@@ -0,0 +1,421 @@
+package com.pdfprocessor.infrastructure.adapter.image;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.IndexColorModel;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Codificador PNG de 8 bits (cinza, RGB ou RGBA) com compressão em paralelo.
+ *
+ * <p>A imagem é dividida em faixas horizontais de cerca de 1 MB. Cada faixa é filtrada e comprimida
+ * em uma thread com o seu próprio {@link Deflater}; as faixas intermediárias terminam em
+ * SYNC_FLUSH, de modo que a concatenação forma um único fluxo deflate válido. As últimas 32 KB da
+ * faixa anterior são usadas como dicionário, o que mantém a taxa de compressão próxima à de um
+ * fluxo único. O Adler-32 do zlib é combinado a partir dos valores de cada faixa.
+ */
+final class PngEncoder {
+
+  private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+  private static final int BAND_BYTES = 1 << 20;
+  private static final int DICTIONARY_BYTES = 32 * 1024;
+  private static final int ADLER_BASE = 65521;
+
+  // Deflaters por thread, um por nível e estratégia: trocar parâmetros de um fluxo já iniciado
+  // não é seguro, e criar um Deflater por faixa aloca memória nativa a cada página
+  private static final ThreadLocal<Deflater[]> DEFLATERS =
+      ThreadLocal.withInitial(() -> new Deflater[20]);
+  private static final ThreadLocal<byte[]> DEFLATE_BUFFERS =
+      ThreadLocal.withInitial(() -> new byte[64 * 1024]);
+
+  private final Executor executor;
+
+  PngEncoder(Executor executor) {
+    this.executor = executor;
+  }
+
+  /** Indica se a imagem pode ser gravada por este codificador sem perder a paleta original. */
+  static boolean supports(BufferedImage image) {
+    return !(image.getColorModel() instanceof IndexColorModel);
+  }
+
+  void write(BufferedImage image, OutputStream out, int level, PngFilter filter)
+      throws IOException {
+    PixelSource source = new PixelSource(image);
+    int height = image.getHeight();
+    int rowsPerBand = Math.max(1, BAND_BYTES / (source.rowBytes() + 1));
+    int bands = Math.ceilDiv(height, rowsPerBand);
+
+    List<CompletableFuture<Band>> futures = new ArrayList<>(bands);
+    for (int band = 0; band < bands; band++) {
+      int firstRow = band * rowsPerBand;
+      int endRow = Math.min(height, firstRow + rowsPerBand);
+      boolean last = band == bands - 1;
+      if (bands == 1) {
+        futures.add(
+            CompletableFuture.completedFuture(
+                encodeBand(source, firstRow, endRow, last, level, filter)));
+      } else {
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> encodeBand(source, firstRow, endRow, last, level, filter), executor));
+      }
+    }
+
+    out.write(SIGNATURE);
+    writeChunk(out, "IHDR", header(image.getWidth(), height, source.colorType()));
+
+    long adler = 1;
+    for (int band = 0; band < bands; band++) {
+      Band encoded = join(futures.get(band));
+      adler = combineAdler32(adler, encoded.adler, encoded.length);
+      byte[] prefix = band == 0 ? zlibHeader(level) : new byte[0];
+      byte[] suffix = band == bands - 1 ? toBytes((int) adler) : new byte[0];
+      writeChunk(out, "IDAT", prefix, encoded.compressed, suffix);
+    }
+
+    writeChunk(out, "IEND");
+  }
+
+  private Band encodeBand(
+      PixelSource source, int firstRow, int endRow, boolean last, int level, PngFilter filter) {
+    int rowBytes = source.rowBytes();
+    int stride = rowBytes + 1;
+
+    // Linhas finais da faixa anterior, filtradas de novo aqui, servem de dicionário
+    int contextRows = Math.min(firstRow, Math.ceilDiv(DICTIONARY_BYTES, stride));
+    int startRow = firstRow - contextRows;
+
+    byte[] filtered = new byte[(endRow - startRow) * stride];
+    RowFilter rowFilter = new RowFilter(filter, source.bytesPerPixel(), rowBytes);
+    int[] pixels = new int[source.width()];
+    byte[] previous = new byte[rowBytes];
+    byte[] current = new byte[rowBytes];
+    if (startRow > 0) {
+      source.readRow(startRow - 1, previous, pixels);
+    }
+    for (int y = startRow; y < endRow; y++) {
+      source.readRow(y, current, pixels);
+      rowFilter.filter(current, previous, filtered, (y - startRow) * stride);
+      byte[] swap = previous;
+      previous = current;
+      current = swap;
+    }
+
+    int dictionaryLength = contextRows * stride;
+    int length = filtered.length - dictionaryLength;
+    Adler32 adler = new Adler32();
+    adler.update(filtered, dictionaryLength, length);
+
+    Deflater deflater = deflater(level, filter);
+    deflater.reset();
+    if (dictionaryLength > 0) {
+      int dictionarySize = Math.min(dictionaryLength, DICTIONARY_BYTES);
+      deflater.setDictionary(filtered, dictionaryLength - dictionarySize, dictionarySize);
+    }
+    deflater.setInput(filtered, dictionaryLength, length);
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+    byte[] buffer = DEFLATE_BUFFERS.get();
+    if (last) {
+      deflater.finish();
+      while (!deflater.finished()) {
+        compressed.write(buffer, 0, deflater.deflate(buffer));
+      }
+    } else {
+      // A primeira chamada após setStrategy só aplica os parâmetros e pode não produzir nada;
+      // o flush termina quando toda a entrada foi consumida e a saída não encheu o buffer
+      int count;
+      do {
+        count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+        compressed.write(buffer, 0, count);
+      } while (count == buffer.length || !deflater.needsInput());
+    }
+    return new Band(compressed.toByteArray(), adler.getValue(), length);
+  }
+
+  private static Deflater deflater(int level, PngFilter filter) {
+    boolean filtered = filter != PngFilter.NONE;
+    int index = level * 2 + (filtered ? 1 : 0);
+    Deflater[] deflaters = DEFLATERS.get();
+    if (deflaters[index] == null) {
+      Deflater deflater = new Deflater(level, true);
+      deflater.setStrategy(filtered ? Deflater.FILTERED : Deflater.DEFAULT_STRATEGY);
+      deflaters[index] = deflater;
+    }
+    return deflaters[index];
+  }
+
+  private static Band join(CompletableFuture<Band> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw e;
+    }
+  }
+
+  /** Combina o Adler-32 de dois blocos consecutivos, como {@code adler32_combine} do zlib. */
+  static long combineAdler32(long adler1, long adler2, long length2) {
+    long remainder = length2 % ADLER_BASE;
+    long sum1 = adler1 & 0xffff;
+    long sum2 = (remainder * sum1) % ADLER_BASE;
+    sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+    sum2 += ((adler1 >> 16) & 0xffff) + ((adler2 >> 16) & 0xffff) + ADLER_BASE - remainder;
+    if (sum1 >= ADLER_BASE) {
+      sum1 -= ADLER_BASE;
+    }
+    if (sum1 >= ADLER_BASE) {
+      sum1 -= ADLER_BASE;
+    }
+    if (sum2 >= (ADLER_BASE << 1)) {
+      sum2 -= (ADLER_BASE << 1);
+    }
+    if (sum2 >= ADLER_BASE) {
+      sum2 -= ADLER_BASE;
+    }
+    return sum1 | (sum2 << 16);
+  }
+
+  private static byte[] header(int width, int height, int colorType) {
+    byte[] header = new byte[13];
+    System.arraycopy(toBytes(width), 0, header, 0, 4);
+    System.arraycopy(toBytes(height), 0, header, 4, 4);
+    header[8] = 8; // bits por amostra
+    header[9] = (byte) colorType;
+    // compressão, filtro e entrelaçamento: padrão, adaptativo por linha, nenhum
+    return header;
+  }
+
+  private static byte[] zlibHeader(int level) {
+    int compressionLevel = level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3;
+    int header = (0x78 << 8) | (compressionLevel << 6);
+    header += 31 - header % 31;
+    return new byte[] {(byte) (header >> 8), (byte) header};
+  }
+
+  private static void writeChunk(OutputStream out, String type, byte[]... parts)
+      throws IOException {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    int length = 0;
+    for (byte[] part : parts) {
+      length += part.length;
+    }
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    out.write(toBytes(length));
+    out.write(typeBytes);
+    for (byte[] part : parts) {
+      out.write(part);
+      crc.update(part);
+    }
+    out.write(toBytes((int) crc.getValue()));
+  }
+
+  private static byte[] toBytes(int value) {
+    return new byte[] {
+      (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value
+    };
+  }
+
+  /** Faixa comprimida e o Adler-32 dos seus dados filtrados. */
+  private static final class Band {
+    private final byte[] compressed;
+    private final long adler;
+    private final long length;
+
+    private Band(byte[] compressed, long adler, long length) {
+      this.compressed = compressed;
+      this.adler = adler;
+      this.length = length;
+    }
+  }
+
+  /** Lê linhas da imagem como bytes de 8 bits por amostra; segura para leitura concorrente. */
+  private static final class PixelSource {
+    private static final int GRAY = 0;
+    private static final int RGB = 2;
+    private static final int RGBA = 6;
+
+    private final BufferedImage image;
+    private final int colorType;
+    private final int bytesPerPixel;
+    private final int[] packedPixels;
+    private final int packedOffset;
+    private final int packedStride;
+
+    private PixelSource(BufferedImage image) {
+      this.image = image;
+      if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+        colorType = GRAY;
+      } else if (image.getColorModel().hasAlpha()) {
+        colorType = RGBA;
+      } else {
+        colorType = RGB;
+      }
+      bytesPerPixel = colorType == GRAY ? 1 : colorType == RGB ? 3 : 4;
+
+      // Acesso direto ao array das imagens renderizadas (TYPE_INT_RGB/ARGB), sem getRGB
+      Raster raster = image.getRaster();
+      boolean packed =
+          (image.getType() == BufferedImage.TYPE_INT_RGB
+                  || image.getType() == BufferedImage.TYPE_INT_ARGB)
+              && raster.getDataBuffer() instanceof DataBufferInt
+              && raster.getSampleModel() instanceof SinglePixelPackedSampleModel
+              && raster.getSampleModelTranslateX() == 0
+              && raster.getSampleModelTranslateY() == 0;
+      if (packed) {
+        DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+        SinglePixelPackedSampleModel model =
+            (SinglePixelPackedSampleModel) raster.getSampleModel();
+        packedPixels = buffer.getData();
+        packedOffset = buffer.getOffset();
+        packedStride = model.getScanlineStride();
+      } else {
+        packedPixels = null;
+        packedOffset = 0;
+        packedStride = 0;
+      }
+    }
+
+    int width() {
+      return image.getWidth();
+    }
+
+    int colorType() {
+      return colorType;
+    }
+
+    int bytesPerPixel() {
+      return bytesPerPixel;
+    }
+
+    int rowBytes() {
+      return image.getWidth() * bytesPerPixel;
+    }
+
+    void readRow(int y, byte[] row, int[] pixels) {
+      int width = image.getWidth();
+      if (colorType == GRAY) {
+        image.getRaster().getDataElements(0, y, width, 1, row);
+        return;
+      }
+      int[] source;
+      int offset;
+      if (packedPixels != null) {
+        source = packedPixels;
+        offset = packedOffset + y * packedStride;
+      } else {
+        image.getRGB(0, y, width, 1, pixels, 0, width);
+        source = pixels;
+        offset = 0;
+      }
+      int position = 0;
+      for (int x = 0; x < width; x++) {
+        int argb = source[offset + x];
+        row[position++] = (byte) (argb >> 16);
+        row[position++] = (byte) (argb >> 8);
+        row[position++] = (byte) argb;
+        if (colorType == RGBA) {
+          row[position++] = (byte) (argb >>> 24);
+        }
+      }
+    }
+  }
+
+  /** Aplica o filtro de linha; mantém buffers próprios e deve ser usado por uma thread. */
+  private static final class RowFilter {
+    private final PngFilter filter;
+    private final int bytesPerPixel;
+    private final int rowBytes;
+    private final byte[][] candidates;
+
+    private RowFilter(PngFilter filter, int bytesPerPixel, int rowBytes) {
+      this.filter = filter;
+      this.bytesPerPixel = bytesPerPixel;
+      this.rowBytes = rowBytes;
+      this.candidates = filter == PngFilter.ADAPTIVE ? new byte[5][rowBytes] : null;
+    }
+
+    void filter(byte[] current, byte[] previous, byte[] out, int position) {
+      if (filter != PngFilter.ADAPTIVE) {
+        out[position] = (byte) filter.getType();
+        apply(filter.getType(), current, previous, out, position + 1);
+        return;
+      }
+      int best = 0;
+      long bestSum = Long.MAX_VALUE;
+      for (int type = 0; type < 5; type++) {
+        apply(type, current, previous, candidates[type], 0);
+        long sum = 0;
+        for (byte value : candidates[type]) {
+          sum += Math.abs(value);
+        }
+        if (sum < bestSum) {
+          bestSum = sum;
+          best = type;
+        }
+      }
+      out[position] = (byte) best;
+      System.arraycopy(candidates[best], 0, out, position + 1, rowBytes);
+    }
+
+    private void apply(int type, byte[] current, byte[] previous, byte[] out, int offset) {
+      int bpp = bytesPerPixel;
+      switch (type) {
+        case 0 -> System.arraycopy(current, 0, out, offset, rowBytes);
+        case 1 -> {
+          for (int i = 0; i < rowBytes; i++) {
+            int left = i >= bpp ? current[i - bpp] : 0;
+            out[offset + i] = (byte) (current[i] - left);
+          }
+        }
+        case 2 -> {
+          for (int i = 0; i < rowBytes; i++) {
+            out[offset + i] = (byte) (current[i] - previous[i]);
+          }
+        }
+        case 3 -> {
+          for (int i = 0; i < rowBytes; i++) {
+            int left = i >= bpp ? current[i - bpp] & 0xff : 0;
+            out[offset + i] = (byte) (current[i] - ((left + (previous[i] & 0xff)) >>> 1));
+          }
+        }
+        default -> {
+          for (int i = 0; i < rowBytes; i++) {
+            int left = i >= bpp ? current[i - bpp] & 0xff : 0;
+            int up = previous[i] & 0xff;
+            int upLeft = i >= bpp ? previous[i - bpp] & 0xff : 0;
+            out[offset + i] = (byte) (current[i] - paeth(left, up, upLeft));
+          }
+        }
+      }
+    }
+
+    private static int paeth(int left, int up, int upLeft) {
+      int estimate = left + up - upLeft;
+      int distanceLeft = Math.abs(estimate - left);
+      int distanceUp = Math.abs(estimate - up);
+      int distanceUpLeft = Math.abs(estimate - upLeft);
+      if (distanceLeft <= distanceUp && distanceLeft <= distanceUpLeft) {
+        return left;
+      }
+      return distanceUp <= distanceUpLeft ? up : upLeft;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.pdfprocessor.infrastructure.adapter.image;
+
+import java.util.Locale;
+
+/**
+ * Filtros de linha do PNG. Os filtros fixos custam uma passada por linha; {@link #ADAPTIVE} testa
+ * os cinco e escolhe o de menor soma absoluta, como a libpng, e em geral gera arquivos menores.
+ */
+public enum PngFilter {
+  NONE(0),
+  SUB(1),
+  UP(2),
+  AVERAGE(3),
+  PAETH(4),
+  ADAPTIVE(-1);
+
+  private final int type;
+
+  PngFilter(int type) {
+    this.type = type;
+  }
+
+  /** Código do filtro gravado no início de cada linha; -1 para {@link #ADAPTIVE}. */
+  int getType() {
+    return type;
+  }
+
+  /**
+   * Converte o nome usado nas opções e propriedades.
+   *
+   * @throws IllegalArgumentException se o nome não corresponder a um filtro
+   */
+  public static PngFilter fromName(String name) {
+    return valueOf(name.trim().toUpperCase(Locale.ROOT));
+  }
+}
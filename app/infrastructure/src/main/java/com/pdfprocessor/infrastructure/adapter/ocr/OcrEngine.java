@@ -0,0 +1,19 @@
+package com.pdfprocessor.infrastructure.adapter.ocr;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/** Motor de OCR com as suas próprias threads de reconhecimento. */
+public interface OcrEngine {
+
+  /**
+   * Reconhece as palavras da imagem em uma das threads do motor.
+   *
+   * @param image página renderizada
+   * @param language código do idioma no formato do Tesseract (ex.: {@code eng}, {@code por})
+   * @param dpi resolução em que a página foi renderizada
+   * @return palavras em ordem de leitura
+   */
+  CompletableFuture<List<OcrWord>> recognize(BufferedImage image, String language, int dpi);
+}
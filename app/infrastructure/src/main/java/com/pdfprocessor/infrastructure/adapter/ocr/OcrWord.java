@@ -0,0 +1,38 @@
+package com.pdfprocessor.infrastructure.adapter.ocr;
+
+import java.awt.Rectangle;
+
+/** Palavra reconhecida pelo OCR, com a posição em pixels da imagem reconhecida. */
+public class OcrWord {
+
+  private final String text;
+  private final Rectangle bounds;
+  private final float confidence;
+  private final boolean lineStart;
+
+  public OcrWord(String text, Rectangle bounds, float confidence, boolean lineStart) {
+    this.text = text;
+    this.bounds = bounds;
+    this.confidence = confidence;
+    this.lineStart = lineStart;
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  /** Retângulo da palavra, com origem no canto superior esquerdo da imagem. */
+  public Rectangle getBounds() {
+    return bounds;
+  }
+
+  /** Confiança do reconhecimento, de 0 a 100. */
+  public float getConfidence() {
+    return confidence;
+  }
+
+  /** Se a palavra começa uma linha de texto. */
+  public boolean isLineStart() {
+    return lineStart;
+  }
+}
@@ -0,0 +1,175 @@
+package com.pdfprocessor.infrastructure.adapter.ocr;
+
+import com.pdfprocessor.infrastructure.adapter.DaemonThreadPools;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import com.sun.jna.Pointer;
+import jakarta.annotation.PreDestroy;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.sourceforge.tess4j.ITessAPI;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.ITessAPI.TessPageIterator;
+import net.sourceforge.tess4j.ITessAPI.TessPageIteratorLevel;
+import net.sourceforge.tess4j.ITessAPI.TessResultIterator;
+import net.sourceforge.tess4j.TessAPI;
+import org.springframework.stereotype.Component;
+
+/**
+ * OCR com o Tesseract, pela API nativa do Tess4J.
+ *
+ * <p>O Tesseract não é thread-safe e carregar os modelos de um idioma custa mais que reconhecer
+ * uma página. Por isso o motor tem um pool fixo de threads e cada thread mantém as suas instâncias
+ * da API, uma por idioma, inicializadas uma vez e reaproveitadas entre páginas e jobs. A classe
+ * {@code Tesseract} do Tess4J não serve aqui: ela inicializa e descarta a API a cada chamada.
+ */
+@Component
+public class TesseractOcrEngine implements OcrEngine {
+
+  private final String dataPath;
+  private final ExecutorService executor;
+  // Instâncias de cada thread do pool, por idioma
+  private final ThreadLocal<Map<String, TessBaseAPI>> instances =
+      ThreadLocal.withInitial(HashMap::new);
+  // Todas as instâncias criadas, para liberar a memória nativa no encerramento
+  private final Queue<TessBaseAPI> created = new ConcurrentLinkedQueue<>();
+
+  public TesseractOcrEngine(ProcessingProperties properties) {
+    this.dataPath = properties.getOcrDataPath().isBlank() ? null : properties.getOcrDataPath();
+    this.executor = DaemonThreadPools.fixed("ocr", properties.getOcrThreads());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+        return; // Uma thread ainda usa a sua instância; a memória nativa fica com o processo
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    for (TessBaseAPI handle = created.poll(); handle != null; handle = created.poll()) {
+      TessAPI.INSTANCE.TessBaseAPIEnd(handle);
+      TessAPI.INSTANCE.TessBaseAPIDelete(handle);
+    }
+  }
+
+  @Override
+  public CompletableFuture<List<OcrWord>> recognize(
+      BufferedImage image, String language, int dpi) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try {
+            return recognizeWords(instance(language), grayscale(image), dpi);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          } catch (LinkageError e) {
+            throw new IllegalStateException("Tesseract native library is not available", e);
+          }
+        },
+        executor);
+  }
+
+  private TessBaseAPI instance(String language) throws IOException {
+    Map<String, TessBaseAPI> byLanguage = instances.get();
+    TessBaseAPI handle = byLanguage.get(language);
+    if (handle == null) {
+      TessAPI api = TessAPI.INSTANCE;
+      handle = api.TessBaseAPICreate();
+      if (api.TessBaseAPIInit3(handle, dataPath, language) != 0) {
+        api.TessBaseAPIDelete(handle);
+        throw new IOException("Could not load Tesseract data for language: " + language);
+      }
+      api.TessBaseAPISetPageSegMode(handle, ITessAPI.TessPageSegMode.PSM_AUTO);
+      byLanguage.put(language, handle);
+      created.add(handle);
+    }
+    return handle;
+  }
+
+  private static List<OcrWord> recognizeWords(TessBaseAPI handle, BufferedImage image, int dpi)
+      throws IOException {
+    TessAPI api = TessAPI.INSTANCE;
+    byte[] pixels = ((DataBufferByte) image.getRaster().getDataBuffer()).getData();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(pixels.length);
+    buffer.put(pixels).flip();
+    int width = image.getWidth();
+    api.TessBaseAPISetImage(handle, buffer, width, image.getHeight(), 1, width);
+    api.TessBaseAPISetSourceResolution(handle, dpi);
+    try {
+      if (api.TessBaseAPIRecognize(handle, null) != 0) {
+        throw new IOException("Tesseract could not recognize the page");
+      }
+      List<OcrWord> words = new ArrayList<>();
+      TessResultIterator iterator = api.TessBaseAPIGetIterator(handle);
+      if (iterator == null) {
+        return words;
+      }
+      try {
+        TessPageIterator page = api.TessResultIteratorGetPageIterator(iterator);
+        int level = TessPageIteratorLevel.RIL_WORD;
+        IntBuffer left = IntBuffer.allocate(1);
+        IntBuffer top = IntBuffer.allocate(1);
+        IntBuffer right = IntBuffer.allocate(1);
+        IntBuffer bottom = IntBuffer.allocate(1);
+        do {
+          Pointer text = api.TessResultIteratorGetUTF8Text(iterator, level);
+          if (text == null) {
+            continue;
+          }
+          String word = text.getString(0, "UTF-8");
+          api.TessDeleteText(text);
+          api.TessPageIteratorBoundingBox(page, level, left, top, right, bottom);
+          words.add(
+              new OcrWord(
+                  word,
+                  new Rectangle(
+                      left.get(0),
+                      top.get(0),
+                      right.get(0) - left.get(0),
+                      bottom.get(0) - top.get(0)),
+                  api.TessResultIteratorConfidence(iterator, level),
+                  api.TessPageIteratorIsAtBeginningOf(page, TessPageIteratorLevel.RIL_TEXTLINE)
+                      == ITessAPI.TRUE));
+        } while (api.TessResultIteratorNext(iterator, level) == ITessAPI.TRUE);
+        return words;
+      } finally {
+        api.TessResultIteratorDelete(iterator);
+      }
+    } finally {
+      api.TessBaseAPIClear(handle);
+    }
+  }
+
+  /** Tons de cinza, 8 bits por pixel, que é o que o Tesseract binariza internamente. */
+  private static BufferedImage grayscale(BufferedImage image) {
+    if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+      return image;
+    }
+    BufferedImage gray =
+        new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+    Graphics2D graphics = gray.createGraphics();
+    try {
+      graphics.drawImage(image, 0, 0, null);
+    } finally {
+      graphics.dispose();
+    }
+    return gray;
+  }
+}
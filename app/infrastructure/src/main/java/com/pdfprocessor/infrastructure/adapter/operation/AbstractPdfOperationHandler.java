@@ -0,0 +1,152 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+/** Base dos handlers implementados com PDFBox: acesso ao storage e utilitários de páginas. */
+public abstract class AbstractPdfOperationHandler implements OperationHandler {
+
+  private final StorageService storageService;
+  private final OperationExecutors executors;
+
+  protected AbstractPdfOperationHandler(
+      StorageService storageService, OperationExecutors executors) {
+    this.storageService = storageService;
+    this.executors = executors;
+  }
+
+  @Override
+  public Executor getExecutor() {
+    return executors.forProfile(getResourceProfile());
+  }
+
+  /** Threads disponíveis no executor do perfil da operação. */
+  protected int getParallelism() {
+    return executors.parallelism(getResourceProfile());
+  }
+
+  /**
+   * Executor de outro perfil, para etapas de um job com custo diferente da operação (ex.: gravar
+   * em disco o que foi renderizado em CPU).
+   */
+  protected Executor executorFor(ResourceProfile profile) {
+    return executors.forProfile(profile);
+  }
+
+  /**
+   * Aguarda as tarefas paralelas de um job e relança a primeira falha como se tivesse ocorrido na
+   * thread do job: {@link IOException} é extraída de {@link UncheckedIOException} e exceções de
+   * runtime são relançadas sem embrulho.
+   */
+  protected static void awaitAll(Collection<? extends CompletableFuture<?>> futures)
+      throws IOException {
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncheckedIOException unchecked) {
+        throw unchecked.getCause();
+      }
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /** Aguarda as tarefas sem relançar falhas; usado na limpeza depois de um erro. */
+  protected static void awaitAllQuietly(Collection<? extends CompletableFuture<?>> futures) {
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .exceptionally(e -> null)
+        .join();
+  }
+
+  /** Diretório de resultados do job, no layout definido pelo storage. */
+  protected Path resultDirectory(Job job) {
+    return storageService.getJobArea(job.getId(), StorageService.JobArea.RESULTS);
+  }
+
+  /** Diretório de arquivos intermediários do job, descartável ao fim da operação. */
+  protected Path scratchDirectory(Job job) {
+    return storageService.getJobArea(job.getId(), StorageService.JobArea.SCRATCH);
+  }
+
+  /** Caminho físico de um arquivo de entrada; só o storage conhece o layout em disco. */
+  protected Path resolveInput(String inputFile) {
+    return storageService.getPhysicalPath(inputFile);
+  }
+
+  protected List<Integer> parsePageRange(String pages, int totalPages) {
+    List<Integer> pageNumbers = new ArrayList<>();
+
+    if (pages == null || pages.trim().isEmpty()) {
+      return pageNumbers;
+    }
+
+    String[] parts = pages.split(",");
+    for (String part : parts) {
+      part = part.trim();
+      if (part.contains("-")) {
+        // Intervalo (ex: "1-3", "5-10")
+        String[] range = part.split("-");
+        if (range.length == 2) {
+          try {
+            int start = Integer.parseInt(range[0].trim());
+            int end = Integer.parseInt(range[1].trim());
+            for (int i = start; i <= end && i <= totalPages; i++) {
+              if (i >= 1) {
+                pageNumbers.add(i);
+              }
+            }
+          } catch (NumberFormatException e) {
+            System.err.println("Invalid page range: " + part);
+          }
+        }
+      } else {
+        // Página individual (ex: "5")
+        try {
+          int pageNum = Integer.parseInt(part);
+          if (pageNum >= 1 && pageNum <= totalPages) {
+            pageNumbers.add(pageNum);
+          }
+        } catch (NumberFormatException e) {
+          System.err.println("Invalid page number: " + part);
+        }
+      }
+    }
+
+    return pageNumbers;
+  }
+
+  protected List<Integer> getAllPageNumbers(int totalPages) {
+    List<Integer> pages = new ArrayList<>();
+    for (int i = 1; i <= totalPages; i++) {
+      pages.add(i);
+    }
+    return pages;
+  }
+
+  protected PDRectangle getPageSize(String pageSize) {
+    return switch (pageSize.toUpperCase()) {
+      case "A4" -> PDRectangle.A4;
+      case "A3" -> PDRectangle.A3;
+      case "A5" -> PDRectangle.A5;
+      case "LETTER" -> PDRectangle.LETTER;
+      case "LEGAL" -> PDRectangle.LEGAL;
+      default -> PDRectangle.A4;
+    };
+  }
+}
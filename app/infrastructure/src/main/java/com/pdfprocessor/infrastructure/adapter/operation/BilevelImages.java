@@ -0,0 +1,202 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.CCITTFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+/**
+ * Detecção de imagens efetivamente preto e branco e recodificação em CCITT Group 4.
+ *
+ * <p>Digitalizações de texto costumam ser gravadas como imagens coloridas em Flate ou JPEG, embora
+ * quase todos os pixels sejam claros ou escuros. Uma imagem é considerada bilevel quando ao menos
+ * {@value #BILEVEL_RATIO} dos pixels têm luminância nos extremos e praticamente nenhum tem cor
+ * (diferença entre o maior e o menor canal acima de {@value #CHROMA_LIMIT}); ela é então
+ * binarizada com o limiar de Otsu e comprimida em G4, que costuma ser dez vezes menor. A
+ * luminância sozinha não basta: azul saturado é "escuro" e amarelo de marca-texto é "claro", e
+ * uma assinatura a caneta azul ou um carimbo colorido sumiriam na binarização.
+ */
+final class BilevelImages {
+
+  private static final double BILEVEL_RATIO = 0.97;
+  private static final int DARK_LIMIT = 64;
+  private static final int LIGHT_LIMIT = 192;
+  // Ruído de cor de um scanner fica bem abaixo disso; tinta colorida fica bem acima
+  private static final int CHROMA_LIMIT = 48;
+  private static final double MAX_COLORED_RATIO = 0.0002;
+
+  private BilevelImages() {}
+
+  /**
+   * Recodifica a imagem em G4 se ela for bilevel e o resultado for menor que o stream original.
+   *
+   * <p>Não altera a imagem: o resultado é independente do documento de origem e pode ser aplicado
+   * em outra cópia dele, na thread que a mantém.
+   *
+   * @return a imagem codificada, ou null se a imagem deve ser mantida
+   */
+  static Encoded encode(PDImageXObject image) throws IOException {
+    COSStream stream = image.getCOSObject();
+    String suffix = image.getSuffix();
+    if (image.isStencil()
+        || stream.containsKey(COSName.MASK)
+        || "tiff".equals(suffix)
+        || "jb2".equals(suffix)) {
+      return null;
+    }
+
+    BufferedImage source = image.getOpaqueImage();
+    if (source == null) {
+      return null;
+    }
+    int width = source.getWidth();
+    int height = source.getHeight();
+    int[] histogram = new int[256];
+    long[] colored = new long[1];
+    byte[] luma = luminance(source, histogram, colored);
+    if (colored[0] > MAX_COLORED_RATIO * luma.length) {
+      return null;
+    }
+
+    long extremes = 0;
+    for (int level = 0; level < 256; level++) {
+      if (level < DARK_LIMIT || level >= LIGHT_LIMIT) {
+        extremes += histogram[level];
+      }
+    }
+    if (extremes < BILEVEL_RATIO * luma.length) {
+      return null;
+    }
+
+    int threshold = otsuThreshold(histogram, luma.length);
+    BufferedImage binary = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+    WritableRaster raster = binary.getRaster();
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      int offset = y * width;
+      for (int x = 0; x < width; x++) {
+        // Na paleta padrão de TYPE_BYTE_BINARY, 0 é preto e 1 é branco
+        row[x] = (luma[offset + x] & 0xff) > threshold ? 1 : 0;
+      }
+      raster.setSamples(0, y, width, 1, 0, row);
+    }
+
+    // O CCITTFactory cria o stream em um documento; um documento descartável por imagem mantém
+    // o documento de origem intocado e permite codificar em paralelo
+    try (PDDocument scratch = new PDDocument()) {
+      COSStream g4 = CCITTFactory.createFromImage(scratch, binary).getCOSObject();
+      if (g4.getLength() >= stream.getLength()) {
+        return null;
+      }
+      byte[] data;
+      try (InputStream in = g4.createRawInputStream()) {
+        data = in.readAllBytes();
+      }
+      COSDictionary decodeParms = new COSDictionary();
+      if (g4.getDictionaryObject(COSName.DECODE_PARMS) instanceof COSDictionary parms) {
+        for (Map.Entry<COSName, COSBase> entry : parms.entrySet()) {
+          decodeParms.setItem(entry.getKey(), entry.getValue());
+        }
+      }
+      return new Encoded(data, width, height, decodeParms);
+    }
+  }
+
+  /**
+   * Luminância de cada pixel, com o histograma preenchido em {@code histogram} e a quantidade de
+   * pixels com cor somada em {@code colored[0]}.
+   */
+  private static byte[] luminance(BufferedImage image, int[] histogram, long[] colored) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    byte[] luma = new byte[width * height];
+    int[] row = new int[width];
+    for (int y = 0; y < height; y++) {
+      image.getRGB(0, y, width, 1, row, 0, width);
+      int offset = y * width;
+      for (int x = 0; x < width; x++) {
+        int pixel = row[x];
+        int red = (pixel >> 16) & 0xff;
+        int green = (pixel >> 8) & 0xff;
+        int blue = pixel & 0xff;
+        int value = (299 * red + 587 * green + 114 * blue + 500) / 1000;
+        luma[offset + x] = (byte) value;
+        histogram[value]++;
+        if (Math.max(red, Math.max(green, blue)) - Math.min(red, Math.min(green, blue))
+            > CHROMA_LIMIT) {
+          colored[0]++;
+        }
+      }
+    }
+    return luma;
+  }
+
+  /** Limiar que maximiza a variância entre as classes clara e escura do histograma. */
+  static int otsuThreshold(int[] histogram, long total) {
+    double sum = 0;
+    for (int level = 0; level < 256; level++) {
+      sum += (double) level * histogram[level];
+    }
+    double sumDark = 0;
+    long dark = 0;
+    double bestVariance = -1;
+    int threshold = 127;
+    for (int level = 0; level < 256; level++) {
+      dark += histogram[level];
+      if (dark == 0) {
+        continue;
+      }
+      long light = total - dark;
+      if (light == 0) {
+        break;
+      }
+      sumDark += (double) level * histogram[level];
+      double meanDark = sumDark / dark;
+      double meanLight = (sum - sumDark) / light;
+      double variance = (double) dark * light * (meanDark - meanLight) * (meanDark - meanLight);
+      if (variance > bestVariance) {
+        bestVariance = variance;
+        threshold = level;
+      }
+    }
+    return threshold;
+  }
+
+  /** Imagem recodificada em G4, pronta para substituir o conteúdo do stream original. */
+  static final class Encoded {
+    private final byte[] data;
+    private final int width;
+    private final int height;
+    private final COSDictionary decodeParms;
+
+    private Encoded(byte[] data, int width, int height, COSDictionary decodeParms) {
+      this.data = data;
+      this.width = width;
+      this.height = height;
+      this.decodeParms = decodeParms;
+    }
+
+    /** Grava a imagem no stream, preservando a sua identidade e as referências a ele. */
+    void applyTo(COSStream stream) throws IOException {
+      try (OutputStream out = stream.createRawOutputStream()) {
+        out.write(data);
+      }
+      stream.setItem(COSName.FILTER, COSName.CCITTFAX_DECODE);
+      stream.setItem(COSName.DECODE_PARMS, decodeParms);
+      stream.removeItem(COSName.DECODE);
+      stream.setInt(COSName.WIDTH, width);
+      stream.setInt(COSName.HEIGHT, height);
+      stream.setInt(COSName.BITS_PER_COMPONENT, 1);
+      stream.setItem(COSName.COLORSPACE, COSName.DEVICEGRAY);
+    }
+  }
+}
@@ -0,0 +1,454 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#PDF_COMPARE}: comparar dois PDFs.
+ *
+ * <p>A comparação para no primeiro nível que decide o resultado:
+ *
+ * <ol>
+ *   <li>hash dos arquivos: arquivos iguais não são sequer abertos;
+ *   <li>hash de cada página ({@link PageFingerprint}): páginas iguais não são extraídas nem
+ *       renderizadas;
+ *   <li>as páginas restantes são comparadas em paralelo pelo texto ({@code mode=text}) ou pelos
+ *       pixels renderizados em baixa resolução ({@code mode=visual}), que gera uma imagem com as
+ *       diferenças destacadas para cada página diferente.
+ * </ol>
+ *
+ * <p>Com {@code stop_at_first_difference} a comparação termina na primeira página diferente. O
+ * resultado é um relatório em JSON; no modo visual, o diretório de resultados com o relatório e as
+ * imagens de diferença, que o download entrega como ZIP.
+ */
+@Component
+public class CompareOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final int DEFAULT_VISUAL_DPI = 50;
+  // Diferença máxima por canal tolerada entre pixels, que absorve variações de anti-aliasing
+  private static final int PIXEL_TOLERANCE = 24;
+  private static final int DIFF_COLOR = 0xFF0000;
+
+  private final ImageEncoder imageEncoder;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public CompareOperationHandler(
+      StorageService storageService, OperationExecutors executors, ImageEncoder imageEncoder) {
+    super(storageService, executors);
+    this.imageEncoder = imageEncoder;
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_COMPARE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles.size() != 2) {
+      throw new IllegalArgumentException("PDF_COMPARE operation requires exactly two input files");
+    }
+
+    Path file1 = resolveInput(inputFiles.get(0));
+    Path file2 = resolveInput(inputFiles.get(1));
+    Map<String, Object> options = job.getOptions();
+    CompareSettings settings = new CompareSettings(options);
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    ObjectNode report = objectMapper.createObjectNode();
+    String hash1 = PageFingerprint.ofFile(file1);
+    String hash2 = PageFingerprint.ofFile(file2);
+    ObjectNode info1 = fileInfo(inputFiles.get(0), file1, hash1);
+    ObjectNode info2 = fileInfo(inputFiles.get(1), file2, hash2);
+
+    if (hash1.equals(hash2)) {
+      report.put("identical", true);
+      report.put("deepest_tier", "file_hash");
+      report.set("file1", info1);
+      report.set("file2", info2);
+      report.put("different_pages", 0);
+      report.putArray("pages");
+    } else {
+      compareDocuments(file1, file2, settings, resultDir, report, info1, info2);
+    }
+
+    // Salvar relatório
+    String reportFilename =
+        options.getOrDefault("output_filename", "comparison_report.json").toString();
+    Path reportPath = resultDir.resolve(reportFilename);
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), report);
+
+    System.out.println(
+        "Compared "
+            + file1.getFileName()
+            + " and "
+            + file2.getFileName()
+            + " (identical: "
+            + report.get("identical").asBoolean()
+            + "). Report saved to: "
+            + reportPath);
+    // As imagens de diferença só chegam ao cliente junto com o relatório se o resultado for o
+    // diretório
+    return settings.visual ? resultDir.toString() : reportPath.toString();
+  }
+
+  private void compareDocuments(
+      Path file1,
+      Path file2,
+      CompareSettings settings,
+      Path resultDir,
+      ObjectNode report,
+      ObjectNode info1,
+      ObjectNode info2)
+      throws IOException {
+    int pages1;
+    int pages2;
+    ObjectNode metadata = null;
+    try (PDDocument doc1 = Loader.loadPDF(file1.toFile());
+        PDDocument doc2 = Loader.loadPDF(file2.toFile())) {
+      pages1 = doc1.getNumberOfPages();
+      pages2 = doc2.getNumberOfPages();
+      if (settings.compareMetadata) {
+        metadata = compareMetadata(doc1, doc2);
+      }
+    }
+    info1.put("pages", pages1);
+    info2.put("pages", pages2);
+
+    int common = Math.min(pages1, pages2);
+    int maxPages = Math.max(pages1, pages2);
+    ObjectNode[] differences = new ObjectNode[common];
+    // Primeira página diferente encontrada; só limita a comparação com stop_at_first_difference
+    AtomicInteger firstDifference =
+        new AtomicInteger(pages1 != pages2 ? common + 1 : Integer.MAX_VALUE);
+    AtomicBoolean deeperTier = new AtomicBoolean();
+    AtomicInteger nextPage = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+
+    int workers = Math.max(1, Math.min(getParallelism(), common));
+    List<CompletableFuture<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < workers && common > 0; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument doc1 = Loader.loadPDF(file1.toFile());
+                    PDDocument doc2 = Loader.loadPDF(file2.toFile())) {
+                  PageComparer comparer = new PageComparer(doc1, doc2, settings, resultDir);
+                  for (int next = nextPage.getAndIncrement();
+                      next < common && !failed.get();
+                      next = nextPage.getAndIncrement()) {
+                    if (settings.stopAtFirstDifference && next + 1 > firstDifference.get()) {
+                      break;
+                    }
+                    ObjectNode difference = comparer.compare(next, deeperTier);
+                    if (difference != null) {
+                      differences[next] = difference;
+                      firstDifference.accumulateAndGet(next + 1, Math::min);
+                    }
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+    awaitAll(tasks);
+
+    int lastPage =
+        settings.stopAtFirstDifference ? Math.min(maxPages, firstDifference.get()) : maxPages;
+    ArrayNode pages = objectMapper.createArrayNode();
+    for (int page = 1; page <= lastPage; page++) {
+      if (page > common) {
+        pages.addObject().put("page", page).put("status", page <= pages1 ? "removed" : "added");
+      } else if (differences[page - 1] != null) {
+        pages.add(differences[page - 1]);
+      }
+    }
+
+    boolean identical =
+        pages.isEmpty()
+            && pages1 == pages2
+            && (metadata == null || metadata.get("identical").asBoolean());
+    report.put("identical", identical);
+    report.put(
+        "deepest_tier", deeperTier.get() ? (settings.visual ? "visual" : "text") : "page_hash");
+    report.set("file1", info1);
+    report.set("file2", info2);
+    report.put("pages_compared", lastPage);
+    report.put("different_pages", pages.size());
+    report.put("stopped_early", lastPage < maxPages);
+    if (metadata != null) {
+      report.set("metadata", metadata);
+    }
+    report.set("pages", pages);
+  }
+
+  private ObjectNode fileInfo(String name, Path file, String sha256) throws IOException {
+    ObjectNode info = objectMapper.createObjectNode();
+    info.put("name", name);
+    info.put("bytes", Files.size(file));
+    info.put("sha256", sha256);
+    return info;
+  }
+
+  /** Entradas do dicionário de informações que diferem, com o valor de cada documento. */
+  private ObjectNode compareMetadata(PDDocument doc1, PDDocument doc2) {
+    COSDictionary info1 = doc1.getDocumentInformation().getCOSObject();
+    COSDictionary info2 = doc2.getDocumentInformation().getCOSObject();
+    Set<String> keys = new TreeSet<>();
+    info1.keySet().forEach(key -> keys.add(key.getName()));
+    info2.keySet().forEach(key -> keys.add(key.getName()));
+
+    ObjectNode differences = objectMapper.createObjectNode();
+    for (String key : keys) {
+      String value1 = metadataValue(info1, key);
+      String value2 = metadataValue(info2, key);
+      if (!Objects.equals(value1, value2)) {
+        differences.putArray(key).add(value1).add(value2);
+      }
+    }
+    ObjectNode metadata = objectMapper.createObjectNode();
+    metadata.put("identical", differences.isEmpty());
+    metadata.set("differences", differences);
+    return metadata;
+  }
+
+  private static String metadataValue(COSDictionary info, String key) {
+    COSBase value = info.getDictionaryObject(COSName.getPDFName(key));
+    if (value instanceof COSString string) {
+      return string.getString();
+    }
+    return value == null ? null : value.toString();
+  }
+
+  /**
+   * Destaca em vermelho os pixels que diferem, sobre a segunda página clareada. Páginas de
+   * tamanhos diferentes são comparadas na área das duas; o que sobra conta como diferença.
+   *
+   * @return quantidade de pixels diferentes
+   */
+  private static int highlightDifferences(
+      BufferedImage image1, BufferedImage image2, BufferedImage diff) {
+    int different = 0;
+    for (int y = 0; y < diff.getHeight(); y++) {
+      for (int x = 0; x < diff.getWidth(); x++) {
+        boolean in1 = x < image1.getWidth() && y < image1.getHeight();
+        boolean in2 = x < image2.getWidth() && y < image2.getHeight();
+        int rgb1 = in1 ? image1.getRGB(x, y) : 0;
+        int rgb2 = in2 ? image2.getRGB(x, y) : 0;
+        if (!in1 || !in2 || !similar(rgb1, rgb2)) {
+          diff.setRGB(x, y, DIFF_COLOR);
+          different++;
+        } else {
+          int gray = ((rgb2 >> 16 & 0xFF) + (rgb2 >> 8 & 0xFF) + (rgb2 & 0xFF)) / 3;
+          int light = 255 - (255 - gray) / 3;
+          diff.setRGB(x, y, light << 16 | light << 8 | light);
+        }
+      }
+    }
+    return different;
+  }
+
+  private static boolean similar(int rgb1, int rgb2) {
+    for (int shift = 0; shift <= 16; shift += 8) {
+      if (Math.abs((rgb1 >> shift & 0xFF) - (rgb2 >> shift & 0xFF)) > PIXEL_TOLERANCE) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validar opções de comparação
+      List<String> flags =
+          List.of("detailed_diff", "compare_text", "compare_metadata", "stop_at_first_difference");
+      for (String key : flags) {
+        if (options.containsKey(key) && !(options.get(key) instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("mode")
+          && !List.of("text", "visual").contains(options.get("mode").toString())) {
+        return false;
+      }
+      if (options.containsKey("dpi")) {
+        int dpi = Integer.parseInt(options.get("dpi").toString());
+        if (dpi < 10 || dpi > 300) {
+          return false;
+        }
+      }
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("detailed_diff", "boolean (optional, default: false)");
+    schema.put("output_filename", "string (optional, default: 'comparison_report.json')");
+    schema.put("compare_text", "boolean (optional, default: true)");
+    schema.put("compare_metadata", "boolean (optional, default: false)");
+    schema.put("mode", "string (optional, default: 'text', options: text, visual)");
+    schema.put("dpi", "number (optional, default: 50, render resolution for visual mode)");
+    schema.put("stop_at_first_difference", "boolean (optional, default: false)");
+    return schema;
+  }
+
+  /** Opções do job já convertidas, compartilhadas pelas threads de comparação. */
+  private final class CompareSettings {
+
+    private final boolean visual;
+    private final boolean compareText;
+    private final boolean compareMetadata;
+    private final boolean detailedDiff;
+    private final boolean stopAtFirstDifference;
+    private final int dpi;
+    private final EncodingSettings encoding;
+
+    CompareSettings(Map<String, Object> options) {
+      visual = "visual".equals(options.getOrDefault("mode", "text").toString());
+      compareText = !Boolean.FALSE.equals(options.get("compare_text"));
+      compareMetadata = Boolean.TRUE.equals(options.get("compare_metadata"));
+      detailedDiff = Boolean.TRUE.equals(options.get("detailed_diff"));
+      stopAtFirstDifference = Boolean.TRUE.equals(options.get("stop_at_first_difference"));
+      dpi = Integer.parseInt(options.getOrDefault("dpi", DEFAULT_VISUAL_DPI).toString());
+      encoding = imageEncoder.settings(options);
+    }
+  }
+
+  /**
+   * Compara páginas dos dois documentos abertos por uma thread. PDFBox não é thread-safe: cada
+   * thread tem os seus documentos, hashes, extrator de texto e renderizadores.
+   */
+  private final class PageComparer {
+
+    private final PDDocument doc1;
+    private final PDDocument doc2;
+    private final CompareSettings settings;
+    private final Path resultDir;
+    private final PageFingerprint fingerprint1 = new PageFingerprint();
+    private final PageFingerprint fingerprint2 = new PageFingerprint();
+    private final PDFTextStripper stripper = new PDFTextStripper();
+    private final PDFRenderer renderer1;
+    private final PDFRenderer renderer2;
+
+    PageComparer(PDDocument doc1, PDDocument doc2, CompareSettings settings, Path resultDir) {
+      this.doc1 = doc1;
+      this.doc2 = doc2;
+      this.settings = settings;
+      this.resultDir = resultDir;
+      this.renderer1 = new PDFRenderer(doc1);
+      this.renderer2 = new PDFRenderer(doc2);
+    }
+
+    /**
+     * Compara a página nos dois documentos.
+     *
+     * @param index índice da página, a partir de 0
+     * @param deeperTier marcado quando o hash não basta e a página é extraída ou renderizada
+     * @return a diferença para o relatório, ou null se as páginas são iguais
+     */
+    ObjectNode compare(int index, AtomicBoolean deeperTier) throws IOException {
+      if (fingerprint1.of(doc1.getPage(index)).equals(fingerprint2.of(doc2.getPage(index)))) {
+        return null;
+      }
+      int page = index + 1;
+      ObjectNode difference = objectMapper.createObjectNode();
+      difference.put("page", page);
+
+      if (settings.visual) {
+        deeperTier.set(true);
+        BufferedImage image1 = renderer1.renderImageWithDPI(index, settings.dpi, ImageType.RGB);
+        BufferedImage image2 = renderer2.renderImageWithDPI(index, settings.dpi, ImageType.RGB);
+        BufferedImage diff =
+            new BufferedImage(
+                Math.max(image1.getWidth(), image2.getWidth()),
+                Math.max(image1.getHeight(), image2.getHeight()),
+                BufferedImage.TYPE_INT_RGB);
+        int different = highlightDifferences(image1, image2, diff);
+        if (different == 0) {
+          return null;
+        }
+        String diffName = String.format("page_%03d_diff.png", page);
+        imageEncoder.write(diff, "PNG", resultDir.resolve(diffName), settings.encoding);
+        difference.put("status", "visual_changed");
+        difference.put(
+            "diff_ratio", (double) different / ((long) diff.getWidth() * diff.getHeight()));
+        difference.put("diff_image", diffName);
+      } else if (settings.compareText) {
+        deeperTier.set(true);
+        String text1 = text(doc1, page);
+        String text2 = text(doc2, page);
+        if (text1.equals(text2)) {
+          return null;
+        }
+        difference.put("status", "text_changed");
+        if (settings.detailedDiff) {
+          difference.put("file1_length", text1.length());
+          difference.put("file2_length", text2.length());
+        }
+      } else {
+        difference.put("status", "content_changed");
+      }
+      return difference;
+    }
+
+    private String text(PDDocument document, int page) throws IOException {
+      stripper.setStartPage(page);
+      stripper.setEndPage(page);
+      return stripper.getText(document).trim();
+    }
+  }
+}
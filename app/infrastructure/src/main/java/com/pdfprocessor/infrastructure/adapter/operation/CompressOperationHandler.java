@@ -0,0 +1,213 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSObjectKey;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#COMPRESS}: comprimir PDF reduzindo tamanho.
+ *
+ * <p>As imagens desenhadas acima da resolução alvo são reduzidas e recomprimidas em JPEG; a
+ * resolução e a qualidade vêm do nível {@code quality}. Uma imagem só é substituída se o novo
+ * stream ficar menor, e os demais streams são gravados sem alteração. Com {@code bilevel}, as
+ * digitalizações em preto e branco são antes recodificadas em CCITT G4, uma página por thread.
+ */
+@Component
+public class CompressOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final List<String> QUALITIES = List.of("low", "medium", "high");
+
+  private final ImageEncoder imageEncoder;
+  private final ImageRecompressor imageRecompressor;
+
+  public CompressOperationHandler(
+      StorageService storageService, OperationExecutors executors, ImageEncoder imageEncoder) {
+    super(storageService, executors);
+    this.imageEncoder = imageEncoder;
+    this.imageRecompressor = new ImageRecompressor(imageEncoder);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.COMPRESS;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("COMPRESS operation requires at least 1 input file");
+    }
+
+    String inputPath = inputFiles.get(0);
+    File file = resolveInput(inputPath).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputPath);
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String quality = options.getOrDefault("quality", "medium").toString().toLowerCase();
+    float targetDpi =
+        options.containsKey("target_dpi")
+            ? Float.parseFloat(options.get("target_dpi").toString())
+            : ImageRecompressor.defaultTargetDpi(quality);
+    boolean grayscale = Boolean.parseBoolean(options.getOrDefault("grayscale", "false").toString());
+    boolean bilevel = Boolean.parseBoolean(options.getOrDefault("bilevel", "false").toString());
+    EncodingSettings defaults = imageEncoder.settings(options);
+    EncodingSettings encoding =
+        new EncodingSettings(
+            defaults.getPngCompressionLevel(),
+            defaults.getPngFilter(),
+            options.containsKey("jpeg_quality")
+                ? defaults.getJpegQuality()
+                : ImageRecompressor.defaultJpegQuality(quality),
+            defaults.getJpegChromaSubsampling());
+
+    Path resultPath = resultDirectory(job).resolve("result_" + job.getId() + ".pdf");
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      // As imagens convertidas para 1 bit ficam fora da etapa de JPEG
+      int replaced = bilevel ? convertBilevel(file, document) : 0;
+      replaced += imageRecompressor.recompressAll(document, targetDpi, grayscale, encoding);
+      System.out.println("COMPRESS " + job.getId() + ": " + replaced + " image(s) recompressed");
+
+      document.save(resultPath.toFile());
+    }
+
+    return resultPath.toString();
+  }
+
+  /**
+   * Recodifica em CCITT G4 as imagens bilevel do documento.
+   *
+   * <p>PDFBox não é thread-safe: cada thread abre a sua própria cópia do arquivo, retira a próxima
+   * página de uma fila comum e codifica as imagens ainda não vistas. As imagens codificadas são
+   * identificadas pela chave do objeto, que é a mesma em todas as cópias, e aplicadas no
+   * documento principal depois que todas as threads terminam.
+   *
+   * @return quantidade de imagens substituídas
+   */
+  private int convertBilevel(File file, PDDocument document) throws IOException {
+    int pageCount = document.getNumberOfPages();
+    int workers = Math.max(1, Math.min(getParallelism(), pageCount));
+    AtomicInteger nextPage = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    Set<COSObjectKey> claimed = ConcurrentHashMap.newKeySet();
+    Map<COSObjectKey, BilevelImages.Encoded> encoded = new ConcurrentHashMap<>();
+
+    List<CompletableFuture<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument copy = Loader.loadPDF(file)) {
+                  for (int next = nextPage.getAndIncrement();
+                      next < pageCount && !failed.get();
+                      next = nextPage.getAndIncrement()) {
+                    for (ImagePlacements.Placement placement :
+                        ImagePlacements.collect(copy.getPage(next)).all()) {
+                      COSObjectKey key = placement.getImage().getCOSObject().getKey();
+                      if (key == null || !claimed.add(key)) {
+                        continue;
+                      }
+                      BilevelImages.Encoded image = encodeBilevel(placement.getImage());
+                      if (image != null) {
+                        encoded.put(key, image);
+                      }
+                    }
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+    awaitAll(tasks);
+
+    int replaced = 0;
+    for (ImagePlacements.Placement placement : ImagePlacements.collect(document).all()) {
+      COSStream stream = placement.getImage().getCOSObject();
+      BilevelImages.Encoded image = stream.getKey() != null ? encoded.get(stream.getKey()) : null;
+      if (image != null) {
+        image.applyTo(stream);
+        replaced++;
+      }
+    }
+    return replaced;
+  }
+
+  private static BilevelImages.Encoded encodeBilevel(PDImageXObject image) {
+    try {
+      return BilevelImages.encode(image);
+    } catch (IOException | RuntimeException e) {
+      System.err.println("Skipping undecodable image: " + e.getMessage());
+      return null;
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("quality")
+          && !QUALITIES.contains(options.get("quality").toString().toLowerCase())) {
+        return false;
+      }
+      if (options.containsKey("target_dpi")
+          && Float.parseFloat(options.get("target_dpi").toString()) <= 0) {
+        return false;
+      }
+      return ImageEncoder.validateOptions(options);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "quality", "string (optional, default: 'medium', options: low, medium, high)");
+    schema.put("target_dpi", "number (optional, default: 96/150/220 by quality)");
+    schema.put("grayscale", "boolean (optional, default: false)");
+    schema.put("bilevel", "boolean (optional, default: false, CCITT G4 for black-and-white scans)");
+    schema.put("jpeg_quality", "number (optional, default: 0.5/0.7/0.85 by quality, range: 0-1)");
+    schema.put(
+        "jpeg_chroma_subsampling", "string (optional, default: '420', options: 420, 422, 444)");
+    return schema;
+  }
+}
@@ -0,0 +1,67 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.awt.geom.Point2D;
+import org.apache.pdfbox.contentstream.PDFGraphicsStreamEngine;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImage;
+
+/**
+ * Motor de conteúdo para análises que só observam o que é desenhado: os operadores de caminho
+ * são ignorados e as subclasses sobrescrevem apenas os eventos que interessam.
+ */
+abstract class ContentObserver extends PDFGraphicsStreamEngine {
+
+  private final Point2D.Float currentPoint = new Point2D.Float();
+
+  protected ContentObserver(PDPage page) {
+    super(page);
+  }
+
+  @Override
+  public void drawImage(PDImage image) {}
+
+  @Override
+  public void appendRectangle(Point2D p0, Point2D p1, Point2D p2, Point2D p3) {}
+
+  @Override
+  public void clip(int windingRule) {}
+
+  @Override
+  public void moveTo(float x, float y) {
+    currentPoint.setLocation(x, y);
+  }
+
+  @Override
+  public void lineTo(float x, float y) {
+    currentPoint.setLocation(x, y);
+  }
+
+  @Override
+  public void curveTo(float x1, float y1, float x2, float y2, float x3, float y3) {
+    currentPoint.setLocation(x3, y3);
+  }
+
+  @Override
+  public Point2D getCurrentPoint() {
+    return currentPoint;
+  }
+
+  @Override
+  public void closePath() {}
+
+  @Override
+  public void endPath() {}
+
+  @Override
+  public void strokePath() {}
+
+  @Override
+  public void fillPath(int windingRule) {}
+
+  @Override
+  public void fillAndStrokePath(int windingRule) {}
+
+  @Override
+  public void shadingFill(COSName shadingName) {}
+}
@@ -0,0 +1,185 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.pdfbox.contentstream.operator.Operator;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.font.PDCIDFontType2;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotation;
+import org.apache.pdfbox.util.Matrix;
+import org.apache.pdfbox.util.Vector;
+
+/**
+ * O que o conteúdo do documento realmente usa: nomes de XObjects e fontes de cada dicionário de
+ * recursos e os glifos desenhados com cada fonte CID TrueType.
+ *
+ * <p>A análise percorre as páginas, os formulários aninhados e as aparências normais das
+ * anotações. Conteúdo que ela não percorre (padrões de preenchimento, formulários interativos,
+ * aparências alternativas de anotações) torna o resultado incompleto, e quem remove recursos ou
+ * glifos deve então manter o documento como está.
+ */
+final class ContentUsage {
+
+  private final Map<COSDictionary, Set<String>> usedNames = new IdentityHashMap<>();
+  private final Map<COSDictionary, CidFontUse> cidFonts = new IdentityHashMap<>();
+  private boolean complete;
+
+  private ContentUsage() {}
+
+  static ContentUsage collect(PDDocument document) throws IOException {
+    ContentUsage usage = new ContentUsage();
+    usage.complete = !document.getDocumentCatalog().getCOSObject().containsKey(COSName.ACRO_FORM);
+    for (PDPage page : document.getPages()) {
+      usage.observe(page);
+    }
+    return usage;
+  }
+
+  /**
+   * Analisa uma única página, para quem copia a página para outro documento sem o catálogo (e
+   * portanto sem o formulário interativo) do original.
+   */
+  static ContentUsage collect(PDPage page) throws IOException {
+    ContentUsage usage = new ContentUsage();
+    usage.complete = true;
+    usage.observe(page);
+    return usage;
+  }
+
+  private void observe(PDPage page) throws IOException {
+    Observer observer = new Observer(page, this);
+    observer.processPage(page);
+    // Só a aparência normal é percorrida; estados alternativos deixam a análise incompleta
+    for (PDAnnotation annotation : page.getAnnotations()) {
+      COSDictionary appearance = annotation.getCOSObject().getCOSDictionary(COSName.AP);
+      if (appearance != null
+          && (appearance.containsKey(COSName.D)
+              || appearance.containsKey(COSName.R)
+              || !(appearance.getDictionaryObject(COSName.N) instanceof COSStream))) {
+        complete = false;
+      }
+      observer.showAnnotation(annotation);
+    }
+  }
+
+  /** Indica se todo o conteúdo que pode usar recursos foi percorrido. */
+  boolean isComplete() {
+    return complete;
+  }
+
+  /** Dicionários de recursos ativos em algum momento do conteúdo percorrido. */
+  Set<COSDictionary> observedResources() {
+    return usedNames.keySet();
+  }
+
+  /** Nomes usados com o dicionário de recursos, no formato {@code categoria/nome}. */
+  Set<String> usedNames(COSDictionary resources) {
+    return usedNames.getOrDefault(resources, Collections.emptySet());
+  }
+
+  /** Fontes CID TrueType desenhadas, indexadas pelo dicionário da fonte descendente. */
+  Map<COSDictionary, CidFontUse> cidFonts() {
+    return cidFonts;
+  }
+
+  private void recordName(PDResources resources, COSName category, COSBase operand) {
+    if (resources != null && operand instanceof COSName name) {
+      usedNames
+          .computeIfAbsent(resources.getCOSObject(), key -> new HashSet<>())
+          .add(category.getName() + "/" + name.getName());
+    }
+  }
+
+  private void recordResources(PDResources resources) {
+    if (resources == null) {
+      return;
+    }
+    usedNames.computeIfAbsent(resources.getCOSObject(), key -> new HashSet<>());
+    // O conteúdo dos padrões de preenchimento não é percorrido
+    if (resources.getPatternNames().iterator().hasNext()) {
+      complete = false;
+    }
+  }
+
+  private void recordGlyph(PDFont font, int code) throws IOException {
+    if (font instanceof PDType0Font type0
+        && type0.getDescendantFont() instanceof PDCIDFontType2 cidFont) {
+      CidFontUse use =
+          cidFonts.computeIfAbsent(
+              cidFont.getCOSObject(), key -> new CidFontUse(type0, cidFont));
+      use.cidToGid.put(type0.codeToCID(code), cidFont.codeToGID(code));
+    }
+  }
+
+  /** Glifos desenhados com uma fonte CID TrueType. */
+  static final class CidFontUse {
+    private final PDType0Font font;
+    private final PDCIDFontType2 cidFont;
+    private final NavigableMap<Integer, Integer> cidToGid = new TreeMap<>();
+
+    private CidFontUse(PDType0Font font, PDCIDFontType2 cidFont) {
+      this.font = font;
+      this.cidFont = cidFont;
+    }
+
+    PDType0Font getFont() {
+      return font;
+    }
+
+    PDCIDFontType2 getCidFont() {
+      return cidFont;
+    }
+
+    /** CIDs desenhados e o glifo original de cada um, em ordem de CID. */
+    NavigableMap<Integer, Integer> getCidToGid() {
+      return cidToGid;
+    }
+  }
+
+  private static final class Observer extends ContentObserver {
+    private final ContentUsage usage;
+
+    Observer(PDPage page, ContentUsage usage) {
+      super(page);
+      this.usage = usage;
+    }
+
+    @Override
+    protected void processOperator(Operator operator, List<COSBase> operands)
+        throws IOException {
+      PDResources resources = getResources();
+      usage.recordResources(resources);
+      if (!operands.isEmpty()) {
+        switch (operator.getName()) {
+          case "Do" -> usage.recordName(resources, COSName.XOBJECT, operands.get(0));
+          case "Tf" -> usage.recordName(resources, COSName.FONT, operands.get(0));
+          default -> {}
+        }
+      }
+      super.processOperator(operator, operands);
+    }
+
+    @Override
+    protected void showGlyph(
+        Matrix textRenderingMatrix, PDFont font, int code, Vector displacement)
+        throws IOException {
+      usage.recordGlyph(font, code);
+      super.showGlyph(textRenderingMatrix, font, code, displacement);
+    }
+  }
+}
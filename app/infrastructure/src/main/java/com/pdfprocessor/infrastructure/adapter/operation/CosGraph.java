@@ -0,0 +1,94 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+/**
+ * Objetos alcançáveis a partir do trailer de um documento, que são exatamente os objetos que o
+ * PDFBox grava ao salvar.
+ *
+ * <p>Dicionários, arrays e streams são identificados pela identidade do objeto: COSDictionary e
+ * COSArray não redefinem equals, e dois objetos iguais em conteúdo continuam sendo objetos
+ * distintos no arquivo.
+ */
+final class CosGraph {
+
+  private final List<COSBase> containers = new ArrayList<>();
+  private final Set<COSBase> indirect = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  private CosGraph() {}
+
+  static CosGraph of(PDDocument document) {
+    return from(document.getDocument().getTrailer());
+  }
+
+  /** Objetos alcançáveis a partir de um dicionário qualquer, como uma página sem /Parent. */
+  static CosGraph from(COSDictionary root) {
+    CosGraph graph = new CosGraph();
+    graph.walk(root);
+    return graph;
+  }
+
+  /** Resolve uma referência indireta; valores diretos são devolvidos como estão. */
+  static COSBase resolve(COSBase value) {
+    return value instanceof COSObject reference ? reference.getObject() : value;
+  }
+
+  private void walk(COSDictionary root) {
+    Set<COSBase> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<COSBase> pending = new ArrayDeque<>();
+    visited.add(root);
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      COSBase current = pending.pop();
+      containers.add(current);
+      Iterable<COSBase> children =
+          current instanceof COSDictionary dictionary
+              ? dictionary.getValues()
+              : (COSArray) current;
+      for (COSBase child : children) {
+        COSBase value = resolve(child);
+        if (child instanceof COSObject || value instanceof COSStream) {
+          if (value != null) {
+            indirect.add(value);
+          }
+        }
+        if ((value instanceof COSDictionary || value instanceof COSArray) && visited.add(value)) {
+          pending.push(value);
+        }
+      }
+    }
+  }
+
+  /** Dicionários, streams e arrays alcançáveis, incluindo a raiz. */
+  List<COSBase> containers() {
+    return containers;
+  }
+
+  /** Streams alcançáveis, na ordem da travessia. */
+  List<COSStream> streams() {
+    List<COSStream> streams = new ArrayList<>();
+    for (COSBase container : containers) {
+      if (container instanceof COSStream stream) {
+        streams.add(stream);
+      }
+    }
+    return streams;
+  }
+
+  /** Quantidade de objetos indiretos, que são os objetos numerados do arquivo salvo. */
+  int indirectObjectCount() {
+    return indirect.size();
+  }
+}
@@ -0,0 +1,187 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_CREATE}: criar PDF a partir de texto/HTML/imagens. */
+@Component
+public class CreateOperationHandler extends AbstractPdfOperationHandler {
+
+  public CreateOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_CREATE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    Map<String, Object> options = job.getOptions();
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    try (PDDocument document = new PDDocument()) {
+      // Configurações padrão
+      String pageSize = options.getOrDefault("page_size", "A4").toString();
+      PDRectangle pageRect = getPageSize(pageSize);
+
+      // Criar páginas baseado no conteúdo
+      if (options.containsKey("text_content")) {
+        createPdfFromText(document, options.get("text_content").toString(), pageRect, options);
+      } else if (options.containsKey("pages")) {
+        // Criar páginas em branco
+        int numPages = Integer.parseInt(options.get("pages").toString());
+        for (int i = 0; i < numPages; i++) {
+          document.addPage(new PDPage(pageRect));
+        }
+      } else {
+        // Criar uma página em branco por padrão
+        document.addPage(new PDPage(pageRect));
+      }
+
+      // Adicionar metadados se fornecidos
+      if (options.containsKey("title")
+          || options.containsKey("author")
+          || options.containsKey("subject")) {
+        PDDocumentInformation info = new PDDocumentInformation();
+        if (options.containsKey("title")) {
+          info.setTitle(options.get("title").toString());
+        }
+        if (options.containsKey("author")) {
+          info.setAuthor(options.get("author").toString());
+        }
+        if (options.containsKey("subject")) {
+          info.setSubject(options.get("subject").toString());
+        }
+        document.setDocumentInformation(info);
+      }
+
+      // Salvar documento
+      String outputFilename =
+          options.getOrDefault("output_filename", "created_document.pdf").toString();
+      Path outputPath = resultDir.resolve(outputFilename);
+      document.save(outputPath.toFile());
+
+      return outputPath.toString();
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validar opções de criação
+      if (options.containsKey("page_size")) {
+        String pageSize = options.get("page_size").toString();
+        List<String> validSizes = List.of("A4", "A3", "A5", "LETTER", "LEGAL");
+        if (!validSizes.contains(pageSize)) {
+          return false;
+        }
+      }
+
+      if (options.containsKey("pages")) {
+        try {
+          int pages = Integer.parseInt(options.get("pages").toString());
+          if (pages <= 0 || pages > 1000) {
+            return false;
+          }
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("text_content", "string (optional, content to add to PDF)");
+    schema.put("pages", "number (optional, default: 1, number of blank pages)");
+    schema.put(
+        "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
+    schema.put("font_size", "number (optional, default: 12)");
+    schema.put("margin", "number (optional, default: 50)");
+    schema.put("title", "string (optional, document title)");
+    schema.put("author", "string (optional, document author)");
+    return schema;
+  }
+
+  private void createPdfFromText(
+      PDDocument document, String text, PDRectangle pageRect, Map<String, Object> options)
+      throws IOException {
+    PDPage page = new PDPage(pageRect);
+    document.addPage(page);
+
+    try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+      // Configurações de texto
+      float fontSize = Float.parseFloat(options.getOrDefault("font_size", "12").toString());
+      float margin = Float.parseFloat(options.getOrDefault("margin", "50").toString());
+      float leading = fontSize * 1.2f;
+
+      contentStream.beginText();
+      contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), fontSize);
+      contentStream.newLineAtOffset(margin, pageRect.getHeight() - margin);
+
+      // Quebrar texto em linhas
+      String[] lines = text.split("\n");
+      float maxWidth = pageRect.getWidth() - (2 * margin);
+
+      for (String line : lines) {
+        // Verificar se a linha cabe na largura da página
+        if (line.length() * fontSize * 0.6f > maxWidth) {
+          // Quebrar linha longa em múltiplas linhas
+          String[] words = line.split(" ");
+          StringBuilder currentLine = new StringBuilder();
+
+          for (String word : words) {
+            String testLine = currentLine.length() > 0 ? currentLine + " " + word : word;
+            if (testLine.length() * fontSize * 0.6f <= maxWidth) {
+              currentLine = new StringBuilder(testLine);
+            } else {
+              if (currentLine.length() > 0) {
+                contentStream.showText(currentLine.toString());
+                contentStream.newLineAtOffset(0, -leading);
+              }
+              currentLine = new StringBuilder(word);
+            }
+          }
+
+          if (currentLine.length() > 0) {
+            contentStream.showText(currentLine.toString());
+            contentStream.newLineAtOffset(0, -leading);
+          }
+        } else {
+          contentStream.showText(line);
+          contentStream.newLineAtOffset(0, -leading);
+        }
+      }
+
+      contentStream.endText();
+    }
+  }
+}
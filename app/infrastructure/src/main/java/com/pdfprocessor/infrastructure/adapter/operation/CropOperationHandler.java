@@ -0,0 +1,107 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_CROP}: recortar páginas do PDF. */
+@Component
+public class CropOperationHandler extends AbstractPdfOperationHandler {
+
+  public CropOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_CROP;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("PDF_CROP operation requires at least 1 input file");
+    }
+
+    String inputPath = inputFiles.get(0);
+    File file = resolveInput(inputPath).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputPath);
+    }
+
+    Map<String, Object> options = job.getOptions();
+
+    // Parâmetros de crop
+    Number x = (Number) options.getOrDefault("x", 0);
+    Number y = (Number) options.getOrDefault("y", 0);
+    Number width = (Number) options.getOrDefault("width", 595); // A4 width
+    Number height = (Number) options.getOrDefault("height", 842); // A4 height
+    String pages = (String) options.getOrDefault("pages", "all");
+
+    Path resultPath = resultDirectory(job).resolve("result_" + job.getId() + ".pdf");
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      PDDocument resultDoc = new PDDocument();
+
+      List<Integer> pageNumbers =
+          pages.equals("all")
+              ? getAllPageNumbers(document.getNumberOfPages())
+              : parsePageRange(pages, document.getNumberOfPages());
+
+      for (int pageNum : pageNumbers) {
+        PDPage page = document.getPage(pageNum - 1);
+        PDPage newPage = resultDoc.importPage(page);
+
+        // Define a área de crop
+        newPage.setCropBox(
+            new org.apache.pdfbox.pdmodel.common.PDRectangle(
+                x.floatValue(), y.floatValue(), width.floatValue(), height.floatValue()));
+      }
+
+      resultDoc.save(resultPath.toFile());
+      resultDoc.close();
+    }
+
+    return resultPath.toString();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("x")) ((Number) options.get("x")).floatValue();
+      if (options.containsKey("y")) ((Number) options.get("y")).floatValue();
+      if (options.containsKey("width")) ((Number) options.get("width")).floatValue();
+      if (options.containsKey("height")) ((Number) options.get("height")).floatValue();
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("x", "number (optional, default: 0)");
+    schema.put("y", "number (optional, default: 0)");
+    schema.put("width", "number (optional, default: 595)");
+    schema.put("height", "number (optional, default: 842)");
+    schema.put("pages", "string (optional, default: 'all')");
+    return schema;
+  }
+}
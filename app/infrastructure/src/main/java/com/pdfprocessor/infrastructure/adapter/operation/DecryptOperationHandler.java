@@ -0,0 +1,90 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#DECRYPT}: descriptografar PDF. */
+@Component
+public class DecryptOperationHandler extends AbstractPdfOperationHandler {
+
+  public DecryptOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.DECRYPT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("DECRYPT operation requires at least 1 input file");
+    }
+
+    String inputFile = inputFiles.get(0); // DECRYPT trabalha com apenas um arquivo
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    // Obter opções de descriptografia
+    Map<String, Object> options = job.getOptions();
+    if (options == null) {
+      throw new IllegalArgumentException(
+          "DECRYPT operation requires options with 'password' parameter");
+    }
+
+    String password = (String) options.get("password");
+    if (password == null || password.trim().isEmpty()) {
+      throw new IllegalArgumentException("DECRYPT operation requires 'password' parameter");
+    }
+
+    String resultPath = resultDir.resolve("decrypted.pdf").toString();
+
+    try (PDDocument document = Loader.loadPDF(file, password)) {
+      if (document.isEncrypted()) {
+        // Remover proteção
+        document.setAllSecurityToBeRemoved(true);
+      }
+
+      document.save(resultPath);
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to decrypt PDF. Invalid password or corrupted file.", e);
+    }
+
+    System.out.println("PDF decrypted successfully. Result saved to: " + resultPath);
+    return resultPath;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    return options.containsKey("password");
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("password", "string (required)");
+    return schema;
+  }
+}
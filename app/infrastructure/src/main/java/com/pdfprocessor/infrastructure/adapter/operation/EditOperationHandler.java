@@ -0,0 +1,219 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_EDIT}: editar PDF com anotações. */
+@Component
+public class EditOperationHandler extends AbstractPdfOperationHandler {
+
+  public EditOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_EDIT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("Job input files cannot be empty");
+    }
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException("PDF_EDIT operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String editType = (String) options.get("edit_type");
+
+    if (editType == null) {
+      throw new IllegalArgumentException(
+          "Edit type is required (add_text, remove_text, replace_text)");
+    }
+
+    // Validate edit type and required parameters before loading PDF
+    switch (editType.toLowerCase()) {
+      case "add_text" -> {
+        if (options.get("text") == null) {
+          throw new IllegalArgumentException("Text is required for addText operation");
+        }
+      }
+      case "remove_text" -> {
+        // No additional validation needed for remove_text
+      }
+      case "replace_text" -> {
+        if (options.get("new_text") == null) {
+          throw new IllegalArgumentException("New text is required for replace_text operation");
+        }
+      }
+      default ->
+          throw new IllegalArgumentException(
+              "Unsupported edit type: "
+                  + editType
+                  + ". Supported types: add_text, remove_text, replace_text");
+    }
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
+      switch (editType.toLowerCase()) {
+        case "add_text" -> addTextToDocument(document, options);
+        case "remove_text" -> removeTextFromDocument(document, options);
+        case "replace_text" -> replaceTextInDocument(document, options);
+      }
+
+      String outputFilename =
+          options.getOrDefault("output_filename", "edited_" + inputPath.getFileName()).toString();
+      Path outputPath = resultDir.resolve(outputFilename);
+      document.save(outputPath.toFile());
+
+      return outputPath.toString();
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (!options.containsKey("edit_type")) {
+        return false;
+      }
+      String editType = (String) options.get("edit_type");
+      if (!List.of("add_text", "remove_text", "replace_text").contains(editType)) {
+        return false;
+      }
+
+      // Validação específica por tipo de edição
+      switch (editType) {
+        case "add_text" -> {
+          return options.containsKey("text")
+              && options.containsKey("x")
+              && options.containsKey("y");
+        }
+        case "remove_text" -> {
+          return options.containsKey("text_to_remove");
+        }
+        case "replace_text" -> {
+          return options.containsKey("old_text") && options.containsKey("new_text");
+        }
+      }
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "edit_type", "string (required, options: add_text, remove_text, replace_text)");
+    schema.put("text", "string (required for add_text)");
+    schema.put("x", "number (required for add_text)");
+    schema.put("y", "number (required for add_text)");
+    schema.put("text_to_remove", "string (required for remove_text)");
+    schema.put("old_text", "string (required for replace_text)");
+    schema.put("new_text", "string (required for replace_text)");
+    schema.put("font_size", "number (optional, default: 12)");
+    schema.put("pages", "string (optional, default: 'all')");
+    return schema;
+  }
+
+  private void addTextToDocument(PDDocument document, Map<String, Object> options)
+      throws IOException {
+    String text = (String) options.get("text");
+    if (text == null) {
+      throw new IllegalArgumentException("Text is required for addText operation");
+    }
+
+    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
+    float x = Float.parseFloat(options.getOrDefault("x", "50").toString());
+    float y = Float.parseFloat(options.getOrDefault("y", "750").toString());
+    float fontSize = Float.parseFloat(options.getOrDefault("fontSize", "12").toString());
+
+    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
+      PDPage page = document.getPage(pageNumber);
+      try (PDPageContentStream contentStream =
+          new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true)) {
+        contentStream.beginText();
+        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), fontSize);
+        contentStream.newLineAtOffset(x, y);
+        contentStream.showText(text);
+        contentStream.endText();
+      }
+    }
+  }
+
+  private void removeTextFromDocument(PDDocument document, Map<String, Object> options)
+      throws IOException {
+    // Implementação básica - na prática, remover texto específico é complexo
+    // Esta implementação remove todo o texto de uma página específica
+    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
+
+    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
+      PDPage page = document.getPage(pageNumber);
+      // Criar uma nova página em branco com o mesmo tamanho
+      PDPage newPage = new PDPage(page.getMediaBox());
+      document.removePage(pageNumber);
+      document
+          .getPages()
+          .insertBefore(
+              newPage, document.getPage(Math.min(pageNumber, document.getNumberOfPages() - 1)));
+    }
+  }
+
+  private void replaceTextInDocument(PDDocument document, Map<String, Object> options)
+      throws IOException {
+    // Implementação básica - substitui todo o conteúdo de uma página
+    String newText = (String) options.get("new_text");
+    if (newText == null) {
+      throw new IllegalArgumentException("New text is required for replace_text operation");
+    }
+
+    int pageNumber = Integer.parseInt(options.getOrDefault("page", "1").toString()) - 1;
+
+    if (pageNumber >= 0 && pageNumber < document.getNumberOfPages()) {
+      PDPage page = document.getPage(pageNumber);
+      PDRectangle pageSize = page.getMediaBox();
+
+      // Remover página existente e criar nova
+      document.removePage(pageNumber);
+      PDPage newPage = new PDPage(pageSize);
+      document
+          .getPages()
+          .insertBefore(
+              newPage,
+              pageNumber < document.getNumberOfPages() ? document.getPage(pageNumber) : null);
+
+      // Adicionar novo texto
+      try (PDPageContentStream contentStream = new PDPageContentStream(document, newPage)) {
+        contentStream.beginText();
+        contentStream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+        contentStream.newLineAtOffset(50, pageSize.getHeight() - 50);
+        contentStream.showText(newText);
+        contentStream.endText();
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#ENCRYPT}: criptografar PDF com senha. */
+@Component
+public class EncryptOperationHandler extends AbstractPdfOperationHandler {
+
+  public EncryptOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.ENCRYPT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("ENCRYPT operation requires at least 1 input file");
+    }
+
+    String inputFile = inputFiles.get(0); // ENCRYPT trabalha com apenas um arquivo
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    // Obter opções de criptografia
+    Map<String, Object> options = job.getOptions();
+    if (options == null) {
+      throw new IllegalArgumentException(
+          "ENCRYPT operation requires options with 'password' parameter");
+    }
+
+    String userPassword = (String) options.get("password");
+    if (userPassword == null || userPassword.trim().isEmpty()) {
+      throw new IllegalArgumentException("ENCRYPT operation requires 'password' parameter");
+    }
+
+    String ownerPassword = (String) options.get("ownerPassword");
+    if (ownerPassword == null || ownerPassword.trim().isEmpty()) {
+      ownerPassword = userPassword; // Usar a mesma senha se não especificada
+    }
+
+    String resultPath = resultDir.resolve("encrypted.pdf").toString();
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      // Configurar permissões
+      AccessPermission accessPermission = new AccessPermission();
+
+      // Opções de permissão (padrão: permitir tudo)
+      boolean allowPrint =
+          options.get("allowPrint") != null
+              ? Boolean.parseBoolean(options.get("allowPrint").toString())
+              : true;
+      boolean allowCopy =
+          options.get("allowCopy") != null
+              ? Boolean.parseBoolean(options.get("allowCopy").toString())
+              : true;
+      boolean allowModify =
+          options.get("allowModify") != null
+              ? Boolean.parseBoolean(options.get("allowModify").toString())
+              : true;
+
+      accessPermission.setCanPrint(allowPrint);
+      accessPermission.setCanExtractContent(allowCopy);
+      accessPermission.setCanModify(allowModify);
+
+      // Criar política de proteção
+      StandardProtectionPolicy protectionPolicy =
+          new StandardProtectionPolicy(ownerPassword, userPassword, accessPermission);
+      protectionPolicy.setEncryptionKeyLength(128);
+
+      // Aplicar criptografia
+      document.protect(protectionPolicy);
+      document.save(resultPath);
+    }
+
+    System.out.println("PDF encrypted successfully. Result saved to: " + resultPath);
+    return resultPath;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    return options.containsKey("password");
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("password", "string (required)");
+    schema.put("ownerPassword", "string (optional)");
+    schema.put("allowPrint", "boolean (optional, default: true)");
+    schema.put("allowCopy", "boolean (optional, default: true)");
+    schema.put("allowModify", "boolean (optional, default: true)");
+    return schema;
+  }
+}
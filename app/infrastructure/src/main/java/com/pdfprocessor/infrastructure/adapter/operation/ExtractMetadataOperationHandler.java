@@ -0,0 +1,101 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#EXTRACT_METADATA}: extrair metadados do PDF. */
+@Component
+public class ExtractMetadataOperationHandler extends AbstractPdfOperationHandler {
+
+  public ExtractMetadataOperationHandler(
+      StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.EXTRACT_METADATA;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("No input files provided for metadata extraction");
+    }
+
+    String inputPath = job.getInputFiles().get(0);
+    Path resultDir = resultDirectory(job);
+
+    String resultFileName = "metadata.json";
+    Path resultPath = resultDir.resolve(resultFileName);
+
+    try (PDDocument document = Loader.loadPDF(resolveInput(inputPath).toFile())) {
+      PDDocumentInformation info = document.getDocumentInformation();
+      Map<String, Object> metadata = new HashMap<>();
+
+      // Informações básicas do documento
+      metadata.put("title", info.getTitle());
+      metadata.put("author", info.getAuthor());
+      metadata.put("subject", info.getSubject());
+      metadata.put("keywords", info.getKeywords());
+      metadata.put("creator", info.getCreator());
+      metadata.put("producer", info.getProducer());
+
+      // Datas
+      if (info.getCreationDate() != null) {
+        metadata.put("creationDate", info.getCreationDate().getTime().toString());
+      }
+      if (info.getModificationDate() != null) {
+        metadata.put("modificationDate", info.getModificationDate().getTime().toString());
+      }
+
+      // Informações do documento
+      metadata.put("numberOfPages", document.getNumberOfPages());
+      metadata.put("version", document.getVersion());
+      metadata.put("isEncrypted", document.isEncrypted());
+
+      // Converter para JSON
+      StringBuilder jsonBuilder = new StringBuilder();
+      jsonBuilder.append("{\n");
+      boolean first = true;
+      for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+        if (!first) {
+          jsonBuilder.append(",\n");
+        }
+        jsonBuilder.append("  \"").append(entry.getKey()).append("\": ");
+        if (entry.getValue() == null) {
+          jsonBuilder.append("null");
+        } else if (entry.getValue() instanceof String) {
+          jsonBuilder
+              .append("\"")
+              .append(entry.getValue().toString().replace("\"", "\\\""))
+              .append("\"");
+        } else {
+          jsonBuilder.append(entry.getValue().toString());
+        }
+        first = false;
+      }
+      jsonBuilder.append("\n}");
+
+      Files.write(resultPath, jsonBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    return resultPath.toString();
+  }
+}
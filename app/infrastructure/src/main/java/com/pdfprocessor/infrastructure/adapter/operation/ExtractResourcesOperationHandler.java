@@ -0,0 +1,180 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_EXTRACT_RESOURCES}: extrair recursos do PDF. */
+@Component
+public class ExtractResourcesOperationHandler extends AbstractPdfOperationHandler {
+
+  private final ImageEncoder imageEncoder;
+
+  public ExtractResourcesOperationHandler(
+      StorageService storageService, OperationExecutors executors, ImageEncoder imageEncoder) {
+    super(storageService, executors);
+    this.imageEncoder = imageEncoder;
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_EXTRACT_RESOURCES;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().size() != 1) {
+      throw new RuntimeException("PDF_EXTRACT_RESOURCES operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String resourceType =
+        (String) options.getOrDefault("resource_type", "all"); // images, fonts, all
+    boolean extractImages = resourceType.equals("images") || resourceType.equals("all");
+    boolean extractFonts = resourceType.equals("fonts") || resourceType.equals("all");
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+
+    List<String> extractedResources = new ArrayList<>();
+    EncodingSettings encoding = imageEncoder.settings(options);
+
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
+      if (extractImages) {
+        Path imagesDir = resultDir.resolve("images");
+        Files.createDirectories(imagesDir);
+
+        int imageCount = 0;
+        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
+          PDPage page = document.getPage(pageIndex);
+          if (page.getResources() != null && page.getResources().getXObjectNames() != null) {
+            for (org.apache.pdfbox.cos.COSName xObjectName :
+                page.getResources().getXObjectNames()) {
+              try {
+                org.apache.pdfbox.pdmodel.graphics.PDXObject xObject =
+                    page.getResources().getXObject(xObjectName);
+                if (xObject instanceof PDImageXObject) {
+                  PDImageXObject image = (PDImageXObject) xObject;
+                  String imageName = "image_" + pageIndex + "_" + imageCount + ".png";
+                  Path imagePath = imagesDir.resolve(imageName);
+
+                  BufferedImage bufferedImage = image.getImage();
+                  imageEncoder.write(bufferedImage, "PNG", imagePath, encoding);
+                  extractedResources.add(imagePath.toString());
+                  imageCount++;
+                }
+              } catch (Exception e) {
+                System.err.println("Error extracting image: " + e.getMessage());
+              }
+            }
+          }
+        }
+      }
+
+      if (extractFonts) {
+        Path fontsDir = resultDir.resolve("fonts");
+        Files.createDirectories(fontsDir);
+
+        // Criar relatório de fontes (PDFBox não permite extração direta de fontes)
+        StringBuilder fontReport = new StringBuilder();
+        fontReport.append("Font Resources Report\n");
+        fontReport.append("=====================\n\n");
+
+        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
+          PDPage page = document.getPage(pageIndex);
+          if (page.getResources() != null && page.getResources().getFontNames() != null) {
+            fontReport.append("Page ").append(pageIndex + 1).append(":\n");
+            for (org.apache.pdfbox.cos.COSName fontName : page.getResources().getFontNames()) {
+              try {
+                org.apache.pdfbox.pdmodel.font.PDFont font = page.getResources().getFont(fontName);
+                fontReport
+                    .append("  - ")
+                    .append(font.getName())
+                    .append(" (")
+                    .append(font.getClass().getSimpleName())
+                    .append(")\n");
+              } catch (Exception e) {
+                fontReport
+                    .append("  - ")
+                    .append(fontName.getName())
+                    .append(" (Error reading font)\n");
+              }
+            }
+          }
+        }
+
+        Path fontReportPath = fontsDir.resolve("fonts_report.txt");
+        Files.write(fontReportPath, fontReport.toString().getBytes(StandardCharsets.UTF_8));
+        extractedResources.add(fontReportPath.toString());
+      }
+    }
+
+    // Criar relatório de extração
+    StringBuilder extractionReport = new StringBuilder();
+    extractionReport.append("Resource Extraction Report\n");
+    extractionReport.append("=========================\n\n");
+    extractionReport.append("Input file: ").append(inputPath.getFileName()).append("\n");
+    extractionReport.append("Resource type: ").append(resourceType).append("\n");
+    extractionReport
+        .append("Extracted resources: ")
+        .append(extractedResources.size())
+        .append("\n\n");
+
+    for (String resource : extractedResources) {
+      extractionReport.append("- ").append(Paths.get(resource).getFileName()).append("\n");
+    }
+
+    Path reportPath = resultDir.resolve("extraction_report.txt");
+    Files.write(reportPath, extractionReport.toString().getBytes(StandardCharsets.UTF_8));
+
+    return resultDir.toString();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validar tipo de recurso a extrair
+      if (options.containsKey("resource_type")) {
+        String resourceType = options.get("resource_type").toString();
+        List<String> validTypes = List.of("images", "fonts", "all");
+        if (!validTypes.contains(resourceType)) {
+          return false;
+        }
+      }
+
+      // Validar formato de imagem
+      if (options.containsKey("image_format")) {
+        String format = options.get("image_format").toString();
+        List<String> validFormats = List.of("png", "jpg", "jpeg", "gif");
+        if (!validFormats.contains(format.toLowerCase())) {
+          return false;
+        }
+      }
+
+      return ImageEncoder.validateOptions(options);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+}
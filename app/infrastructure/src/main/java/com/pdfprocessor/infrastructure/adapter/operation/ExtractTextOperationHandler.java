@@ -0,0 +1,282 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#EXTRACT_TEXT}: extrair texto do PDF.
+ *
+ * <p>As páginas são divididas em blocos consecutivos, extraídos em paralelo por threads que abrem
+ * cada uma o seu próprio documento. A thread do job grava os blocos no arquivo de saída na ordem
+ * das páginas, à medida que ficam prontos; só alguns blocos por thread ficam em memória, qualquer
+ * que seja o tamanho do documento.
+ *
+ * <p>Com {@code format=text} (padrão) o resultado é o mesmo texto de um único {@link
+ * PDFTextStripper} sobre o intervalo; com {@code format=ndjson} cada linha é um objeto {@code
+ * {"page":N,"text":"..."}}.
+ */
+@Component
+public class ExtractTextOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final int PAGES_PER_SHARD = 16;
+  // Blocos extraídos aguardando gravação por thread de extração; limita a memória usada
+  private static final int SHARDS_IN_FLIGHT_PER_WORKER = 2;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  public ExtractTextOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.EXTRACT_TEXT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("No input files provided for text extraction");
+    }
+
+    String inputPath = job.getInputFiles().get(0);
+    File file = resolveInput(inputPath).toFile();
+    Path resultDir = resultDirectory(job);
+
+    Map<String, Object> options = job.getOptions();
+    boolean ndjson = "ndjson".equals(options.getOrDefault("format", "text").toString());
+    boolean sortByPosition =
+        Boolean.parseBoolean(options.getOrDefault("sortByPosition", false).toString());
+
+    int totalPages;
+    try (PDDocument document = Loader.loadPDF(file)) {
+      totalPages = document.getNumberOfPages();
+    }
+    // Mesmos limites do PDFTextStripper: intervalo vazio gera arquivo vazio
+    int startPage = Math.max(1, intOption(options, "startPage", 1));
+    int endPage = Math.min(totalPages, intOption(options, "endPage", Integer.MAX_VALUE));
+    int pageCount = Math.max(0, endPage - startPage + 1);
+
+    Path resultPath = resultDir.resolve(ndjson ? "extracted_text.ndjson" : "extracted_text.txt");
+    try (Writer writer = Files.newBufferedWriter(resultPath, StandardCharsets.UTF_8)) {
+      extract(file, startPage, pageCount, sortByPosition, ndjson, writer);
+    }
+
+    System.out.println("Extracted text of " + pageCount + " pages to: " + resultPath);
+    return resultPath.toString();
+  }
+
+  /**
+   * Extrai os blocos em paralelo e os grava em ordem. Uma thread só começa um bloco depois de obter
+   * uma vaga em {@code inFlight}, e as vagas são obtidas na ordem dos blocos; assim o próximo bloco
+   * a gravar sempre tem vaga e a gravação nunca fica esperando por um bloco bloqueado.
+   */
+  private void extract(
+      File file, int startPage, int pageCount, boolean sortByPosition, boolean ndjson, Writer out)
+      throws IOException {
+    int shardCount = (pageCount + PAGES_PER_SHARD - 1) / PAGES_PER_SHARD;
+    if (shardCount == 0) {
+      return;
+    }
+    List<CompletableFuture<String[]>> shards = new ArrayList<>(shardCount);
+    for (int i = 0; i < shardCount; i++) {
+      shards.add(new CompletableFuture<>());
+    }
+
+    int workers = Math.max(1, Math.min(getParallelism(), shardCount));
+    Semaphore inFlight = new Semaphore(workers * SHARDS_IN_FLIGHT_PER_WORKER);
+    AtomicInteger nextShard = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    CompletableFuture<Void> failure = new CompletableFuture<>();
+
+    List<CompletableFuture<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument document = Loader.loadPDF(file)) {
+                  PageTextStripper stripper = new PageTextStripper();
+                  stripper.setSortByPosition(sortByPosition);
+                  while (!failed.get()) {
+                    inFlight.acquire();
+                    int next = nextShard.getAndIncrement();
+                    if (next >= shardCount || failed.get()) {
+                      inFlight.release();
+                      return;
+                    }
+                    int first = startPage + next * PAGES_PER_SHARD;
+                    int last = Math.min(startPage + pageCount - 1, first + PAGES_PER_SHARD - 1);
+                    shards.get(next).complete(stripper.pages(document, first, last));
+                  }
+                } catch (IOException e) {
+                  abort(failed, failure, e);
+                  throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  IllegalStateException error =
+                      new IllegalStateException("Text extraction interrupted", e);
+                  abort(failed, failure, error);
+                  throw error;
+                } catch (RuntimeException e) {
+                  abort(failed, failure, e);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+
+    boolean written = false;
+    try {
+      for (int i = 0; i < shardCount; i++) {
+        CompletableFuture.anyOf(shards.get(i), failure).join();
+        String[] pages = shards.get(i).join();
+        int firstPage = startPage + i * PAGES_PER_SHARD;
+        for (int p = 0; p < pages.length; p++) {
+          if (ndjson) {
+            out.write(
+                objectMapper.writeValueAsString(
+                    objectMapper
+                        .createObjectNode()
+                        .put("page", firstPage + p)
+                        .put("text", pages[p])));
+            out.write('\n');
+          } else {
+            out.write(pages[p]);
+          }
+        }
+        // O bloco gravado deixa de ser referenciado e a vaga vai para o próximo
+        shards.set(i, null);
+        inFlight.release();
+      }
+      written = true;
+    } catch (CompletionException e) {
+      // A falha original é relançada por awaitAll logo abaixo
+    } finally {
+      if (!written) {
+        // Acorda as threads que aguardam vaga para que vejam a falha e terminem
+        failed.set(true);
+        inFlight.release(workers);
+      }
+      awaitAllQuietly(tasks);
+    }
+    awaitAll(tasks);
+  }
+
+  /** Marca a falha e acorda a thread do job, que pode estar aguardando um bloco que não virá. */
+  private static void abort(
+      AtomicBoolean failed, CompletableFuture<Void> failure, Throwable cause) {
+    failed.set(true);
+    failure.completeExceptionally(cause);
+  }
+
+  private static int intOption(Map<String, Object> options, String key, int defaultValue) {
+    Object value = options.get(key);
+    return value == null ? defaultValue : Integer.parseInt(value.toString());
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      for (String key : List.of("startPage", "endPage")) {
+        if (options.containsKey(key) && intOption(options, key, 1) <= 0) {
+          return false;
+        }
+      }
+      if (options.containsKey("sortByPosition")
+          && !List.of("true", "false").contains(options.get("sortByPosition").toString())) {
+        return false;
+      }
+      return !options.containsKey("format")
+          || List.of("text", "ndjson").contains(options.get("format").toString());
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("startPage", "number (optional)");
+    schema.put("endPage", "number (optional)");
+    schema.put("sortByPosition", "boolean (optional, default: false)");
+    schema.put(
+        "format",
+        "string (optional, default: 'text', options: text, ndjson with one line per page)");
+    return schema;
+  }
+
+  /** Stripper que devolve o texto de cada página separadamente, na mesma saída do original. */
+  private static final class PageTextStripper extends PDFTextStripper {
+
+    private final StringWriter buffer = new StringWriter();
+    private String[] pages;
+    private int firstPage;
+
+    PageTextStripper() {
+      super();
+    }
+
+    /** Texto das páginas {@code first} a {@code last} (a partir de 1), uma posição por página. */
+    String[] pages(PDDocument document, int first, int last) throws IOException {
+      pages = new String[last - first + 1];
+      firstPage = first;
+      setStartPage(first);
+      setEndPage(last);
+      buffer.getBuffer().setLength(0);
+      writeText(document, buffer);
+      // Páginas sem conteúdo não passam por endPage
+      String[] result = pages;
+      for (int i = 0; i < result.length; i++) {
+        if (result[i] == null) {
+          result[i] = "";
+        }
+      }
+      pages = null;
+      return result;
+    }
+
+    @Override
+    protected void endPage(PDPage page) throws IOException {
+      super.endPage(page);
+      int index = getCurrentPageNo() - firstPage;
+      if (index >= 0 && index < pages.length) {
+        pages[index] = buffer.toString();
+      }
+      buffer.getBuffer().setLength(0);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import org.apache.fontbox.ttf.TTFSubsetter;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDCIDFontType2;
+
+/**
+ * Subconjunto das fontes CID TrueType embutidas por inteiro.
+ *
+ * <p>Só os glifos desenhados são mantidos. O subconjunto renumera os glifos, então cada fonte
+ * descendente ganha um {@code /CIDToGIDMap} novo; CIDs, larguras e {@code /ToUnicode} não mudam.
+ * Um arquivo de fonte compartilhado por várias fontes descendentes recebe a união dos glifos, e só
+ * é reduzido se todas elas tiverem sido observadas. Outros tipos de fonte são mantidos.
+ */
+final class FontSubsetter {
+
+  // Mesmas tabelas que o PDFBox mantém ao embutir um subconjunto de fonte CID TrueType
+  private static final List<String> TABLES =
+      List.of("head", "hhea", "loca", "maxp", "cvt ", "prep", "glyf", "hmtx", "fpgm", "gasp");
+  private static final Pattern SUBSET_NAME = Pattern.compile("^[A-Z]{6}\\+.*");
+
+  private FontSubsetter() {}
+
+  /**
+   * Reduz as fontes do documento aos glifos usados.
+   *
+   * @return quantidade de arquivos de fonte reduzidos
+   */
+  static int subset(PDDocument document, ContentUsage usage) throws IOException {
+    if (!usage.isComplete()) {
+      return 0;
+    }
+
+    Map<COSStream, List<COSDictionary>> descendantsByFile = new IdentityHashMap<>();
+    for (COSBase container : CosGraph.of(document).containers()) {
+      if (container instanceof COSDictionary font
+          && !(container instanceof COSStream)
+          && COSName.FONT.equals(font.getCOSName(COSName.TYPE))
+          && COSName.CID_FONT_TYPE2.equals(font.getCOSName(COSName.SUBTYPE))) {
+        COSDictionary descriptor = font.getCOSDictionary(COSName.FONT_DESC);
+        COSStream fontFile =
+            descriptor != null ? descriptor.getCOSStream(COSName.FONT_FILE2) : null;
+        if (fontFile != null) {
+          descendantsByFile.computeIfAbsent(fontFile, key -> new ArrayList<>()).add(font);
+        }
+      }
+    }
+
+    int subsetted = 0;
+    for (Map.Entry<COSStream, List<COSDictionary>> group : descendantsByFile.entrySet()) {
+      List<ContentUsage.CidFontUse> uses = new ArrayList<>();
+      for (COSDictionary descendant : group.getValue()) {
+        ContentUsage.CidFontUse use = usage.cidFonts().get(descendant);
+        if (use == null) {
+          uses = null;
+          break;
+        }
+        uses.add(use);
+      }
+      if (uses == null || SUBSET_NAME.matcher(baseFont(group.getValue().get(0))).matches()) {
+        continue;
+      }
+      try {
+        if (subsetGroup(document, group.getKey(), uses)) {
+          subsetted++;
+        }
+      } catch (IOException | RuntimeException e) {
+        System.err.println("Skipping font subset: " + e.getMessage());
+      }
+    }
+    return subsetted;
+  }
+
+  private static boolean subsetGroup(
+      PDDocument document, COSStream fontFile, List<ContentUsage.CidFontUse> uses)
+      throws IOException {
+    // Uma fonte embutida danificada é substituída por uma fonte do sistema na leitura
+    PDCIDFontType2 cidFont = uses.get(0).getCidFont();
+    if (!cidFont.isEmbedded() || cidFont.isDamaged()) {
+      return false;
+    }
+
+    Set<Integer> glyphs = new TreeSet<>();
+    for (ContentUsage.CidFontUse use : uses) {
+      glyphs.addAll(use.getCidToGid().values());
+    }
+
+    TTFSubsetter subsetter = new TTFSubsetter(cidFont.getTrueTypeFont(), TABLES);
+    subsetter.addGlyphIds(glyphs);
+    ByteArrayOutputStream subset = new ByteArrayOutputStream();
+    subsetter.writeToStream(subset);
+    Map<Integer, Integer> newGids = new HashMap<>();
+    for (Map.Entry<Integer, Integer> entry : subsetter.getGIDMap().entrySet()) {
+      newGids.put(entry.getValue(), entry.getKey());
+    }
+
+    try (OutputStream out = fontFile.createOutputStream(COSName.FLATE_DECODE)) {
+      subset.writeTo(out);
+    }
+    fontFile.setInt(COSName.LENGTH1, subset.size());
+
+    String tag = subsetTag(glyphs);
+    for (ContentUsage.CidFontUse use : uses) {
+      COSDictionary descendant = use.getCidFont().getCOSObject();
+      descendant.setItem(COSName.CID_TO_GID_MAP, cidToGidMap(document, use, newGids));
+      prefixName(descendant, COSName.BASE_FONT, tag);
+      prefixName(use.getFont().getCOSObject(), COSName.BASE_FONT, tag);
+      COSDictionary descriptor = descendant.getCOSDictionary(COSName.FONT_DESC);
+      prefixName(descriptor, COSName.FONT_NAME, tag);
+      // O CIDSet lista os CIDs presentes no arquivo de fonte e deixaria de ser verdadeiro
+      descriptor.removeItem(COSName.CID_SET);
+    }
+    return true;
+  }
+
+  private static COSStream cidToGidMap(
+      PDDocument document, ContentUsage.CidFontUse use, Map<Integer, Integer> newGids)
+      throws IOException {
+    NavigableMap<Integer, Integer> cidToGid = use.getCidToGid();
+    int maxCid = cidToGid.isEmpty() ? 0 : cidToGid.lastKey();
+    byte[] map = new byte[(maxCid + 1) * 2];
+    for (Map.Entry<Integer, Integer> entry : cidToGid.entrySet()) {
+      int gid = newGids.getOrDefault(entry.getValue(), 0);
+      map[entry.getKey() * 2] = (byte) (gid >> 8);
+      map[entry.getKey() * 2 + 1] = (byte) gid;
+    }
+    COSStream stream = document.getDocument().createCOSStream();
+    try (OutputStream out = stream.createOutputStream(COSName.FLATE_DECODE)) {
+      out.write(map);
+    }
+    return stream;
+  }
+
+  /** Prefixo de seis letras maiúsculas que marca um subconjunto, derivado dos glifos mantidos. */
+  private static String subsetTag(Set<Integer> glyphs) {
+    long hash = Integer.toUnsignedLong(glyphs.hashCode()) * 31 + glyphs.size();
+    StringBuilder tag = new StringBuilder(6);
+    for (int i = 0; i < 6; i++) {
+      tag.append((char) ('A' + hash % 26));
+      hash /= 26;
+    }
+    return tag.toString();
+  }
+
+  private static void prefixName(COSDictionary dictionary, COSName key, String tag) {
+    String name = dictionary.getNameAsString(key);
+    if (name != null && !SUBSET_NAME.matcher(name).matches()) {
+      dictionary.setName(key, tag + "+" + name);
+    }
+  }
+
+  private static String baseFont(COSDictionary font) {
+    String name = font.getNameAsString(COSName.BASE_FONT);
+    return name != null ? name : "";
+  }
+}
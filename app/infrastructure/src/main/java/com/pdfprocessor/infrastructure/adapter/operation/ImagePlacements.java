@@ -0,0 +1,98 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.util.Matrix;
+
+/**
+ * Resolução efetiva (DPI) com que cada imagem do documento é desenhada.
+ *
+ * <p>Percorre o conteúdo das páginas, incluindo formulários aninhados, e registra para cada
+ * stream de imagem a menor resolução entre todos os lugares em que ela aparece: é a colocação
+ * maior que define quantos pixels a imagem precisa manter. Imagens inline e imagens que não são
+ * desenhadas em nenhuma página não aparecem no resultado.
+ */
+final class ImagePlacements {
+
+  // COSStream não redefine equals: a chave é a identidade do objeto, compartilhado entre páginas
+  private final Map<COSStream, Placement> placements = new LinkedHashMap<>();
+
+  private ImagePlacements() {}
+
+  static ImagePlacements collect(PDDocument document) throws IOException {
+    ImagePlacements placements = new ImagePlacements();
+    for (PDPage page : document.getPages()) {
+      new Collector(page, placements).processPage(page);
+    }
+    return placements;
+  }
+
+  /** Imagens desenhadas em uma única página. */
+  static ImagePlacements collect(PDPage page) throws IOException {
+    ImagePlacements placements = new ImagePlacements();
+    new Collector(page, placements).processPage(page);
+    return placements;
+  }
+
+  /** Imagens desenhadas, uma por stream, na ordem em que foram encontradas. */
+  Collection<Placement> all() {
+    return placements.values();
+  }
+
+  private void record(PDImageXObject image, Matrix ctm) {
+    // A imagem ocupa o quadrado unitário do espaço de usuário; a CTM dá o tamanho em pontos
+    float widthInches = ctm.getScalingFactorX() / 72f;
+    float heightInches = ctm.getScalingFactorY() / 72f;
+    if (widthInches <= 0 || heightInches <= 0) {
+      return;
+    }
+    float dpi = Math.min(image.getWidth() / widthInches, image.getHeight() / heightInches);
+    Placement placement =
+        placements.computeIfAbsent(image.getCOSObject(), stream -> new Placement(image));
+    placement.effectiveDpi = Math.min(placement.effectiveDpi, dpi);
+  }
+
+  /** Uma imagem e a menor resolução com que ela é desenhada. */
+  static final class Placement {
+    private final PDImageXObject image;
+    private float effectiveDpi = Float.MAX_VALUE;
+
+    private Placement(PDImageXObject image) {
+      this.image = image;
+    }
+
+    /** Imagem como encontrada na primeira página em que aparece. */
+    PDImageXObject getImage() {
+      return image;
+    }
+
+    /** Menor resolução com que a imagem é desenhada, em pixels por polegada. */
+    float getEffectiveDpi() {
+      return effectiveDpi;
+    }
+  }
+
+  /** Registra as imagens desenhadas e a matriz corrente no momento do desenho. */
+  private static final class Collector extends ContentObserver {
+    private final ImagePlacements placements;
+
+    Collector(PDPage page, ImagePlacements placements) {
+      super(page);
+      this.placements = placements;
+    }
+
+    @Override
+    public void drawImage(PDImage image) {
+      if (image instanceof PDImageXObject xObject) {
+        placements.record(xObject, getGraphicsState().getCurrentTransformationMatrix());
+      }
+    }
+  }
+}
@@ -0,0 +1,202 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.color.PDCalGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColorSpace;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceGray;
+import org.apache.pdfbox.pdmodel.graphics.color.PDICCBased;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+/**
+ * Redução e recompressão em JPEG das imagens desenhadas acima de uma resolução alvo.
+ *
+ * <p>Cada imagem é reescrita no próprio stream, e só quando o resultado fica menor; as demais
+ * imagens são mantidas byte a byte.
+ */
+final class ImageRecompressor {
+
+  // Reduzir uma imagem só um pouco acima do alvo perde nitidez sem ganho relevante de tamanho
+  private static final float DOWNSAMPLE_THRESHOLD = 1.25f;
+
+  private final ImageEncoder imageEncoder;
+
+  ImageRecompressor(ImageEncoder imageEncoder) {
+    this.imageEncoder = imageEncoder;
+  }
+
+  /**
+   * Recomprime as imagens desenhadas no documento.
+   *
+   * @return quantidade de imagens substituídas
+   */
+  int recompressAll(
+      PDDocument document, float targetDpi, boolean grayscale, EncodingSettings encoding)
+      throws IOException {
+    int replaced = 0;
+    for (ImagePlacements.Placement placement : ImagePlacements.collect(document).all()) {
+      if (recompress(placement, targetDpi, grayscale, encoding)) {
+        replaced++;
+      }
+    }
+    return replaced;
+  }
+
+  /**
+   * Reduz e recomprime uma imagem no próprio stream, de modo que todas as páginas que a usam
+   * passam a apontar para a versão nova.
+   *
+   * @return true se a imagem foi substituída
+   */
+  private boolean recompress(
+      ImagePlacements.Placement placement,
+      float targetDpi,
+      boolean grayscale,
+      EncodingSettings encoding)
+      throws IOException {
+    PDImageXObject image = placement.getImage();
+    COSStream stream = image.getCOSObject();
+
+    // Máscaras, imagens de 1 bit e chaves de cor dependem dos valores exatos dos pixels
+    if (image.isStencil()
+        || image.getBitsPerComponent() < 8
+        || stream.containsKey(COSName.MASK)) {
+      return false;
+    }
+
+    boolean downsample = placement.getEffectiveDpi() > targetDpi * DOWNSAMPLE_THRESHOLD;
+    if (!downsample && !grayscale && "jpg".equals(image.getSuffix())) {
+      // Recomprimir um JPEG no mesmo tamanho só acumula perdas
+      return false;
+    }
+
+    BufferedImage source;
+    try {
+      source = image.getOpaqueImage();
+    } catch (IOException | RuntimeException e) {
+      System.err.println("Skipping undecodable image: " + e.getMessage());
+      return false;
+    }
+    if (source == null) {
+      return false;
+    }
+
+    float scale = downsample ? targetDpi / placement.getEffectiveDpi() : 1f;
+    int width = Math.max(1, Math.round(source.getWidth() * scale));
+    int height = Math.max(1, Math.round(source.getHeight() * scale));
+    boolean gray = grayscale || isGray(image.getColorSpace());
+    BufferedImage result = resample(source, width, height, gray);
+
+    ByteArrayOutputStream jpegBytes = new ByteArrayOutputStream();
+    imageEncoder.write(result, "JPEG", jpegBytes, encoding);
+    if (jpegBytes.size() >= stream.getLength()) {
+      return false;
+    }
+
+    try (OutputStream out = stream.createRawOutputStream()) {
+      jpegBytes.writeTo(out);
+    }
+    stream.setItem(COSName.FILTER, COSName.DCT_DECODE);
+    stream.removeItem(COSName.DECODE_PARMS);
+    stream.removeItem(COSName.DECODE);
+    stream.setInt(COSName.WIDTH, width);
+    stream.setInt(COSName.HEIGHT, height);
+    stream.setInt(COSName.BITS_PER_COMPONENT, 8);
+    stream.setItem(COSName.COLORSPACE, gray ? COSName.DEVICEGRAY : COSName.DEVICERGB);
+    return true;
+  }
+
+  /**
+   * Espaços de cor que já são cinza. Indexed e Separation também têm um componente, mas o valor é
+   * um índice de paleta ou a tinta de uma cor especial, e gravá-los como DeviceGray perde a cor.
+   */
+  private static boolean isGray(PDColorSpace colorSpace) {
+    return colorSpace instanceof PDDeviceGray
+        || colorSpace instanceof PDCalGray
+        || (colorSpace instanceof PDICCBased && colorSpace.getNumberOfComponents() == 1);
+  }
+
+  /**
+   * Redimensiona por reduções sucessivas à metade com interpolação bilinear, o que evita o
+   * serrilhado de uma redução direta grande, e converte para RGB ou cinza de 8 bits.
+   */
+  private static BufferedImage resample(
+      BufferedImage source, int width, int height, boolean gray) {
+    int type =
+        gray && source.getType() == BufferedImage.TYPE_BYTE_GRAY
+            ? BufferedImage.TYPE_BYTE_GRAY
+            : BufferedImage.TYPE_INT_RGB;
+    BufferedImage current = source;
+    int currentWidth = source.getWidth();
+    int currentHeight = source.getHeight();
+    do {
+      currentWidth = currentWidth / 2 >= width ? currentWidth / 2 : width;
+      currentHeight = currentHeight / 2 >= height ? currentHeight / 2 : height;
+      BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+      Graphics2D graphics = next.createGraphics();
+      try {
+        graphics.setRenderingHint(
+            RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+      } finally {
+        graphics.dispose();
+      }
+      current = next;
+    } while (currentWidth != width || currentHeight != height);
+
+    return gray && type != BufferedImage.TYPE_BYTE_GRAY ? toGray(current) : current;
+  }
+
+  /**
+   * Converte para cinza pela luminância (Rec. 601) dos valores sRGB; desenhar direto em
+   * TYPE_BYTE_GRAY usa um espaço linear e clareia a imagem.
+   */
+  private static BufferedImage toGray(BufferedImage rgb) {
+    int width = rgb.getWidth();
+    int height = rgb.getHeight();
+    BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+    WritableRaster raster = gray.getRaster();
+    int[] row = new int[width];
+    int[] luma = new int[width];
+    for (int y = 0; y < height; y++) {
+      rgb.getRGB(0, y, width, 1, row, 0, width);
+      for (int x = 0; x < width; x++) {
+        int pixel = row[x];
+        luma[x] =
+            (299 * ((pixel >> 16) & 0xff) + 587 * ((pixel >> 8) & 0xff) + 114 * (pixel & 0xff)
+                    + 500)
+                / 1000;
+      }
+      raster.setSamples(0, y, width, 1, 0, luma);
+    }
+    return gray;
+  }
+
+  /** Resolução alvo do nível de qualidade (low, medium ou high). */
+  static float defaultTargetDpi(String quality) {
+    return switch (quality) {
+      case "low" -> 96f;
+      case "high" -> 220f;
+      default -> 150f;
+    };
+  }
+
+  /** Qualidade JPEG do nível de qualidade (low, medium ou high). */
+  static float defaultJpegQuality(String quality) {
+    return switch (quality) {
+      case "low" -> 0.5f;
+      case "high" -> 0.85f;
+      default -> 0.7f;
+    };
+  }
+}
@@ -0,0 +1,146 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#IMAGES_TO_PDF}: criar PDF a partir de imagens. */
+@Component
+public class ImagesToPdfOperationHandler extends AbstractPdfOperationHandler {
+
+  public ImagesToPdfOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.IMAGES_TO_PDF;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.MEMORY;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("No input files provided");
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+    String resultPath = resultDir.resolve("images_to_pdf.pdf").toString();
+
+    Map<String, Object> options = job.getOptions();
+    String pageSize = options.getOrDefault("page_size", "A4").toString();
+    boolean fitToPage =
+        Boolean.parseBoolean(options.getOrDefault("fit_to_page", "true").toString());
+
+    try (PDDocument document = new PDDocument()) {
+      PDRectangle pageRect = getPageSize(pageSize);
+
+      for (String imageFile : job.getInputFiles()) {
+        File file = resolveInput(imageFile).toFile();
+        if (!file.exists()) {
+          System.out.println("Warning: Image file does not exist, skipping: " + imageFile);
+          continue;
+        }
+
+        try {
+          BufferedImage image = ImageIO.read(file);
+          if (image == null) {
+            System.out.println("Warning: Could not read image file, skipping: " + imageFile);
+            continue;
+          }
+
+          PDPage page = new PDPage(pageRect);
+          document.addPage(page);
+
+          PDImageXObject pdImage =
+              PDImageXObject.createFromByteArray(
+                  document, Files.readAllBytes(file.toPath()), file.getName());
+
+          try (PDPageContentStream contentStream = new PDPageContentStream(document, page)) {
+            if (fitToPage) {
+              // Calcular escala para ajustar à página mantendo proporção
+              float imageWidth = pdImage.getWidth();
+              float imageHeight = pdImage.getHeight();
+              float pageWidth = pageRect.getWidth();
+              float pageHeight = pageRect.getHeight();
+
+              float scaleX = pageWidth / imageWidth;
+              float scaleY = pageHeight / imageHeight;
+              float scale = Math.min(scaleX, scaleY);
+
+              float scaledWidth = imageWidth * scale;
+              float scaledHeight = imageHeight * scale;
+
+              // Centralizar na página
+              float x = (pageWidth - scaledWidth) / 2;
+              float y = (pageHeight - scaledHeight) / 2;
+
+              contentStream.drawImage(pdImage, x, y, scaledWidth, scaledHeight);
+            } else {
+              // Usar tamanho original da imagem
+              contentStream.drawImage(pdImage, 0, 0);
+            }
+          }
+        } catch (Exception e) {
+          System.out.println("Error processing image " + imageFile + ": " + e.getMessage());
+        }
+      }
+
+      if (document.getNumberOfPages() == 0) {
+        throw new IllegalArgumentException("No valid images were processed");
+      }
+
+      document.save(resultPath);
+    }
+
+    System.out.println("Images converted to PDF. Result saved to: " + resultPath);
+    return resultPath;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("page_size")) {
+        String pageSize = options.get("page_size").toString().toUpperCase();
+        if (!List.of("A4", "A3", "A5", "LETTER", "LEGAL").contains(pageSize)) {
+          return false;
+        }
+      }
+      if (options.containsKey("fit_to_page")) {
+        Boolean.parseBoolean(options.get("fit_to_page").toString());
+      }
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
+    schema.put("fit_to_page", "boolean (optional, default: true)");
+    return schema;
+  }
+}
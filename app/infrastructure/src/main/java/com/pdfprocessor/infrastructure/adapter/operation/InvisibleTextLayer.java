@@ -0,0 +1,113 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrWord;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+import java.io.IOException;
+import java.util.List;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.graphics.state.RenderingMode;
+import org.apache.pdfbox.util.Matrix;
+
+/**
+ * Camada de texto invisível sobre uma página digitalizada, que torna o texto reconhecido pelo OCR
+ * pesquisável e selecionável sem mudar a aparência da página.
+ *
+ * <p>Cada palavra é escrita sobre o retângulo em que foi reconhecida, com o tamanho da fonte dado
+ * pela altura e a escala horizontal ajustada à largura. As coordenadas da imagem renderizada são
+ * convertidas para o espaço da página considerando a caixa de corte e a rotação.
+ */
+final class InvisibleTextLayer {
+
+  private InvisibleTextLayer() {}
+
+  /**
+   * Acrescenta as palavras ao conteúdo da página.
+   *
+   * @param dpi resolução em que a página foi renderizada para o OCR
+   * @param font fonte usada para o texto; caracteres que ela não codifica viram {@code ?}
+   */
+  static void write(PDDocument document, PDPage page, List<OcrWord> words, int dpi, PDFont font)
+      throws IOException {
+    PDRectangle cropBox = page.getCropBox();
+    int rotation = Math.floorMod(page.getRotation(), 360);
+    float scale = 72f / dpi;
+
+    try (PDPageContentStream content =
+        new PDPageContentStream(
+            document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+      content.beginText();
+      content.setRenderingMode(RenderingMode.NEITHER);
+      for (OcrWord word : words) {
+        String text = encodable(font, word.getText().strip());
+        Rectangle bounds = word.getBounds();
+        if (text.isEmpty() || bounds.width <= 0 || bounds.height <= 0) {
+          continue;
+        }
+        float fontSize = bounds.height * scale;
+        float naturalWidth = font.getStringWidth(text) / 1000 * fontSize;
+        if (naturalWidth <= 0) {
+          continue;
+        }
+        float stretch = bounds.width * scale / naturalWidth;
+
+        // Linha de base na borda inferior da palavra, no sentido da leitura na imagem
+        int baseline = bounds.y + bounds.height;
+        Point2D origin = toPage(bounds.x, baseline, cropBox, rotation, scale);
+        Point2D along = toPage(bounds.x + 1, baseline, cropBox, rotation, scale);
+        Point2D up = toPage(bounds.x, baseline - 1, cropBox, rotation, scale);
+        float alongX = (float) ((along.getX() - origin.getX()) / scale);
+        float alongY = (float) ((along.getY() - origin.getY()) / scale);
+        float upX = (float) ((up.getX() - origin.getX()) / scale);
+        float upY = (float) ((up.getY() - origin.getY()) / scale);
+
+        content.setFont(font, fontSize);
+        content.setTextMatrix(
+            new Matrix(
+                alongX * stretch,
+                alongY * stretch,
+                upX,
+                upY,
+                (float) origin.getX(),
+                (float) origin.getY()));
+        content.showText(text);
+      }
+      content.endText();
+    }
+  }
+
+  /**
+   * Ponto da imagem renderizada (pixels, origem no canto superior esquerdo) no espaço da página. A
+   * rotação da página é no sentido horário, como o PDFRenderer a aplica.
+   */
+  private static Point2D toPage(float x, float y, PDRectangle cropBox, int rotation, float scale) {
+    float u = x * scale;
+    float v = y * scale;
+    return switch (rotation) {
+      case 90 -> new Point2D.Float(cropBox.getLowerLeftX() + v, cropBox.getLowerLeftY() + u);
+      case 180 -> new Point2D.Float(cropBox.getUpperRightX() - u, cropBox.getLowerLeftY() + v);
+      case 270 -> new Point2D.Float(cropBox.getUpperRightX() - v, cropBox.getUpperRightY() - u);
+      default -> new Point2D.Float(cropBox.getLowerLeftX() + u, cropBox.getUpperRightY() - v);
+    };
+  }
+
+  private static String encodable(PDFont font, String text) {
+    StringBuilder result = new StringBuilder(text.length());
+    text.codePoints()
+        .forEach(
+            codePoint -> {
+              String character = new String(Character.toChars(codePoint));
+              try {
+                font.encode(character);
+                result.append(character);
+              } catch (IllegalArgumentException | IOException e) {
+                result.append('?');
+              }
+            });
+    return result.toString();
+  }
+}
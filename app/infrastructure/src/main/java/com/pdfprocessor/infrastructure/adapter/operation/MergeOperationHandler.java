@@ -0,0 +1,275 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#MERGE}: combinar múltiplos PDFs em um único arquivo.
+ *
+ * <p>As entradas são abertas uma por vez e fechadas assim que suas páginas são copiadas; os
+ * streams do documento de destino ficam em memória até o orçamento do job e depois em arquivos
+ * temporários. Acima de {@code merge-fan-in} entradas a junção é feita em níveis: grupos
+ * equilibrados são unidos em paralelo em arquivos intermediários, que são unidos no nível
+ * seguinte. Streams idênticos vindos de entradas diferentes (logotipos, fontes, perfis ICC) são
+ * gravados uma única vez.
+ */
+@Component
+public class MergeOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final long MB = 1024L * 1024;
+
+  private final ProcessingProperties properties;
+
+  public MergeOperationHandler(
+      StorageService storageService,
+      OperationExecutors executors,
+      ProcessingProperties properties) {
+    super(storageService, executors);
+    this.properties = properties;
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.MERGE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.MEMORY;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.size() < 2) {
+      throw new IllegalArgumentException("MERGE operation requires at least 2 input files");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    // O limite vale também para jobs enfileirados antes de o máximo ser reduzido
+    long memoryBudget =
+        Math.min(
+                Long.parseLong(
+                    options
+                        .getOrDefault("memory_budget_mb", properties.getMergeMemoryBudgetMb())
+                        .toString()),
+                properties.getMergeMaxMemoryBudgetMb())
+            * MB;
+    boolean deduplicate =
+        Boolean.parseBoolean(options.getOrDefault("deduplicate_resources", "true").toString());
+
+    List<File> sources = new ArrayList<>();
+    for (String inputFile : inputFiles) {
+      sources.add(resolveInput(inputFile).toFile());
+    }
+    int pages = countPages(inputFiles, sources);
+
+    Path resultPath = resultDirectory(job).resolve("result_" + job.getId() + ".pdf");
+    Path scratch = Files.createTempDirectory(scratchDirectory(job), "merge-");
+    try {
+      merge(sources, resultPath.toFile(), memoryBudget, deduplicate, scratch);
+    } finally {
+      deleteScratch(scratch);
+    }
+
+    System.out.println(
+        "Merged " + sources.size() + " files (" + pages + " pages) into: " + resultPath);
+    return resultPath.toString();
+  }
+
+  /**
+   * Abre todas as entradas em paralelo antes de começar a junção, para que um arquivo ausente ou
+   * corrompido falhe o job logo no início e não depois de minutos unindo os anteriores.
+   *
+   * @return total de páginas das entradas
+   */
+  private int countPages(List<String> inputFiles, List<File> sources) throws IOException {
+    for (int i = 0; i < sources.size(); i++) {
+      if (!sources.get(i).isFile()) {
+        throw new IllegalArgumentException("Input file not found: " + inputFiles.get(i));
+      }
+    }
+
+    List<CompletableFuture<Integer>> counts = new ArrayList<>();
+    for (int i = 0; i < sources.size(); i++) {
+      String inputFile = inputFiles.get(i);
+      File source = sources.get(i);
+      counts.add(
+          CompletableFuture.supplyAsync(
+              () -> {
+                try (PDDocument document = Loader.loadPDF(source)) {
+                  return document.getNumberOfPages();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(
+                      new IOException(
+                          "Invalid PDF input " + inputFile + ": " + e.getMessage(), e));
+                }
+              },
+              executorFor(ResourceProfile.IO)));
+    }
+    awaitAll(counts);
+    return counts.stream().mapToInt(CompletableFuture::join).sum();
+  }
+
+  /** Une as entradas em níveis de no máximo {@code merge-fan-in} arquivos. */
+  private void merge(
+      List<File> sources, File target, long memoryBudget, boolean deduplicate, Path scratch)
+      throws IOException {
+    int fanIn = Math.max(2, properties.getMergeFanIn());
+    List<File> level = sources;
+    for (int depth = 0; level.size() > fanIn; depth++) {
+      List<File> next = mergeLevel(level, fanIn, memoryBudget, deduplicate, scratch, depth);
+      if (level != sources) {
+        level.forEach(File::delete);
+      }
+      level = next;
+    }
+    mergeGroup(level, target, memoryBudget, deduplicate, scratch);
+  }
+
+  /**
+   * Divide as entradas em grupos de tamanhos equilibrados e une cada grupo em um arquivo
+   * intermediário. As threads retiram o próximo grupo de uma fila comum e dividem o orçamento de
+   * memória entre si.
+   *
+   * @return arquivos intermediários, na ordem das entradas
+   */
+  private List<File> mergeLevel(
+      List<File> level,
+      int fanIn,
+      long memoryBudget,
+      boolean deduplicate,
+      Path scratch,
+      int depth)
+      throws IOException {
+    int groups = (level.size() + fanIn - 1) / fanIn;
+    int workers = Math.max(1, Math.min(getParallelism(), groups));
+    long workerBudget = memoryBudget / workers;
+    File[] outputs = new File[groups];
+    AtomicInteger nextGroup = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+
+    List<CompletableFuture<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  for (int group = nextGroup.getAndIncrement();
+                      group < groups && !failed.get();
+                      group = nextGroup.getAndIncrement()) {
+                    List<File> members =
+                        level.subList(
+                            group * level.size() / groups, (group + 1) * level.size() / groups);
+                    File output = scratch.resolve("level" + depth + "-" + group + ".pdf").toFile();
+                    mergeGroup(members, output, workerBudget, deduplicate, scratch);
+                    outputs[group] = output;
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+    awaitAll(tasks);
+    return Arrays.asList(outputs);
+  }
+
+  /**
+   * Une as entradas em um arquivo. Cada entrada fica aberta só enquanto suas páginas são
+   * copiadas; o destino guarda os streams em memória até o orçamento e depois em disco.
+   */
+  private static void mergeGroup(
+      List<File> sources, File target, long memoryBudget, boolean deduplicate, Path scratch)
+      throws IOException {
+    MemoryUsageSetting destinationMemory =
+        MemoryUsageSetting.setupMixed(Math.max(MB, memoryBudget)).setTempDir(scratch.toFile());
+    MemoryUsageSetting sourceMemory =
+        MemoryUsageSetting.setupTempFileOnly().setTempDir(scratch.toFile());
+    PDFMergerUtility merger = new PDFMergerUtility();
+    try (PDDocument destination = new PDDocument(destinationMemory.streamCache)) {
+      for (File source : sources) {
+        try (PDDocument document = Loader.loadPDF(source, sourceMemory.streamCache)) {
+          merger.appendDocument(destination, document);
+        }
+      }
+      if (deduplicate) {
+        StreamDeduplicator.deduplicate(destination);
+      }
+      destination.save(target);
+    }
+  }
+
+  private static void deleteScratch(Path scratch) {
+    File[] files = scratch.toFile().listFiles();
+    if (files != null) {
+      for (File file : files) {
+        file.delete();
+      }
+    }
+    scratch.toFile().delete();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    // Opções desconhecidas são ignoradas; só as da junção são verificadas
+    try {
+      if (options.containsKey("memory_budget_mb")) {
+        long memoryBudgetMb = Long.parseLong(options.get("memory_budget_mb").toString());
+        if (memoryBudgetMb <= 0 || memoryBudgetMb > properties.getMergeMaxMemoryBudgetMb()) {
+          return false;
+        }
+      }
+      if (options.containsKey("deduplicate_resources")
+          && !(options.get("deduplicate_resources") instanceof Boolean)) {
+        return false;
+      }
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "memory_budget_mb",
+        "number (optional, default: "
+            + properties.getMergeMemoryBudgetMb()
+            + ", max: "
+            + properties.getMergeMaxMemoryBudgetMb()
+            + ", memory for streams before spilling to temporary files)");
+    schema.put("deduplicate_resources", "boolean (optional, default: true)");
+    return schema;
+  }
+}
@@ -0,0 +1,329 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrEngine;
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrWord;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#PDF_OCR}: aplicar OCR ao PDF.
+ *
+ * <p>As páginas são renderizadas em paralelo, por {@code ocr-render-threads} threads do executor
+ * de CPU, e reconhecidas nas threads do {@link OcrEngine}, com um limite de imagens em memória
+ * aguardando reconhecimento. Páginas que já têm texto não são renderizadas. O resultado é o PDF
+ * original com o texto reconhecido em uma camada invisível ({@code searchable_pdf}) ou só o texto
+ * ({@code text}).
+ */
+@Component
+public class OcrOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final int DEFAULT_DPI = 300;
+
+  private final ProcessingProperties properties;
+  private final OcrEngine ocrEngine;
+
+  public OcrOperationHandler(
+      StorageService storageService,
+      OperationExecutors executors,
+      ProcessingProperties properties,
+      OcrEngine ocrEngine) {
+    super(storageService, executors);
+    this.properties = properties;
+    this.ocrEngine = ocrEngine;
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_OCR;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("Job input files cannot be empty");
+    }
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException("PDF_OCR operation requires exactly one input file");
+    }
+
+    String inputPath = job.getInputFiles().get(0);
+    File inputFile = resolveInput(inputPath).toFile();
+    if (!inputFile.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputPath);
+    }
+
+    Path resultDir = resultDirectory(job);
+
+    Map<String, Object> options = job.getOptions();
+    String language = options.getOrDefault("language", "eng").toString();
+    int dpi = Integer.parseInt(options.getOrDefault("dpi", DEFAULT_DPI).toString());
+    boolean textOutput = "text".equals(options.getOrDefault("output_format", "").toString());
+    boolean skipTextPages =
+        Boolean.parseBoolean(options.getOrDefault("skip_text_pages", true).toString());
+    String baseName = inputFile.getName().replaceFirst("(?i)\\.pdf$", "");
+    String outputFilename =
+        options
+            .getOrDefault(
+                "output_filename",
+                textOutput ? "ocr_" + baseName + ".txt" : "ocr_" + inputFile.getName())
+            .toString();
+    Path outputPath = resultDir.resolve(outputFilename);
+
+    int totalPages;
+    try (PDDocument document = Loader.loadPDF(inputFile)) {
+      totalPages = document.getNumberOfPages();
+    }
+    AtomicReferenceArray<List<OcrWord>> recognized = new AtomicReferenceArray<>(totalPages);
+    // Texto das páginas puladas, usado na saída em texto
+    AtomicReferenceArray<String> existingText = new AtomicReferenceArray<>(totalPages);
+    recognize(inputFile, totalPages, language, dpi, skipTextPages, recognized, existingText);
+
+    int recognizedPages = 0;
+    for (int i = 0; i < totalPages; i++) {
+      recognizedPages += recognized.get(i) != null ? 1 : 0;
+    }
+    if (textOutput) {
+      writeText(outputPath, recognized, existingText);
+    } else {
+      writeSearchablePdf(inputFile, outputPath, recognized, dpi);
+    }
+
+    System.out.println(
+        "PDF OCR processed "
+            + recognizedPages
+            + " of "
+            + totalPages
+            + " pages ("
+            + language
+            + "): "
+            + outputPath);
+    return outputPath.toString();
+  }
+
+  /**
+   * Renderiza as páginas em paralelo e entrega cada imagem ao motor de OCR. PDFBox não é
+   * thread-safe: cada thread de renderização abre o seu próprio documento. A vaga em {@code
+   * inFlight} só é devolvida depois do reconhecimento, o que limita as imagens em memória.
+   */
+  private void recognize(
+      File file,
+      int totalPages,
+      String language,
+      int dpi,
+      boolean skipTextPages,
+      AtomicReferenceArray<List<OcrWord>> recognized,
+      AtomicReferenceArray<String> existingText)
+      throws IOException {
+    int renderers =
+        Math.max(
+            1, Math.min(Math.min(properties.getOcrRenderThreads(), getParallelism()), totalPages));
+    Semaphore inFlight = new Semaphore(properties.getOcrThreads() + renderers);
+    AtomicInteger nextPage = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    Queue<CompletableFuture<?>> recognitions = new ConcurrentLinkedQueue<>();
+
+    List<CompletableFuture<?>> renders = new ArrayList<>();
+    for (int i = 0; i < renderers && totalPages > 0; i++) {
+      renders.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument document = Loader.loadPDF(file)) {
+                  PDFRenderer renderer = new PDFRenderer(document);
+                  PDFTextStripper stripper = new PDFTextStripper();
+                  for (int next = nextPage.getAndIncrement();
+                      next < totalPages && !failed.get();
+                      next = nextPage.getAndIncrement()) {
+                    int index = next;
+                    if (skipTextPages) {
+                      stripper.setStartPage(index + 1);
+                      stripper.setEndPage(index + 1);
+                      String text = stripper.getText(document);
+                      if (!text.isBlank()) {
+                        existingText.set(index, text);
+                        continue;
+                      }
+                    }
+                    inFlight.acquire();
+                    BufferedImage image;
+                    try {
+                      image = renderer.renderImageWithDPI(index, dpi, ImageType.GRAY);
+                    } catch (IOException | RuntimeException e) {
+                      inFlight.release();
+                      throw e;
+                    }
+                    recognitions.add(
+                        ocrEngine
+                            .recognize(image, language, dpi)
+                            .whenComplete(
+                                (words, error) -> {
+                                  inFlight.release();
+                                  if (error != null) {
+                                    failed.set(true);
+                                  } else {
+                                    recognized.set(index, words);
+                                  }
+                                }));
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  failed.set(true);
+                  throw new IllegalStateException("OCR rendering interrupted", e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+
+    try {
+      awaitAll(renders);
+    } finally {
+      // Mesmo em caso de falha, aguarda os reconhecimentos pendentes antes de devolver o controle
+      awaitAllQuietly(recognitions);
+    }
+    awaitAll(recognitions);
+  }
+
+  private static void writeSearchablePdf(
+      File inputFile, Path outputPath, AtomicReferenceArray<List<OcrWord>> recognized, int dpi)
+      throws IOException {
+    try (PDDocument document = Loader.loadPDF(inputFile)) {
+      PDFont font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (int i = 0; i < recognized.length(); i++) {
+        List<OcrWord> words = recognized.get(i);
+        if (words != null && !words.isEmpty()) {
+          InvisibleTextLayer.write(document, document.getPage(i), words, dpi, font);
+        }
+      }
+      document.save(outputPath.toFile());
+    }
+  }
+
+  /** Texto de cada página, reconhecido ou já existente, separado por quebra de página. */
+  private static void writeText(
+      Path outputPath,
+      AtomicReferenceArray<List<OcrWord>> recognized,
+      AtomicReferenceArray<String> existingText)
+      throws IOException {
+    try (Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < recognized.length(); i++) {
+        if (i > 0) {
+          writer.write('\f');
+        }
+        List<OcrWord> words = recognized.get(i);
+        if (words != null) {
+          for (int w = 0; w < words.size(); w++) {
+            if (w > 0) {
+              writer.write(words.get(w).isLineStart() ? '\n' : ' ');
+            }
+            writer.write(words.get(w).getText());
+          }
+          writer.write('\n');
+        } else if (existingText.get(i) != null) {
+          writer.write(existingText.get(i));
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validar language (opcional)
+      if (options.containsKey("language")) {
+        String language = (String) options.get("language");
+        if (!List.of("eng", "por", "spa", "fra", "deu", "ita").contains(language)) {
+          return false;
+        }
+      }
+
+      // Validar output_format (opcional)
+      if (options.containsKey("output_format")) {
+        String outputFormat = (String) options.get("output_format");
+        if (!List.of("text", "searchable_pdf").contains(outputFormat)) {
+          return false;
+        }
+      }
+
+      // Validar dpi (opcional)
+      if (options.containsKey("dpi")) {
+        Object dpi = options.get("dpi");
+        if (dpi instanceof Number) {
+          int dpiValue = ((Number) dpi).intValue();
+          if (dpiValue < 150 || dpiValue > 600) {
+            return false;
+          }
+        } else {
+          return false;
+        }
+      }
+
+      if (options.containsKey("skip_text_pages")
+          && !(options.get("skip_text_pages") instanceof Boolean)) {
+        return false;
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "language", "string (optional, default: 'eng', options: eng, por, spa, fra, deu, ita)");
+    schema.put("dpi", "number (optional, default: 300, range: 150-600)");
+    schema.put(
+        "output_format",
+        "string (optional, default: 'searchable_pdf', options: text, searchable_pdf)");
+    schema.put(
+        "skip_text_pages", "boolean (optional, default: true, skip pages that already have text)");
+    return schema;
+  }
+}
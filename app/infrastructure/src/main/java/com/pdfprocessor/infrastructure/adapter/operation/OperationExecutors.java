@@ -0,0 +1,50 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.infrastructure.adapter.DaemonThreadPools;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Um pool de threads por {@link ResourceProfile}. Operações pesadas de CPU não disputam threads
+ * com reescritas estruturais, e as que mantêm muito em memória ficam limitadas a poucas threads.
+ */
+@Component
+public class OperationExecutors {
+
+  private final Map<ResourceProfile, ExecutorService> executors =
+      new EnumMap<>(ResourceProfile.class);
+  private final Map<ResourceProfile, Integer> parallelism = new EnumMap<>(ResourceProfile.class);
+
+  public OperationExecutors(ProcessingProperties properties) {
+    parallelism.put(ResourceProfile.CPU, Math.max(1, properties.getCpuThreads()));
+    parallelism.put(ResourceProfile.MEMORY, Math.max(1, properties.getMemoryThreads()));
+    parallelism.put(ResourceProfile.IO, Math.max(1, properties.getIoThreads()));
+    executors.put(
+        ResourceProfile.CPU, DaemonThreadPools.fixed("pdf-cpu", properties.getCpuThreads()));
+    executors.put(
+        ResourceProfile.MEMORY,
+        DaemonThreadPools.fixed("pdf-memory", properties.getMemoryThreads()));
+    executors.put(
+        ResourceProfile.IO, DaemonThreadPools.fixed("pdf-io", properties.getIoThreads()));
+  }
+
+  /** Executor das operações do perfil informado. */
+  public Executor forProfile(ResourceProfile profile) {
+    return executors.get(profile);
+  }
+
+  /** Número de threads do executor do perfil; limite útil de tarefas simultâneas de um job. */
+  public int parallelism(ResourceProfile profile) {
+    return parallelism.get(profile);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executors.values().forEach(ExecutorService::shutdownNow);
+  }
+}
@@ -0,0 +1,52 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Extensão que implementa uma operação de PDF. Os handlers são beans descobertos na inicialização
+ * e registrados pelo {@code PdfProcessingServiceImpl}; cada operação deve ter exatamente um.
+ */
+public interface OperationHandler {
+
+  /** Operação atendida por este handler. */
+  JobOperation getOperation();
+
+  /**
+   * Executa a operação.
+   *
+   * @param job o job a ser processado
+   * @return caminho do arquivo ou diretório resultado
+   */
+  String process(Job job) throws IOException;
+
+  /** Recurso que domina o custo da operação. */
+  ResourceProfile getResourceProfile();
+
+  /** Executor do perfil da operação, usado para dividir o trabalho de um job entre threads. */
+  Executor getExecutor();
+
+  /** Indica se o handler divide o trabalho de um mesmo job entre as threads do executor. */
+  default boolean isParallel() {
+    return false;
+  }
+
+  /**
+   * Valida as opções da operação. Exceções lançadas aqui são tratadas como opções inválidas.
+   *
+   * @param options as opções, nunca nulas
+   * @return true se as opções são válidas
+   */
+  default boolean validateOptions(Map<String, Object> options) {
+    return true;
+  }
+
+  /** Esquema das opções aceitas, no formato exibido pela API. */
+  default Map<String, Object> getOptionsSchema() {
+    return new HashMap<>();
+  }
+}
@@ -0,0 +1,217 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdfwriter.compress.CompressParameters;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#PDF_OPTIMIZE}: otimizar PDF para tamanho/performance.
+ *
+ * <p>Recomprime as imagens, remove recursos que o conteúdo não usa, une streams idênticos, reduz
+ * as fontes CID TrueType aos glifos usados e grava com object streams e xref stream. Objetos que
+ * deixam de ser referenciados não são gravados. O resultado é o PDF otimizado; o relatório com o
+ * tamanho por categoria, antes e depois, é gravado ao lado dele como {@link
+ * StorageService#RESULT_REPORT_FILENAME} e baixado à parte.
+ */
+@Component
+public class OptimizeOperationHandler extends AbstractPdfOperationHandler {
+
+  private final ImageEncoder imageEncoder;
+  private final ImageRecompressor imageRecompressor;
+
+  public OptimizeOperationHandler(
+      StorageService storageService, OperationExecutors executors, ImageEncoder imageEncoder) {
+    super(storageService, executors);
+    this.imageEncoder = imageEncoder;
+    this.imageRecompressor = new ImageRecompressor(imageEncoder);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_OPTIMIZE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("Job input files cannot be empty");
+    }
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException("PDF_OPTIMIZE operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String imageQuality = imageQuality(options.getOrDefault("compression_level", "medium"));
+    boolean removeUnusedObjects = (Boolean) options.getOrDefault("remove_unused_objects", true);
+    boolean compressImages = (Boolean) options.getOrDefault("compress_images", true);
+    boolean subsetFonts = (Boolean) options.getOrDefault("subset_fonts", true);
+    boolean objectStreams = (Boolean) options.getOrDefault("object_streams", true);
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+    String outputFilename =
+        options.getOrDefault("output_filename", "optimized_" + inputPath.getFileName()).toString();
+    Path outputPath = resultDir.resolve(outputFilename);
+
+    SizeReport before;
+    Map<String, Integer> actions = new LinkedHashMap<>();
+    boolean resourcesKept;
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
+      before = SizeReport.measure(document, Files.size(inputPath));
+
+      if (compressImages) {
+        EncodingSettings defaults = imageEncoder.settings(options);
+        EncodingSettings encoding =
+            new EncodingSettings(
+                defaults.getPngCompressionLevel(),
+                defaults.getPngFilter(),
+                ImageRecompressor.defaultJpegQuality(imageQuality),
+                defaults.getJpegChromaSubsampling());
+        actions.put(
+            "Images recompressed",
+            imageRecompressor.recompressAll(
+                document, ImageRecompressor.defaultTargetDpi(imageQuality), false, encoding));
+      }
+
+      ContentUsage usage =
+          removeUnusedObjects || subsetFonts ? ContentUsage.collect(document) : null;
+      resourcesKept = usage != null && !usage.isComplete();
+      if (removeUnusedObjects) {
+        actions.put("Unused resources removed", UnusedResources.prune(usage));
+      }
+
+      // Unir antes de reduzir as fontes faz as cópias de uma fonte virarem um único subconjunto
+      int duplicates = StreamDeduplicator.deduplicate(document);
+      if (subsetFonts) {
+        actions.put("Fonts subsetted", FontSubsetter.subset(document, usage));
+        duplicates += StreamDeduplicator.deduplicate(document);
+      }
+      actions.put("Duplicate streams merged", duplicates);
+
+      CompressParameters compression =
+          objectStreams
+              ? CompressParameters.DEFAULT_COMPRESSION
+              : CompressParameters.NO_COMPRESSION;
+      document.save(outputPath.toFile(), compression);
+    }
+
+    SizeReport after;
+    try (PDDocument optimized = Loader.loadPDF(outputPath.toFile())) {
+      after = SizeReport.measure(optimized, Files.size(outputPath));
+    }
+    String report = SizeReport.compare(before, after, actions);
+    Files.write(
+        resultDir.resolve(StorageService.RESULT_REPORT_FILENAME),
+        report.getBytes(StandardCharsets.UTF_8));
+
+    System.out.println(
+        "PDF optimized: "
+            + Files.size(inputPath)
+            + " -> "
+            + Files.size(outputPath)
+            + " bytes"
+            + (resourcesKept
+                ? " (forms, patterns or alternate appearances present, resources and fonts kept)"
+                : "")
+            + ". Result saved to: "
+            + outputPath);
+    return outputPath.toString();
+  }
+
+  /**
+   * Nível de qualidade das imagens para o nível de compressão: quanto maior a compressão, menor a
+   * qualidade. Os níveis numéricos 1-3, 4-6 e 7-9 equivalem a low, medium e high.
+   */
+  private static String imageQuality(Object compressionLevel) {
+    String level =
+        compressionLevel instanceof Integer number
+            ? (number <= 3 ? "low" : number <= 6 ? "medium" : "high")
+            : compressionLevel.toString();
+    return switch (level) {
+      case "low" -> "high";
+      case "high" -> "low";
+      default -> "medium";
+    };
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validação de nível de compressão opcional
+      if (options.containsKey("compression_level")) {
+        Object level = options.get("compression_level");
+        if (!(level instanceof Integer) && !(level instanceof String)) {
+          return false;
+        }
+        if (level instanceof String) {
+          String levelStr = (String) level;
+          if (!levelStr.equals("low") && !levelStr.equals("medium") && !levelStr.equals("high")) {
+            return false;
+          }
+        } else if (level instanceof Integer) {
+          int levelInt = (Integer) level;
+          if (levelInt < 1 || levelInt > 9) {
+            return false;
+          }
+        }
+      }
+
+      // Validação de opções de otimização
+      if (options.containsKey("remove_unused_objects")) {
+        if (!(options.get("remove_unused_objects") instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("compress_images")) {
+        if (!(options.get("compress_images") instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("subset_fonts")) {
+        if (!(options.get("subset_fonts") instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("object_streams")) {
+        if (!(options.get("object_streams") instanceof Boolean)) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "compression_level",
+        "string or number (optional, default: 'medium', options: low/medium/high or 1-9)");
+    schema.put("remove_unused_objects", "boolean (optional, default: true)");
+    schema.put("compress_images", "boolean (optional, default: true)");
+    schema.put("subset_fonts", "boolean (optional, default: true)");
+    schema.put("object_streams", "boolean (optional, default: true)");
+    return schema;
+  }
+}
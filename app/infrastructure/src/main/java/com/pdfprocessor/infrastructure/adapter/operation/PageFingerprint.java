@@ -0,0 +1,181 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDPage;
+
+/**
+ * Hashes para decidir, sem extrair texto nem renderizar, que dois arquivos ou duas páginas são
+ * iguais.
+ *
+ * <p>O hash de uma página cobre o conteúdo decodificado, as caixas, a rotação, os recursos e as
+ * anotações (retângulo, estado e aparência), com dicionários descritos em ordem de chave e streams
+ * pelos bytes codificados. Hashes iguais
+ * garantem páginas iguais; hashes diferentes não garantem diferença (a mesma imagem pode ter sido
+ * codificada de outro jeito), e a comparação segue para texto ou imagem. Uma instância guarda o
+ * hash dos streams já vistos e serve a um único documento, em uma única thread.
+ */
+final class PageFingerprint {
+
+  private static final int BUFFER_BYTES = 64 * 1024;
+
+  // Chaves de uma anotação que determinam o que é desenhado
+  private static final List<COSName> ANNOTATION_KEYS =
+      List.of(
+          COSName.SUBTYPE,
+          COSName.RECT,
+          COSName.F,
+          COSName.AS,
+          COSName.AP,
+          COSName.CONTENTS,
+          COSName.C,
+          COSName.CA);
+
+  private final Map<COSStream, String> streamDigests = new IdentityHashMap<>();
+
+  /** SHA-256 do arquivo, em hexadecimal. */
+  static String ofFile(Path file) throws IOException {
+    MessageDigest digest = sha256();
+    try (InputStream in = Files.newInputStream(file)) {
+      update(digest, in);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /** SHA-256 da página, em hexadecimal. */
+  String of(PDPage page) throws IOException {
+    MessageDigest digest = sha256();
+    StringBuilder description = new StringBuilder();
+    description
+        .append(page.getMediaBox())
+        .append(page.getCropBox())
+        .append(page.getRotation())
+        .append('|');
+    if (page.getResources() != null) {
+      describe(page.getResources().getCOSObject(), new IdentityHashMap<>(), description);
+    }
+    describeAnnotations(page, description);
+    digest.update(description.toString().getBytes(StandardCharsets.UTF_8));
+    try (InputStream in = page.getContents()) {
+      update(digest, in);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Descreve o que as anotações mostram: um campo preenchido, um carimbo ou a aparência de uma
+   * assinatura mudam a página renderizada sem mudar o conteúdo. Só entram as chaves que afetam a
+   * aparência; {@code /P} e {@code /Parent} levariam à árvore de páginas e de campos inteira.
+   */
+  private void describeAnnotations(PDPage page, StringBuilder out) throws IOException {
+    if (!(page.getCOSObject().getDictionaryObject(COSName.ANNOTS) instanceof COSArray annots)) {
+      return;
+    }
+    out.append("annots ");
+    for (COSBase item : annots) {
+      if (!(CosGraph.resolve(item) instanceof COSDictionary annotation)) {
+        continue;
+      }
+      Map<COSBase, Integer> seen = new IdentityHashMap<>();
+      out.append('{');
+      for (COSName key : ANNOTATION_KEYS) {
+        COSBase value = annotation.getItem(key);
+        if (value != null) {
+          out.append('/').append(key.getName()).append(' ');
+          describe(value, seen, out);
+        }
+      }
+      out.append('}');
+    }
+    out.append('|');
+  }
+
+  /**
+   * Descreve um valor de forma canônica. Um dicionário ou array que reaparece é descrito pela
+   * ordem em que foi visto, o que também encerra ciclos.
+   */
+  private void describe(COSBase raw, Map<COSBase, Integer> seen, StringBuilder out)
+      throws IOException {
+    COSBase value = CosGraph.resolve(raw);
+    if (value instanceof COSDictionary || value instanceof COSArray) {
+      Integer id = seen.putIfAbsent(value, seen.size());
+      if (id != null) {
+        out.append('@').append(id).append(' ');
+        return;
+      }
+    }
+    if (value instanceof COSDictionary dictionary) {
+      Map<String, COSBase> sorted = new TreeMap<>();
+      for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+        if (!COSName.LENGTH.equals(entry.getKey())) {
+          sorted.put(entry.getKey().getName(), entry.getValue());
+        }
+      }
+      out.append("<<");
+      for (Map.Entry<String, COSBase> entry : sorted.entrySet()) {
+        out.append('/').append(entry.getKey()).append(' ');
+        describe(entry.getValue(), seen, out);
+      }
+      out.append(">>");
+      if (dictionary instanceof COSStream stream) {
+        out.append("stream ").append(digest(stream));
+      }
+    } else if (value instanceof COSArray array) {
+      out.append('[');
+      for (COSBase item : array) {
+        describe(item, seen, out);
+      }
+      out.append(']');
+    } else if (value instanceof COSString string) {
+      out.append('<').append(string.toHexString()).append('>');
+    } else {
+      out.append(value);
+    }
+    out.append(' ');
+  }
+
+  private String digest(COSStream stream) throws IOException {
+    String known = streamDigests.get(stream);
+    if (known != null) {
+      return known;
+    }
+    MessageDigest digest = sha256();
+    try (InputStream in = stream.createRawInputStream()) {
+      update(digest, in);
+    }
+    String hex = HexFormat.of().formatHex(digest.digest());
+    streamDigests.put(stream, hex);
+    return hex;
+  }
+
+  private static void update(MessageDigest digest, InputStream in) throws IOException {
+    byte[] buffer = new byte[BUFFER_BYTES];
+    for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+      digest.update(buffer, 0, read);
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,212 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+
+/**
+ * Cópia de páginas de um documento para um documento novo, sem trazer junto o resto do original.
+ *
+ * <p>A página copiada é um dicionário novo que compartilha conteúdo e recursos com o original, sem
+ * decodificar nem recomprimir nada; o documento de origem precisa continuar aberto até a cópia ser
+ * salva. Atributos herdados da árvore de páginas passam a ficar na própria página. Referências que
+ * levariam a outras páginas ({@code /Parent}, {@code /P} e {@code /IRT} das anotações, {@code /B},
+ * ações e destinos de links para páginas fora da cópia) são removidas, porque o PDFBox grava tudo
+ * o que for alcançável a partir da página.
+ */
+final class PageParts {
+
+  private static final List<COSName> INHERITED =
+      List.of(COSName.RESOURCES, COSName.MEDIA_BOX, COSName.CROP_BOX, COSName.ROTATE);
+  private static final int MAX_TREE_DEPTH = 64;
+
+  private PageParts() {}
+
+  /**
+   * Novo documento com as páginas informadas, na ordem informada.
+   *
+   * @param pageIndexes índices das páginas no documento de origem, a partir de 0
+   * @param pruneResources remove dos recursos de cada página os XObjects e fontes que ela não usa
+   */
+  static PDDocument extract(PDDocument source, List<Integer> pageIndexes, boolean pruneResources)
+      throws IOException {
+    PDDocument part = new PDDocument();
+    Map<COSDictionary, COSDictionary> copies = new IdentityHashMap<>();
+    List<COSDictionary> ordered = new ArrayList<>();
+    for (int index : pageIndexes) {
+      PDPage page = source.getPage(index);
+      COSDictionary copy = copyPage(page, pruneResources);
+      copies.put(page.getCOSObject(), copy);
+      ordered.add(copy);
+    }
+    // Só depois de copiar todas as páginas se sabe quais links continuam dentro do documento
+    for (COSDictionary copy : ordered) {
+      copyAnnotations(copy, copies);
+      part.addPage(new PDPage(copy));
+    }
+    return part;
+  }
+
+  /**
+   * Agrupa páginas consecutivas em partes de até {@code maxBytes}, pela soma dos streams
+   * codificados que cada parte grava. Streams compartilhados entre páginas da mesma parte contam
+   * uma vez; uma página maior que o limite fica sozinha em uma parte.
+   */
+  static List<List<Integer>> planBySize(
+      PDDocument source, List<Integer> pageIndexes, long maxBytes, boolean pruneResources)
+      throws IOException {
+    List<List<Integer>> parts = new ArrayList<>();
+    List<Integer> current = new ArrayList<>();
+    Set<COSStream> written = Collections.newSetFromMap(new IdentityHashMap<>());
+    long size = 0;
+    for (int index : pageIndexes) {
+      COSDictionary copy = copyPage(source.getPage(index), pruneResources);
+      copyAnnotations(copy, Map.of());
+      List<COSStream> streams = CosGraph.from(copy).streams();
+      long added = newBytes(streams, written);
+      if (!current.isEmpty() && size + added > maxBytes) {
+        parts.add(current);
+        current = new ArrayList<>();
+        written.clear();
+        size = 0;
+        added = newBytes(streams, written);
+      }
+      current.add(index);
+      written.addAll(streams);
+      size += added;
+    }
+    if (!current.isEmpty()) {
+      parts.add(current);
+    }
+    return parts;
+  }
+
+  private static long newBytes(List<COSStream> streams, Set<COSStream> written) {
+    long bytes = 0;
+    for (COSStream stream : streams) {
+      if (!written.contains(stream)) {
+        bytes += stream.getLength();
+      }
+    }
+    return bytes;
+  }
+
+  private static COSDictionary copyPage(PDPage page, boolean pruneResources) throws IOException {
+    COSDictionary original = page.getCOSObject();
+    COSDictionary copy = new COSDictionary(original);
+    for (COSName key : INHERITED) {
+      COSBase value = inherited(original, key);
+      if (value != null) {
+        copy.setItem(key, value);
+      }
+    }
+    // /B liga a página a artigos do documento e /AA pode ter ações que abrem outras páginas
+    copy.removeItem(COSName.PARENT);
+    copy.removeItem(COSName.B);
+    copy.removeItem(COSName.AA);
+
+    COSDictionary resources = copy.getCOSDictionary(COSName.RESOURCES);
+    if (pruneResources && resources != null) {
+      ContentUsage usage = ContentUsage.collect(page);
+      if (usage.isComplete()) {
+        copy.setItem(
+            COSName.RESOURCES,
+            UnusedResources.prunedCopy(resources, usage.usedNames(resources)));
+      }
+    }
+    return copy;
+  }
+
+  private static COSBase inherited(COSDictionary page, COSName key) {
+    COSDictionary node = page;
+    for (int depth = 0; node != null && depth < MAX_TREE_DEPTH; depth++) {
+      COSBase value = node.getItem(key);
+      if (value != null) {
+        return value;
+      }
+      node = node.getCOSDictionary(COSName.PARENT);
+    }
+    return null;
+  }
+
+  private static void copyAnnotations(COSDictionary page, Map<COSDictionary, COSDictionary> pages) {
+    COSArray annotations = page.getCOSArray(COSName.ANNOTS);
+    if (annotations == null) {
+      return;
+    }
+    COSArray copies = new COSArray();
+    for (COSBase item : annotations) {
+      // Popups são só interface e apontam de volta para a anotação e a página originais
+      if (!(CosGraph.resolve(item) instanceof COSDictionary annotation)
+          || COSName.POPUP.equals(annotation.getCOSName(COSName.SUBTYPE))) {
+        continue;
+      }
+      COSDictionary copy = new COSDictionary(annotation);
+      copy.removeItem(COSName.P);
+      copy.removeItem(COSName.PARENT);
+      copy.removeItem(COSName.POPUP);
+      copy.removeItem(COSName.IRT);
+      copy.removeItem(COSName.AA);
+
+      if (copy.getDictionaryObject(COSName.DEST) instanceof COSArray destination) {
+        COSArray target = retarget(destination, pages);
+        if (target != null) {
+          copy.setItem(COSName.DEST, target);
+        } else {
+          copy.removeItem(COSName.DEST);
+        }
+      }
+      if (copy.getDictionaryObject(COSName.A) instanceof COSDictionary action) {
+        COSDictionary actionCopy = new COSDictionary(action);
+        actionCopy.removeItem(COSName.NEXT);
+        if (action.getDictionaryObject(COSName.D) instanceof COSArray destination) {
+          COSArray target = retarget(destination, pages);
+          if (target != null) {
+            actionCopy.setItem(COSName.D, target);
+          } else {
+            actionCopy = null;
+          }
+        }
+        if (actionCopy != null) {
+          copy.setItem(COSName.A, actionCopy);
+        } else {
+          copy.removeItem(COSName.A);
+        }
+      }
+      copies.add(copy);
+    }
+    page.setItem(COSName.ANNOTS, copies);
+  }
+
+  /**
+   * Destino explícito apontando para a cópia da página, ou null se a página não foi copiada.
+   * Destinos por número de página (de outros documentos) são mantidos como estão.
+   */
+  private static COSArray retarget(COSArray destination, Map<COSDictionary, COSDictionary> pages) {
+    if (destination.size() == 0
+        || !(CosGraph.resolve(destination.get(0)) instanceof COSDictionary page)) {
+      return destination;
+    }
+    COSDictionary copy = pages.get(page);
+    if (copy == null) {
+      return null;
+    }
+    COSArray target = new COSArray();
+    target.add(copy);
+    for (int i = 1; i < destination.size(); i++) {
+      target.add(destination.get(i));
+    }
+    return target;
+  }
+}
@@ -0,0 +1,258 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#PDF_TO_IMAGES}: converter páginas do PDF em imagens. As páginas são
+ * renderizadas em paralelo no executor de CPU e codificadas e gravadas no executor de I/O, com um
+ * limite de imagens em memória aguardando gravação.
+ */
+@Component
+public class PdfToImagesOperationHandler extends AbstractPdfOperationHandler {
+
+  private static final String RENDER_QUALITY = "quality";
+  // Imagens renderizadas aguardando gravação por thread de renderização; limita a memória usada
+  private static final int IMAGES_IN_FLIGHT_PER_RENDERER = 2;
+
+  private final ImageEncoder imageEncoder;
+
+  public PdfToImagesOperationHandler(
+      StorageService storageService, OperationExecutors executors, ImageEncoder imageEncoder) {
+    super(storageService, executors);
+    this.imageEncoder = imageEncoder;
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_TO_IMAGES;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.CPU;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("No input files provided");
+    }
+
+    String inputFile = job.getInputFiles().get(0);
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file does not exist: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    Map<String, Object> options = job.getOptions();
+    String format = options.getOrDefault("format", "PNG").toString().toUpperCase();
+    float dpi = Float.parseFloat(options.getOrDefault("dpi", "150").toString());
+    String pages = options.getOrDefault("pages", "all").toString();
+    String renderQuality =
+        options.getOrDefault("render_quality", RENDER_QUALITY).toString().toLowerCase();
+    EncodingSettings encoding = imageEncoder.settings(options);
+
+    List<Integer> pagesToProcess;
+    try (PDDocument document = Loader.loadPDF(file)) {
+      int totalPages = document.getNumberOfPages();
+      pagesToProcess =
+          "all".equals(pages) ? getAllPageNumbers(totalPages) : parsePageRange(pages, totalPages);
+    }
+    if (pagesToProcess.isEmpty()) {
+      throw new IllegalArgumentException("No valid pages specified in range: " + pages);
+    }
+
+    // PDFBox não é thread-safe: cada thread de renderização abre o seu próprio PDDocument e
+    // retira a próxima página de uma fila comum, o que equilibra páginas de custo desigual
+    int renderers = Math.min(getParallelism(), pagesToProcess.size());
+    Semaphore inFlight = new Semaphore(renderers * IMAGES_IN_FLIGHT_PER_RENDERER);
+    AtomicInteger nextPage = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+    Queue<CompletableFuture<?>> writes = new ConcurrentLinkedQueue<>();
+
+    List<CompletableFuture<?>> renders = new ArrayList<>();
+    for (int i = 0; i < renderers; i++) {
+      renders.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument document = Loader.loadPDF(file)) {
+                  PDFRenderer renderer = new PDFRenderer(document);
+                  applyRenderQuality(renderer, renderQuality);
+                  for (int next = nextPage.getAndIncrement();
+                      next < pagesToProcess.size() && !failed.get();
+                      next = nextPage.getAndIncrement()) {
+                    int pageNumber = pagesToProcess.get(next);
+                    inFlight.acquire();
+                    BufferedImage image;
+                    try {
+                      image = renderer.renderImageWithDPI(pageNumber - 1, dpi, ImageType.RGB);
+                    } catch (IOException | RuntimeException e) {
+                      inFlight.release();
+                      throw e;
+                    }
+                    writes.add(
+                        writeAsync(
+                            image, format, encoding, resultDir, pageNumber, inFlight, failed));
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  failed.set(true);
+                  throw new IllegalStateException("Rendering interrupted", e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+
+    try {
+      awaitAll(renders);
+    } finally {
+      // Mesmo em caso de falha, aguarda as gravações pendentes antes de devolver o controle
+      awaitAllQuietly(writes);
+    }
+    awaitAll(writes);
+
+    System.out.println(
+        "PDF converted to "
+            + pagesToProcess.size()
+            + " images using "
+            + renderers
+            + " render threads. Results saved to: "
+            + resultDir);
+    return resultDir.toString();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("format")) {
+        String format = options.get("format").toString().toUpperCase();
+        if (!List.of("PNG", "JPG", "JPEG", "GIF", "BMP").contains(format)) {
+          return false;
+        }
+      }
+      if (options.containsKey("dpi")) {
+        Float.parseFloat(options.get("dpi").toString());
+      }
+      if (options.containsKey("render_quality")) {
+        String renderQuality = options.get("render_quality").toString().toLowerCase();
+        if (!List.of("fast", "balanced", "quality").contains(renderQuality)) {
+          return false;
+        }
+      }
+      return ImageEncoder.validateOptions(options);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "format", "string (optional, default: 'PNG', options: PNG, JPG, JPEG, GIF, BMP)");
+    schema.put("dpi", "number (optional, default: 150)");
+    schema.put("pages", "string (optional, default: 'all')");
+    schema.put(
+        "render_quality",
+        "string (optional, default: 'quality', options: fast, balanced, quality)");
+    ImageEncoder.describeOptions(schema);
+    return schema;
+  }
+
+  /**
+   * Codifica e grava a imagem no executor de I/O, liberando a thread de renderização para a
+   * próxima página. A vaga em {@code inFlight} só é devolvida depois da gravação.
+   */
+  private CompletableFuture<Void> writeAsync(
+      BufferedImage image,
+      String format,
+      EncodingSettings encoding,
+      Path resultDir,
+      int pageNumber,
+      Semaphore inFlight,
+      AtomicBoolean failed) {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            String imageFileName =
+                String.format("page_%03d.%s", pageNumber, format.toLowerCase());
+            imageEncoder.write(image, format, resultDir.resolve(imageFileName), encoding);
+          } catch (IOException e) {
+            failed.set(true);
+            throw new UncheckedIOException(e);
+          } catch (RuntimeException e) {
+            failed.set(true);
+            throw e;
+          } finally {
+            inFlight.release();
+          }
+        },
+        executorFor(ResourceProfile.IO));
+  }
+
+  /**
+   * Perfis de velocidade: "fast" desliga o anti-aliasing e permite subamostrar imagens,
+   * "balanced" só permite a subamostragem e "quality" mantém o padrão do PDFBox.
+   */
+  private static void applyRenderQuality(PDFRenderer renderer, String renderQuality) {
+    switch (renderQuality) {
+      case "fast" -> {
+        renderer.setSubsamplingAllowed(true);
+        renderer.setRenderingHints(
+            new RenderingHints(
+                Map.of(
+                    RenderingHints.KEY_ANTIALIASING,
+                    RenderingHints.VALUE_ANTIALIAS_OFF,
+                    RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_OFF,
+                    RenderingHints.KEY_RENDERING,
+                    RenderingHints.VALUE_RENDER_SPEED,
+                    RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR)));
+      }
+      case "balanced" -> renderer.setSubsamplingAllowed(true);
+      default -> {
+        // "quality": padrão do PDFBox
+      }
+    }
+  }
+}
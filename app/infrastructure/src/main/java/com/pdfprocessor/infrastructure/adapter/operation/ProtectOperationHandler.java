@@ -0,0 +1,125 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_PROTECT}: proteger PDF com permissões. */
+@Component
+public class ProtectOperationHandler extends AbstractPdfOperationHandler {
+
+  public ProtectOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_PROTECT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("Job input files cannot be empty");
+    }
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException("PDF_PROTECT operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String userPassword = (String) options.get("userPassword");
+    String ownerPassword = (String) options.get("ownerPassword");
+
+    if (userPassword == null && ownerPassword == null) {
+      throw new IllegalArgumentException("At least one password (user or owner) is required");
+    }
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
+      // Configurar permissões
+      AccessPermission accessPermission = new AccessPermission();
+
+      // Aplicar restrições baseadas nas opções
+      Boolean allowPrint = (Boolean) options.getOrDefault("allowPrint", true);
+      Boolean allowCopy = (Boolean) options.getOrDefault("allowCopy", true);
+      Boolean allowModify = (Boolean) options.getOrDefault("allowModify", false);
+
+      accessPermission.setCanPrint(allowPrint);
+      accessPermission.setCanExtractContent(allowCopy);
+      accessPermission.setCanModify(allowModify);
+
+      // Criar política de proteção
+      StandardProtectionPolicy protectionPolicy =
+          new StandardProtectionPolicy(
+              ownerPassword != null ? ownerPassword : userPassword, userPassword, accessPermission);
+
+      protectionPolicy.setEncryptionKeyLength(128);
+      document.protect(protectionPolicy);
+
+      String outputFilename =
+          options
+              .getOrDefault("output_filename", "protected_" + inputPath.getFileName())
+              .toString();
+      Path outputPath = resultDir.resolve(outputFilename);
+      document.save(outputPath.toFile());
+
+      return outputPath.toString();
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (!options.containsKey("password")) {
+        return false;
+      }
+
+      // Validação de permissões opcionais
+      if (options.containsKey("allow_printing")) {
+        if (!(options.get("allow_printing") instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("allow_copying")) {
+        if (!(options.get("allow_copying") instanceof Boolean)) {
+          return false;
+        }
+      }
+      if (options.containsKey("allow_modification")) {
+        if (!(options.get("allow_modification") instanceof Boolean)) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("password", "string (required)");
+    schema.put("allow_printing", "boolean (optional, default: true)");
+    schema.put("allow_copying", "boolean (optional, default: true)");
+    schema.put("allow_modification", "boolean (optional, default: false)");
+    return schema;
+  }
+}
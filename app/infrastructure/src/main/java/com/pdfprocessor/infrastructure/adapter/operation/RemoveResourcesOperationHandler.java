@@ -0,0 +1,148 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_REMOVE_RESOURCES}: remover recursos do PDF. */
+@Component
+public class RemoveResourcesOperationHandler extends AbstractPdfOperationHandler {
+
+  public RemoveResourcesOperationHandler(
+      StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_REMOVE_RESOURCES;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException(
+          "PDF_REMOVE_RESOURCES operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String resourceType =
+        (String) options.getOrDefault("resource_type", "images"); // images, fonts, metadata
+    boolean removeImages = resourceType.equals("images") || resourceType.equals("all");
+    boolean removeMetadata = resourceType.equals("metadata") || resourceType.equals("all");
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+
+    StringBuilder removalReport = new StringBuilder();
+    removalReport.append("Resource Removal Report\n");
+    removalReport.append("======================\n\n");
+    removalReport.append("Input file: ").append(inputPath.getFileName()).append("\n");
+    removalReport.append("Resource type to remove: ").append(resourceType).append("\n\n");
+
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile())) {
+      int removedCount = 0;
+
+      if (removeImages) {
+        // Remover imagens das páginas
+        for (int pageIndex = 0; pageIndex < document.getNumberOfPages(); pageIndex++) {
+          PDPage page = document.getPage(pageIndex);
+          if (page.getResources() != null && page.getResources().getXObjectNames() != null) {
+            List<org.apache.pdfbox.cos.COSName> imagesToRemove = new ArrayList<>();
+
+            for (org.apache.pdfbox.cos.COSName xObjectName :
+                page.getResources().getXObjectNames()) {
+              try {
+                org.apache.pdfbox.pdmodel.graphics.PDXObject xObject =
+                    page.getResources().getXObject(xObjectName);
+                if (xObject instanceof PDImageXObject) {
+                  imagesToRemove.add(xObjectName);
+                  removedCount++;
+                }
+              } catch (Exception e) {
+                System.err.println("Error checking image: " + e.getMessage());
+              }
+            }
+
+            // Remover as imagens identificadas
+            for (org.apache.pdfbox.cos.COSName imageToRemove : imagesToRemove) {
+              try {
+                page.getResources()
+                    .getCOSObject()
+                    .removeItem(org.apache.pdfbox.cos.COSName.XOBJECT);
+              } catch (Exception e) {
+                System.err.println("Error removing image: " + e.getMessage());
+              }
+            }
+          }
+        }
+        removalReport.append("Images removed: ").append(removedCount).append("\n");
+      }
+
+      if (removeMetadata) {
+        // Remover metadados do documento
+        PDDocumentInformation info = new PDDocumentInformation();
+        document.setDocumentInformation(info);
+        removalReport.append("Metadata cleared\n");
+      }
+
+      // Salvar documento limpo
+      String outputFilename =
+          options.getOrDefault("output_filename", "cleaned_" + inputPath.getFileName()).toString();
+      Path outputPath = resultDir.resolve(outputFilename);
+      document.save(outputPath.toFile());
+
+      removalReport.append("\nCleaned document saved: ").append(outputFilename).append("\n");
+
+      // Salvar relatório
+      Path reportPath = resultDir.resolve("removal_report.txt");
+      Files.write(reportPath, removalReport.toString().getBytes(StandardCharsets.UTF_8));
+
+      return outputPath.toString();
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Validar tipo de recurso a remover
+      if (options.containsKey("resource_type")) {
+        String resourceType = options.get("resource_type").toString();
+        List<String> validTypes = List.of("images", "metadata", "all");
+        if (!validTypes.contains(resourceType)) {
+          return false;
+        }
+      }
+
+      // Validar se deve manter estrutura
+      if (options.containsKey("keep_structure")) {
+        Object keepStructure = options.get("keep_structure");
+        if (!(keepStructure instanceof Boolean)) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_REORDER}: reordenar páginas do PDF. */
+@Component
+public class ReorderOperationHandler extends AbstractPdfOperationHandler {
+
+  public ReorderOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_REORDER;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("PDF_REORDER operation requires at least 1 input file");
+    }
+
+    String inputPath = inputFiles.get(0);
+    File file = resolveInput(inputPath).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputPath);
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String pageOrder = (String) options.get("page_order"); // Ex: "3,1,2,4"
+
+    if (pageOrder == null || pageOrder.trim().isEmpty()) {
+      throw new IllegalArgumentException("page_order is required for reorder operation");
+    }
+
+    Path resultPath = resultDirectory(job).resolve("result_" + job.getId() + ".pdf");
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      PDDocument resultDoc = new PDDocument();
+
+      String[] orderArray = pageOrder.split(",");
+      for (String pageNumStr : orderArray) {
+        int pageNum = Integer.parseInt(pageNumStr.trim());
+        if (pageNum < 1 || pageNum > document.getNumberOfPages()) {
+          throw new IllegalArgumentException("Invalid page number: " + pageNum);
+        }
+
+        PDPage page = document.getPage(pageNum - 1);
+        resultDoc.importPage(page);
+      }
+
+      resultDoc.save(resultPath.toFile());
+      resultDoc.close();
+    }
+
+    return resultPath.toString();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    return options.containsKey("page_order");
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("page_order", "string (required, ex: '3,1,2,4')");
+    return schema;
+  }
+}
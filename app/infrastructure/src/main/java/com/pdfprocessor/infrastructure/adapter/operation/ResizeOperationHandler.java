@@ -0,0 +1,92 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_RESIZE}: redimensionar páginas do PDF. */
+@Component
+public class ResizeOperationHandler extends AbstractPdfOperationHandler {
+
+  public ResizeOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_RESIZE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("PDF_RESIZE operation requires at least 1 input file");
+    }
+
+    String inputPath = inputFiles.get(0);
+    File file = resolveInput(inputPath).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputPath);
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String pageSize = (String) options.getOrDefault("page_size", "A4");
+    String pages = (String) options.getOrDefault("pages", "all");
+
+    Path resultPath = resultDirectory(job).resolve("result_" + job.getId() + ".pdf");
+
+    // Definir dimensões baseadas no tamanho da página
+    org.apache.pdfbox.pdmodel.common.PDRectangle newSize = getPageSize(pageSize);
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      List<Integer> pageNumbers =
+          pages.equals("all")
+              ? getAllPageNumbers(document.getNumberOfPages())
+              : parsePageRange(pages, document.getNumberOfPages());
+
+      for (int pageNum : pageNumbers) {
+        PDPage page = document.getPage(pageNum - 1);
+        page.setMediaBox(newSize);
+        page.setCropBox(newSize);
+      }
+
+      document.save(resultPath.toFile());
+    }
+
+    return resultPath.toString();
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    if (options.containsKey("page_size")) {
+      String pageSize = (String) options.get("page_size");
+      return List.of("A4", "A3", "A5", "LETTER", "LEGAL").contains(pageSize.toUpperCase());
+    }
+    return true;
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put(
+        "page_size", "string (optional, default: 'A4', options: A4, A3, A5, LETTER, LEGAL)");
+    schema.put("pages", "string (optional, default: 'all')");
+    return schema;
+  }
+}
@@ -0,0 +1,11 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+/** Recurso que domina o custo de uma operação; define o executor usado pelo handler. */
+public enum ResourceProfile {
+  /** Renderização, compressão de imagens, extração de texto e OCR. */
+  CPU,
+  /** Mantém documentos ou imagens grandes inteiros em memória. */
+  MEMORY,
+  /** Reescrita estrutural do documento, dominada pela leitura e escrita do arquivo. */
+  IO
+}
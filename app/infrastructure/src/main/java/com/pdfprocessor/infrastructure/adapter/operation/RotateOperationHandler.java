@@ -0,0 +1,134 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#ROTATE}: rotacionar páginas do PDF. */
+@Component
+public class RotateOperationHandler extends AbstractPdfOperationHandler {
+
+  public RotateOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.ROTATE;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("ROTATE operation requires at least 1 input file");
+    }
+
+    String inputFile = inputFiles.get(0); // ROTATE trabalha com apenas um arquivo
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    // Obter opções de rotação
+    Map<String, Object> options = job.getOptions();
+    if (options == null) {
+      throw new IllegalArgumentException(
+          "ROTATE operation requires options with 'degrees' parameter");
+    }
+
+    Object degreesObj = options.get("degrees");
+    if (degreesObj == null) {
+      throw new IllegalArgumentException(
+          "ROTATE operation requires 'degrees' parameter (90, 180, 270)");
+    }
+
+    int degrees;
+    try {
+      degrees = Integer.parseInt(degreesObj.toString());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Invalid degrees value: " + degreesObj + ". Must be 90, 180, or 270");
+    }
+
+    if (degrees != 90 && degrees != 180 && degrees != 270) {
+      throw new IllegalArgumentException("Degrees must be 90, 180, or 270. Got: " + degrees);
+    }
+
+    String pages = options.get("pages") != null ? options.get("pages").toString() : "all";
+
+    String resultPath = resultDir.resolve("rotated.pdf").toString();
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      int totalPages = document.getNumberOfPages();
+
+      if ("all".equals(pages)) {
+        // Rotacionar todas as páginas
+        for (int i = 0; i < totalPages; i++) {
+          rotatePage(document.getPage(i), degrees);
+        }
+        System.out.println("Rotated all " + totalPages + " pages by " + degrees + " degrees");
+      } else {
+        // Rotacionar páginas específicas
+        List<Integer> pageNumbers = parsePageRange(pages, totalPages);
+        for (Integer pageNum : pageNumbers) {
+          if (pageNum >= 1 && pageNum <= totalPages) {
+            rotatePage(document.getPage(pageNum - 1), degrees);
+          }
+        }
+        System.out.println("Rotated pages " + pages + " by " + degrees + " degrees");
+      }
+
+      document.save(resultPath);
+    }
+
+    System.out.println("Rotation completed. Result saved to: " + resultPath);
+    return resultPath;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    if (!options.containsKey("degrees")) {
+      return false;
+    }
+
+    try {
+      int degrees = Integer.parseInt(options.get("degrees").toString());
+      return degrees == 90 || degrees == 180 || degrees == 270;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("degrees", "number (required, options: 90, 180, 270)");
+    schema.put("pages", "string (optional, default: 'all')");
+    return schema;
+  }
+
+  private void rotatePage(PDPage page, int degrees) {
+    int currentRotation = page.getRotation();
+    int newRotation = (currentRotation + degrees) % 360;
+    page.setRotation(newRotation);
+  }
+}
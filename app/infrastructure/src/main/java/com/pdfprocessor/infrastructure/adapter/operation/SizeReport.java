@@ -0,0 +1,103 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+/** Tamanho de um documento por categoria de stream, para comparar antes e depois da otimização. */
+final class SizeReport {
+
+  private static final String IMAGES = "Images";
+  private static final String FONTS = "Fonts";
+  private static final String ICC_PROFILES = "ICC profiles";
+  private static final String OTHER_STREAMS = "Content and other streams";
+
+  private final long fileBytes;
+  private final int objects;
+  private final Map<String, long[]> categories = new LinkedHashMap<>();
+
+  private SizeReport(long fileBytes, int objects) {
+    this.fileBytes = fileBytes;
+    this.objects = objects;
+    for (String category : new String[] {IMAGES, FONTS, ICC_PROFILES, OTHER_STREAMS}) {
+      categories.put(category, new long[2]);
+    }
+  }
+
+  /**
+   * Mede os objetos alcançáveis do documento.
+   *
+   * @param fileBytes tamanho do arquivo de onde o documento foi lido
+   */
+  static SizeReport measure(PDDocument document, long fileBytes) {
+    CosGraph graph = CosGraph.of(document);
+    SizeReport report = new SizeReport(fileBytes, graph.indirectObjectCount());
+    for (COSStream stream : graph.streams()) {
+      long[] totals = report.categories.get(category(stream));
+      totals[0]++;
+      totals[1] += stream.getLength();
+    }
+    return report;
+  }
+
+  private static String category(COSStream stream) {
+    COSName subtype = stream.getCOSName(COSName.SUBTYPE);
+    if (COSName.IMAGE.equals(subtype)) {
+      return IMAGES;
+    }
+    if (stream.containsKey(COSName.LENGTH1)
+        || stream.containsKey(COSName.LENGTH2)
+        || stream.containsKey(COSName.LENGTH3)
+        || COSName.getPDFName("Type1C").equals(subtype)
+        || COSName.getPDFName("CIDFontType0C").equals(subtype)
+        || COSName.getPDFName("OpenType").equals(subtype)) {
+      return FONTS;
+    }
+    // Perfis ICC são os únicos streams com /N (número de componentes) e sem /Subtype
+    if (subtype == null && stream.containsKey(COSName.N)) {
+      return ICC_PROFILES;
+    }
+    return OTHER_STREAMS;
+  }
+
+  /**
+   * Relatório em texto comparando as duas medições.
+   *
+   * @param actions o que foi feito, em ordem, com a quantidade de itens afetados
+   */
+  static String compare(SizeReport before, SizeReport after, Map<String, Integer> actions) {
+    StringBuilder report = new StringBuilder();
+    report.append("PDF Optimization Report\n");
+    report.append("=======================\n\n");
+    report.append(
+        String.format(
+            "File size: %d -> %d bytes (%s)\n",
+            before.fileBytes, after.fileBytes, change(before.fileBytes, after.fileBytes)));
+    report.append(String.format("Objects: %d -> %d\n\n", before.objects, after.objects));
+
+    report.append("Streams by category (count, encoded bytes):\n");
+    for (Map.Entry<String, long[]> entry : before.categories.entrySet()) {
+      long[] was = entry.getValue();
+      long[] now = after.categories.get(entry.getKey());
+      report.append(
+          String.format(
+              "  %s: %d -> %d streams, %d -> %d bytes (%s)\n",
+              entry.getKey(), was[0], now[0], was[1], now[1], change(was[1], now[1])));
+    }
+
+    report.append("\nActions:\n");
+    for (Map.Entry<String, Integer> action : actions.entrySet()) {
+      report.append(String.format("  %s: %d\n", action.getKey(), action.getValue()));
+    }
+    return report.toString();
+  }
+
+  private static String change(long before, long after) {
+    if (before == 0) {
+      return "n/a";
+    }
+    return String.format("%+.1f%%", (after - before) * 100.0 / before);
+  }
+}
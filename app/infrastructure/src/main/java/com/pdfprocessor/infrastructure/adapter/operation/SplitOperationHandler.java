@@ -0,0 +1,229 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#SPLIT}: dividir um PDF em múltiplos arquivos.
+ *
+ * <p>As partes são montadas e salvas uma de cada vez por thread, copiando só as páginas da parte;
+ * a memória usada não cresce com o número de páginas do documento. As partes podem ser:
+ *
+ * <ul>
+ *   <li>uma página por arquivo (padrão) ou {@code pages_per_file} páginas por arquivo;
+ *   <li>um arquivo por intervalo de {@code ranges} (ex.: {@code "1-3,4-10"});
+ *   <li>partes de até {@code max_part_bytes}, com os recursos não usados removidos de cada parte.
+ * </ul>
+ *
+ * <p>{@code pages} seleciona as páginas divididas. Sem {@code pages_per_file} nem {@code
+ * max_part_bytes}, um intervalo em {@code pages} gera um único arquivo, como antes.
+ */
+@Component
+public class SplitOperationHandler extends AbstractPdfOperationHandler {
+
+  public SplitOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.SPLIT;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return true;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("SPLIT operation requires at least 1 input file");
+    }
+
+    String inputFile = inputFiles.get(0); // SPLIT trabalha com apenas um arquivo
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    // Obter opções de split
+    Map<String, Object> options = job.getOptions();
+    String pages = options.getOrDefault("pages", "all").toString();
+    String ranges = options.containsKey("ranges") ? options.get("ranges").toString() : null;
+    int pagesPerFile = Integer.parseInt(options.getOrDefault("pages_per_file", "0").toString());
+    long maxPartBytes = Long.parseLong(options.getOrDefault("max_part_bytes", "0").toString());
+    String prefix =
+        options
+            .getOrDefault("output_prefix", pagesPerFile > 1 || maxPartBytes > 0 ? "part_" : "page_")
+            .toString()
+            .replaceAll("[^A-Za-z0-9._-]", "_");
+
+    List<List<Integer>> parts = new ArrayList<>();
+    List<Path> outputs = new ArrayList<>();
+    boolean singleFile = false;
+    try (PDDocument document = Loader.loadPDF(file)) {
+      int totalPages = document.getNumberOfPages();
+
+      if (ranges != null) {
+        // Um arquivo por intervalo (ex: "1-3,4-10,11")
+        for (String range : ranges.split(",")) {
+          List<Integer> part = pageIndexes(parsePageRange(range.trim(), totalPages));
+          if (part.isEmpty()) {
+            throw new IllegalArgumentException("No valid pages specified in range: " + range);
+          }
+          parts.add(part);
+          String name = "pages_" + range.trim().replaceAll("[^0-9-]", "_") + ".pdf";
+          outputs.add(resultDir.resolve(name));
+        }
+      } else {
+        boolean allPages = "all".equals(pages);
+        List<Integer> selected =
+            pageIndexes(
+                allPages ? getAllPageNumbers(totalPages) : parsePageRange(pages, totalPages));
+        if (selected.isEmpty()) {
+          throw new IllegalArgumentException("No valid pages specified in range: " + pages);
+        }
+
+        if (maxPartBytes > 0) {
+          parts.addAll(PageParts.planBySize(document, selected, maxPartBytes, true));
+        } else if (pagesPerFile > 0 || allPages) {
+          int size = Math.max(1, pagesPerFile);
+          for (int start = 0; start < selected.size(); start += size) {
+            parts.add(selected.subList(start, Math.min(selected.size(), start + size)));
+          }
+        } else {
+          // Dividir por intervalo específico (ex: "1-3", "5", "1,3,5-7") em um único arquivo
+          singleFile = true;
+          parts.add(selected);
+          outputs.add(resultDir.resolve("pages_" + pages.replaceAll("[^0-9,-]", "_") + ".pdf"));
+        }
+        for (int i = outputs.size(); i < parts.size(); i++) {
+          outputs.add(resultDir.resolve(String.format("%s%03d.pdf", prefix, i + 1)));
+        }
+      }
+    }
+
+    writeParts(file, parts, outputs, maxPartBytes > 0);
+
+    if (singleFile) {
+      System.out.println("Split pages " + pages + " into: " + outputs.get(0));
+      return outputs.get(0).toString();
+    }
+    System.out.println(
+        "Split " + file.getName() + " into " + parts.size() + " files in: " + resultDir);
+
+    // Retorna o diretório contendo todos os arquivos
+    return resultDir.toString();
+  }
+
+  /** Números de página (a partir de 1) para índices (a partir de 0). */
+  private static List<Integer> pageIndexes(List<Integer> pageNumbers) {
+    List<Integer> indexes = new ArrayList<>(pageNumbers.size());
+    for (int pageNumber : pageNumbers) {
+      indexes.add(pageNumber - 1);
+    }
+    return indexes;
+  }
+
+  /**
+   * Monta e salva as partes em paralelo. PDFBox não é thread-safe: cada thread abre a sua própria
+   * cópia do arquivo e retira a próxima parte de uma fila comum, e cada parte é fechada assim que
+   * é salva.
+   */
+  private void writeParts(
+      File file, List<List<Integer>> parts, List<Path> outputs, boolean pruneResources)
+      throws IOException {
+    int workers = Math.max(1, Math.min(getParallelism(), parts.size()));
+    AtomicInteger nextPart = new AtomicInteger();
+    AtomicBoolean failed = new AtomicBoolean();
+
+    List<CompletableFuture<?>> tasks = new ArrayList<>();
+    for (int i = 0; i < workers; i++) {
+      tasks.add(
+          CompletableFuture.runAsync(
+              () -> {
+                try (PDDocument source = Loader.loadPDF(file)) {
+                  for (int next = nextPart.getAndIncrement();
+                      next < parts.size() && !failed.get();
+                      next = nextPart.getAndIncrement()) {
+                    try (PDDocument part =
+                        PageParts.extract(source, parts.get(next), pruneResources)) {
+                      part.save(outputs.get(next).toFile());
+                    }
+                  }
+                } catch (IOException e) {
+                  failed.set(true);
+                  throw new UncheckedIOException(e);
+                } catch (RuntimeException e) {
+                  failed.set(true);
+                  throw e;
+                }
+              },
+              getExecutor()));
+    }
+    awaitAll(tasks);
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      if (options.containsKey("pages_per_file")
+          && Integer.parseInt(options.get("pages_per_file").toString()) <= 0) {
+        return false;
+      }
+      if (options.containsKey("max_part_bytes")
+          && Long.parseLong(options.get("max_part_bytes").toString()) <= 0) {
+        return false;
+      }
+      // Os intervalos definem as partes e não se combinam com os outros modos
+      if (options.containsKey("ranges")
+          && (options.get("ranges").toString().isBlank()
+              || options.containsKey("pages")
+              || options.containsKey("pages_per_file")
+              || options.containsKey("max_part_bytes"))) {
+        return false;
+      }
+      return !(options.containsKey("pages_per_file") && options.containsKey("max_part_bytes"));
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("pages", "string (optional, default: 'all')");
+    schema.put("pages_per_file", "number (optional, pages in each output file)");
+    schema.put("ranges", "string (optional, one output file per range, e.g. '1-3,4-10')");
+    schema.put(
+        "max_part_bytes",
+        "number (optional, split into parts of about this size, unused resources removed)");
+    schema.put("output_prefix", "string (optional, default: 'page_' or 'part_')");
+    return schema;
+  }
+}
@@ -0,0 +1,154 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+/**
+ * Elimina streams duplicados: streams com os mesmos bytes codificados e o mesmo dicionário passam
+ * a ser um único objeto, e as cópias deixam de ser referenciadas e não são gravadas.
+ *
+ * <p>Documentos montados por junção ou gerados em lote costumam repetir o mesmo logotipo, fonte ou
+ * perfil ICC centenas de vezes. Dicionários e arrays referenciados entram na comparação pelo
+ * conteúdo, até {@value #MAX_DEPTH} níveis; streams e objetos mais profundos, pela identidade. Por
+ * isso a eliminação é repetida até não haver mais duplicatas, o que une, por exemplo, imagens
+ * iguais cujas máscaras só se tornam o mesmo objeto na rodada anterior.
+ */
+final class StreamDeduplicator {
+
+  private static final int MAX_ROUNDS = 4;
+  private static final int MAX_DEPTH = 3;
+
+  private StreamDeduplicator() {}
+
+  /**
+   * Elimina os streams duplicados do documento.
+   *
+   * @return quantidade de streams eliminados
+   */
+  static int deduplicate(PDDocument document) throws IOException {
+    int removed = 0;
+    for (int round = 0; round < MAX_ROUNDS; round++) {
+      int duplicates = deduplicateOnce(CosGraph.of(document));
+      if (duplicates == 0) {
+        break;
+      }
+      removed += duplicates;
+    }
+    return removed;
+  }
+
+  private static int deduplicateOnce(CosGraph graph) throws IOException {
+    Map<COSBase, Integer> ids = new IdentityHashMap<>();
+    Map<String, COSStream> canonical = new HashMap<>();
+    Map<COSStream, COSStream> replacements = new IdentityHashMap<>();
+    for (COSStream stream : graph.streams()) {
+      COSStream original = canonical.putIfAbsent(digest(stream, ids), stream);
+      if (original != null) {
+        replacements.put(stream, original);
+      }
+    }
+    if (replacements.isEmpty()) {
+      return 0;
+    }
+
+    for (COSBase container : graph.containers()) {
+      if (container instanceof COSDictionary dictionary) {
+        for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+          COSStream replacement = replacements.get(CosGraph.resolve(entry.getValue()));
+          if (replacement != null) {
+            dictionary.setItem(entry.getKey(), replacement);
+          }
+        }
+      } else if (container instanceof COSArray array) {
+        for (int i = 0; i < array.size(); i++) {
+          COSStream replacement = replacements.get(CosGraph.resolve(array.get(i)));
+          if (replacement != null) {
+            array.set(i, replacement);
+          }
+        }
+      }
+    }
+    return replacements.size();
+  }
+
+  private static String digest(COSStream stream, Map<COSBase, Integer> ids) throws IOException {
+    MessageDigest digest = sha256();
+    StringBuilder dictionary = new StringBuilder();
+    describe(stream, ids, 0, dictionary);
+    digest.update(dictionary.toString().getBytes(StandardCharsets.UTF_8));
+    try (InputStream in = stream.createRawInputStream()) {
+      byte[] buffer = new byte[64 * 1024];
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        digest.update(buffer, 0, read);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Descreve um valor de forma canônica: entradas em ordem de chave, sem {@code /Length}, e
+   * streams e objetos além da profundidade máxima por um número atribuído à sua identidade.
+   */
+  private static void describe(
+      COSBase value, Map<COSBase, Integer> ids, int depth, StringBuilder out) {
+    if (value instanceof COSDictionary dictionary) {
+      Map<String, COSBase> sorted = new TreeMap<>();
+      for (Map.Entry<COSName, COSBase> entry : dictionary.entrySet()) {
+        if (!COSName.LENGTH.equals(entry.getKey())) {
+          sorted.put(entry.getKey().getName(), entry.getValue());
+        }
+      }
+      out.append("<<");
+      for (Map.Entry<String, COSBase> entry : sorted.entrySet()) {
+        out.append('/').append(entry.getKey()).append(' ');
+        describeEntry(entry.getValue(), ids, depth + 1, out);
+      }
+      out.append(">>");
+    } else if (value instanceof COSArray array) {
+      out.append('[');
+      for (COSBase item : array) {
+        describeEntry(item, ids, depth + 1, out);
+      }
+      out.append(']');
+    } else if (value instanceof COSString string) {
+      out.append('<').append(string.toHexString()).append('>');
+    } else {
+      out.append(value);
+    }
+  }
+
+  private static void describeEntry(
+      COSBase raw, Map<COSBase, Integer> ids, int depth, StringBuilder out) {
+    COSBase value = CosGraph.resolve(raw);
+    if (value instanceof COSStream || (raw instanceof COSObject && depth > MAX_DEPTH)) {
+      out.append("@").append(ids.computeIfAbsent(value, key -> ids.size())).append(' ');
+    } else {
+      describe(value, ids, depth, out);
+      out.append(' ');
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
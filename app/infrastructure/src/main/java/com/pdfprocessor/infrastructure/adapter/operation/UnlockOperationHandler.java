@@ -0,0 +1,79 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/** Operação {@link JobOperation#PDF_UNLOCK}: remover proteções do PDF. */
+@Component
+public class UnlockOperationHandler extends AbstractPdfOperationHandler {
+
+  public UnlockOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.PDF_UNLOCK;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    if (job.getInputFiles().isEmpty()) {
+      throw new IllegalArgumentException("Job input files cannot be empty");
+    }
+    if (job.getInputFiles().size() != 1) {
+      throw new IllegalArgumentException("PDF_UNLOCK operation requires exactly one input file");
+    }
+
+    Map<String, Object> options = job.getOptions();
+    String password = (String) options.get("password");
+
+    if (password == null) {
+      throw new IllegalArgumentException("Password is required to unlock PDF");
+    }
+
+    Path inputPath = resolveInput(job.getInputFiles().get(0));
+    Path resultDir = resultDirectory(job);
+
+    try (PDDocument document = Loader.loadPDF(inputPath.toFile(), password)) {
+      if (document.isEncrypted()) {
+        // Remover proteção salvando sem criptografia
+        String outputFilename =
+            options
+                .getOrDefault("output_filename", "unlocked_" + inputPath.getFileName())
+                .toString();
+        Path outputPath = resultDir.resolve(outputFilename);
+        document.save(outputPath.toFile());
+
+        return outputPath.toString();
+      } else {
+        return "PDF is not encrypted";
+      }
+    }
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    return options.containsKey("password");
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("password", "string (required)");
+    return schema;
+  }
+}
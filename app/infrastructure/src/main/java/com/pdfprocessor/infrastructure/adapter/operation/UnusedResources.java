@@ -0,0 +1,68 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+
+/**
+ * Remove dos dicionários de recursos os XObjects e fontes que o conteúdo nunca usa. Sem a
+ * referência, esses objetos deixam de ser alcançáveis e não são gravados.
+ */
+final class UnusedResources {
+
+  private UnusedResources() {}
+
+  /**
+   * Remove os recursos não usados dos dicionários percorridos pela análise de conteúdo.
+   *
+   * @return quantidade de entradas removidas; zero se a análise estiver incompleta
+   */
+  static int prune(ContentUsage usage) {
+    if (!usage.isComplete()) {
+      return 0;
+    }
+    int removed = 0;
+    for (COSDictionary resources : usage.observedResources()) {
+      Set<String> used = usage.usedNames(resources);
+      removed += prune(resources, COSName.XOBJECT, used);
+      removed += prune(resources, COSName.FONT, used);
+    }
+    return removed;
+  }
+
+  /**
+   * Cópia do dicionário de recursos sem os XObjects e fontes que o conteúdo não usa. Serve para
+   * recursos compartilhados com conteúdo que continua usando as entradas removidas; os recursos
+   * mantidos continuam sendo os mesmos objetos.
+   *
+   * @param used nomes usados, no formato de {@link ContentUsage#usedNames}
+   */
+  static COSDictionary prunedCopy(COSDictionary resources, Set<String> used) {
+    COSDictionary copy = new COSDictionary(resources);
+    for (COSName category : List.of(COSName.XOBJECT, COSName.FONT)) {
+      COSDictionary entries = resources.getCOSDictionary(category);
+      if (entries != null) {
+        copy.setItem(category, new COSDictionary(entries));
+        prune(copy, category, used);
+      }
+    }
+    return copy;
+  }
+
+  private static int prune(COSDictionary resources, COSName category, Set<String> used) {
+    COSDictionary entries = resources.getCOSDictionary(category);
+    if (entries == null) {
+      return 0;
+    }
+    List<COSName> unused = new ArrayList<>();
+    for (COSName name : entries.keySet()) {
+      if (!used.contains(category.getName() + "/" + name.getName())) {
+        unused.add(name);
+      }
+    }
+    unused.forEach(entries::removeItem);
+    return unused.size();
+  }
+}
@@ -0,0 +1,377 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.apache.fontbox.util.BoundingBox;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDFormContentStream;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.pdmodel.graphics.state.PDExtendedGraphicsState;
+import org.apache.pdfbox.util.Matrix;
+import org.springframework.stereotype.Component;
+
+/**
+ * Operação {@link JobOperation#WATERMARK}: adicionar marca d'água ao PDF.
+ *
+ * <p>A marca d'água, texto ou imagem, é desenhada uma única vez em um Form XObject, com a fonte e
+ * o estado gráfico de transparência registrados nos recursos dele. Cada página só referencia esse
+ * mesmo objeto, por um fluxo de conteúdo de poucos bytes que o posiciona e que é compartilhado
+ * entre as páginas do mesmo tamanho. Assim o arquivo cresce alguns bytes por página, e não uma
+ * cópia do desenho inteiro.
+ */
+@Component
+public class WatermarkOperationHandler extends AbstractPdfOperationHandler {
+
+  public WatermarkOperationHandler(StorageService storageService, OperationExecutors executors) {
+    super(storageService, executors);
+  }
+
+  @Override
+  public JobOperation getOperation() {
+    return JobOperation.WATERMARK;
+  }
+
+  @Override
+  public ResourceProfile getResourceProfile() {
+    return ResourceProfile.IO;
+  }
+
+  @Override
+  public String process(Job job) throws IOException {
+    List<String> inputFiles = job.getInputFiles();
+    if (inputFiles == null || inputFiles.isEmpty()) {
+      throw new IllegalArgumentException("WATERMARK operation requires at least 1 input file");
+    }
+
+    String inputFile = inputFiles.get(0); // WATERMARK trabalha com apenas um arquivo
+    File file = resolveInput(inputFile).toFile();
+    if (!file.exists()) {
+      throw new IllegalArgumentException("Input file not found: " + inputFile);
+    }
+
+    // Criar diretório de resultado
+    Path resultDir = resultDirectory(job);
+
+    // Obter opções de watermark
+    Map<String, Object> options = job.getOptions();
+    if (options == null) {
+      throw new IllegalArgumentException(
+          "WATERMARK operation requires options with 'text' parameter");
+    }
+
+    String watermarkText = (String) options.get("text");
+    String imagePath = options.get("image") != null ? options.get("image").toString() : null;
+    if ((watermarkText == null || watermarkText.trim().isEmpty()) && imagePath == null) {
+      throw new IllegalArgumentException(
+          "WATERMARK operation requires 'text' or 'image' parameter");
+    }
+    File imageFile = null;
+    if (imagePath != null) {
+      String imageInput = imageInput(inputFiles, imagePath);
+      imageFile = resolveInput(imageInput).toFile();
+      if (!imageFile.exists()) {
+        throw new IllegalArgumentException("Watermark image not found: " + imagePath);
+      }
+    }
+
+    // Opções opcionais
+    float opacity =
+        options.get("opacity") != null ? Float.parseFloat(options.get("opacity").toString()) : 0.3f;
+    int fontSize =
+        options.get("fontSize") != null ? Integer.parseInt(options.get("fontSize").toString()) : 36;
+    String position =
+        options.get("position") != null ? options.get("position").toString() : "center";
+    Float imageWidth =
+        options.get("image_width") != null
+            ? Float.parseFloat(options.get("image_width").toString())
+            : null;
+
+    String resultPath = resultDir.resolve("watermarked.pdf").toString();
+
+    try (PDDocument document = Loader.loadPDF(file)) {
+      Watermark watermark =
+          imageFile != null
+              ? imageWatermark(document, imageFile, imageWidth, opacity)
+              : textWatermark(document, watermarkText, fontSize, opacity);
+      Map<String, COSStream> sharedStreams = new HashMap<>();
+      for (PDPage page : document.getPages()) {
+        addWatermarkToPage(document, page, watermark, position, sharedStreams);
+      }
+
+      document.save(resultPath);
+    }
+
+    System.out.println("Watermark added to PDF. Result saved to: " + resultPath);
+    return resultPath;
+  }
+
+  @Override
+  public boolean validateOptions(Map<String, Object> options) {
+    try {
+      // Texto ou imagem: um dos dois é obrigatório
+      if (!options.containsKey("text") && !options.containsKey("image")) {
+        return false;
+      }
+
+      // A imagem é um dos arquivos do job, nunca um caminho arbitrário do worker
+      if (options.containsKey("image") && !isRelativeName(options.get("image").toString())) {
+        return false;
+      }
+
+      // Validar opacity (opcional)
+      if (options.containsKey("opacity")) {
+        float opacity = Float.parseFloat(options.get("opacity").toString());
+        if (opacity < 0 || opacity > 1) {
+          return false;
+        }
+      }
+
+      // Validar fontSize e image_width (opcionais)
+      for (String key : List.of("fontSize", "image_width")) {
+        if (options.containsKey(key) && Float.parseFloat(options.get(key).toString()) <= 0) {
+          return false;
+        }
+      }
+
+      // Validar position (opcional)
+      if (options.containsKey("position")) {
+        String position = options.get("position").toString().toLowerCase();
+        if (!List.of("center", "top-left", "top-right", "bottom-left", "bottom-right")
+            .contains(position)) {
+          return false;
+        }
+      }
+
+      return true;
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<String, Object> getOptionsSchema() {
+    Map<String, Object> schema = new HashMap<>();
+    schema.put("text", "string (required unless 'image' is given)");
+    schema.put(
+        "image",
+        "string (optional, name of a PNG or JPEG input file of the job used instead of the text)");
+    schema.put(
+        "image_width", "number (optional, width of the image in points, default: image pixels)");
+    schema.put("opacity", "number (optional, default: 0.3)");
+    schema.put("fontSize", "number (optional, default: 36)");
+    schema.put(
+        "position",
+        "string (optional, default: 'center', options: center, top-left, top-right, bottom-left, bottom-right)");
+    return schema;
+  }
+
+  /**
+   * Arquivo de entrada do job usado como imagem da marca d'água. O cliente só pode referenciar os
+   * arquivos enviados com o próprio job, pelo caminho ou pelo nome; caminhos absolutos e com
+   * {@code ..} são recusados, porque o storage os resolveria fora da área do job.
+   */
+  private static String imageInput(List<String> inputFiles, String image) {
+    if (!isRelativeName(image)) {
+      throw new IllegalArgumentException("Invalid watermark image path: " + image);
+    }
+    for (String inputFile : inputFiles.subList(1, inputFiles.size())) {
+      Path fileName = Path.of(inputFile).getFileName();
+      if (inputFile.equals(image) || (fileName != null && fileName.toString().equals(image))) {
+        return inputFile;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Watermark image must be one of the job input files: " + image);
+  }
+
+  private static boolean isRelativeName(String path) {
+    if (path.isBlank() || path.startsWith("/") || path.startsWith("\\") || path.contains(":")) {
+      return false;
+    }
+    for (String segment : path.split("[/\\\\]")) {
+      if (segment.equals("..")) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Marca d'água de texto: a origem do formulário é o início da linha de base, que é o ponto
+   * posicionado na página.
+   */
+  private static Watermark textWatermark(
+      PDDocument document, String text, int fontSize, float opacity) throws IOException {
+    PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+    float textWidth = font.getStringWidth(text) / 1000 * fontSize;
+    BoundingBox fontBox = font.getBoundingBox();
+
+    PDFormXObject form =
+        newForm(
+            document,
+            new PDRectangle(
+                0,
+                fontBox.getLowerLeftY() / 1000 * fontSize,
+                textWidth,
+                fontBox.getHeight() / 1000 * fontSize));
+    try (PDFormContentStream content = new PDFormContentStream(form)) {
+      content.setGraphicsStateParameters(transparency(opacity));
+      content.setFont(font, fontSize);
+      content.setNonStrokingColor(Color.GRAY);
+      content.beginText();
+      content.showText(text);
+      content.endText();
+    }
+    return new Watermark(form, textWidth, 0);
+  }
+
+  /**
+   * Marca d'água de imagem: o formulário vai da origem até a largura e a altura da imagem, com a
+   * proporção original.
+   */
+  private static Watermark imageWatermark(
+      PDDocument document, File imageFile, Float width, float opacity) throws IOException {
+    PDImageXObject image = PDImageXObject.createFromFileByContent(imageFile, document);
+    float imageWidth = width != null ? width : image.getWidth();
+    float imageHeight = imageWidth * image.getHeight() / image.getWidth();
+
+    PDFormXObject form = newForm(document, new PDRectangle(imageWidth, imageHeight));
+    try (PDFormContentStream content = new PDFormContentStream(form)) {
+      content.setGraphicsStateParameters(transparency(opacity));
+      content.drawImage(image, 0, 0, imageWidth, imageHeight);
+    }
+    return new Watermark(form, imageWidth, imageHeight);
+  }
+
+  private static PDFormXObject newForm(PDDocument document, PDRectangle bbox) {
+    PDFormXObject form = new PDFormXObject(document);
+    form.setBBox(bbox);
+    form.setResources(new PDResources());
+    return form;
+  }
+
+  private static PDExtendedGraphicsState transparency(float opacity) {
+    PDExtendedGraphicsState graphicsState = new PDExtendedGraphicsState();
+    graphicsState.setNonStrokingAlphaConstant(opacity);
+    graphicsState.setStrokingAlphaConstant(opacity);
+    return graphicsState;
+  }
+
+  /**
+   * Acrescenta à página só o posicionamento e a referência ao formulário compartilhado. O conteúdo
+   * original fica entre {@code q} e {@code Q}, para que um estado gráfico deixado por ele não
+   * desloque a marca d'água. Páginas com o mesmo tamanho e o mesmo nome de recurso produzem o mesmo
+   * fluxo, que é criado uma vez e compartilhado por todas elas.
+   */
+  private static void addWatermarkToPage(
+      PDDocument document,
+      PDPage page,
+      Watermark watermark,
+      String position,
+      Map<String, COSStream> sharedStreams)
+      throws IOException {
+    float pageWidth = page.getMediaBox().getWidth();
+    float pageHeight = page.getMediaBox().getHeight();
+
+    float x, y;
+    switch (position.toLowerCase()) {
+      case "top-left" -> {
+        x = 50;
+        y = pageHeight - 50 - watermark.height;
+      }
+      case "top-right" -> {
+        x = pageWidth - watermark.width - 50;
+        y = pageHeight - 50 - watermark.height;
+      }
+      case "bottom-left" -> {
+        x = 50;
+        y = 50;
+      }
+      case "bottom-right" -> {
+        x = pageWidth - watermark.width - 50;
+        y = 50;
+      }
+      default -> { // center
+        x = (pageWidth - watermark.width) / 2;
+        y = (pageHeight - watermark.height) / 2;
+      }
+    }
+
+    // Páginas em branco podem não ter recursos, nem herdados; o PDFBox devolve null nesse caso
+    PDResources resources = page.getResources();
+    if (resources == null) {
+      resources = new PDResources();
+      page.setResources(resources);
+    }
+    // O PDFBox reaproveita o nome quando as páginas herdam o mesmo dicionário de recursos
+    COSName formName = resources.add(watermark.form);
+    String overlay =
+        String.format(
+            Locale.ROOT, "Q q 1 0 0 1 %.2f %.2f cm /%s Do Q\n", x, y, formName.getName());
+
+    COSArray contents = new COSArray();
+    contents.add(sharedStream(document, "q\n", sharedStreams));
+    COSBase original = page.getCOSObject().getDictionaryObject(COSName.CONTENTS);
+    if (original instanceof COSArray originalArray) {
+      for (int i = 0; i < originalArray.size(); i++) {
+        contents.add(originalArray.get(i));
+      }
+    } else if (original instanceof COSStream) {
+      contents.add(original);
+    }
+    contents.add(sharedStream(document, overlay, sharedStreams));
+    page.getCOSObject().setItem(COSName.CONTENTS, contents);
+  }
+
+  private static COSStream sharedStream(
+      PDDocument document, String operators, Map<String, COSStream> sharedStreams)
+      throws IOException {
+    COSStream stream = sharedStreams.get(operators);
+    if (stream == null) {
+      stream = document.getDocument().createCOSStream();
+      try (OutputStream out = stream.createOutputStream()) {
+        out.write(operators.getBytes(StandardCharsets.US_ASCII));
+      }
+      sharedStreams.put(operators, stream);
+    }
+    return stream;
+  }
+
+  /**
+   * Formulário da marca d'água e as dimensões usadas no posicionamento. Para texto a altura é
+   * zero: ele é posicionado pela linha de base.
+   */
+  private static final class Watermark {
+    private final PDFormXObject form;
+    private final float width;
+    private final float height;
+
+    private Watermark(PDFormXObject form, float width, float height) {
+      this.form = form;
+      this.width = width;
+      this.height = height;
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.pdfprocessor.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades do arquivo histórico de jobs. Quando habilitado, jobs em estado terminal saem do
+ * Redis e passam a ser mantidos em um MVStore embarcado no disco. O arquivo é local e exclusivo de
+ * um processo, portanto deve ser habilitado apenas na API e com uma única réplica: uma segunda
+ * instância com o arquivo habilitado falha na inicialização.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.job-archive")
+public class JobArchiveProperties {
+
+  private boolean enabled = false;
+  private String path = "./data/job-archive.mv.db";
+  private int cacheSizeMb = 16;
+  private int sweepIntervalSeconds = 30;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public void setPath(String path) {
+    this.path = path;
+  }
+
+  public int getCacheSizeMb() {
+    return cacheSizeMb;
+  }
+
+  public void setCacheSizeMb(int cacheSizeMb) {
+    this.cacheSizeMb = cacheSizeMb;
+  }
+
+  /**
+   * Intervalo da varredura que move para o arquivo os jobs finalizados pelo worker. A mesma
+   * varredura renova a reserva do arquivo no Redis, que expira em três intervalos.
+   */
+  public int getSweepIntervalSeconds() {
+    return sweepIntervalSeconds;
+  }
+
+  public void setSweepIntervalSeconds(int sweepIntervalSeconds) {
+    this.sweepIntervalSeconds = sweepIntervalSeconds;
+  }
+}
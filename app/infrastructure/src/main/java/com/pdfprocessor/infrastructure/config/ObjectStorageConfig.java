@@ -0,0 +1,52 @@
+package com.pdfprocessor.infrastructure.config;
+
+import java.net.URI;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+/**
+ * Configuração do cliente S3, ativa apenas com {@code app.storage.type=s3}. Sem endpoint
+ * explícito usa a AWS; com endpoint (ex.: http://localhost:9000) funciona com MinIO.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.storage", name = "type", havingValue = "s3")
+public class ObjectStorageConfig {
+
+  @Bean(destroyMethod = "close")
+  public S3Client s3Client(ObjectStorageProperties properties) {
+    S3ClientBuilder builder =
+        S3Client.builder()
+            .region(Region.of(properties.getRegion()))
+            .credentialsProvider(credentialsProvider(properties))
+            .serviceConfiguration(
+                S3Configuration.builder()
+                    .pathStyleAccessEnabled(properties.isPathStyleAccess())
+                    .build())
+            // Conexões suficientes para partes paralelas de várias requisições simultâneas
+            .httpClientBuilder(
+                ApacheHttpClient.builder().maxConnections(properties.getParallelism() * 8));
+
+    if (properties.getEndpoint() != null && !properties.getEndpoint().isBlank()) {
+      builder.endpointOverride(URI.create(properties.getEndpoint()));
+    }
+    return builder.build();
+  }
+
+  private AwsCredentialsProvider credentialsProvider(ObjectStorageProperties properties) {
+    if (properties.getAccessKey() != null && !properties.getAccessKey().isBlank()) {
+      return StaticCredentialsProvider.create(
+          AwsBasicCredentials.create(properties.getAccessKey(), properties.getSecretKey()));
+    }
+    return DefaultCredentialsProvider.create();
+  }
+}
@@ -0,0 +1,109 @@
+package com.pdfprocessor.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades do storage em object storage compatível com S3 (AWS S3, MinIO...). Usadas quando
+ * {@code app.storage.type=s3}; nesse modo o {@code app.storage.base-path} passa a ser apenas a
+ * área local de trabalho onde os objetos são baixados para processamento.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.storage.s3")
+public class ObjectStorageProperties {
+
+  private String endpoint;
+  private String region = "us-east-1";
+  private String bucket = "pdf-processor";
+  private String accessKey;
+  private String secretKey;
+  private boolean pathStyleAccess = true;
+  private int partSizeMb = 8;
+  private int parallelism = 4;
+  private long cacheMaxSizeMb = 2048;
+  private long cachePinLeaseMinutes = 60;
+
+  public String getEndpoint() {
+    return endpoint;
+  }
+
+  public void setEndpoint(String endpoint) {
+    this.endpoint = endpoint;
+  }
+
+  public String getRegion() {
+    return region;
+  }
+
+  public void setRegion(String region) {
+    this.region = region;
+  }
+
+  public String getBucket() {
+    return bucket;
+  }
+
+  public void setBucket(String bucket) {
+    this.bucket = bucket;
+  }
+
+  public String getAccessKey() {
+    return accessKey;
+  }
+
+  public void setAccessKey(String accessKey) {
+    this.accessKey = accessKey;
+  }
+
+  public String getSecretKey() {
+    return secretKey;
+  }
+
+  public void setSecretKey(String secretKey) {
+    this.secretKey = secretKey;
+  }
+
+  public boolean isPathStyleAccess() {
+    return pathStyleAccess;
+  }
+
+  public void setPathStyleAccess(boolean pathStyleAccess) {
+    this.pathStyleAccess = pathStyleAccess;
+  }
+
+  /** Tamanho de cada parte de upload multipart e de cada intervalo de download. */
+  public int getPartSizeMb() {
+    return partSizeMb;
+  }
+
+  public void setPartSizeMb(int partSizeMb) {
+    this.partSizeMb = partSizeMb;
+  }
+
+  /** Número de partes transferidas em paralelo; limita também a memória usada em uploads. */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  public void setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+  }
+
+  /** Espaço máximo em disco do cache local de objetos baixados. */
+  public long getCacheMaxSizeMb() {
+    return cacheMaxSizeMb;
+  }
+
+  public void setCacheMaxSizeMb(long cacheMaxSizeMb) {
+    this.cacheMaxSizeMb = cacheMaxSizeMb;
+  }
+
+  /** Tempo após o qual um arquivo fixado e não liberado volta a poder ser despejado do cache. */
+  public long getCachePinLeaseMinutes() {
+    return cachePinLeaseMinutes;
+  }
+
+  public void setCachePinLeaseMinutes(long cachePinLeaseMinutes) {
+    this.cachePinLeaseMinutes = cachePinLeaseMinutes;
+  }
+}
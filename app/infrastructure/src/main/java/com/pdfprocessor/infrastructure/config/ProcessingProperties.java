@@ -0,0 +1,163 @@
+package com.pdfprocessor.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Propriedades do processamento de PDF: executores dos handlers, codificação de imagens, limites
+ * de memória da junção e OCR.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.processing")
+public class ProcessingProperties {
+
+  private int cpuThreads = Runtime.getRuntime().availableProcessors();
+  private int memoryThreads = 2;
+  private int ioThreads = 8;
+  private int encoderThreads = Runtime.getRuntime().availableProcessors();
+  private int pngCompressionLevel = 4;
+  private String pngFilter = "adaptive";
+  private float jpegQuality = 0.85f;
+  private String jpegChromaSubsampling = "420";
+  private int mergeMemoryBudgetMb = 256;
+  private int mergeMaxMemoryBudgetMb = 1024;
+  private int mergeFanIn = 32;
+  private int ocrThreads = Runtime.getRuntime().availableProcessors();
+  private int ocrRenderThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+  private String ocrDataPath = "";
+
+  /** Threads para operações limitadas por CPU (renderização, compressão, extração de texto). */
+  public int getCpuThreads() {
+    return cpuThreads;
+  }
+
+  public void setCpuThreads(int cpuThreads) {
+    this.cpuThreads = cpuThreads;
+  }
+
+  /** Threads para operações que mantêm documentos ou imagens grandes inteiros em memória. */
+  public int getMemoryThreads() {
+    return memoryThreads;
+  }
+
+  public void setMemoryThreads(int memoryThreads) {
+    this.memoryThreads = memoryThreads;
+  }
+
+  /** Threads para operações estruturais, dominadas pela leitura e escrita dos arquivos. */
+  public int getIoThreads() {
+    return ioThreads;
+  }
+
+  public void setIoThreads(int ioThreads) {
+    this.ioThreads = ioThreads;
+  }
+
+  /** Threads que comprimem em paralelo as faixas de imagens PNG grandes. */
+  public int getEncoderThreads() {
+    return encoderThreads;
+  }
+
+  public void setEncoderThreads(int encoderThreads) {
+    this.encoderThreads = encoderThreads;
+  }
+
+  /** Nível de deflate do PNG (0-9); níveis baixos trocam tamanho por velocidade. */
+  public int getPngCompressionLevel() {
+    return pngCompressionLevel;
+  }
+
+  public void setPngCompressionLevel(int pngCompressionLevel) {
+    this.pngCompressionLevel = pngCompressionLevel;
+  }
+
+  /** Filtro de linha do PNG: none, sub, up, average, paeth ou adaptive (melhor por linha). */
+  public String getPngFilter() {
+    return pngFilter;
+  }
+
+  public void setPngFilter(String pngFilter) {
+    this.pngFilter = pngFilter;
+  }
+
+  /** Qualidade do JPEG, de 0 a 1. */
+  public float getJpegQuality() {
+    return jpegQuality;
+  }
+
+  public void setJpegQuality(float jpegQuality) {
+    this.jpegQuality = jpegQuality;
+  }
+
+  /** Subamostragem de crominância do JPEG: 420, 422 ou 444 (sem subamostragem). */
+  public String getJpegChromaSubsampling() {
+    return jpegChromaSubsampling;
+  }
+
+  public void setJpegChromaSubsampling(String jpegChromaSubsampling) {
+    this.jpegChromaSubsampling = jpegChromaSubsampling;
+  }
+
+  /**
+   * Memória, em MB, para os streams de um job de junção; o que passar disso vai para arquivos
+   * temporários. Dividida entre as junções parciais que rodam ao mesmo tempo.
+   */
+  public int getMergeMemoryBudgetMb() {
+    return mergeMemoryBudgetMb;
+  }
+
+  public void setMergeMemoryBudgetMb(int mergeMemoryBudgetMb) {
+    this.mergeMemoryBudgetMb = mergeMemoryBudgetMb;
+  }
+
+  /**
+   * Maior memória, em MB, que um job de junção pode pedir em {@code memory_budget_mb}; pedidos
+   * acima disso são rejeitados na validação e limitados no processamento.
+   */
+  public int getMergeMaxMemoryBudgetMb() {
+    return mergeMaxMemoryBudgetMb;
+  }
+
+  public void setMergeMaxMemoryBudgetMb(int mergeMaxMemoryBudgetMb) {
+    this.mergeMaxMemoryBudgetMb = mergeMaxMemoryBudgetMb;
+  }
+
+  /** Máximo de arquivos unidos de uma vez; acima disso a junção é feita em níveis. */
+  public int getMergeFanIn() {
+    return mergeFanIn;
+  }
+
+  public void setMergeFanIn(int mergeFanIn) {
+    this.mergeFanIn = mergeFanIn;
+  }
+
+  /**
+   * Threads de reconhecimento do OCR. Cada uma mantém a sua instância do Tesseract, que não é
+   * thread-safe, já inicializada para os idiomas usados.
+   */
+  public int getOcrThreads() {
+    return ocrThreads;
+  }
+
+  public void setOcrThreads(int ocrThreads) {
+    this.ocrThreads = ocrThreads;
+  }
+
+  /** Threads que renderizam as páginas para o OCR de um job; o reconhecimento é bem mais lento. */
+  public int getOcrRenderThreads() {
+    return ocrRenderThreads;
+  }
+
+  public void setOcrRenderThreads(int ocrRenderThreads) {
+    this.ocrRenderThreads = ocrRenderThreads;
+  }
+
+  /** Diretório tessdata do Tesseract; vazio usa {@code TESSDATA_PREFIX}. */
+  public String getOcrDataPath() {
+    return ocrDataPath;
+  }
+
+  public void setOcrDataPath(String ocrDataPath) {
+    this.ocrDataPath = ocrDataPath;
+  }
+}
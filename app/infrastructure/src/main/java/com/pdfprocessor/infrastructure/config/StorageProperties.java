@@ -8,7 +8,31 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "app.storage")
 public class StorageProperties {
 
+  /**
+   * Diretório, relativo ao base path, onde ficam os arquivos temporários de upload. Mantê-lo no
+   * mesmo volume do storage permite publicar os uploads com rename atômico em vez de cópia.
+   */
+  public static final String UPLOAD_TEMP_DIR = ".blobs/tmp";
+
+  /** Diretório, relativo ao base path, onde os uploads em partes são montados até o uso. */
+  public static final String CHUNKED_UPLOAD_DIR = ".uploads";
+
+  private String type = "local";
   private String basePath = "./storage";
+  private boolean deduplicationEnabled = true;
+  private int ioThreads = 32;
+  private long chunkedUploadMaxSizeMb = 4096;
+  private int chunkedUploadMaxChunkMb = 64;
+  private int chunkedUploadExpiryHours = 24;
+
+  /** Implementação do storage: "local" (filesystem) ou "s3" (object storage compatível). */
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
 
   public String getBasePath() {
     return basePath;
@@ -17,4 +41,48 @@ public class StorageProperties {
   public void setBasePath(String basePath) {
     this.basePath = basePath;
   }
+
+  public boolean isDeduplicationEnabled() {
+    return deduplicationEnabled;
+  }
+
+  public void setDeduplicationEnabled(boolean deduplicationEnabled) {
+    this.deduplicationEnabled = deduplicationEnabled;
+  }
+
+  /** Threads do pool de I/O usado pelas operações assíncronas do storage. */
+  public int getIoThreads() {
+    return ioThreads;
+  }
+
+  public void setIoThreads(int ioThreads) {
+    this.ioThreads = ioThreads;
+  }
+
+  /** Tamanho máximo de um arquivo enviado em partes. */
+  public long getChunkedUploadMaxSizeMb() {
+    return chunkedUploadMaxSizeMb;
+  }
+
+  public void setChunkedUploadMaxSizeMb(long chunkedUploadMaxSizeMb) {
+    this.chunkedUploadMaxSizeMb = chunkedUploadMaxSizeMb;
+  }
+
+  /** Tamanho máximo de cada parte de um upload em partes. */
+  public int getChunkedUploadMaxChunkMb() {
+    return chunkedUploadMaxChunkMb;
+  }
+
+  public void setChunkedUploadMaxChunkMb(int chunkedUploadMaxChunkMb) {
+    this.chunkedUploadMaxChunkMb = chunkedUploadMaxChunkMb;
+  }
+
+  /** Horas sem atividade após as quais um upload em partes expira e é removido. */
+  public int getChunkedUploadExpiryHours() {
+    return chunkedUploadExpiryHours;
+  }
+
+  public void setChunkedUploadExpiryHours(int chunkedUploadExpiryHours) {
+    this.chunkedUploadExpiryHours = chunkedUploadExpiryHours;
+  }
 }
@@ -0,0 +1,116 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pdfprocessor.infrastructure.config.ObjectStorageProperties;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para LocalFileCache. */
+class LocalFileCacheTest {
+
+  private static final int MB = 1024 * 1024;
+
+  private StorageProperties storageProperties;
+  private ObjectStorageProperties objectStorageProperties;
+  private LocalFileCache fileCache;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    storageProperties = new StorageProperties();
+    storageProperties.setBasePath(tempDir.toString());
+    objectStorageProperties = new ObjectStorageProperties();
+    objectStorageProperties.setCacheMaxSizeMb(2);
+    fileCache = new LocalFileCache(storageProperties, objectStorageProperties);
+  }
+
+  @Test
+  void shouldLoadOnceAndCountHitsAndMisses() throws IOException {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+
+    // When
+    Path first = fileCache.get("etag:a", ".pdf", 4, "job-1", target -> write(target, 4, loads));
+    Path second = fileCache.get("etag:a", ".pdf", 4, "job-2", target -> write(target, 4, loads));
+
+    // Then
+    assertEquals(first, second);
+    assertTrue(first.toString().endsWith(".pdf"));
+    assertEquals(1, loads.get());
+    assertEquals(1, fileCache.getHits());
+    assertEquals(1, fileCache.getMisses());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedUnpinnedEntry() throws IOException {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    Path a = fileCache.get("etag:a", "", MB, null, target -> write(target, MB, loads));
+    Path b = fileCache.get("etag:b", "", MB, null, target -> write(target, MB, loads));
+    // Acessar "a" o torna o mais recente
+    fileCache.get("etag:a", "", MB, null, target -> write(target, MB, loads));
+
+    // When
+    fileCache.get("etag:c", "", MB, null, target -> write(target, MB, loads));
+
+    // Then
+    assertTrue(Files.exists(a));
+    assertFalse(Files.exists(b));
+    assertEquals(1, fileCache.getEvictions());
+    assertEquals(2L * MB, fileCache.getSizeBytes());
+  }
+
+  @Test
+  void shouldNotEvictPinnedEntryUntilReleased() throws IOException {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    Path a = fileCache.get("etag:a", "", MB, "job-1", target -> write(target, MB, loads));
+    Path b = fileCache.get("etag:b", "", MB, "job-1", target -> write(target, MB, loads));
+
+    // When - tudo fixado: o limite é excedido sem despejo
+    fileCache.get("etag:c", "", MB, "job-2", target -> write(target, MB, loads));
+
+    // Then
+    assertTrue(Files.exists(a));
+    assertTrue(Files.exists(b));
+    assertEquals(0, fileCache.getEvictions());
+
+    // When - após liberar, a entrada menos usada sai
+    fileCache.release("job-1");
+    fileCache.get("etag:d", "", MB, null, target -> write(target, MB, loads));
+
+    // Then
+    assertFalse(Files.exists(a));
+    assertFalse(Files.exists(b));
+    assertEquals(2, fileCache.getEvictions());
+  }
+
+  @Test
+  void shouldReuseEntriesAfterRestart() throws IOException {
+    // Given
+    AtomicInteger loads = new AtomicInteger();
+    fileCache.get("etag:a", ".pdf", 4, "job-1", target -> write(target, 4, loads));
+
+    // When
+    LocalFileCache restarted = new LocalFileCache(storageProperties, objectStorageProperties);
+    restarted.get("etag:a", ".pdf", 4, "job-1", target -> write(target, 4, loads));
+
+    // Then
+    assertEquals(1, loads.get());
+    assertEquals(1, restarted.getHits());
+    assertEquals(1, restarted.getEntryCount());
+  }
+
+  private void write(Path target, int size, AtomicInteger loads) throws IOException {
+    loads.incrementAndGet();
+    Files.write(target, new byte[size]);
+  }
+}
@@ -3,10 +3,15 @@ package com.pdfprocessor.infrastructure.adapter;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.pdfprocessor.domain.port.StorageService.JobArea;
 import com.pdfprocessor.infrastructure.config.StorageProperties;
 import java.io.*;
 import java.nio.file.*;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 class LocalStorageServiceTest {
 
   private LocalStorageService storageService;
+  private StorageProperties storageProperties;
   private String testJobId;
   private String testFilename;
   private Path testStorageDir;
@@ -24,7 +30,7 @@ class LocalStorageServiceTest {
 
   @BeforeEach
   void setUp() throws IOException {
-    StorageProperties storageProperties = mock(StorageProperties.class);
+    storageProperties = mock(StorageProperties.class);
     when(storageProperties.getBasePath()).thenReturn(tempDir.toString());
     storageService = new LocalStorageService(storageProperties);
     testJobId = "test-job-123";
@@ -42,6 +48,7 @@ class LocalStorageServiceTest {
   void tearDown() {
     // Limpar propriedade do sistema
     System.clearProperty("user.dir");
+    storageService.shutdown();
   }
 
   @Test
@@ -238,4 +245,302 @@ class LocalStorageServiceTest {
     assertNotNull(jobDirPath);
     assertTrue(Files.exists(jobDir));
   }
+
+  @Test
+  void shouldDeduplicateIdenticalUploads() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    byte[] content = "Same PDF content".getBytes();
+
+    // When
+    String firstPath =
+        storageService.store("job-a", testFilename, new ByteArrayInputStream(content));
+    String secondPath =
+        storageService.store("job-b", "other-name.pdf", new ByteArrayInputStream(content));
+
+    // Then
+    Path first = storageService.getPhysicalPath(firstPath);
+    Path second = storageService.getPhysicalPath(secondPath);
+    assertTrue(Files.isSameFile(first, second));
+    assertArrayEquals(content, Files.readAllBytes(second));
+
+    String hash = storageService.getContentHash(firstPath).orElseThrow();
+    assertEquals(64, hash.length());
+    assertEquals(hash, storageService.getContentHash(secondPath).orElseThrow());
+    assertTrue(Files.exists(tempDir.resolve(".blobs").resolve(hash.substring(0, 2)).resolve(hash)));
+  }
+
+  @Test
+  void shouldDeleteBlobOnlyWhenLastReferenceIsRemoved() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    byte[] content = "Shared PDF content".getBytes();
+    String path = storageService.store("job-a", testFilename, new ByteArrayInputStream(content));
+    storageService.store("job-b", testFilename, new ByteArrayInputStream(content));
+    String hash = storageService.getContentHash(path).orElseThrow();
+    Path blob = tempDir.resolve(".blobs").resolve(hash.substring(0, 2)).resolve(hash);
+
+    // When
+    storageService.deleteJobFiles("job-a");
+
+    // Then
+    assertTrue(Files.exists(blob));
+    assertTrue(storageService.getContentHash(path).isEmpty());
+
+    // When
+    storageService.deleteJobFiles("job-b");
+
+    // Then
+    assertFalse(Files.exists(blob));
+  }
+
+  @Test
+  void shouldKeepBlobReferencesInShardedDirectories() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    StorageLayout layout = new StorageLayout(tempDir);
+    byte[] content = "Referenced PDF content".getBytes();
+
+    // When
+    storageService.store("job-a", testFilename, new ByteArrayInputStream(content));
+
+    // Then: nenhum arquivo de referências diretamente em .blobs/refs
+    assertTrue(Files.exists(layout.blobRefs("job-a")));
+    assertEquals(
+        layout.blobRefsRoot(), layout.blobRefs("job-a").getParent().getParent().getParent());
+    try (Stream<Path> children = Files.list(layout.blobRefsRoot())) {
+      assertTrue(children.allMatch(Files::isDirectory));
+    }
+  }
+
+  @Test
+  void shouldReleaseBlobsReferencedFromLegacyRefsFile() throws IOException {
+    // Given: referências gravadas no diretório plano, antes da migração
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    StorageLayout layout = new StorageLayout(tempDir);
+    byte[] content = "Legacy PDF content".getBytes();
+    String path = storageService.store("job-a", testFilename, new ByteArrayInputStream(content));
+    String hash = storageService.getContentHash(path).orElseThrow();
+    Files.move(layout.blobRefs("job-a"), layout.legacyBlobRefs("job-a"));
+    Path blob = tempDir.resolve(".blobs").resolve(hash.substring(0, 2)).resolve(hash);
+
+    // When
+    storageService.deleteJobFiles("job-a");
+
+    // Then
+    assertFalse(Files.exists(blob));
+    assertFalse(Files.exists(layout.legacyBlobRefs("job-a")));
+  }
+
+  @Test
+  void shouldReplaceDeduplicatedFileWithNewContent() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    String path =
+        storageService.store(testJobId, testFilename, new ByteArrayInputStream("v1".getBytes()));
+    String oldHash = storageService.getContentHash(path).orElseThrow();
+
+    // When
+    storageService.store(testJobId, testFilename, new ByteArrayInputStream("v2".getBytes()));
+
+    // Then
+    assertEquals("v2", Files.readString(storageService.getPhysicalPath(path)));
+    assertNotEquals(oldHash, storageService.getContentHash(path).orElseThrow());
+    assertFalse(
+        Files.exists(tempDir.resolve(".blobs").resolve(oldHash.substring(0, 2)).resolve(oldHash)));
+  }
+
+  @Test
+  void shouldStoreFromExistingContentWithoutUpload() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    String uploaded =
+        storageService.store("job-a", testFilename, new ByteArrayInputStream("tpl".getBytes()));
+    storageService.recordContentOwner("key-a", uploaded);
+    String hash = storageService.getContentHash(uploaded).orElseThrow();
+
+    // When
+    String referenced =
+        storageService.storeFromContent("key-a", "job-b", "copy.pdf", hash).orElseThrow();
+
+    // Then
+    assertTrue(storageService.containsContent("key-a", hash));
+    assertTrue(
+        Files.isSameFile(
+            storageService.getPhysicalPath(uploaded), storageService.getPhysicalPath(referenced)));
+    assertEquals(hash, storageService.getContentHash(referenced).orElseThrow());
+  }
+
+  @Test
+  void shouldNotStoreFromUnknownContent() {
+    // Given
+    String unknownHash = "0".repeat(64);
+
+    // When & Then
+    assertFalse(storageService.containsContent("key-a", unknownHash));
+    assertTrue(
+        storageService.storeFromContent("key-a", testJobId, testFilename, unknownHash).isEmpty());
+    assertTrue(
+        storageService.storeFromContent("key-a", testJobId, testFilename, "../../etc").isEmpty());
+  }
+
+  @Test
+  void shouldOnlyExposeContentToKeysThatUploadedIt() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    String uploaded =
+        storageService.store(
+            "job-a", testFilename, new ByteArrayInputStream("contract".getBytes()));
+    storageService.recordContentOwner("key-a", uploaded);
+    String hash = storageService.getContentHash(uploaded).orElseThrow();
+
+    // When & Then
+    assertTrue(storageService.containsContent("key-a", hash));
+    assertFalse(storageService.containsContent("key-b", hash));
+    assertFalse(storageService.containsContent(null, hash));
+    assertTrue(storageService.storeFromContent("key-b", "job-b", "copy.pdf", hash).isEmpty());
+
+    // A chave só passa a enxergar o conteúdo depois de enviá-lo ela mesma
+    String uploadedByB =
+        storageService.store(
+            "job-c", testFilename, new ByteArrayInputStream("contract".getBytes()));
+    storageService.recordContentOwner("key-b", uploadedByB);
+    assertTrue(storageService.containsContent("key-b", hash));
+
+    // O registro de donos não guarda a API key em claro
+    Path ownersFile =
+        tempDir.resolve(".blobs").resolve(hash.substring(0, 2)).resolve(hash + ".owners");
+    assertFalse(Files.readString(ownersFile).contains("key-a"));
+  }
+
+  @Test
+  void shouldMoveUploadIntoStorageWithoutCopy() throws IOException {
+    // Given - arquivo spoolado no mesmo volume do storage
+    Path spooled = tempDir.resolve("spooled-upload.tmp");
+    Files.writeString(spooled, "%PDF-1.4 uploaded");
+
+    // When
+    String storedPath =
+        storageService.storeUpload(
+            testJobId, testFilename, target -> Files.move(spooled, target));
+
+    // Then
+    assertFalse(Files.exists(spooled));
+    assertEquals(
+        "%PDF-1.4 uploaded", Files.readString(storageService.getPhysicalPath(storedPath)));
+  }
+
+  @Test
+  void shouldDeduplicateMovedUploadAgainstExistingContent() throws IOException {
+    // Given
+    when(storageProperties.isDeduplicationEnabled()).thenReturn(true);
+    String existing =
+        storageService.store("job-a", testFilename, new ByteArrayInputStream("same".getBytes()));
+    Path spooled = tempDir.resolve("spooled-upload.tmp");
+    Files.writeString(spooled, "same");
+
+    // When
+    String uploaded =
+        storageService.storeUpload("job-b", testFilename, target -> Files.move(spooled, target));
+
+    // Then
+    assertTrue(
+        Files.isSameFile(
+            storageService.getPhysicalPath(existing), storageService.getPhysicalPath(uploaded)));
+    assertEquals(
+        storageService.getContentHash(existing), storageService.getContentHash(uploaded));
+    try (Stream<Path> leftovers = Files.list(tempDir.resolve(StorageProperties.UPLOAD_TEMP_DIR))) {
+      assertEquals(0, leftovers.count());
+    }
+  }
+
+  @Test
+  void shouldStoreInputsInShardedJobDirectory() throws IOException {
+    // When
+    String storedPath =
+        storageService.store(testJobId, testFilename, new ByteArrayInputStream("%PDF".getBytes()));
+
+    // Then - o caminho lógico não muda, apenas o layout em disco
+    assertEquals("./storage/" + testJobId + "/" + testFilename, storedPath);
+    String shard = StorageLayout.shardOf(testJobId);
+    Path expected =
+        tempDir
+            .resolve(shard.substring(0, 2))
+            .resolve(shard.substring(2, 4))
+            .resolve(testJobId)
+            .resolve("inputs")
+            .resolve(testFilename);
+    assertEquals(expected, storageService.getPhysicalPath(storedPath));
+    assertTrue(Files.exists(expected));
+  }
+
+  @Test
+  void shouldPublishResultsAsLogicalPathsAndDeleteAllAreas() throws IOException {
+    // Given
+    storageService.store(testJobId, testFilename, new ByteArrayInputStream("%PDF".getBytes()));
+    Path resultDir = storageService.getJobArea(testJobId, JobArea.RESULTS);
+    Path resultFile = resultDir.resolve("result.pdf");
+    Files.writeString(resultFile, "result");
+    Files.writeString(storageService.getJobArea(testJobId, JobArea.SCRATCH).resolve("tmp"), "x");
+
+    // When
+    String published = storageService.publishResult(resultFile.toString());
+
+    // Then
+    assertEquals("./storage/" + testJobId + "/results/result.pdf", published);
+    assertEquals(resultFile, storageService.getPhysicalPath(published));
+    assertEquals(
+        List.of(
+            "./storage/" + testJobId + "/" + testFilename,
+            "./storage/" + testJobId + "/results/result.pdf"),
+        storageService.listJobFiles(testJobId));
+
+    // When
+    int deletedCount = storageService.deleteJobFiles(testJobId);
+
+    // Then - entradas, resultados e intermediários saem juntos, e os shards vazios também
+    assertEquals(3, deletedCount);
+    assertFalse(Files.exists(resultDir.getParent().getParent()));
+  }
+
+  @Test
+  void shouldReadFilesFromLegacyFlatLayout() throws IOException {
+    // Given
+    Path legacyFile = tempDir.resolve(testJobId).resolve(testFilename);
+    Files.createDirectories(legacyFile.getParent());
+    Files.writeString(legacyFile, "legacy");
+    String logicalPath = "./storage/" + testJobId + "/" + testFilename;
+
+    // When & Then
+    assertEquals(legacyFile, storageService.getPhysicalPath(logicalPath));
+    assertTrue(storageService.exists(logicalPath));
+    assertEquals(1, storageService.deleteJobFiles(testJobId));
+    assertFalse(Files.exists(legacyFile.getParent()));
+  }
+
+  @Test
+  void shouldDeleteManyJobsConcurrently() {
+    // Given
+    when(storageProperties.getIoThreads()).thenReturn(8);
+    storageService.shutdown();
+    storageService = new LocalStorageService(storageProperties);
+    List<String> jobIds = IntStream.range(0, 50).mapToObj(i -> "bulk-job-" + i).toList();
+    List<CompletableFuture<String>> stores =
+        jobIds.stream()
+            .map(
+                jobId ->
+                    storageService.storeAsync(
+                        jobId, testFilename, new ByteArrayInputStream(jobId.getBytes())))
+            .toList();
+    stores.forEach(CompletableFuture::join);
+
+    // When - inclui um job inexistente, que não interrompe os demais
+    List<String> toDelete = new ArrayList<>(jobIds);
+    toDelete.add("missing-job");
+    int deletedCount = storageService.deleteJobFilesAsync(toDelete).join();
+
+    // Then
+    assertEquals(50, deletedCount);
+    jobIds.forEach(jobId -> assertTrue(storageService.listJobFiles(jobId).isEmpty()));
+  }
 }
@@ -0,0 +1,140 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.model.JobStatus;
+import com.pdfprocessor.infrastructure.config.JobArchiveProperties;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para MvStoreJobRepository. */
+class MvStoreJobRepositoryTest {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private MvStoreJobRepository repository;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    JobArchiveProperties properties = mock(JobArchiveProperties.class);
+    when(properties.getPath()).thenReturn(tempDir.resolve("archive.mv.db").toString());
+    when(properties.getCacheSizeMb()).thenReturn(1);
+    repository = new MvStoreJobRepository(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.close();
+  }
+
+  @Test
+  void shouldSaveAndFindJob() {
+    // Given
+    Job job = job("job-1", JobOperation.MERGE, JobStatus.COMPLETED, 0);
+
+    // When
+    repository.save(job);
+
+    // Then
+    assertTrue(repository.existsById("job-1"));
+    Job found = repository.findById("job-1").orElseThrow();
+    assertEquals(JobOperation.MERGE, found.getOperation());
+    assertEquals(JobStatus.COMPLETED, found.getStatus());
+    assertEquals(List.of("input.pdf"), found.getInputFiles());
+  }
+
+  @Test
+  void shouldReturnPagesNewestFirst() {
+    // Given
+    for (int i = 0; i < 5; i++) {
+      repository.save(job("job-" + i, JobOperation.SPLIT, JobStatus.COMPLETED, i));
+    }
+
+    // When
+    List<Job> firstPage = repository.findAll(0, 2);
+    List<Job> lastPage = repository.findAll(2, 2);
+
+    // Then
+    assertEquals(List.of("job-4", "job-3"), ids(firstPage));
+    assertEquals(List.of("job-0"), ids(lastPage));
+    assertTrue(repository.findAll(3, 2).isEmpty());
+    assertEquals(List.of("job-2", "job-1"), ids(repository.findRecent(2, 2)));
+  }
+
+  @Test
+  void shouldFilterByStatusAndOperation() {
+    // Given
+    repository.save(job("job-a", JobOperation.MERGE, JobStatus.COMPLETED, 0));
+    repository.save(job("job-b", JobOperation.SPLIT, JobStatus.FAILED, 1));
+    repository.save(job("job-c", JobOperation.MERGE, JobStatus.FAILED, 2));
+
+    // When & Then
+    assertEquals(List.of("job-c", "job-b"), ids(repository.findByStatus(JobStatus.FAILED, 0, 10)));
+    assertEquals(
+        List.of("job-c", "job-a"), ids(repository.findByOperation(JobOperation.MERGE, 0, 10)));
+    assertEquals(
+        List.of("job-b"),
+        ids(
+            repository.findCreatedBetween(
+                BASE_TIME.plusMinutes(1), BASE_TIME.plusMinutes(1), 0, 10)));
+  }
+
+  @Test
+  void shouldMoveStatusIndexWhenJobIsUpdated() {
+    // Given
+    Job job = job("job-1", JobOperation.MERGE, JobStatus.PROCESSING, 0);
+    repository.save(job);
+
+    // When
+    repository.save(job("job-1", JobOperation.MERGE, JobStatus.COMPLETED, 0));
+
+    // Then
+    assertTrue(repository.findByStatus(JobStatus.PROCESSING, 0, 10).isEmpty());
+    assertEquals(List.of("job-1"), ids(repository.findByStatus(JobStatus.COMPLETED, 0, 10)));
+    assertEquals(1, repository.count());
+  }
+
+  @Test
+  void shouldDeleteJobAndIndexEntries() {
+    // Given
+    repository.save(job("job-1", JobOperation.MERGE, JobStatus.COMPLETED, 0));
+
+    // When
+    repository.deleteById("job-1");
+
+    // Then
+    assertFalse(repository.existsById("job-1"));
+    assertTrue(repository.findAll(0, 10).isEmpty());
+    assertTrue(repository.findByOperation(JobOperation.MERGE, 0, 10).isEmpty());
+  }
+
+  private Job job(String id, JobOperation operation, JobStatus status, int minutesAfterBase) {
+    return new Job(
+        id,
+        operation,
+        List.of("input.pdf"),
+        Map.of(),
+        BASE_TIME.plusMinutes(minutesAfterBase),
+        status,
+        null,
+        null,
+        0,
+        null,
+        null);
+  }
+
+  private List<String> ids(List<Job> jobs) {
+    return jobs.stream().map(Job::getId).toList();
+  }
+}
@@ -0,0 +1,31 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrEngine;
+import com.pdfprocessor.infrastructure.adapter.operation.OperationHandler;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.util.List;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/** Descobre os handlers de operação como a aplicação faz, para testes sem o contexto completo. */
+final class OperationHandlerFixtures {
+
+  private OperationHandlerFixtures() {}
+
+  static List<OperationHandler> discover(StorageService storageService) {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.registerBean(StorageService.class, () -> storageService);
+    context.registerBean(ProcessingProperties.class);
+    context.scan(
+        OperationHandler.class.getPackageName(),
+        ImageEncoder.class.getPackageName(),
+        OcrEngine.class.getPackageName());
+    context.refresh();
+    return List.copyOf(context.getBeansOfType(OperationHandler.class).values());
+  }
+
+  static PdfProcessingServiceImpl processingService(StorageService storageService) {
+    return new PdfProcessingServiceImpl(storageService, discover(storageService));
+  }
+}
@@ -6,6 +6,9 @@ import static org.mockito.Mockito.*;
 import com.pdfprocessor.domain.model.Job;
 import com.pdfprocessor.domain.model.JobOperation;
 import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.operation.OperationHandler;
+import com.pdfprocessor.infrastructure.adapter.operation.ResourceProfile;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +25,9 @@ class PdfProcessingServiceImplTest {
   @BeforeEach
   void setUp() {
     storageService = mock(StorageService.class);
-    pdfProcessingService = new PdfProcessingServiceImpl(storageService);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> Paths.get(invocation.<String>getArgument(0)));
+    pdfProcessingService = OperationHandlerFixtures.processingService(storageService);
     testJob = new Job("job-123", JobOperation.MERGE, List.of("file1.pdf", "file2.pdf"), Map.of());
   }
 
@@ -68,6 +73,33 @@ class PdfProcessingServiceImplTest {
     assertTrue(pdfProcessingService.supportsOperation(JobOperation.PDF_REPAIR));
   }
 
+  @Test
+  void shouldDiscoverOneHandlerPerOperation() {
+    // When
+    List<OperationHandler> handlers = OperationHandlerFixtures.discover(storageService);
+
+    // Then
+    assertEquals(JobOperation.values().length, handlers.size());
+    assertEquals(List.of(JobOperation.values()), pdfProcessingService.getSupportedOperations());
+    assertEquals(
+        ResourceProfile.CPU,
+        pdfProcessingService.handlerFor(JobOperation.PDF_TO_IMAGES).getResourceProfile());
+    assertNotNull(pdfProcessingService.handlerFor(JobOperation.MERGE).getExecutor());
+  }
+
+  @Test
+  void shouldRejectDuplicateHandlers() {
+    // Given
+    List<OperationHandler> handlers = OperationHandlerFixtures.discover(storageService);
+    OperationHandler merge =
+        handlers.stream().filter(h -> h.getOperation() == JobOperation.MERGE).findFirst().get();
+
+    // When & Then
+    assertThrows(
+        IllegalStateException.class,
+        () -> new PdfProcessingServiceImpl(storageService, List.of(merge, merge)));
+  }
+
   @Test
   void shouldValidateOptionsForMergeOperation() {
     // Given
@@ -1189,7 +1221,8 @@ class PdfProcessingServiceImplTest {
     assertTrue(ocrSchema.containsKey("language"));
     assertTrue(ocrSchema.containsKey("output_format"));
     assertTrue(ocrSchema.containsKey("dpi"));
-    assertTrue(ocrSchema.containsKey("preprocess_image"));
+    assertTrue(ocrSchema.containsKey("skip_text_pages"));
+    assertFalse(ocrSchema.containsKey("preprocess_image"));
 
     // Audio schema validation
     assertTrue(audioSchema.containsKey("voice"));
@@ -1,11 +1,13 @@
 package com.pdfprocessor.infrastructure.adapter;
 
 import static org.junit.jupiter.api.Assertions.*;
-// import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import com.pdfprocessor.domain.model.Job;
 import com.pdfprocessor.domain.model.JobOperation;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -17,9 +19,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /** Testes unitários para RedisJobRepository. */
 @ExtendWith(MockitoExtension.class)
@@ -29,12 +35,15 @@ class RedisJobRepositoryTest {
   @Mock private RedisTemplate<String, Object> redisTemplate;
   @Mock private ValueOperations<String, Object> valueOperations;
   @Mock private SetOperations<String, Object> setOperations;
+  @Mock private ZSetOperations<String, Object> zSetOperations;
+  @Mock private HashOperations<String, Object, Object> hashOperations;
 
   private RedisJobRepository repository;
   private Job testJob;
 
   @BeforeEach
   void setUp() {
+    when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
     repository = new RedisJobRepository(redisTemplate);
     testJob = new Job("job-123", JobOperation.MERGE, List.of("file1.pdf", "file2.pdf"), Map.of());
   }
@@ -44,6 +53,7 @@ class RedisJobRepositoryTest {
     // Given
     when(redisTemplate.opsForValue()).thenReturn(valueOperations);
     when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
 
     // When
     Job savedJob = repository.save(testJob);
@@ -51,6 +61,7 @@ class RedisJobRepositoryTest {
     // Then
     assertNotNull(savedJob);
     assertEquals(testJob.getId(), savedJob.getId());
+    verify(zSetOperations).add(eq("pdf:jobs:by-created"), eq("job-123"), anyDouble());
   }
 
   @Test
@@ -70,6 +81,46 @@ class RedisJobRepositoryTest {
     assertEquals(JobOperation.MERGE, foundJob.get().getOperation());
   }
 
+  @Test
+  void shouldApplySavedProgressOnlyToActiveJobs() {
+    // Given
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.get("pdf:job:active"))
+        .thenReturn(
+            "{\"id\":\"active\",\"operation\":\"MERGE\",\"inputFiles\":[],\"options\":{},\"status\":\"PROCESSING\",\"progress\":10}");
+    when(valueOperations.get("pdf:job:cancelled"))
+        .thenReturn(
+            "{\"id\":\"cancelled\",\"operation\":\"MERGE\",\"inputFiles\":[],\"options\":{},\"status\":\"CANCELLED\",\"progress\":10}");
+    when(hashOperations.get("pdf:jobs:progress", "active")).thenReturn(40);
+    when(hashOperations.get("pdf:jobs:progress", "cancelled")).thenReturn(40);
+
+    // When
+    Job active = repository.findById("active").orElseThrow();
+    Job cancelled = repository.findById("cancelled").orElseThrow();
+
+    // Then
+    assertEquals(40, active.getProgress());
+    assertEquals(10, cancelled.getProgress());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSaveProgressWithOneScriptWithoutRewritingJobs() {
+    // When
+    repository.saveProgress(Map.of("job-1", 40));
+
+    // Then: o script só grava o progresso se a chave do job ainda existir
+    verify(redisTemplate)
+        .execute(
+            any(RedisScript.class),
+            any(RedisSerializer.class),
+            any(RedisSerializer.class),
+            eq(List.of("pdf:jobs:progress", "pdf:job:job-1")),
+            eq("job-1"),
+            eq("40"));
+    verify(redisTemplate, never()).opsForValue();
+  }
+
   @Test
   void shouldReturnEmptyWhenJobNotFound() {
     // Given
@@ -107,6 +158,30 @@ class RedisJobRepositoryTest {
     assertEquals(2, jobs.size());
   }
 
+  @Test
+  void shouldPageRecentJobsWithOneRangeAndOneMget() {
+    // Given
+    when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    Set<Object> page = new LinkedHashSet<>(List.of("job-2", "job-1"));
+    when(zSetOperations.reverseRange("pdf:jobs:by-created", 10, 11)).thenReturn(page);
+    String job1Json =
+        "{\"id\":\"job-1\",\"operation\":\"MERGE\",\"inputFiles\":[],\"options\":{},\"status\":\"PENDING\",\"createdAt\":\"2023-01-01T10:00:00\"}";
+    String job2Json =
+        "{\"id\":\"job-2\",\"operation\":\"SPLIT\",\"inputFiles\":[],\"options\":{},\"status\":\"PENDING\",\"createdAt\":\"2023-01-01T11:00:00\"}";
+    when(valueOperations.multiGet(List.of("pdf:job:job-2", "pdf:job:job-1")))
+        .thenReturn(List.of(job2Json, job1Json));
+    when(hashOperations.multiGet("pdf:jobs:progress", page)).thenReturn(Arrays.asList(30, null));
+
+    // When
+    List<Job> jobs = repository.findRecent(10, 2);
+
+    // Then
+    assertEquals(List.of("job-2", "job-1"), jobs.stream().map(Job::getId).toList());
+    assertEquals(List.of(30, 0), jobs.stream().map(Job::getProgress).toList());
+    verify(setOperations, never()).members(anyString());
+  }
+
   @Test
   void shouldReturnEmptyListWhenNoJobsExist() {
     // Given
@@ -0,0 +1,208 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.infrastructure.config.ObjectStorageProperties;
+import com.pdfprocessor.infrastructure.config.StorageProperties;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/** Testes unitários para S3StorageService, com o cliente S3 simulado. */
+class S3StorageServiceTest {
+
+  private static final int PART_SIZE = 5 * 1024 * 1024;
+
+  private S3Client s3Client;
+  private S3StorageService storageService;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    s3Client = mock(S3Client.class);
+    StorageProperties storageProperties = new StorageProperties();
+    storageProperties.setBasePath(tempDir.toString());
+    ObjectStorageProperties objectStorageProperties = new ObjectStorageProperties();
+    objectStorageProperties.setBucket("test-bucket");
+    objectStorageProperties.setPartSizeMb(5);
+    objectStorageProperties.setParallelism(3);
+    storageService =
+        new S3StorageService(
+            s3Client,
+            storageProperties,
+            objectStorageProperties,
+            new LocalFileCache(storageProperties, objectStorageProperties));
+  }
+
+  @AfterEach
+  void tearDown() {
+    storageService.shutdown();
+  }
+
+  @Test
+  void shouldStoreSmallFileWithSinglePut() {
+    // When
+    String storedPath =
+        storageService.store("job-1", "small.pdf", new ByteArrayInputStream("%PDF-1.4".getBytes()));
+
+    // Then
+    assertEquals("./storage/job-1/small.pdf", storedPath);
+    ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+    verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+    assertEquals("test-bucket", request.getValue().bucket());
+    assertEquals("job-1/small.pdf", request.getValue().key());
+    verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+  }
+
+  @Test
+  void shouldStoreLargeStreamWithMultipartUpload() {
+    // Given - 2 partes cheias e uma parcial
+    byte[] content = randomBytes(2 * PART_SIZE + 1024);
+    stubMultipartUpload();
+
+    // When
+    storageService.store("job-1", "large.pdf", new ByteArrayInputStream(content));
+
+    // Then
+    verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+    ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+        ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    List<CompletedPart> parts = complete.getValue().multipartUpload().parts();
+    assertEquals(List.of(1, 2, 3), parts.stream().map(CompletedPart::partNumber).toList());
+    assertEquals("etag-3", parts.get(2).eTag());
+  }
+
+  @Test
+  void shouldAbortMultipartUploadWhenPartFails() {
+    // Given
+    byte[] content = randomBytes(PART_SIZE + 1);
+    stubMultipartUpload();
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenThrow(S3Exception.builder().message("boom").statusCode(500).build());
+
+    // When & Then
+    assertThrows(
+        RuntimeException.class,
+        () -> storageService.store("job-1", "large.pdf", new ByteArrayInputStream(content)));
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  void shouldDownloadLargeObjectWithParallelRangeRequests() throws IOException {
+    // Given
+    byte[] content = randomBytes(2 * PART_SIZE + 4096);
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(HeadObjectResponse.builder().contentLength((long) content.length).build());
+    when(s3Client.getObject(any(GetObjectRequest.class)))
+        .thenAnswer(invocation -> rangeResponse(content, invocation.getArgument(0)));
+
+    // When
+    Path physicalPath = storageService.getPhysicalPath("./storage/job-1/input.pdf");
+
+    // Then
+    assertTrue(physicalPath.startsWith(tempDir.resolve(".cache")));
+    assertTrue(physicalPath.toString().endsWith(".pdf"));
+    assertArrayEquals(content, Files.readAllBytes(physicalPath));
+    verify(s3Client, times(3)).getObject(any(GetObjectRequest.class));
+  }
+
+  @Test
+  void shouldServeSameContentFromCacheForAnotherJob() throws IOException {
+    // Given - mesmo conteúdo (mesmo ETag) em dois jobs
+    byte[] content = "%PDF-1.4 shared".getBytes();
+    when(s3Client.headObject(any(HeadObjectRequest.class)))
+        .thenReturn(
+            HeadObjectResponse.builder()
+                .contentLength((long) content.length)
+                .eTag("\"abc123\"")
+                .build());
+    when(s3Client.getObject(any(GetObjectRequest.class)))
+        .thenAnswer(invocation -> rangeResponse(content, invocation.getArgument(0)));
+
+    // When
+    Path first = storageService.getPhysicalPath("./storage/job-1/input.pdf");
+    Path second = storageService.getPhysicalPath("./storage/job-2/input.pdf");
+
+    // Then
+    assertEquals(first, second);
+    verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+  }
+
+  @Test
+  void shouldPublishLocalResultUnderJobPrefix() throws IOException {
+    // Given
+    Path resultFile = tempDir.resolve("job-1").resolve("result_job-1.pdf");
+    Files.createDirectories(resultFile.getParent());
+    Files.writeString(resultFile, "%PDF-1.4 result");
+
+    // When
+    String published = storageService.publishResult(resultFile.toString());
+
+    // Then
+    assertEquals("./storage/job-1/result_job-1.pdf", published);
+    ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+    verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+    assertEquals("job-1/result_job-1.pdf", request.getValue().key());
+  }
+
+  private void stubMultipartUpload() {
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+        .thenAnswer(
+            invocation -> {
+              UploadPartRequest request = invocation.getArgument(0);
+              return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+            });
+  }
+
+  private ResponseInputStream<GetObjectResponse> rangeResponse(
+      byte[] content, GetObjectRequest request) {
+    byte[] body = content;
+    if (request.range() != null) {
+      String[] bounds = request.range().substring("bytes=".length()).split("-");
+      body =
+          Arrays.copyOfRange(content, Integer.parseInt(bounds[0]), Integer.parseInt(bounds[1]) + 1);
+    }
+    return new ResponseInputStream<>(
+        GetObjectResponse.builder().contentLength((long) body.length).build(),
+        AbortableInputStream.create(new ByteArrayInputStream(body)));
+  }
+
+  private byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+}
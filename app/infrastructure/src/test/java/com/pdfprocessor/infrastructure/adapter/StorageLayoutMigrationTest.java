@@ -0,0 +1,69 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pdfprocessor.domain.port.StorageService.JobArea;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para StorageLayoutMigration. */
+class StorageLayoutMigrationTest {
+
+  private StorageLayout layout;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    layout = new StorageLayout(tempDir);
+    Path legacyJob = tempDir.resolve("job-1");
+    Files.createDirectories(legacyJob.resolve("split"));
+    Files.writeString(legacyJob.resolve("input.pdf"), "%PDF input");
+    Files.writeString(legacyJob.resolve("split").resolve("page_1.pdf"), "%PDF page");
+    Files.createDirectories(tempDir.resolve(".blobs").resolve("ab"));
+    Files.createDirectories(layout.blobRefsRoot());
+    Files.writeString(layout.legacyBlobRefs("job-1"), "input.pdf=abc\n");
+  }
+
+  @Test
+  void shouldMoveLegacyJobIntoShardedInputs() throws IOException {
+    // When
+    StorageLayoutMigration.Result result = new StorageLayoutMigration(layout, false).migrate();
+
+    // Then
+    assertEquals(1, result.getMigratedJobs());
+    assertEquals(2, result.getMovedEntries());
+    assertEquals(0, result.getConflicts());
+    assertFalse(Files.exists(tempDir.resolve("job-1")));
+    assertTrue(Files.exists(tempDir.resolve(".blobs").resolve("ab")));
+    assertEquals("%PDF input", Files.readString(layout.resolve("job-1/input.pdf")));
+    assertEquals(
+        "%PDF page",
+        Files.readString(layout.area("job-1", JobArea.INPUTS).resolve("split/page_1.pdf")));
+    assertEquals(1, result.getMovedRefs());
+    assertFalse(Files.exists(layout.legacyBlobRefs("job-1")));
+    assertEquals("input.pdf=abc\n", Files.readString(layout.blobRefs("job-1")));
+
+    // When - reexecutar não encontra mais nada
+    StorageLayoutMigration.Result again = new StorageLayoutMigration(layout, false).migrate();
+    assertEquals(0, again.getMigratedJobs());
+    assertEquals(0, again.getMovedRefs());
+  }
+
+  @Test
+  void shouldNotTouchFilesInDryRun() throws IOException {
+    // When
+    StorageLayoutMigration.Result result = new StorageLayoutMigration(layout, true).migrate();
+
+    // Then
+    assertEquals(2, result.getMovedEntries());
+    assertEquals(1, result.getMovedRefs());
+    assertTrue(Files.exists(tempDir.resolve("job-1").resolve("input.pdf")));
+    assertTrue(Files.exists(layout.legacyBlobRefs("job-1")));
+    assertFalse(Files.exists(layout.jobDirectory("job-1")));
+  }
+}
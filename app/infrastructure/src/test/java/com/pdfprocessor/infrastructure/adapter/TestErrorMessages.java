@@ -11,7 +11,7 @@ import java.util.Map;
 public class TestErrorMessages {
   public static void main(String[] args) {
     StorageService storageService = mock(StorageService.class);
-    PdfProcessingServiceImpl service = new PdfProcessingServiceImpl(storageService);
+    PdfProcessingServiceImpl service = OperationHandlerFixtures.processingService(storageService);
 
     // Test 1: Missing text for add_text
     Job job1 =
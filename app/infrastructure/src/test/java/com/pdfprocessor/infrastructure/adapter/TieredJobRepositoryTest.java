@@ -0,0 +1,172 @@
+package com.pdfprocessor.infrastructure.adapter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.model.JobStatus;
+import com.pdfprocessor.infrastructure.config.JobArchiveProperties;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+/** Testes unitários para TieredJobRepository. */
+class TieredJobRepositoryTest {
+
+  private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private final Map<String, Job> redisJobs = new LinkedHashMap<>();
+
+  private RedisJobRepository hotRepository;
+  private MvStoreJobRepository archiveRepository;
+  private JobArchiveProperties properties;
+  private TieredJobRepository repository;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    properties = mock(JobArchiveProperties.class);
+    when(properties.getPath()).thenReturn(tempDir.resolve("archive.mv.db").toString());
+    when(properties.getCacheSizeMb()).thenReturn(1);
+    when(properties.getSweepIntervalSeconds()).thenReturn(3600);
+    archiveRepository = spy(new MvStoreJobRepository(properties));
+
+    // Redis simulado por um mapa
+    hotRepository = mock(RedisJobRepository.class);
+    when(hotRepository.findAllJobs()).thenAnswer(invocation -> new ArrayList<>(redisJobs.values()));
+    when(hotRepository.countByCreated()).thenAnswer(invocation -> (long) redisJobs.size());
+    when(hotRepository.findRecent(anyLong(), anyInt()))
+        .thenAnswer(
+            invocation ->
+                redisJobs.values().stream()
+                    .sorted(Comparator.comparing(Job::getCreatedAt).reversed())
+                    .skip(invocation.<Long>getArgument(0))
+                    .limit(invocation.<Integer>getArgument(1))
+                    .toList());
+    doAnswer(invocation -> redisJobs.remove(invocation.<String>getArgument(0)))
+        .when(hotRepository)
+        .deleteById(anyString());
+    when(hotRepository.claim(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+    repository = new TieredJobRepository(hotRepository, archiveRepository, properties);
+    repository.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.stop();
+    archiveRepository.close();
+  }
+
+  @Test
+  void shouldArchiveFinishedJobsOnSweep() {
+    // Given: jobs finalizados pelo worker, que grava direto no Redis
+    redisJobs.put("job-1", job("job-1", JobStatus.COMPLETED, 0));
+    redisJobs.put("job-2", job("job-2", JobStatus.PROCESSING, 1));
+    redisJobs.put("job-3", job("job-3", JobStatus.FAILED, 2));
+
+    // When
+    int archived = repository.sweep();
+
+    // Then
+    assertEquals(2, archived);
+    assertEquals(List.of("job-2"), List.copyOf(redisJobs.keySet()));
+    assertTrue(archiveRepository.existsById("job-1"));
+    assertTrue(archiveRepository.existsById("job-3"));
+    verify(hotRepository).indexByCreated(List.of(redisJobs.get("job-2")));
+  }
+
+  @Test
+  void shouldCommitArchiveBeforeRemovingJobsFromRedis() {
+    // Given
+    redisJobs.put("job-1", job("job-1", JobStatus.COMPLETED, 0));
+
+    // When
+    repository.sweep();
+
+    // Then
+    InOrder order = inOrder(archiveRepository, hotRepository);
+    order.verify(archiveRepository).save(any(Job.class));
+    order.verify(archiveRepository).commit();
+    order.verify(hotRepository).deleteById("job-1");
+  }
+
+  @Test
+  void shouldNotSweepWhenAnotherInstanceOwnsTheArchive() {
+    // Given
+    redisJobs.put("job-1", job("job-1", JobStatus.COMPLETED, 0));
+    when(hotRepository.claim(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+    // When
+    int archived = repository.sweep();
+
+    // Then
+    assertEquals(0, archived);
+    assertTrue(redisJobs.containsKey("job-1"));
+    assertFalse(archiveRepository.existsById("job-1"));
+  }
+
+  @Test
+  void shouldPageRedisThenArchiveWithoutWritingOnRead() {
+    // Given: dois jobs ativos e um finalizado ainda no Redis, e dois já no arquivo
+    archiveRepository.save(job("old-1", JobStatus.COMPLETED, 0));
+    archiveRepository.save(job("old-2", JobStatus.COMPLETED, 1));
+    redisJobs.put("done-1", job("done-1", JobStatus.COMPLETED, 10));
+    redisJobs.put("active-1", job("active-1", JobStatus.PROCESSING, 11));
+    redisJobs.put("active-2", job("active-2", JobStatus.PENDING, 13));
+
+    // When
+    List<String> ids = new ArrayList<>();
+    for (int page = 0; page < 4; page++) {
+      repository.findAll(page, 2).forEach(job -> ids.add(job.getId()));
+    }
+
+    // Then: cada job aparece uma única vez, o Redis primeiro, e nada é arquivado na leitura
+    assertEquals(List.of("active-2", "active-1", "done-1", "old-2", "old-1"), ids);
+    verify(hotRepository, never()).findAllJobs();
+    verify(hotRepository, never()).deleteById(anyString());
+  }
+
+  @Test
+  void shouldFailToStartWhenAnotherInstanceOwnsTheArchive() {
+    // Given
+    when(hotRepository.claim(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+    TieredJobRepository second =
+        new TieredJobRepository(hotRepository, archiveRepository, properties);
+
+    // When & Then
+    IllegalStateException exception = assertThrows(IllegalStateException.class, second::start);
+    assertTrue(exception.getMessage().contains("single API replica"));
+  }
+
+  private Job job(String id, JobStatus status, int minutesAfterBase) {
+    return new Job(
+        id,
+        JobOperation.MERGE,
+        List.of("input.pdf"),
+        Map.of(),
+        BASE_TIME.plusMinutes(minutesAfterBase),
+        status,
+        null,
+        null,
+        0,
+        null,
+        null);
+  }
+}
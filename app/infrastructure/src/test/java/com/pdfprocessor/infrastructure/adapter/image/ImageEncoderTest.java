@@ -0,0 +1,139 @@
+package com.pdfprocessor.infrastructure.adapter.image;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder.EncodingSettings;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Adler32;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para ImageEncoder. */
+class ImageEncoderTest {
+
+  @TempDir Path tempDir;
+
+  private ImageEncoder imageEncoder;
+
+  @BeforeEach
+  void setUp() {
+    ProcessingProperties properties = new ProcessingProperties();
+    properties.setEncoderThreads(3);
+    imageEncoder = new ImageEncoder(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageEncoder.shutdown();
+  }
+
+  @Test
+  void shouldEncodeLargePngInParallelBandsWithEveryFilter() throws IOException {
+    // Given - 3,6 MB de pixels, dividido em várias faixas
+    BufferedImage image = sampleImage(1000, 1200, BufferedImage.TYPE_INT_RGB);
+
+    for (PngFilter filter : PngFilter.values()) {
+      // When
+      Path target = tempDir.resolve("image_" + filter + ".png");
+      imageEncoder.write(image, "PNG", target, new EncodingSettings(4, filter, 0.85f, "420"));
+
+      // Then
+      assertSamePixels(image, ImageIO.read(target.toFile()));
+    }
+  }
+
+  @Test
+  void shouldEncodeGrayAndTranslucentPng() throws IOException {
+    // Given
+    Map<String, Object> options = Map.of("png_compression", "9", "png_filter", "paeth");
+
+    for (int type : new int[] {BufferedImage.TYPE_BYTE_GRAY, BufferedImage.TYPE_INT_ARGB}) {
+      BufferedImage image = sampleImage(97, 61, type);
+      Path target = tempDir.resolve("image_" + type + ".png");
+
+      // When
+      imageEncoder.write(image, "png", target, imageEncoder.settings(options));
+
+      // Then
+      assertSamePixels(image, ImageIO.read(target.toFile()));
+    }
+  }
+
+  @Test
+  void shouldApplyJpegQualityAndChromaSubsampling() throws IOException {
+    // Given
+    BufferedImage image = sampleImage(320, 240, BufferedImage.TYPE_INT_RGB);
+    Path low = tempDir.resolve("low.jpg");
+    Path high = tempDir.resolve("high.jpg");
+
+    // When
+    imageEncoder.write(image, "JPG", low, new EncodingSettings(4, PngFilter.UP, 0.3f, "420"));
+    imageEncoder.write(image, "JPG", high, new EncodingSettings(4, PngFilter.UP, 0.95f, "444"));
+
+    // Then
+    assertTrue(Files.size(low) < Files.size(high));
+    assertEquals(320, ImageIO.read(high.toFile()).getWidth());
+  }
+
+  @Test
+  void shouldCombineAdler32LikeASingleChecksum() {
+    // Given
+    byte[] data = new byte[100_000];
+    new Random(7).nextBytes(data);
+    Adler32 whole = new Adler32();
+    whole.update(data);
+    Adler32 first = new Adler32();
+    first.update(data, 0, 40_000);
+    Adler32 second = new Adler32();
+    second.update(data, 40_000, 60_000);
+
+    // When & Then
+    assertEquals(
+        whole.getValue(),
+        PngEncoder.combineAdler32(first.getValue(), second.getValue(), 60_000));
+  }
+
+  @Test
+  void shouldValidateEncodingOptions() {
+    assertTrue(ImageEncoder.validateOptions(Map.of("png_filter", "adaptive", "jpeg_quality", 1)));
+    assertFalse(ImageEncoder.validateOptions(Map.of("png_compression", "12")));
+    assertFalse(ImageEncoder.validateOptions(Map.of("png_filter", "zigzag")));
+    assertFalse(ImageEncoder.validateOptions(Map.of("jpeg_chroma_subsampling", "411")));
+  }
+
+  private static BufferedImage sampleImage(int width, int height, int type) {
+    BufferedImage image = new BufferedImage(width, height, type);
+    Random random = new Random(42);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int noise = random.nextInt(16);
+        int argb =
+            ((x * 7 + y) & 0xff) << 24
+                | ((x + noise) & 0xff) << 16
+                | ((y + noise) & 0xff) << 8
+                | ((x ^ y) & 0xff);
+        image.setRGB(x, y, argb);
+      }
+    }
+    return image;
+  }
+
+  private static void assertSamePixels(BufferedImage expected, BufferedImage actual) {
+    assertEquals(expected.getWidth(), actual.getWidth());
+    assertEquals(expected.getHeight(), actual.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), "pixel " + x + "," + y);
+      }
+    }
+  }
+}
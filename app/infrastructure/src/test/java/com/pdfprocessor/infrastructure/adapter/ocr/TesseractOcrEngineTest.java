@@ -0,0 +1,128 @@
+package com.pdfprocessor.infrastructure.adapter.ocr;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do TesseractOcrEngine contra a biblioteca nativa. São ignorados quando o tessdata do
+ * inglês ou a biblioteca do Tesseract não estão instalados na máquina.
+ */
+class TesseractOcrEngineTest {
+
+  private TesseractOcrEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    Path tessdata = findTessdata();
+    assumeTrue(tessdata != null, "tessdata with eng.traineddata not found");
+
+    ProcessingProperties properties = new ProcessingProperties();
+    properties.setOcrDataPath(tessdata.toString());
+    properties.setOcrThreads(1);
+    engine = new TesseractOcrEngine(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (engine != null) {
+      engine.shutdown();
+    }
+  }
+
+  @Test
+  void shouldRecognizeRenderedText() {
+    // Given: uma página com uma linha de texto em 300 DPI
+    BufferedImage page = renderText("HELLO OCR WORLD");
+
+    // When
+    List<OcrWord> words = recognize(page);
+
+    // Then
+    List<String> texts =
+        words.stream().map(word -> word.getText().toUpperCase(Locale.ROOT)).toList();
+    assertTrue(texts.contains("HELLO"), "Recognized: " + texts);
+    assertTrue(texts.contains("WORLD"), "Recognized: " + texts);
+    assertTrue(words.get(0).isLineStart());
+    assertTrue(words.stream().allMatch(word -> !word.getBounds().isEmpty()));
+  }
+
+  @Test
+  void shouldReuseInstanceAcrossPages() {
+    // Given
+    BufferedImage first = renderText("FIRST PAGE");
+    BufferedImage second = renderText("SECOND PAGE");
+
+    // When
+    List<OcrWord> firstWords = recognize(first);
+    List<OcrWord> secondWords = recognize(second);
+
+    // Then: a mesma instância reconhece as duas páginas sem resquícios da anterior
+    assertTrue(firstWords.stream().anyMatch(word -> word.getText().equalsIgnoreCase("FIRST")));
+    assertTrue(secondWords.stream().anyMatch(word -> word.getText().equalsIgnoreCase("SECOND")));
+    assertTrue(secondWords.stream().noneMatch(word -> word.getText().equalsIgnoreCase("FIRST")));
+  }
+
+  private List<OcrWord> recognize(BufferedImage page) {
+    try {
+      return engine.recognize(page, "eng", 300).join();
+    } catch (CompletionException e) {
+      assumeFalse(
+          e.getCause() instanceof IllegalStateException, "Tesseract native library not found");
+      throw e;
+    }
+  }
+
+  private static BufferedImage renderText(String text) {
+    BufferedImage image = new BufferedImage(1600, 300, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+      graphics.setColor(Color.BLACK);
+      graphics.setRenderingHint(
+          RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      graphics.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 96));
+      graphics.drawString(text, 60, 180);
+    } finally {
+      graphics.dispose();
+    }
+    return image;
+  }
+
+  private static Path findTessdata() {
+    String prefix = System.getenv("TESSDATA_PREFIX");
+    Stream<Path> fromEnv =
+        prefix == null || prefix.isBlank()
+            ? Stream.empty()
+            : Stream.of(Path.of(prefix), Path.of(prefix, "tessdata"));
+    Stream<Path> common =
+        Stream.of(
+            "/usr/share/tesseract-ocr/5/tessdata",
+            "/usr/share/tesseract-ocr/4.00/tessdata",
+            "/usr/share/tessdata",
+            "/usr/local/share/tessdata",
+            "/opt/homebrew/share/tessdata")
+            .map(Path::of);
+    return Stream.concat(fromEnv, common)
+        .filter(dir -> Files.isRegularFile(dir.resolve("eng.traineddata")))
+        .findFirst()
+        .orElse(null);
+  }
+}
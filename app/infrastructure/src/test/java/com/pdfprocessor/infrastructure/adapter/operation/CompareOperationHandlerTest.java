@@ -0,0 +1,240 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.color.PDColor;
+import org.apache.pdfbox.pdmodel.graphics.color.PDDeviceRGB;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationSquare;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para CompareOperationHandler. */
+class CompareOperationHandlerTest {
+
+  private static final int PAGES = 30;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private ImageEncoder imageEncoder;
+  private CompareOperationHandler handler;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    ProcessingProperties properties = new ProcessingProperties();
+    executors = new OperationExecutors(properties);
+    imageEncoder = new ImageEncoder(properties);
+    handler = new CompareOperationHandler(storageService, executors, imageEncoder);
+
+    write("original.pdf", PAGES, Map.of(), "Original");
+    Files.copy(tempDir.resolve("original.pdf"), tempDir.resolve("copy.pdf"));
+    // Mesmo conteúdo, salvo de novo com outro autor: arquivos diferentes, páginas iguais
+    write("resaved.pdf", PAGES, Map.of(), "Someone else");
+    // Texto diferente na página 7, um retângulo deslocado na 12 e uma página a mais
+    write("changed.pdf", PAGES + 1, Map.of(7, "Changed text", 12, "shift"), "Original");
+  }
+
+  @AfterEach
+  void tearDown() {
+    imageEncoder.shutdown();
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldStopAtFileHashForIdenticalFiles() throws IOException {
+    // When
+    JsonNode report = compare("original.pdf", "copy.pdf", Map.of());
+
+    // Then
+    assertTrue(report.get("identical").asBoolean());
+    assertEquals("file_hash", report.get("deepest_tier").asText());
+    assertEquals(0, report.get("pages").size());
+  }
+
+  @Test
+  void shouldSettleEqualPagesByHash() throws IOException {
+    // When
+    JsonNode report = compare("original.pdf", "resaved.pdf", Map.of());
+
+    // Then
+    assertTrue(report.get("identical").asBoolean());
+    assertEquals("page_hash", report.get("deepest_tier").asText());
+    assertEquals(PAGES, report.get("file2").get("pages").asInt());
+  }
+
+  @Test
+  void shouldReportMetadataDifferencesWhenRequested() throws IOException {
+    // When
+    JsonNode report = compare("original.pdf", "resaved.pdf", Map.of("compare_metadata", true));
+
+    // Then
+    assertFalse(report.get("identical").asBoolean());
+    JsonNode author = report.get("metadata").get("differences").get("Author");
+    assertEquals("Original", author.get(0).asText());
+    assertEquals("Someone else", author.get(1).asText());
+  }
+
+  @Test
+  void shouldReportTextChangesAndAddedPages() throws IOException {
+    // When
+    JsonNode report = compare("original.pdf", "changed.pdf", Map.of("detailed_diff", true));
+
+    // Then
+    assertFalse(report.get("identical").asBoolean());
+    assertEquals("text", report.get("deepest_tier").asText());
+    JsonNode pages = report.get("pages");
+    assertEquals(2, pages.size());
+    assertEquals(7, pages.get(0).get("page").asInt());
+    assertEquals("text_changed", pages.get(0).get("status").asText());
+    assertTrue(pages.get(0).has("file2_length"));
+    assertEquals(PAGES + 1, pages.get(1).get("page").asInt());
+    assertEquals("added", pages.get(1).get("status").asText());
+  }
+
+  @Test
+  void shouldHighlightVisualDifferences() throws IOException {
+    // When
+    JsonNode report = compare("original.pdf", "changed.pdf", Map.of("mode", "visual"));
+
+    // Then
+    assertEquals("visual", report.get("deepest_tier").asText());
+    JsonNode pages = report.get("pages");
+    assertEquals(3, pages.size());
+    assertEquals(12, pages.get(1).get("page").asInt());
+    assertEquals("visual_changed", pages.get(1).get("status").asText());
+    double ratio = pages.get(1).get("diff_ratio").asDouble();
+    assertTrue(ratio > 0 && ratio < 0.2, "diff ratio " + ratio);
+    assertTrue(Files.exists(resultDir.resolve(pages.get(1).get("diff_image").asText())));
+  }
+
+  @Test
+  void shouldReturnReportAndDiffImagesTogetherInVisualMode() throws IOException {
+    // When
+    Job job =
+        new Job(
+            "job-1",
+            JobOperation.PDF_COMPARE,
+            List.of("original.pdf", "changed.pdf"),
+            Map.of("mode", "visual"));
+    Path result = Path.of(handler.process(job));
+
+    // Then
+    assertEquals(resultDir, result);
+    assertTrue(Files.exists(result.resolve("comparison_report.json")));
+    assertTrue(Files.exists(result.resolve("page_012_diff.png")));
+  }
+
+  @Test
+  void shouldDetectPagesThatDifferOnlyInAnnotations() throws IOException {
+    // Given: a mesma página 5 com um carimbo (anotação com aparência própria)
+    try (PDDocument document = Loader.loadPDF(tempDir.resolve("original.pdf").toFile())) {
+      PDAnnotationSquare stamp = new PDAnnotationSquare();
+      stamp.setRectangle(new PDRectangle(100, 150, 120, 80));
+      stamp.setColor(new PDColor(new float[] {1, 0, 0}, PDDeviceRGB.INSTANCE));
+      stamp.constructAppearances(document);
+      document.getPage(4).getAnnotations().add(stamp);
+      document.save(tempDir.resolve("stamped.pdf").toFile());
+    }
+
+    // When
+    JsonNode report = compare("original.pdf", "stamped.pdf", Map.of("mode", "visual"));
+
+    // Then
+    assertFalse(report.get("identical").asBoolean());
+    JsonNode pages = report.get("pages");
+    assertEquals(1, pages.size());
+    assertEquals(5, pages.get(0).get("page").asInt());
+    assertEquals("visual_changed", pages.get(0).get("status").asText());
+  }
+
+  @Test
+  void shouldStopAtFirstDifference() throws IOException {
+    // When
+    JsonNode report =
+        compare("original.pdf", "changed.pdf", Map.of("stop_at_first_difference", true));
+
+    // Then
+    assertTrue(report.get("stopped_early").asBoolean());
+    assertEquals(7, report.get("pages_compared").asInt());
+    assertEquals(1, report.get("pages").size());
+  }
+
+  @Test
+  void shouldValidateCompareOptions() {
+    assertTrue(handler.validateOptions(Map.of("mode", "visual", "dpi", 72)));
+    assertTrue(handler.validateOptions(Map.of("stop_at_first_difference", true)));
+    assertFalse(handler.validateOptions(Map.of("mode", "pixels")));
+    assertFalse(handler.validateOptions(Map.of("dpi", 1000)));
+    assertFalse(handler.validateOptions(Map.of("stop_at_first_difference", "yes")));
+  }
+
+  private JsonNode compare(String file1, String file2, Map<String, Object> options)
+      throws IOException {
+    Job job = new Job("job-1", JobOperation.PDF_COMPARE, List.of(file1, file2), options);
+    Path result = Path.of(handler.process(job));
+    // No modo visual o resultado é o diretório com o relatório e as imagens
+    Path report = Files.isDirectory(result) ? result.resolve("comparison_report.json") : result;
+    return objectMapper.readTree(report.toFile());
+  }
+
+  /**
+   * Documento com um texto e um retângulo por página.
+   *
+   * @param changes texto alternativo por página; "shift" desloca o retângulo
+   */
+  private void write(String name, int pages, Map<Integer, String> changes, String author)
+      throws IOException {
+    try (PDDocument document = new PDDocument()) {
+      document.getDocumentInformation().setAuthor(author);
+      PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (int i = 1; i <= pages; i++) {
+        PDPage page = new PDPage(PDRectangle.A6);
+        document.addPage(page);
+        String change = changes.getOrDefault(i, "");
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.addRect("shift".equals(change) ? 80 : 20, 250, 60, 60);
+          content.fill();
+          content.beginText();
+          content.setFont(font, 12);
+          content.newLineAtOffset(20, 100);
+          content.showText(change.isEmpty() || "shift".equals(change) ? "Page " + i : change);
+          content.endText();
+        }
+      }
+      document.save(tempDir.resolve(name).toFile());
+    }
+  }
+}
@@ -0,0 +1,365 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSInteger;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.color.PDIndexed;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para CompressOperationHandler. */
+class CompressOperationHandlerTest {
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private ImageEncoder imageEncoder;
+  private CompressOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    ProcessingProperties properties = new ProcessingProperties();
+    executors = new OperationExecutors(properties);
+    imageEncoder = new ImageEncoder(properties);
+    handler = new CompressOperationHandler(storageService, executors, imageEncoder);
+
+    // Página 1: foto de 1200x1200 desenhada em 2 polegadas (600 DPI), sem perdas;
+    // página 2: JPEG pequeno a 72 DPI e uma imagem de 1 bit, que devem ficar intactos
+    try (PDDocument document = new PDDocument()) {
+      PDPage photoPage = new PDPage(PDRectangle.A4);
+      document.addPage(photoPage);
+      PDImageXObject photo = LosslessFactory.createFromImage(document, photo(1200, 1200));
+      try (PDPageContentStream content = new PDPageContentStream(document, photoPage)) {
+        content.drawImage(photo, 72, 72, 144, 144);
+      }
+
+      PDPage otherPage = new PDPage(PDRectangle.A4);
+      document.addPage(otherPage);
+      PDImageXObject thumbnail = JPEGFactory.createFromImage(document, photo(72, 72), 0.9f);
+      PDImageXObject bilevel =
+          LosslessFactory.createFromImage(
+              document, new BufferedImage(600, 600, BufferedImage.TYPE_BYTE_BINARY));
+      try (PDPageContentStream content = new PDPageContentStream(document, otherPage)) {
+        content.drawImage(thumbnail, 72, 400, 72, 72);
+        content.drawImage(bilevel, 72, 72, 72, 72);
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+    imageEncoder.shutdown();
+  }
+
+  @Test
+  void shouldDownsampleImagesAboveTargetDpi() throws IOException {
+    // Given
+    Job job =
+        new Job("job-1", JobOperation.COMPRESS, List.of("input.pdf"), Map.of("quality", "low"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    File input = tempDir.resolve("input.pdf").toFile();
+    assertTrue(new File(result).length() < input.length() / 4);
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      PDImageXObject photo = firstImage(document, 0);
+      assertEquals("jpg", photo.getSuffix());
+      // 96 DPI em 2 polegadas
+      assertEquals(192, photo.getWidth());
+      assertEquals(192, photo.getHeight());
+      assertNotNull(photo.getImage());
+    }
+  }
+
+  @Test
+  void shouldKeepImagesThatWouldNotShrinkByteForByte() throws IOException {
+    // Given
+    Job job =
+        new Job("job-2", JobOperation.COMPRESS, List.of("input.pdf"), Map.of("quality", "high"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    try (PDDocument original = Loader.loadPDF(tempDir.resolve("input.pdf").toFile());
+        PDDocument compressed = Loader.loadPDF(new File(result))) {
+      for (int index = 0; index < 2; index++) {
+        assertArrayEquals(
+            rawBytes(imageAt(original, 1, index)), rawBytes(imageAt(compressed, 1, index)));
+      }
+    }
+  }
+
+  @Test
+  void shouldConvertToGrayscaleWhenRequested() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-3",
+            JobOperation.COMPRESS,
+            List.of("input.pdf"),
+            Map.of("quality", "medium", "grayscale", true));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      PDImageXObject photo = firstImage(document, 0);
+      assertEquals(COSName.DEVICEGRAY, photo.getCOSObject().getItem(COSName.COLORSPACE));
+      assertEquals(300, photo.getWidth());
+    }
+  }
+
+  @Test
+  void shouldKeepColorsOfIndexedImages() throws IOException {
+    // Given: imagem com paleta de cores (um componente por pixel) desenhada a 600 DPI
+    int size = 1200;
+    byte[] lookup = new byte[256 * 3];
+    for (int i = 0; i < 256; i++) {
+      lookup[i * 3] = (byte) 255;
+      lookup[i * 3 + 1] = (byte) (i / 4);
+      lookup[i * 3 + 2] = (byte) (i / 8);
+    }
+    COSArray indexed = new COSArray();
+    indexed.add(COSName.INDEXED);
+    indexed.add(COSName.DEVICERGB);
+    indexed.add(COSInteger.get(255));
+    indexed.add(new COSString(lookup));
+    byte[] pixels = new byte[size * size];
+    new Random(7).nextBytes(pixels);
+    ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+    try (DeflaterOutputStream out = new DeflaterOutputStream(deflated)) {
+      out.write(pixels);
+    }
+    try (PDDocument document = new PDDocument()) {
+      PDPage page = new PDPage(PDRectangle.A4);
+      document.addPage(page);
+      PDImageXObject logo =
+          new PDImageXObject(
+              document,
+              new ByteArrayInputStream(deflated.toByteArray()),
+              COSName.FLATE_DECODE,
+              size,
+              size,
+              8,
+              new PDIndexed(indexed));
+      try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+        content.drawImage(logo, 72, 72, 144, 144);
+      }
+      document.save(tempDir.resolve("indexed.pdf").toFile());
+    }
+    Job job =
+        new Job("job-5", JobOperation.COMPRESS, List.of("indexed.pdf"), Map.of("quality", "low"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then: reduzida, mas ainda vermelha, e não em tons de cinza
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      PDImageXObject logo = firstImage(document, 0);
+      assertEquals(192, logo.getWidth());
+      assertEquals(COSName.DEVICERGB, logo.getCOSObject().getItem(COSName.COLORSPACE));
+      int pixel = logo.getImage().getRGB(96, 96);
+      assertTrue(((pixel >> 16) & 0xff) > 200, "red channel of " + Integer.toHexString(pixel));
+      assertTrue(((pixel >> 8) & 0xff) < 120, "green channel of " + Integer.toHexString(pixel));
+    }
+  }
+
+  @Test
+  void shouldRecodeBlackAndWhiteScansAsCcittG4() throws IOException {
+    // Given: duas páginas de "texto" digitalizado em cor, com ruído leve, e a foto colorida
+    try (PDDocument document = new PDDocument()) {
+      for (int i = 0; i < 2; i++) {
+        PDPage page = new PDPage(PDRectangle.LETTER);
+        document.addPage(page);
+        PDImageXObject scan = LosslessFactory.createFromImage(document, scan(850, 1100, i));
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.drawImage(scan, 0, 0, 612, 792);
+        }
+      }
+      PDPage photoPage = new PDPage(PDRectangle.A4);
+      document.addPage(photoPage);
+      PDImageXObject photo = LosslessFactory.createFromImage(document, photo(300, 300));
+      try (PDPageContentStream content = new PDPageContentStream(document, photoPage)) {
+        content.drawImage(photo, 72, 72, 216, 216);
+      }
+      document.save(tempDir.resolve("scan.pdf").toFile());
+    }
+    Job job =
+        new Job(
+            "job-4",
+            JobOperation.COMPRESS,
+            List.of("scan.pdf"),
+            Map.of("quality", "high", "bilevel", "true"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    File input = tempDir.resolve("scan.pdf").toFile();
+    assertTrue(new File(result).length() < input.length() / 10);
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      for (int page = 0; page < 2; page++) {
+        PDImageXObject scan = firstImage(document, page);
+        assertEquals("tiff", scan.getSuffix());
+        assertEquals(1, scan.getBitsPerComponent());
+        BufferedImage decoded = scan.getImage();
+        assertEquals(850, decoded.getWidth());
+        assertEquals(0x000000, decoded.getRGB(100, 100 + page) & 0xffffff);
+        assertEquals(0xffffff, decoded.getRGB(5, 5) & 0xffffff);
+      }
+      assertNotEquals("tiff", firstImage(document, 2).getSuffix());
+    }
+  }
+
+  @Test
+  void shouldKeepScansWithColoredInk() throws IOException {
+    // Given: página de texto preto com uma assinatura em caneta azul (menos de 1% dos pixels)
+    BufferedImage signed = scan(850, 1100, 3);
+    for (int y = 900; y < 940; y++) {
+      for (int x = 500; x < 700; x++) {
+        signed.setRGB(x, y, (20 << 16) | (40 << 8) | 200);
+      }
+    }
+    try (PDDocument document = new PDDocument()) {
+      PDPage page = new PDPage(PDRectangle.LETTER);
+      document.addPage(page);
+      PDImageXObject scan = LosslessFactory.createFromImage(document, signed);
+      try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+        content.drawImage(scan, 0, 0, 612, 792);
+      }
+      document.save(tempDir.resolve("signed.pdf").toFile());
+    }
+    Job job =
+        new Job(
+            "job-6",
+            JobOperation.COMPRESS,
+            List.of("signed.pdf"),
+            Map.of("quality", "high", "bilevel", "true"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      PDImageXObject scan = firstImage(document, 0);
+      assertNotEquals("tiff", scan.getSuffix());
+      int ink = scan.getImage().getRGB(600, 920);
+      assertTrue((ink & 0xff) > ((ink >> 16) & 0xff) + 100, "blue ink became " + ink);
+    }
+  }
+
+  @Test
+  void shouldPickThresholdBetweenInkAndPaper() {
+    int[] histogram = new int[256];
+    histogram[20] = 100;
+    histogram[230] = 900;
+    int threshold = BilevelImages.otsuThreshold(histogram, 1000);
+    assertTrue(threshold >= 20 && threshold < 230);
+  }
+
+  @Test
+  void shouldValidateOptions() {
+    assertTrue(handler.validateOptions(Map.of("quality", "high", "target_dpi", "200")));
+    assertFalse(handler.validateOptions(Map.of("quality", "extreme")));
+    assertFalse(handler.validateOptions(Map.of("target_dpi", "0")));
+    assertFalse(handler.validateOptions(Map.of("jpeg_quality", "2")));
+  }
+
+  private static BufferedImage photo(int width, int height) {
+    // Gradiente com ruído: comprime mal sem perdas, como uma digitalização
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Random random = new Random(42);
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int red = (x * 255 / width + random.nextInt(32)) & 0xff;
+        int green = (y * 255 / height + random.nextInt(32)) & 0xff;
+        image.setRGB(x, y, (red << 16) | (green << 8) | random.nextInt(64));
+      }
+    }
+    return image;
+  }
+
+  private static BufferedImage scan(int width, int height, int seed) {
+    // Linhas pretas sobre papel levemente acinzentado, como a página de um scanner colorido
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Random random = new Random(seed);
+    for (int y = 0; y < height; y++) {
+      boolean ink = y >= 100 && (y - 100) % 40 < 12;
+      for (int x = 0; x < width; x++) {
+        boolean dark = ink && x >= 80 && x < width - 80;
+        int level = dark ? random.nextInt(24) : 236 + random.nextInt(20);
+        image.setRGB(x, y, (level << 16) | (level << 8) | level);
+      }
+    }
+    return image;
+  }
+
+  private static PDImageXObject firstImage(PDDocument document, int page) throws IOException {
+    return imageAt(document, page, 0);
+  }
+
+  private static PDImageXObject imageAt(PDDocument document, int page, int index)
+      throws IOException {
+    var resources = document.getPage(page).getResources();
+    List<COSName> names = new ArrayList<>();
+    resources.getXObjectNames().forEach(names::add);
+    names.sort(Comparator.comparing(COSName::getName));
+    return (PDImageXObject) resources.getXObject(names.get(index));
+  }
+
+  private static byte[] rawBytes(PDImageXObject image) throws IOException {
+    COSStream stream = image.getCOSObject();
+    try (var in = stream.createRawInputStream()) {
+      return in.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para ExtractTextOperationHandler. */
+class ExtractTextOperationHandlerTest {
+
+  // Vários blocos de páginas, o último incompleto
+  private static final int PAGES = 53;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private ExtractTextOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    executors = new OperationExecutors(new ProcessingProperties());
+    handler = new ExtractTextOperationHandler(storageService, executors);
+
+    // A página 20 fica sem conteúdo
+    try (PDDocument document = new PDDocument()) {
+      PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+      for (int i = 1; i <= PAGES; i++) {
+        PDPage page = new PDPage(PDRectangle.A6);
+        document.addPage(page);
+        if (i == 20) {
+          continue;
+        }
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.beginText();
+          content.setFont(font, 12);
+          content.newLineAtOffset(20, 200);
+          content.showText("Page " + i + " \"quoted\"");
+          content.newLineAtOffset(0, -20);
+          content.showText("second line");
+          content.endText();
+        }
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldProduceSameTextAsSingleStripper() throws IOException {
+    // When
+    String result = handler.process(job(Map.of()));
+
+    // Then
+    assertEquals(resultDir.resolve("extracted_text.txt").toString(), result);
+    assertEquals(expectedText(1, PAGES), Files.readString(Path.of(result)));
+  }
+
+  @Test
+  void shouldHonourPageRange() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("startPage", 15, "endPage", 40)));
+
+    // Then
+    assertEquals(expectedText(15, 40), Files.readString(Path.of(result)));
+  }
+
+  @Test
+  void shouldWriteOneJsonLinePerPage() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("format", "ndjson", "startPage", 18)));
+
+    // Then
+    assertTrue(result.endsWith("extracted_text.ndjson"));
+    List<String> lines = Files.readAllLines(Path.of(result), StandardCharsets.UTF_8);
+    assertEquals(PAGES - 17, lines.size());
+    ObjectMapper objectMapper = new ObjectMapper();
+    for (int i = 0; i < lines.size(); i++) {
+      JsonNode line = objectMapper.readTree(lines.get(i));
+      int page = 18 + i;
+      assertEquals(page, line.get("page").asInt());
+      assertEquals(expectedText(page, page), line.get("text").asText());
+    }
+    assertEquals("", objectMapper.readTree(lines.get(2)).get("text").asText());
+  }
+
+  @Test
+  void shouldWriteEmptyFileForEmptyRange() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("startPage", PAGES + 1)));
+
+    // Then
+    assertEquals(0, Files.size(Path.of(result)));
+  }
+
+  @Test
+  void shouldFailForCorruptInput() throws IOException {
+    // Given
+    Files.writeString(tempDir.resolve("broken.pdf"), "not a pdf");
+    Job job = new Job("job-2", JobOperation.EXTRACT_TEXT, List.of("broken.pdf"), Map.of());
+
+    // When & Then
+    assertThrows(IOException.class, () -> handler.process(job));
+  }
+
+  @Test
+  void shouldValidateExtractTextOptions() {
+    assertTrue(handler.validateOptions(Map.of("format", "ndjson", "startPage", 2)));
+    assertTrue(handler.validateOptions(Map.of("sortByPosition", true)));
+    assertFalse(handler.validateOptions(Map.of("format", "xml")));
+    assertFalse(handler.validateOptions(Map.of("endPage", 0)));
+    assertFalse(handler.validateOptions(Map.of("startPage", "first")));
+  }
+
+  private Job job(Map<String, Object> options) {
+    return new Job("job-1", JobOperation.EXTRACT_TEXT, List.of("input.pdf"), options);
+  }
+
+  private String expectedText(int startPage, int endPage) throws IOException {
+    try (PDDocument document = Loader.loadPDF(tempDir.resolve("input.pdf").toFile())) {
+      PDFTextStripper stripper = new PDFTextStripper();
+      stripper.setStartPage(startPage);
+      stripper.setEndPage(endPage);
+      return stripper.getText(document);
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para MergeOperationHandler. */
+class MergeOperationHandlerTest {
+
+  private static final int INPUTS = 11;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private Path scratchDir;
+  private OperationExecutors executors;
+  private MergeOperationHandler handler;
+  private List<String> inputFiles;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    scratchDir = Files.createDirectories(tempDir.resolve("scratch"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.SCRATCH)))
+        .thenReturn(scratchDir);
+
+    // Poucos arquivos por nível para que a junção de 11 entradas passe por dois níveis
+    ProcessingProperties properties = new ProcessingProperties();
+    properties.setMergeFanIn(3);
+    properties.setMergeMemoryBudgetMb(1);
+    executors = new OperationExecutors(properties);
+    handler = new MergeOperationHandler(storageService, executors, properties);
+
+    // Cada entrada tem duas páginas e a sua própria cópia do mesmo logotipo
+    inputFiles = new ArrayList<>();
+    for (int i = 0; i < INPUTS; i++) {
+      String name = "input" + i + ".pdf";
+      try (PDDocument document = new PDDocument()) {
+        for (int page = 0; page < 2; page++) {
+          PDPage pdPage = new PDPage(PDRectangle.A6);
+          document.addPage(pdPage);
+          try (PDPageContentStream content = new PDPageContentStream(document, pdPage)) {
+            content.drawImage(LosslessFactory.createFromImage(document, logo()), 20, 200, 60, 60);
+            content.beginText();
+            content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+            content.newLineAtOffset(20, 100);
+            content.showText("Doc " + i + " page " + page);
+            content.endText();
+          }
+        }
+        document.save(tempDir.resolve(name).toFile());
+      }
+      inputFiles.add(name);
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldMergeManyInputsInOrderAndStoreSharedImagesOnce() throws IOException {
+    // Given
+    Job job = new Job("job-1", JobOperation.MERGE, inputFiles, Map.of());
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      assertEquals(2 * INPUTS, document.getNumberOfPages());
+      PDFTextStripper stripper = new PDFTextStripper();
+      for (int i = 0; i < INPUTS; i++) {
+        stripper.setStartPage(2 * i + 2);
+        stripper.setEndPage(2 * i + 2);
+        assertEquals("Doc " + i + " page 1", stripper.getText(document).trim());
+      }
+      List<COSStream> images =
+          CosGraph.of(document).streams().stream()
+              .filter(stream -> COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE)))
+              .toList();
+      assertEquals(1, images.size());
+    }
+    // Os arquivos intermediários não ficam para trás
+    try (var scratch = Files.list(scratchDir)) {
+      assertEquals(0, scratch.count());
+    }
+  }
+
+  @Test
+  void shouldKeepDuplicatesWhenDeduplicationIsDisabled() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-2",
+            JobOperation.MERGE,
+            inputFiles.subList(0, 2),
+            Map.of("deduplicate_resources", false));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      assertEquals(4, document.getNumberOfPages());
+      long images =
+          CosGraph.of(document).streams().stream()
+              .filter(stream -> COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE)))
+              .count();
+      assertEquals(4, images);
+    }
+  }
+
+  @Test
+  void shouldRejectCorruptInputBeforeMerging() throws IOException {
+    // Given
+    Files.writeString(tempDir.resolve("broken.pdf"), "not a pdf");
+    List<String> inputs = new ArrayList<>(inputFiles);
+    inputs.add(5, "broken.pdf");
+    Job job = new Job("job-3", JobOperation.MERGE, inputs, Map.of());
+
+    // When & Then
+    IOException exception = assertThrows(IOException.class, () -> handler.process(job));
+    assertTrue(exception.getMessage().contains("broken.pdf"), exception.getMessage());
+    assertFalse(Files.exists(resultDir.resolve("result_job-3.pdf")));
+  }
+
+  @Test
+  void shouldValidateMergeOptions() {
+    assertTrue(handler.validateOptions(Map.of("memory_budget_mb", 64, "anything", "x")));
+    assertFalse(handler.validateOptions(Map.of("memory_budget_mb", 0)));
+    assertTrue(handler.validateOptions(Map.of("memory_budget_mb", 1024)));
+    assertFalse(handler.validateOptions(Map.of("memory_budget_mb", 1025)));
+    assertFalse(handler.validateOptions(Map.of("memory_budget_mb", Long.MAX_VALUE / 1024)));
+    assertFalse(handler.validateOptions(Map.of("deduplicate_resources", "yes")));
+  }
+
+  private static BufferedImage logo() {
+    BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < 64; y++) {
+      for (int x = 0; x < 64; x++) {
+        image.setRGB(x, y, ((x * 4) << 16) | ((y * 4) << 8) | 0x40);
+      }
+    }
+    return image;
+  }
+}
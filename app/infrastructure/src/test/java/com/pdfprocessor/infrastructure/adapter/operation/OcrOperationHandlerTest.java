@@ -0,0 +1,228 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrEngine;
+import com.pdfprocessor.infrastructure.adapter.ocr.OcrWord;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.PDFTextStripperByArea;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para OcrOperationHandler, com um motor de OCR simulado. */
+class OcrOperationHandlerTest {
+
+  private static final int DPI = 150;
+  private static final int PAGES = 12;
+  // Posições, em pixels da imagem renderizada, das palavras que o motor simulado "reconhece"
+  private static final Rectangle FIRST_WORD = new Rectangle(60, 80, 180, 40);
+  private static final Rectangle SECOND_WORD = new Rectangle(60, 200, 120, 30);
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private final AtomicInteger recognizedImages = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+
+    // Páginas "digitalizadas" (só um retângulo, sem texto), exceto a 5, que já tem texto, e a 9,
+    // que está girada
+    try (PDDocument document = new PDDocument()) {
+      for (int i = 1; i <= PAGES; i++) {
+        PDPage page = new PDPage(PDRectangle.A6);
+        if (i == 9) {
+          page.setRotation(90);
+        }
+        document.addPage(page);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.addRect(20, 20, 100, 100);
+          content.fill();
+          if (i == 5) {
+            content.beginText();
+            content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+            content.newLineAtOffset(20, 200);
+            content.showText("Already searchable");
+            content.endText();
+          }
+        }
+      }
+      document.save(tempDir.resolve("scan.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldWriteInvisibleTextWhereWordsWereRecognized() throws IOException {
+    // Given
+    OcrOperationHandler handler = handler(fakeEngine());
+
+    // When
+    String result = handler.process(job(Map.of("dpi", DPI)));
+
+    // Then
+    assertEquals(PAGES - 1, recognizedImages.get());
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      PDFTextStripperByArea stripper = new PDFTextStripperByArea();
+      stripper.addRegion("first", points(FIRST_WORD));
+      stripper.addRegion("second", points(SECOND_WORD));
+      for (int page : new int[] {0, 8, 11}) {
+        stripper.extractRegions(document.getPage(page));
+        assertEquals("Invoice", stripper.getTextForRegion("first").trim(), "page " + page);
+        assertEquals("Total", stripper.getTextForRegion("second").trim(), "page " + page);
+      }
+      assertEquals("Already searchable", text(document, 4));
+    }
+  }
+
+  @Test
+  void shouldKeepPagesLookingTheSame() throws IOException {
+    // Given
+    OcrOperationHandler handler = handler(fakeEngine());
+
+    // When
+    String result = handler.process(job(Map.of("dpi", DPI)));
+
+    // Then
+    try (PDDocument original = Loader.loadPDF(tempDir.resolve("scan.pdf").toFile());
+        PDDocument searchable = Loader.loadPDF(Path.of(result).toFile())) {
+      BufferedImage before = new PDFRenderer(original).renderImageWithDPI(0, 36);
+      BufferedImage after = new PDFRenderer(searchable).renderImageWithDPI(0, 36);
+      for (int y = 0; y < before.getHeight(); y++) {
+        for (int x = 0; x < before.getWidth(); x++) {
+          assertEquals(before.getRGB(x, y), after.getRGB(x, y));
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldWriteRecognizedAndExistingTextPerPage() throws IOException {
+    // Given
+    OcrOperationHandler handler = handler(fakeEngine());
+
+    // When
+    String result = handler.process(job(Map.of("dpi", DPI, "output_format", "text")));
+
+    // Then
+    assertTrue(result.endsWith("ocr_scan.txt"));
+    String[] pages = Files.readString(Path.of(result)).split("\f");
+    assertEquals(PAGES, pages.length);
+    assertEquals("Invoice\nTotal", pages[0].trim());
+    assertEquals("Already searchable", pages[4].trim());
+  }
+
+  @Test
+  void shouldRecognizeEveryPageWhenNotSkippingText() throws IOException {
+    // Given
+    OcrOperationHandler handler = handler(fakeEngine());
+
+    // When
+    handler.process(job(Map.of("dpi", DPI, "skip_text_pages", false)));
+
+    // Then
+    assertEquals(PAGES, recognizedImages.get());
+  }
+
+  @Test
+  void shouldFailWhenRecognitionFails() {
+    // Given
+    OcrOperationHandler handler =
+        handler(
+            (image, language, dpi) ->
+                CompletableFuture.failedFuture(new IllegalStateException("engine down")));
+
+    // When & Then
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> handler.process(job(Map.of("dpi", DPI))));
+    assertEquals("engine down", exception.getMessage());
+  }
+
+  @Test
+  void shouldValidateOcrOptions() {
+    OcrOperationHandler handler = handler(fakeEngine());
+    assertTrue(handler.validateOptions(Map.of("language", "por", "skip_text_pages", false)));
+    assertFalse(handler.validateOptions(Map.of("output_format", "hocr")));
+    assertFalse(handler.validateOptions(Map.of("skip_text_pages", "no")));
+  }
+
+  private OcrOperationHandler handler(OcrEngine engine) {
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+    ProcessingProperties properties = new ProcessingProperties();
+    properties.setOcrRenderThreads(3);
+    executors = new OperationExecutors(properties);
+    return new OcrOperationHandler(storageService, executors, properties, engine);
+  }
+
+  /** Motor que "reconhece" duas palavras em posições fixas de qualquer página. */
+  private OcrEngine fakeEngine() {
+    return (image, language, dpi) -> {
+      assertEquals(DPI, dpi);
+      assertEquals("eng", language);
+      recognizedImages.incrementAndGet();
+      return CompletableFuture.supplyAsync(
+          () ->
+              List.of(
+                  new OcrWord("Invoice", FIRST_WORD, 95f, true),
+                  new OcrWord("Total", SECOND_WORD, 90f, true)));
+    };
+  }
+
+  private static Job job(Map<String, Object> options) {
+    return new Job("job-1", JobOperation.PDF_OCR, List.of("scan.pdf"), options);
+  }
+
+  /** Retângulo da imagem renderizada em pontos, com origem no canto superior esquerdo. */
+  private static Rectangle2D points(Rectangle pixels) {
+    double scale = 72.0 / DPI;
+    return new Rectangle2D.Double(
+        pixels.x * scale - 2,
+        pixels.y * scale - 2,
+        pixels.width * scale + 4,
+        pixels.height * scale + 4);
+  }
+
+  private static String text(PDDocument document, int pageIndex) throws IOException {
+    PDFTextStripper stripper = new PDFTextStripper();
+    stripper.setStartPage(pageIndex + 1);
+    stripper.setEndPage(pageIndex + 1);
+    return stripper.getText(document).trim();
+  }
+}
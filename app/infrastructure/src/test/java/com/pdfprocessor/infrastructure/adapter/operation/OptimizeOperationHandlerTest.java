@@ -0,0 +1,201 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para OptimizeOperationHandler. */
+class OptimizeOperationHandlerTest {
+
+  private static final String FONT = "/org/apache/pdfbox/resources/ttf/LiberationSans-Regular.ttf";
+  private static final int PAGES = 12;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private ImageEncoder imageEncoder;
+  private OptimizeOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    ProcessingProperties properties = new ProcessingProperties();
+    executors = new OperationExecutors(properties);
+    imageEncoder = new ImageEncoder(properties);
+    handler = new OptimizeOperationHandler(storageService, executors, imageEncoder);
+
+    // Como um PDF gerado em lote: cada página embute a sua cópia do logotipo e da fonte inteira,
+    // e cada página tem ainda uma imagem nos recursos que nunca é desenhada
+    try (PDDocument document = new PDDocument()) {
+      BufferedImage logo = logo();
+      for (int i = 0; i < PAGES; i++) {
+        PDPage page = new PDPage(PDRectangle.A5);
+        document.addPage(page);
+        PDType0Font font;
+        try (InputStream in = getClass().getResourceAsStream(FONT)) {
+          font = PDType0Font.load(document, in, false);
+        }
+        PDImageXObject image = LosslessFactory.createFromImage(document, logo);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.drawImage(image, 36, 400, 64, 64);
+          content.beginText();
+          content.setFont(font, 14);
+          content.newLineAtOffset(36, 300);
+          content.showText("Hello " + i);
+          content.endText();
+        }
+        page.getResources()
+            .add(
+                LosslessFactory.createFromImage(
+                    document, new BufferedImage(50, 50, BufferedImage.TYPE_INT_RGB)),
+                "Unused");
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+    imageEncoder.shutdown();
+  }
+
+  @Test
+  void shouldMergeDuplicatesDropUnusedResourcesAndSubsetFonts() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-1",
+            JobOperation.PDF_OPTIMIZE,
+            List.of("input.pdf"),
+            Map.of("compress_images", false));
+
+    // When
+    String result = handler.process(job);
+
+    // Then: o resultado continua sendo o PDF, com o relatório ao lado
+    assertEquals(resultDir.resolve("optimized_input.pdf").toString(), result);
+    File input = tempDir.resolve("input.pdf").toFile();
+    File output = new File(result);
+    assertTrue(output.length() < input.length() / 20, output.length() + " bytes");
+    try (PDDocument document = Loader.loadPDF(output)) {
+      List<COSStream> streams = CosGraph.of(document).streams();
+      assertEquals(1, streams.stream().filter(s -> isImage(s)).count());
+      List<COSStream> fontFiles =
+          streams.stream().filter(stream -> stream.containsKey(COSName.LENGTH1)).toList();
+      assertEquals(1, fontFiles.size());
+      assertTrue(fontFiles.get(0).getInt(COSName.LENGTH1) < 20_000);
+
+      PDType0Font font =
+          (PDType0Font) document.getPage(0).getResources().getFont(COSName.getPDFName("F1"));
+      assertTrue(font.getName().matches("[A-Z]{6}\\+.*"), font.getName());
+
+      PDFTextStripper stripper = new PDFTextStripper();
+      stripper.setStartPage(PAGES);
+      stripper.setEndPage(PAGES);
+      assertEquals("Hello " + (PAGES - 1), stripper.getText(document).trim());
+      assertTrue(hasInk(new PDFRenderer(document).renderImage(PAGES - 1), 300));
+    }
+
+    String report = Files.readString(resultDir.resolve(StorageService.RESULT_REPORT_FILENAME));
+    assertTrue(report.contains("Unused resources removed: " + PAGES), report);
+    assertTrue(report.contains("Fonts subsetted: 1"), report);
+    assertTrue(report.contains("Images: " + (2 * PAGES) + " -> 1 streams"), report);
+  }
+
+  @Test
+  void shouldKeepEverythingWhenOptimizationsAreDisabled() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-2",
+            JobOperation.PDF_OPTIMIZE,
+            List.of("input.pdf"),
+            Map.of(
+                "compress_images", false,
+                "remove_unused_objects", false,
+                "subset_fonts", false,
+                "object_streams", false));
+
+    // When
+    String result = handler.process(job);
+
+    // Then: só os duplicados são unidos, incluindo a imagem não usada de cada página
+    try (PDDocument document = Loader.loadPDF(new File(result))) {
+      List<COSStream> streams = CosGraph.of(document).streams();
+      assertEquals(2, streams.stream().filter(s -> isImage(s)).count());
+      assertEquals(PAGES, document.getNumberOfPages());
+    }
+  }
+
+  @Test
+  void shouldValidateNewOptions() {
+    assertTrue(handler.validateOptions(Map.of("subset_fonts", true, "object_streams", false)));
+    assertFalse(handler.validateOptions(Map.of("subset_fonts", "yes")));
+  }
+
+  private static boolean isImage(COSStream stream) {
+    return COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE));
+  }
+
+  private static BufferedImage logo() {
+    BufferedImage image = new BufferedImage(120, 120, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < 120; y++) {
+      for (int x = 0; x < 120; x++) {
+        image.setRGB(x, y, ((x * 2) << 16) | ((y * 2) << 8) | ((x + y) & 0xff));
+      }
+    }
+    return image;
+  }
+
+  /** Verifica se há pixels escuros na faixa da linha de texto, desenhada em y=300 pt. */
+  private static boolean hasInk(BufferedImage page, int baseline) {
+    int top = page.getHeight() - baseline - 14;
+    for (int y = Math.max(0, top); y < Math.min(page.getHeight(), top + 16); y++) {
+      for (int x = 36; x < 120; x++) {
+        if ((page.getRGB(x, y) & 0xff) < 128) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,114 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.adapter.image.ImageEncoder;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para PdfToImagesOperationHandler. */
+class PdfToImagesOperationHandlerTest {
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private ImageEncoder imageEncoder;
+  private PdfToImagesOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    ProcessingProperties properties = new ProcessingProperties();
+    properties.setCpuThreads(3);
+    executors = new OperationExecutors(properties);
+    imageEncoder = new ImageEncoder(properties);
+    handler = new PdfToImagesOperationHandler(storageService, executors, imageEncoder);
+
+    try (PDDocument document = new PDDocument()) {
+      for (int i = 0; i < 7; i++) {
+        document.addPage(new PDPage(PDRectangle.A6));
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+    imageEncoder.shutdown();
+  }
+
+  @Test
+  void shouldRenderEveryPageInParallel() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-1",
+            JobOperation.PDF_TO_IMAGES,
+            List.of("input.pdf"),
+            Map.of("dpi", "36", "render_quality", "fast"));
+
+    // When
+    String result = handler.process(job);
+
+    // Then
+    assertEquals(resultDir.toString(), result);
+    for (int page = 1; page <= 7; page++) {
+      Path image = resultDir.resolve(String.format("page_%03d.png", page));
+      assertTrue(Files.exists(image), "missing " + image);
+      assertNotNull(ImageIO.read(image.toFile()));
+    }
+  }
+
+  @Test
+  void shouldRenderOnlyRequestedPagesWithTheirOwnNumbers() throws IOException {
+    // Given
+    Job job =
+        new Job(
+            "job-2",
+            JobOperation.PDF_TO_IMAGES,
+            List.of("input.pdf"),
+            Map.of("dpi", "36", "pages", "2-3,7", "format", "JPG"));
+
+    // When
+    handler.process(job);
+
+    // Then
+    try (var files = Files.list(resultDir)) {
+      assertEquals(
+          List.of("page_002.jpg", "page_003.jpg", "page_007.jpg"),
+          files.map(path -> path.getFileName().toString()).sorted().toList());
+    }
+  }
+
+  @Test
+  void shouldValidateRenderQuality() {
+    assertTrue(handler.validateOptions(Map.of("render_quality", "balanced")));
+    assertFalse(handler.validateOptions(Map.of("render_quality", "turbo")));
+  }
+}
@@ -0,0 +1,236 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationLink;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para SplitOperationHandler. */
+class SplitOperationHandlerTest {
+
+  private static final int PAGES = 40;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private SplitOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+
+    executors = new OperationExecutors(new ProcessingProperties());
+    handler = new SplitOperationHandler(storageService, executors);
+
+    // Todas as páginas compartilham um dicionário de recursos com o logotipo que desenham e
+    // três imagens grandes que nenhuma página usa; a primeira página tem links para a 2 e a 30
+    try (PDDocument document = new PDDocument()) {
+      PDResources resources = new PDResources();
+      PDImageXObject logo = LosslessFactory.createFromImage(document, image(48, 0));
+      resources.add(logo);
+      for (int i = 1; i <= 3; i++) {
+        resources.add(LosslessFactory.createFromImage(document, image(160, i)));
+      }
+      COSName fontName = resources.add(new PDType1Font(Standard14Fonts.FontName.HELVETICA));
+
+      for (int i = 1; i <= PAGES; i++) {
+        PDPage page = new PDPage(PDRectangle.A6);
+        page.setResources(resources);
+        document.addPage(page);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.drawImage(logo, 20, 300, 48, 48);
+          content.beginText();
+          content.setFont(resources.getFont(fontName), 12);
+          content.newLineAtOffset(20, 100);
+          content.showText("Page " + i);
+          content.endText();
+        }
+      }
+
+      PDPage first = document.getPage(0);
+      for (int target : new int[] {2, 30}) {
+        PDAnnotationLink link = new PDAnnotationLink();
+        link.setRectangle(new PDRectangle(20, 20 * target % 200, 50, 15));
+        PDPageFitDestination destination = new PDPageFitDestination();
+        destination.setPage(document.getPage(target - 1));
+        link.setDestination(destination);
+        link.setPage(first);
+        first.getAnnotations().add(link);
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldSplitIntoSinglePagesByDefault() throws IOException {
+    // When
+    String result = handler.process(job(Map.of()));
+
+    // Then
+    assertEquals(resultDir.toString(), result);
+    assertEquals(PAGES, listResults().size());
+    assertEquals("Page 40", text(resultDir.resolve("page_040.pdf"), 1));
+  }
+
+  @Test
+  void shouldSplitByPagesPerFileAndKeepLinksInsideThePart() throws IOException {
+    // When
+    handler.process(job(Map.of("pages_per_file", 7)));
+
+    // Then
+    assertEquals(6, listResults().size());
+    assertEquals("Page 8", text(resultDir.resolve("part_002.pdf"), 1));
+    try (PDDocument part = Loader.loadPDF(resultDir.resolve("part_006.pdf").toFile())) {
+      assertEquals(5, part.getNumberOfPages());
+    }
+
+    // O link para a página 2 aponta para a cópia dela; o link para a 30 perde o destino, sem
+    // arrastar para a parte a página de outra parte
+    try (PDDocument part = Loader.loadPDF(resultDir.resolve("part_001.pdf").toFile())) {
+      List<PDAnnotationLink> links =
+          part.getPage(0).getAnnotations().stream()
+              .map(annotation -> (PDAnnotationLink) annotation)
+              .toList();
+      assertEquals(2, links.size());
+      PDPageFitDestination inside = (PDPageFitDestination) links.get(0).getDestination();
+      assertEquals(1, part.getPages().indexOf(inside.getPage()));
+      assertNull(links.get(1).getDestination());
+      long pages =
+          CosGraph.of(part).containers().stream()
+              .filter(
+                  object ->
+                      object instanceof COSDictionary dictionary
+                          && COSName.PAGE.equals(dictionary.getCOSName(COSName.TYPE)))
+              .count();
+      assertEquals(7, pages);
+    }
+  }
+
+  @Test
+  void shouldWriteOneFilePerRange() throws IOException {
+    // When
+    handler.process(job(Map.of("ranges", "1-3, 10, 38-40")));
+
+    // Then
+    assertEquals(3, listResults().size());
+    assertEquals("Page 10", text(resultDir.resolve("pages_10.pdf"), 1));
+    assertEquals("Page 40", text(resultDir.resolve("pages_38-40.pdf"), 3));
+  }
+
+  @Test
+  void shouldKeepSingleFileForPageRange() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("pages", "2-4")));
+
+    // Then
+    assertEquals(resultDir.resolve("pages_2-4.pdf").toString(), result);
+    assertEquals("Page 4", text(Path.of(result), 3));
+  }
+
+  @Test
+  void shouldBoundPartSizeAndDropResourcesThePartDoesNotUse() throws IOException {
+    // When
+    handler.process(job(Map.of("max_part_bytes", 8_000)));
+
+    // Then
+    List<Path> parts = listResults();
+    assertTrue(parts.size() > 1 && parts.size() < PAGES, parts.size() + " parts");
+    int pages = 0;
+    for (Path path : parts) {
+      assertTrue(Files.size(path) < 16_000, path + " has " + Files.size(path) + " bytes");
+      try (PDDocument part = Loader.loadPDF(path.toFile())) {
+        pages += part.getNumberOfPages();
+        long images =
+            CosGraph.of(part).streams().stream()
+                .filter(stream -> COSName.IMAGE.equals(stream.getCOSName(COSName.SUBTYPE)))
+                .count();
+        assertEquals(1, images, path.toString());
+      }
+    }
+    assertEquals(PAGES, pages);
+    assertEquals("Page 1", text(resultDir.resolve("part_001.pdf"), 1));
+  }
+
+  @Test
+  void shouldValidateSplitOptions() {
+    assertTrue(handler.validateOptions(Map.of("pages", "1-5", "pages_per_file", 2)));
+    assertTrue(handler.validateOptions(Map.of("ranges", "1-3,4")));
+    assertFalse(handler.validateOptions(Map.of("pages_per_file", 0)));
+    assertFalse(handler.validateOptions(Map.of("ranges", "1-3", "pages_per_file", 2)));
+    assertFalse(handler.validateOptions(Map.of("pages_per_file", 2, "max_part_bytes", 1000)));
+  }
+
+  private Job job(Map<String, Object> options) {
+    return new Job("job-1", JobOperation.SPLIT, List.of("input.pdf"), options);
+  }
+
+  private List<Path> listResults() throws IOException {
+    try (Stream<Path> files = Files.list(resultDir)) {
+      return files.sorted().toList();
+    }
+  }
+
+  private static String text(Path path, int page) throws IOException {
+    try (PDDocument document = Loader.loadPDF(path.toFile())) {
+      PDFTextStripper stripper = new PDFTextStripper();
+      stripper.setStartPage(page);
+      stripper.setEndPage(page);
+      return stripper.getText(document).trim();
+    }
+  }
+
+  /** Imagem de ruído, que o deflate não consegue comprimir. */
+  private static BufferedImage image(int size, long seed) {
+    Random random = new Random(seed);
+    BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        image.setRGB(x, y, random.nextInt(0x1000000));
+      }
+    }
+    return image;
+  }
+}
@@ -0,0 +1,244 @@
+package com.pdfprocessor.infrastructure.adapter.operation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.infrastructure.config.ProcessingProperties;
+import java.awt.Color;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.imageio.ImageIO;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.PDFTextStripperByArea;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Testes unitários para WatermarkOperationHandler. */
+class WatermarkOperationHandlerTest {
+
+  private static final int PAGES = 300;
+
+  @TempDir Path tempDir;
+
+  private Path resultDir;
+  private OperationExecutors executors;
+  private WatermarkOperationHandler handler;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    resultDir = Files.createDirectories(tempDir.resolve("results"));
+
+    try (PDDocument document = new PDDocument()) {
+      for (int i = 1; i <= PAGES; i++) {
+        PDPage page = new PDPage(PDRectangle.A4);
+        document.addPage(page);
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+          content.beginText();
+          content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+          content.newLineAtOffset(100, 700);
+          content.showText("Page " + i);
+          content.endText();
+        }
+      }
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+
+    StorageService storageService = mock(StorageService.class);
+    when(storageService.getPhysicalPath(anyString()))
+        .thenAnswer(invocation -> tempDir.resolve(invocation.<String>getArgument(0)));
+    when(storageService.getJobArea(anyString(), eq(StorageService.JobArea.RESULTS)))
+        .thenReturn(resultDir);
+    executors = new OperationExecutors(new ProcessingProperties());
+    handler = new WatermarkOperationHandler(storageService, executors);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executors.shutdown();
+  }
+
+  @Test
+  void shouldReferenceOneSharedFormFromEveryPage() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("text", "CONFIDENTIAL")));
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      Set<COSBase> forms = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (PDPage page : document.getPages()) {
+        COSDictionary xObjects =
+            page.getResources().getCOSObject().getCOSDictionary(COSName.XOBJECT);
+        assertNotNull(xObjects);
+        for (COSName name : xObjects.keySet()) {
+          forms.add(xObjects.getDictionaryObject(name));
+        }
+      }
+      assertEquals(1, forms.size());
+    }
+  }
+
+  @Test
+  void shouldKeepWatermarkTextExtractableOnEveryPage() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("text", "CONFIDENTIAL")));
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      assertEquals(PAGES, document.getNumberOfPages());
+      PDFTextStripper stripper = new PDFTextStripper();
+      for (int page : new int[] {1, PAGES / 2, PAGES}) {
+        stripper.setStartPage(page);
+        stripper.setEndPage(page);
+        String text = stripper.getText(document);
+        assertTrue(text.contains("CONFIDENTIAL"), "page " + page);
+        assertTrue(text.contains("Page " + page), "page " + page);
+      }
+    }
+  }
+
+  @Test
+  void shouldGrowOutputByAFewBytesPerPage() throws IOException {
+    // When
+    String result = handler.process(job(Map.of("text", "CONFIDENTIAL - DO NOT DISTRIBUTE")));
+
+    // Then
+    long growth = Files.size(Path.of(result)) - Files.size(tempDir.resolve("input.pdf"));
+    assertTrue(growth < PAGES * 64L, "output grew " + growth + " bytes");
+  }
+
+  @Test
+  void shouldPlaceTextWatermarkAtRequestedPosition() throws IOException {
+    // When
+    String result =
+        handler.process(job(Map.of("text", "DRAFT", "position", "bottom-left", "fontSize", 20)));
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      PDPage page = document.getPage(0);
+      float height = page.getMediaBox().getHeight();
+      PDFTextStripperByArea stripper = new PDFTextStripperByArea();
+      // Linha de base a 50 pontos da borda inferior, em coordenadas com origem no topo
+      stripper.addRegion("bottomLeft", new Rectangle2D.Float(45, height - 75, 120, 30));
+      stripper.extractRegions(page);
+      assertEquals("DRAFT", stripper.getTextForRegion("bottomLeft").trim());
+    }
+  }
+
+  @Test
+  void shouldDrawImageWatermarkThroughTheSameForm() throws IOException {
+    // Given
+    BufferedImage logo = new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB);
+    for (int y = 0; y < logo.getHeight(); y++) {
+      for (int x = 0; x < logo.getWidth(); x++) {
+        logo.setRGB(x, y, Color.RED.getRGB());
+      }
+    }
+    ImageIO.write(logo, "png", tempDir.resolve("logo.png").toFile());
+
+    // When
+    String result =
+        handler.process(
+            new Job(
+                "job-1",
+                JobOperation.WATERMARK,
+                List.of("input.pdf", "logo.png"),
+                Map.of(
+                    "image", "logo.png", "image_width", 200, "opacity", 1, "position", "center")));
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      PDPage page = document.getPage(PAGES - 1);
+      COSName name = page.getResources().getXObjectNames().iterator().next();
+      PDFormXObject form = (PDFormXObject) page.getResources().getXObject(name);
+      assertEquals(200, form.getBBox().getWidth(), 0.01);
+      assertEquals(100, form.getBBox().getHeight(), 0.01);
+      COSName imageName = form.getResources().getXObjectNames().iterator().next();
+      assertInstanceOf(PDImageXObject.class, form.getResources().getXObject(imageName));
+
+      BufferedImage rendered = new PDFRenderer(document).renderImageWithDPI(PAGES - 1, 36);
+      Color center = new Color(rendered.getRGB(rendered.getWidth() / 2, rendered.getHeight() / 2));
+      assertTrue(center.getRed() > 200 && center.getGreen() < 60, "center pixel " + center);
+    }
+  }
+
+  @Test
+  void shouldOnlyAcceptImagesFromTheJobInputs() throws IOException {
+    // Given: uma imagem no storage que não pertence ao job
+    BufferedImage logo = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+    ImageIO.write(logo, "png", tempDir.resolve("other-job.png").toFile());
+
+    // When & Then
+    for (String image : List.of("other-job.png", "../other-job.png", tempDir + "/other-job.png")) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> handler.process(job(Map.of("image", image))),
+          image);
+    }
+    assertFalse(Files.exists(resultDir.resolve("watermarked.pdf")));
+  }
+
+  @Test
+  void shouldWatermarkPagesWithoutResources() throws IOException {
+    // Given: páginas em branco, sem /Resources próprio nem herdado
+    try (PDDocument document = new PDDocument()) {
+      document.addPage(new PDPage(PDRectangle.A4));
+      document.addPage(new PDPage(PDRectangle.LETTER));
+      assertNull(document.getPage(0).getResources());
+      document.save(tempDir.resolve("input.pdf").toFile());
+    }
+
+    // When
+    String result = handler.process(job(Map.of("text", "CONFIDENTIAL")));
+
+    // Then
+    try (PDDocument document = Loader.loadPDF(Path.of(result).toFile())) {
+      for (PDPage page : document.getPages()) {
+        assertTrue(page.getResources().getXObjectNames().iterator().hasNext());
+      }
+      assertTrue(new PDFTextStripper().getText(document).contains("CONFIDENTIAL"));
+    }
+  }
+
+  @Test
+  void shouldValidateWatermarkOptions() {
+    assertTrue(handler.validateOptions(Map.of("text", "CONFIDENTIAL", "position", "top-right")));
+    assertTrue(handler.validateOptions(Map.of("image", "logo.png", "image_width", 120)));
+    assertFalse(handler.validateOptions(Map.of()));
+    assertFalse(handler.validateOptions(Map.of("text", "CONFIDENTIAL", "opacity", 2)));
+    assertFalse(handler.validateOptions(Map.of("text", "CONFIDENTIAL", "position", "middle")));
+    assertFalse(handler.validateOptions(Map.of("image", "/etc/logo.png")));
+    assertFalse(handler.validateOptions(Map.of("image", "uploads/../../logo.png")));
+  }
+
+  private static Job job(Map<String, Object> options) {
+    return new Job("job-1", JobOperation.WATERMARK, List.of("input.pdf"), options);
+  }
+}
@@ -0,0 +1,48 @@
+package com.pdfprocessor.worker.config;
+
+import com.pdfprocessor.infrastructure.adapter.LocalFileCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expõe em /actuator/metrics os contadores do cache local de arquivos ({@code storage.cache.*}).
+ * Só registra métricas quando o cache existe, ou seja, com storage remoto.
+ */
+@Component
+public class StorageCacheMetrics implements MeterBinder {
+
+  private final ObjectProvider<LocalFileCache> fileCache;
+
+  public StorageCacheMetrics(ObjectProvider<LocalFileCache> fileCache) {
+    this.fileCache = fileCache;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    LocalFileCache cache = fileCache.getIfAvailable();
+    if (cache == null) {
+      return;
+    }
+
+    FunctionCounter.builder("storage.cache.requests", cache, LocalFileCache::getHits)
+        .tag("result", "hit")
+        .description("Arquivos servidos pelo cache local")
+        .register(registry);
+    FunctionCounter.builder("storage.cache.requests", cache, LocalFileCache::getMisses)
+        .tag("result", "miss")
+        .description("Arquivos baixados do storage remoto")
+        .register(registry);
+    FunctionCounter.builder("storage.cache.evictions", cache, LocalFileCache::getEvictions)
+        .description("Arquivos removidos do cache para liberar espaço")
+        .register(registry);
+    Gauge.builder("storage.cache.size", cache, LocalFileCache::getSizeBytes)
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("storage.cache.entries", cache, LocalFileCache::getEntryCount)
+        .register(registry);
+  }
+}
@@ -38,6 +38,8 @@ public class WorkerConfig {
     private int pollingIntervalSeconds = 5;
     private int maxRetries = 3;
     private boolean enabled = true;
+    private long progressFlushIntervalMs = 500;
+    private int progressFlushThreshold = 50;
 
     public int getPollingIntervalSeconds() {
       return pollingIntervalSeconds;
@@ -62,5 +64,21 @@ public class WorkerConfig {
     public void setEnabled(boolean enabled) {
       this.enabled = enabled;
     }
+
+    public long getProgressFlushIntervalMs() {
+      return progressFlushIntervalMs;
+    }
+
+    public void setProgressFlushIntervalMs(long progressFlushIntervalMs) {
+      this.progressFlushIntervalMs = progressFlushIntervalMs;
+    }
+
+    public int getProgressFlushThreshold() {
+      return progressFlushThreshold;
+    }
+
+    public void setProgressFlushThreshold(int progressFlushThreshold) {
+      this.progressFlushThreshold = progressFlushThreshold;
+    }
   }
 }
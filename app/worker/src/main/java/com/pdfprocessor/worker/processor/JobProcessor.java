@@ -5,6 +5,8 @@ import com.pdfprocessor.domain.port.JobRepository;
 import com.pdfprocessor.domain.port.PdfProcessingService;
 import com.pdfprocessor.domain.port.ProgressNotificationService;
 import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.worker.service.JobWriteBehindBuffer;
+import java.util.concurrent.CompletableFuture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,17 +22,20 @@ public class JobProcessor {
   private final StorageService storageService;
   private final PdfProcessingService pdfProcessingService;
   private final ProgressNotificationService progressNotificationService;
+  private final JobWriteBehindBuffer writeBehindBuffer;
 
   @Autowired
   public JobProcessor(
       JobRepository jobRepository,
       StorageService storageService,
       PdfProcessingService pdfProcessingService,
-      ProgressNotificationService progressNotificationService) {
+      ProgressNotificationService progressNotificationService,
+      JobWriteBehindBuffer writeBehindBuffer) {
     this.jobRepository = jobRepository;
     this.storageService = storageService;
     this.pdfProcessingService = pdfProcessingService;
     this.progressNotificationService = progressNotificationService;
+    this.writeBehindBuffer = writeBehindBuffer;
   }
 
   /**
@@ -45,7 +50,10 @@ public class JobProcessor {
     try {
       // Atualiza status para PROCESSING
       job.start();
-      jobRepository.save(job);
+      writeBehindBuffer.saveNow(job);
+
+      // Disponibiliza todas as entradas em paralelo antes de ocupar a thread de processamento
+      prefetchInputs(job);
 
       // Processa o job usando o PdfProcessingService com callback de progresso
       String resultPath = pdfProcessingService.processJob(job, progressNotificationService);
@@ -54,7 +62,7 @@ public class JobProcessor {
 
       // Atualiza status para COMPLETED
       job.complete(resultPath);
-      jobRepository.save(job);
+      writeBehindBuffer.saveNow(job);
 
       LOGGER.info("Job processado com sucesso: {}", job.getId());
 
@@ -63,9 +71,24 @@ public class JobProcessor {
 
       // Atualiza status para FAILED
       job.fail(e.getMessage());
-      jobRepository.save(job);
+      writeBehindBuffer.saveNow(job);
 
       throw new RuntimeException("Falha no processamento do job: " + job.getId(), e);
     }
   }
+
+  /**
+   * Baixa as entradas do job no executor de I/O do storage. Com storage remoto os downloads
+   * ocorrem juntos em vez de um por vez durante o processamento.
+   */
+  private void prefetchInputs(Job job) {
+    if (job.getInputFiles() == null || job.getInputFiles().isEmpty()) {
+      return;
+    }
+    CompletableFuture.allOf(
+            job.getInputFiles().stream()
+                .map(storageService::prefetchAsync)
+                .toArray(CompletableFuture[]::new))
+        .join();
+  }
 }
@@ -0,0 +1,127 @@
+package com.pdfprocessor.worker.service;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobStatus;
+import com.pdfprocessor.domain.port.JobRepository;
+import com.pdfprocessor.worker.config.WorkerConfig.WorkerProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Buffer write-behind para o estado dos jobs em processamento. Atualizações de progresso apenas
+ * guardam o último valor de cada job; um flush periódico grava somente esses valores em um único
+ * lote, de modo que a taxa de escrita no repositório depende do intervalo de flush e não do número
+ * de páginas processadas. O flush não regrava o job inteiro, então não desfaz um cancelamento nem
+ * recria um job já arquivado. Transições de status são gravadas de forma síncrona.
+ */
+@Component
+public class JobWriteBehindBuffer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JobWriteBehindBuffer.class);
+
+  private final JobRepository jobRepository;
+  private final WorkerProperties workerProperties;
+  private final Set<String> inFlightJobIds = ConcurrentHashMap.newKeySet();
+  private final Map<String, Integer> pendingProgress = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService flushExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "JobWriteBehind-flush");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  @Autowired
+  public JobWriteBehindBuffer(JobRepository jobRepository, WorkerProperties workerProperties) {
+    this.jobRepository = jobRepository;
+    this.workerProperties = workerProperties;
+  }
+
+  @PostConstruct
+  public void start() {
+    long interval = workerProperties.getProgressFlushIntervalMs();
+    flushExecutor.scheduleWithFixedDelay(
+        this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Grava o job imediatamente, descartando qualquer progresso pendente. Deve ser usado em toda
+   * transição de status; ao atingir um estado terminal o job deixa de ser acompanhado.
+   *
+   * @param job o job a ser salvo
+   */
+  public synchronized void saveNow(Job job) {
+    pendingProgress.remove(job.getId());
+    jobRepository.save(job);
+
+    if (isTerminal(job.getStatus())) {
+      inFlightJobIds.remove(job.getId());
+    } else {
+      inFlightJobIds.add(job.getId());
+    }
+  }
+
+  /**
+   * Registra o progresso de um job em processamento. Atualizações sucessivas do mesmo job são
+   * coalescidas e apenas o último valor é gravado no próximo flush.
+   *
+   * @param jobId ID do job
+   * @param progress progresso atual (0-100)
+   */
+  public void recordProgress(String jobId, int progress) {
+    if (!inFlightJobIds.contains(jobId)) {
+      return;
+    }
+
+    pendingProgress.put(jobId, progress);
+
+    if (pendingProgress.size() >= workerProperties.getProgressFlushThreshold()) {
+      flushExecutor.execute(this::flushSafely);
+    }
+  }
+
+  /** Grava em um único lote o progresso pendente de todos os jobs. */
+  public synchronized void flush() {
+    if (pendingProgress.isEmpty()) {
+      return;
+    }
+
+    Map<String, Integer> batch = new HashMap<>(pendingProgress);
+    // Remove só os valores copiados; um progresso registrado durante o flush fica para o próximo
+    batch.forEach(pendingProgress::remove);
+
+    jobRepository.saveProgress(batch);
+    LOGGER.debug("Flush de progresso gravou {} jobs", batch.size());
+  }
+
+  @PreDestroy
+  public void stop() {
+    flushExecutor.shutdown();
+    flushSafely();
+  }
+
+  private void flushSafely() {
+    try {
+      flush();
+    } catch (Exception e) {
+      LOGGER.error("Erro ao gravar progresso dos jobs: {}", e.getMessage(), e);
+    }
+  }
+
+  private boolean isTerminal(JobStatus status) {
+    return status == JobStatus.COMPLETED
+        || status == JobStatus.FAILED
+        || status == JobStatus.CANCELLED;
+  }
+}
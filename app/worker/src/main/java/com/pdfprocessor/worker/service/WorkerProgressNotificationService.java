@@ -6,11 +6,12 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
- * Implementação do ProgressNotificationService para o worker. Esta implementação apenas registra os
- * callbacks e logs o progresso.
+ * Implementação do ProgressNotificationService para o worker. Registra os callbacks, loga o
+ * progresso e o repassa ao buffer write-behind para persistência em lote.
  */
 @Service
 public class WorkerProgressNotificationService implements ProgressNotificationService {
@@ -19,6 +20,12 @@ public class WorkerProgressNotificationService implements ProgressNotificationSe
       LoggerFactory.getLogger(WorkerProgressNotificationService.class);
 
   private final Map<String, ProgressCallback> callbacks = new ConcurrentHashMap<>();
+  private final JobWriteBehindBuffer writeBehindBuffer;
+
+  @Autowired
+  public WorkerProgressNotificationService(JobWriteBehindBuffer writeBehindBuffer) {
+    this.writeBehindBuffer = writeBehindBuffer;
+  }
 
   @Override
   public void registerCallback(String jobId, ProgressCallback callback) {
@@ -35,6 +42,7 @@ public class WorkerProgressNotificationService implements ProgressNotificationSe
   @Override
   public void onProgress(String jobId, int progress, String message) {
     LOGGER.info("Job {} - Progresso: {}% - {}", jobId, progress, message);
+    writeBehindBuffer.recordProgress(jobId, progress);
 
     ProgressCallback callback = callbacks.get(jobId);
     if (callback != null) {
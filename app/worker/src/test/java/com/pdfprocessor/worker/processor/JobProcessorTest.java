@@ -2,6 +2,7 @@ package com.pdfprocessor.worker.processor;
 
 // import static org.mockito.ArgumentMatchers.any;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 import com.pdfprocessor.domain.model.Job;
@@ -11,8 +12,12 @@ import com.pdfprocessor.domain.port.JobRepository;
 import com.pdfprocessor.domain.port.PdfProcessingService;
 import com.pdfprocessor.domain.port.ProgressNotificationService;
 import com.pdfprocessor.domain.port.StorageService;
+import com.pdfprocessor.worker.config.WorkerConfig.WorkerProperties;
+import com.pdfprocessor.worker.service.JobWriteBehindBuffer;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,7 +41,16 @@ class JobProcessorTest {
   void setUp() {
     jobProcessor =
         new JobProcessor(
-            jobRepository, storageService, pdfProcessingService, progressNotificationService);
+            jobRepository,
+            storageService,
+            pdfProcessingService,
+            progressNotificationService,
+            new JobWriteBehindBuffer(jobRepository, new WorkerProperties()));
+    lenient()
+        .when(storageService.prefetchAsync(anyString()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(Paths.get((String) invocation.getArgument(0))));
   }
 
   @Test
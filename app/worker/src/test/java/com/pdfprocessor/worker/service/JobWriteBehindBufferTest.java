@@ -0,0 +1,122 @@
+package com.pdfprocessor.worker.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.pdfprocessor.domain.model.Job;
+import com.pdfprocessor.domain.model.JobOperation;
+import com.pdfprocessor.domain.port.JobRepository;
+import com.pdfprocessor.worker.config.WorkerConfig.WorkerProperties;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JobWriteBehindBufferTest {
+
+  @Mock private JobRepository jobRepository;
+
+  private JobWriteBehindBuffer buffer;
+
+  @BeforeEach
+  void setUp() {
+    WorkerProperties workerProperties = new WorkerProperties();
+    workerProperties.setProgressFlushThreshold(Integer.MAX_VALUE);
+    buffer = new JobWriteBehindBuffer(jobRepository, workerProperties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    buffer.stop();
+  }
+
+  @Test
+  void shouldCoalesceProgressUpdatesIntoOneBatch() {
+    // Given
+    Job first = createTestJob("job-1");
+    Job second = createTestJob("job-2");
+    buffer.saveNow(first);
+    buffer.saveNow(second);
+
+    // When
+    for (int progress = 1; progress <= 50; progress++) {
+      buffer.recordProgress("job-1", progress);
+      buffer.recordProgress("job-2", progress * 2);
+    }
+    buffer.flush();
+
+    // Then: só o último progresso de cada job, sem regravar os jobs
+    verify(jobRepository, times(1)).saveProgress(Map.of("job-1", 50, "job-2", 100));
+    verify(jobRepository, never()).saveAll(any());
+    assertEquals(0, first.getProgress());
+    assertEquals(0, second.getProgress());
+  }
+
+  @Test
+  void shouldKeepProgressRecordedAfterTheFlushForTheNextOne() {
+    // Given
+    buffer.saveNow(createTestJob("job-1"));
+    buffer.recordProgress("job-1", 10);
+    buffer.flush();
+
+    // When
+    buffer.recordProgress("job-1", 20);
+    buffer.flush();
+
+    // Then
+    verify(jobRepository).saveProgress(Map.of("job-1", 10));
+    verify(jobRepository).saveProgress(Map.of("job-1", 20));
+  }
+
+  @Test
+  void shouldNotFlushWhenNothingIsPending() {
+    // Given
+    buffer.saveNow(createTestJob("job-1"));
+
+    // When
+    buffer.flush();
+
+    // Then
+    verify(jobRepository, never()).saveProgress(any());
+  }
+
+  @Test
+  void shouldDropPendingProgressOnTerminalSave() {
+    // Given
+    Job job = createTestJob("job-1");
+    buffer.saveNow(job);
+    job.start();
+    buffer.recordProgress("job-1", 40);
+
+    // When
+    job.complete("/path/to/result.pdf");
+    buffer.saveNow(job);
+    buffer.recordProgress("job-1", 90);
+    buffer.flush();
+
+    // Then
+    verify(jobRepository, times(2)).save(job);
+    verify(jobRepository, never()).saveProgress(any());
+  }
+
+  @Test
+  void shouldIgnoreProgressForUnknownJob() {
+    // When
+    buffer.recordProgress("unknown-job", 10);
+    buffer.flush();
+
+    // Then
+    verifyNoInteractions(jobRepository);
+  }
+
+  private Job createTestJob(String id) {
+    return new Job(id, JobOperation.MERGE, List.of("file1.pdf", "file2.pdf"), new HashMap<>());
+  }
+}
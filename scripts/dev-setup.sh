@@ -124,7 +124,7 @@ fi
 
 # Criar estrutura de diretórios
 log_info "Criando estrutura de diretórios..."
-mkdir -p storage/{jobs,results,temp}
+mkdir -p storage
 mkdir -p logs
 log_success "Diretórios criados"
 
@@ -157,6 +157,7 @@ SPRING_PROFILES_ACTIVE=dev
 SERVER_PORT=8080
 REDIS_HOST=localhost
 REDIS_PORT=6379
+DOWNLOAD_SIGNING_SECRET=dev-signing-secret
 WORKER_THREADS=2
 
 # Configurações de desenvolvimento
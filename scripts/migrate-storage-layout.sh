@@ -0,0 +1,48 @@
+#!/bin/bash
+
+# Script para migrar o storage local para o layout com shards (<ab>/<cd>/<jobId>/...)
+# Deve ser executado com a API e os workers parados
+
+set -e
+
+# Cores para output
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+BLUE='\033[0;34m'
+NC='\033[0m' # No Color
+
+log_info() {
+    echo -e "${BLUE}ℹ️  $1${NC}"
+}
+
+log_success() {
+    echo -e "${GREEN}✅ $1${NC}"
+}
+
+log_error() {
+    echo -e "${RED}❌ $1${NC}"
+}
+
+BASE_PATH=${1:-${STORAGE_BASE_PATH:-"./storage"}}
+shift || true
+
+if [ ! -d "$BASE_PATH" ]; then
+    log_error "Diretório de storage não encontrado: $BASE_PATH"
+    exit 1
+fi
+
+WORKER_JAR="app/worker/target/worker-1.0.0-SNAPSHOT.jar"
+if [ ! -f "$WORKER_JAR" ]; then
+    log_error "JAR do Worker não encontrado. Execute primeiro: ./scripts/build.sh"
+    exit 1
+fi
+
+log_info "Migrando storage em: $BASE_PATH $*"
+
+# Usa as classes empacotadas no JAR do Worker, sem iniciar a aplicação
+java -cp "$WORKER_JAR" \
+    -Dloader.main=com.pdfprocessor.infrastructure.adapter.StorageLayoutMigration \
+    org.springframework.boot.loader.launch.PropertiesLauncher \
+    "$BASE_PATH" "$@"
+
+log_success "Migração concluída"
@@ -58,6 +58,8 @@ export SPRING_PROFILES_ACTIVE=${SPRING_PROFILES_ACTIVE:-"dev"}
 export SERVER_PORT=${SERVER_PORT:-8080}
 export REDIS_HOST=${REDIS_HOST:-"localhost"}
 export REDIS_PORT=${REDIS_PORT:-6379}
+# Segredo das URLs de download assinadas; obrigatório e igual em todas as instâncias
+export DOWNLOAD_SIGNING_SECRET=${DOWNLOAD_SIGNING_SECRET:-"dev-signing-secret"}
 
 log_info "Configurações:"
 echo "  API Key: $API_KEY"
@@ -67,8 +69,7 @@ echo "  Redis: $REDIS_HOST:$REDIS_PORT"
 echo ""
 
 # Criar diretório de storage se não existir
-mkdir -p storage/jobs
-mkdir -p storage/results
+mkdir -p storage
 
 log_info "Iniciando API..."
 echo ""
@@ -56,10 +56,8 @@ echo "  Redis: $REDIS_HOST:$REDIS_PORT"
 echo "  Threads: $WORKER_THREADS"
 echo ""
 
-# Criar diretórios necessários se não existirem
-mkdir -p storage/jobs
-mkdir -p storage/results
-mkdir -p storage/temp
+# Criar diretório de storage se não existir (o layout interno é criado pelo storage)
+mkdir -p storage
 
 log_info "Iniciando Worker..."
 echo ""